@@ -21,7 +21,12 @@ public class BookQueryController implements BookQueryControllerDocs {
 
     @Override
     @GetMapping("/books/recent")
-    public ResponseEntity<BookQuerySliceResponse> getRecentlyAddedBooks(@ParameterObject Pageable pageable) {
+    public ResponseEntity<BookQuerySliceResponse> getRecentlyAddedBooks(
+            @RequestParam(required = false) String cursor,
+            @ParameterObject Pageable pageable) {
+        if (cursor != null) {
+            return ResponseEntity.ok(bookQueryService.findRecentlyAddedBooksByCursor(cursor, pageable.getPageSize()));
+        }
         return ResponseEntity.ok(bookQueryService.findRecentlyAddedBooks(pageable));
     }
 
@@ -51,7 +56,12 @@ public class BookQueryController implements BookQueryControllerDocs {
 
     @Override
     @GetMapping("/books/new-releases")
-    public ResponseEntity<BookQuerySliceResponse> getNewBooks(@ParameterObject Pageable pageable) {
+    public ResponseEntity<BookQuerySliceResponse> getNewBooks(
+            @RequestParam(required = false) String cursor,
+            @ParameterObject Pageable pageable) {
+        if (cursor != null) {
+            return ResponseEntity.ok(bookQueryService.findNewBooksByCursor(cursor, pageable.getPageSize()));
+        }
         return ResponseEntity.ok(bookQueryService.findNewBooks(pageable));
     }
 
@@ -59,7 +69,11 @@ public class BookQueryController implements BookQueryControllerDocs {
     @GetMapping("/books/all")
     public ResponseEntity<BookQuerySliceResponse> getAllBooks(
             @ParameterObject BookSearchCondition condition,
+            @RequestParam(required = false) String cursor,
             @ParameterObject Pageable pageable) {
+        if (cursor != null) {
+            return ResponseEntity.ok(bookQueryService.findAllBooksByCursor(condition, cursor, pageable.getPageSize()));
+        }
         return ResponseEntity.ok(bookQueryService.findAllBooks(condition, pageable));
     }
 
@@ -67,7 +81,11 @@ public class BookQueryController implements BookQueryControllerDocs {
     @GetMapping("/books/ranking")
     public ResponseEntity<BookQuerySliceResponse> getBookRanking(
             @RequestParam RankingType type,
+            @RequestParam(required = false) String cursor,
             @ParameterObject Pageable pageable) {
+        if (cursor != null) {
+            return ResponseEntity.ok(bookQueryService.findBookRankingByCursor(type, cursor, pageable.getPageSize()));
+        }
         return ResponseEntity.ok(bookQueryService.findBookRanking(type, pageable));
     }
 
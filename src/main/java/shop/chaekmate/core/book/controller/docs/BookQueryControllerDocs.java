@@ -17,6 +17,7 @@ public interface BookQueryControllerDocs {
     @Operation(summary = "최근 추가된 도서 조회", description = "최근에 추가된 도서 목록을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "조회 성공")
     ResponseEntity<BookQuerySliceResponse> getRecentlyAddedBooks(
+            @Parameter(description = "커서 페이지네이션 토큰 (빈 값이면 첫 페이지, 응답의 nextCursor 로 다음 페이지 조회)") String cursor,
             @ParameterObject Pageable pageable);
 
     @Operation(summary = "맞춤 추천 도서 조회", description = "사용자 맞춤 추천 도서 목록을 조회합니다.")
@@ -42,18 +43,21 @@ public interface BookQueryControllerDocs {
     @Operation(summary = "신간 도서 조회", description = "새로 출간된 도서 목록을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "조회 성공")
     ResponseEntity<BookQuerySliceResponse> getNewBooks(
+            @Parameter(description = "커서 페이지네이션 토큰 (빈 값이면 첫 페이지, 응답의 nextCursor 로 다음 페이지 조회)") String cursor,
             @ParameterObject Pageable pageable);
 
     @Operation(summary = "전체 도서 조회", description = "검색 조건과 함께 전체 도서 목록을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "조회 성공")
     ResponseEntity<BookQuerySliceResponse> getAllBooks(
             @ParameterObject BookSearchCondition condition,
+            @Parameter(description = "커서 페이지네이션 토큰 (빈 값이면 첫 페이지, 응답의 nextCursor 로 다음 페이지 조회)") String cursor,
             @ParameterObject Pageable pageable);
 
     @Operation(summary = "도서 랭킹 조회", description = "타입(VIEWS, SALES)에 따라 도서 랭킹 목록을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "조회 성공")
     ResponseEntity<BookQuerySliceResponse> getBookRanking(
             @Parameter(description = "랭킹 타입 (VIEWS 또는 SALES)", required = true) RankingType type,
+            @Parameter(description = "커서 페이지네이션 토큰 (빈 값이면 첫 페이지, 응답의 nextCursor 로 다음 페이지 조회)") String cursor,
             @ParameterObject Pageable pageable);
 
     @Operation(summary = "베스트셀러 조회", description = "베스트셀러 목록을 조회합니다.")
@@ -0,0 +1,84 @@
+package shop.chaekmate.core.book.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+import org.springframework.util.StringUtils;
+import shop.chaekmate.core.book.exception.InvalidCursorException;
+
+/**
+ * 키셋(seek) 페이지네이션 커서.
+ * <ul>
+ *     <li>마지막으로 내려준 행의 (정렬값, id) 를 담아 다음 페이지를 인덱스 범위 조건으로 조회한다.</li>
+ *     <li>클라이언트에는 "타입|정렬값|id" 를 Base64(URL-safe) 로 인코딩한 불투명 토큰으로 전달한다.</li>
+ * </ul>
+ */
+public record BookCursor(
+        Type type,
+        String sortValue,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public enum Type {
+        CREATED_AT,   // 등록일 (null 불가)
+        PUBLISHED_AT, // 출간일 (null 가능)
+        VIEWS,        // 조회수
+        SALES         // 판매량
+    }
+
+    /**
+     * 토큰을 커서로 변환함
+     *
+     * @param token        클라이언트가 보낸 커서 토큰, 비어 있으면 첫 페이지
+     * @param expectedType 해당 목록의 정렬 타입
+     * @return 커서, 첫 페이지면 null
+     * @throws InvalidCursorException 형식이 잘못되었거나 다른 목록의 커서인 경우
+     */
+    public static BookCursor decode(String token, Type expectedType) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER, -1);
+            if (parts.length != 3 || Type.valueOf(parts[0]) != expectedType) {
+                throw new InvalidCursorException();
+            }
+
+            BookCursor cursor = new BookCursor(expectedType, parts[1], Long.valueOf(parts[2]));
+            cursor.validate();
+            return cursor;
+        } catch (InvalidCursorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public static String encode(Type type, Object sortValue, Long id) {
+        String value = sortValue == null ? "" : sortValue.toString();
+        String raw = type.name() + DELIMITER + value + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 정렬값이 null 인 행(출간일 미정)이면 null
+    public LocalDateTime dateTimeValue() {
+        return sortValue.isEmpty() ? null : LocalDateTime.parse(sortValue);
+    }
+
+    public long longValue() {
+        return Long.parseLong(sortValue);
+    }
+
+    private void validate() {
+        switch (type) {
+            case CREATED_AT -> Objects.requireNonNull(dateTimeValue());
+            case PUBLISHED_AT -> dateTimeValue();
+            case VIEWS, SALES -> longValue();
+        }
+    }
+}
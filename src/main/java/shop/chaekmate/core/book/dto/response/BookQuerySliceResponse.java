@@ -5,9 +5,10 @@ import org.springframework.data.domain.Slice;
 
 public record BookQuerySliceResponse(
     List<BookQueryResponse> content,
-    boolean hasNext
+    boolean hasNext,
+    String nextCursor // 커서 모드에서만 채워짐
 ) {
     public static BookQuerySliceResponse from(Slice<BookQueryResponse> slice) {
-        return new BookQuerySliceResponse(slice.getContent(), slice.hasNext());
+        return new BookQuerySliceResponse(slice.getContent(), slice.hasNext(), null);
     }
 }
@@ -17,7 +17,10 @@ import static lombok.AccessLevel.PROTECTED;
 
 @Entity
 @Getter
-@Table(name = "book")
+@Table(name = "book", indexes = {
+        @Index(name = "idx_book_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_book_published_at_id", columnList = "published_at, id")
+})
 @SQLRestriction("deleted_at is null")
 @NoArgsConstructor(access = PROTECTED)
 @SQLDelete(sql = "UPDATE book SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
@@ -0,0 +1,47 @@
+package shop.chaekmate.core.book.entity;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 도서 목록 카드 조회용 비정규화 테이블.
+ * <ul>
+ *     <li>썸네일, 평점 합계/개수, 판매량, 조회수를 도서 단위로 미리 집계해 둔다.</li>
+ *     <li>리뷰, 주문, 이미지 변경 시 {@code BookCardEventListener} 를 통해 같은 트랜잭션에서 갱신된다.</li>
+ * </ul>
+ */
+@Entity
+@Getter
+@Table(name = "book_card", indexes = {
+        @Index(name = "idx_book_card_sales_count_book_id", columnList = "sales_count, book_id"),
+        @Index(name = "idx_book_card_views_book_id", columnList = "views, book_id")
+})
+@NoArgsConstructor(access = PROTECTED)
+public class BookCard {
+
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @Column(columnDefinition = "TEXT")
+    private String thumbnailUrl;
+
+    @Column(nullable = false)
+    private long ratingSum;
+
+    @Column(nullable = false)
+    private long ratingCount;
+
+    @Column(nullable = false)
+    private long salesCount;
+
+    @Column(nullable = false)
+    private long views;
+}
@@ -12,7 +12,7 @@ import static lombok.AccessLevel.PROTECTED;
 
 @Entity
 @Getter
-@Table(name = "book_category")
+@Table(name = "book_category", indexes = @Index(name = "idx_book_category_category_book", columnList = "category_id, book_id"))
 @SQLRestriction("deleted_at is null")
 @NoArgsConstructor(access = PROTECTED)
 @SQLDelete(sql = "UPDATE book_category SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
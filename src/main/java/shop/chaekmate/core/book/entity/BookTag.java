@@ -13,7 +13,7 @@ import static lombok.AccessLevel.PROTECTED;
 
 @Entity
 @Getter
-@Table(name = "book_tag")
+@Table(name = "book_tag", indexes = @Index(name = "idx_book_tag_tag_book", columnList = "tag_id, book_id"))
 @SQLRestriction("deleted_at is null")
 @NoArgsConstructor(access = PROTECTED)
 @SQLDelete(sql = "UPDATE book_tag SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
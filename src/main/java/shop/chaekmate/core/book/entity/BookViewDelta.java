@@ -0,0 +1,46 @@
+package shop.chaekmate.core.book.entity;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조회수 동기화 시 증가분을 잠시 적재하는 테이블.
+ * <ul>
+ *     <li>{@code BookViewCountRepositoryImpl} 이 epoch 단위로 여러 행 INSERT 한 뒤 book, book_card 에 조인 UPDATE 로 반영한다.</li>
+ *     <li>반영과 같은 트랜잭션에서 삭제되므로 평소에는 비어 있다.</li>
+ * </ul>
+ */
+@Entity
+@Getter
+@Table(name = "book_view_delta")
+@IdClass(BookViewDelta.Key.class)
+@NoArgsConstructor(access = PROTECTED)
+public class BookViewDelta {
+
+    @Id
+    @Column(name = "epoch_id", length = 36)
+    private String epochId;
+
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @Column(nullable = false)
+    private long delta;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = PROTECTED)
+    public static class Key implements Serializable {
+        private String epochId;
+        private Long bookId;
+    }
+}
@@ -0,0 +1,35 @@
+package shop.chaekmate.core.book.entity;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DB 에 반영을 마친 조회수 동기화 epoch.
+ * <ul>
+ *     <li>조회수 증가분과 같은 트랜잭션에서 기록되어, 같은 epoch 이 두 번 반영되지 않게 한다.</li>
+ *     <li>{@code BookViewCountRepositoryImpl} 이 JDBC 로 기록하고 일정 기간이 지나면 지운다.</li>
+ * </ul>
+ */
+@Entity
+@Getter
+@Table(name = "book_view_flush_epoch", indexes = {
+        @Index(name = "idx_book_view_flush_epoch_applied_at", columnList = "applied_at")
+})
+@NoArgsConstructor(access = PROTECTED)
+public class BookViewFlushEpoch {
+
+    @Id
+    @Column(name = "epoch_id", length = 36)
+    private String epochId;
+
+    @Column(name = "applied_at", columnDefinition = "datetime(6)", nullable = false)
+    private LocalDateTime appliedAt;
+}
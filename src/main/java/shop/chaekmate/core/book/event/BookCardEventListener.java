@@ -0,0 +1,51 @@
+package shop.chaekmate.core.book.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shop.chaekmate.core.book.service.BookCardService;
+
+// book_card 는 원본 쓰기와 같은 트랜잭션에서 갱신 (커밋 직전)
+@Component
+@RequiredArgsConstructor
+public class BookCardEventListener {
+
+    private final BookCardService bookCardService;
+
+    // 책 등록
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleBookCreated(BookCreatedEvent event) {
+        bookCardService.refreshCard(event.book().getId());
+    }
+
+    // 책 삭제
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleBookDeleted(BookDeletedEvent event) {
+        bookCardService.deleteCard(event.id());
+    }
+
+    // 카드 재집계 요청
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleCardRefresh(BookCardRefreshEvent event) {
+        bookCardService.refreshCard(event.bookId());
+    }
+
+    // 섬네일 등록, 수정, 삭제
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleThumbnail(BookThumbnailEvent event) {
+        bookCardService.updateThumbnail(event.bookId(), event.thumbnailUrl());
+    }
+
+    // 리뷰 생성, 수정, 삭제
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleReviewChanged(BookReviewChangedEvent event) {
+        bookCardService.applyReviewDelta(event.bookId(), event.ratingDelta(), event.reviewCountDelta());
+    }
+
+    // 결제 완료된 주문의 판매량 반영
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleBookSales(BookSalesEvent event) {
+        bookCardService.applySales(event.quantities());
+    }
+}
@@ -0,0 +1,6 @@
+package shop.chaekmate.core.book.event;
+
+public record BookCardRefreshEvent(
+        Long bookId
+) {
+}
@@ -65,6 +65,12 @@ public class BookEventListener {
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleBookThumbnail(BookThumbnailEvent event){
+        // 마지막 이미지 삭제로 섬네일이 없어진 경우 (검색 서버는 null 을 변경 없음으로 처리하므로 보내지 않음)
+        if (event.thumbnailUrl() == null) {
+            log.info("Skip MQ UPDATE message for bookId={}, thumbnail removed", event.bookId());
+            return;
+        }
+
         try {
             EventType eventType = EventType.UPDATE;
             BookInfoMqRequest bookInfoMqRequest = BookInfoMqRequest.ofBookObjects(event.bookId(), event.thumbnailUrl(),null,null,null);
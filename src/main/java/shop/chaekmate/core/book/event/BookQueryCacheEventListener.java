@@ -0,0 +1,111 @@
+package shop.chaekmate.core.book.event;
+
+import static shop.chaekmate.core.book.service.BookQueryCacheTagResolver.BOOK_QUERIES;
+import static shop.chaekmate.core.book.service.BookQueryCacheTagResolver.BOOK_RANKINGS;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shop.chaekmate.core.book.service.BookQueryCacheTagResolver;
+import shop.chaekmate.core.common.cache.TwoLevelCacheManager;
+
+// 도서 변경 시 해당 도서가 담긴 목록 캐시만 비움
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookQueryCacheEventListener {
+
+    // 새 도서가 앞쪽 페이지에 끼어드는 목록
+    private static final List<String> NEW_BOOK_LISTS = List.of(
+            "findRecentlyAddedBooks",
+            "findRecentlyAddedBooksByCursor",
+            "findNewBooks",
+            "findNewBooksByCursor",
+            "findAllBooks",
+            "findAllBooksByCursor"
+    );
+
+    // 출간일, 카테고리, 태그 수정으로 포함 여부나 순서가 바뀌는 목록
+    private static final List<String> UPDATED_BOOK_LISTS = List.of(
+            "findNewBooks",
+            "findNewBooksByCursor",
+            "findAllBooks",
+            "findAllBooksByCursor"
+    );
+
+    private final TwoLevelCacheManager cacheManager;
+
+    // 책 등록
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookCreated(BookCreatedEvent event) {
+        evictLists(NEW_BOOK_LISTS);
+    }
+
+    // 알라딘 등록 등 카드 재집계
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCardRefresh(BookCardRefreshEvent event) {
+        evictBooks(List.of(event.bookId()));
+        evictLists(NEW_BOOK_LISTS);
+    }
+
+    // 책 수정 (가격, 재고 포함)
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookUpdated(BookUpdatedEvent event) {
+        evictBooks(List.of(event.book().getId()));
+        evictLists(UPDATED_BOOK_LISTS);
+    }
+
+    // 책 삭제
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookDeleted(BookDeletedEvent event) {
+        evictBooks(List.of(event.id()));
+    }
+
+    // 섬네일 변경
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleThumbnail(BookThumbnailEvent event) {
+        evictBooks(List.of(event.bookId()));
+    }
+
+    // 평점, 리뷰 수 변경
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReviewChanged(BookReviewChangedEvent event) {
+        evictBooks(List.of(event.bookId()));
+    }
+
+    // 판매로 인한 재고 변경
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookSales(BookSalesEvent event) {
+        evictBooks(event.quantities().keySet());
+    }
+
+    private void evictBooks(Collection<Long> bookIds) {
+        List<String> tags = bookIds.stream().map(BookQueryCacheTagResolver::bookTag).toList();
+        evict(BOOK_QUERIES, tags);
+        evict(BOOK_RANKINGS, tags);
+    }
+
+    private void evictLists(List<String> listNames) {
+        evict(BOOK_QUERIES, listNames.stream().map(BookQueryCacheTagResolver::listTag).toList());
+    }
+
+    private void evict(String cacheName, List<String> tags) {
+        try {
+            cacheManager.evictTagged(cacheName, tags);
+        } catch (Exception e) {
+            log.error("[BookQueryCache] 목록 캐시 무효화 실패 cache={}, tags={}", cacheName, tags, e);
+        }
+    }
+}
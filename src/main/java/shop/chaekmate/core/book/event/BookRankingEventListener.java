@@ -0,0 +1,40 @@
+package shop.chaekmate.core.book.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shop.chaekmate.core.book.service.BookRankingService;
+
+// 랭킹 보드(Redis)는 커밋된 변경만 반영, 실패해도 재구성 스케줄러가 보정
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookRankingEventListener {
+
+    private final BookRankingService bookRankingService;
+
+    // 결제 완료 주문의 판매량, 얼리어답터 반영
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookSales(BookSalesEvent event) {
+        try {
+            bookRankingService.recordSales(event.memberId(), event.quantities());
+        } catch (Exception e) {
+            log.error("[BookRanking] 판매 랭킹 반영 실패 orderNumber={}", event.orderNumber(), e);
+        }
+    }
+
+    // 리뷰 생성, 삭제 반영
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReviewChanged(BookReviewChangedEvent event) {
+        try {
+            bookRankingService.recordReview(event.bookId(), event.reviewCountDelta(), event.reviewCreatedAt());
+        } catch (Exception e) {
+            log.error("[BookRanking] 리뷰 랭킹 반영 실패 bookId={}", event.bookId(), e);
+        }
+    }
+}
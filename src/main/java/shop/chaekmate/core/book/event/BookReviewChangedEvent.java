@@ -0,0 +1,11 @@
+package shop.chaekmate.core.book.event;
+
+import java.time.LocalDateTime;
+
+public record BookReviewChangedEvent(
+        Long bookId,
+        int ratingDelta,
+        int reviewCountDelta,
+        LocalDateTime reviewCreatedAt
+) {
+}
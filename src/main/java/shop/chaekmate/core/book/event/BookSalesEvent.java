@@ -0,0 +1,10 @@
+package shop.chaekmate.core.book.event;
+
+import java.util.Map;
+
+public record BookSalesEvent(
+        String orderNumber,
+        Long memberId,
+        Map<Long, Integer> quantities
+) {
+}
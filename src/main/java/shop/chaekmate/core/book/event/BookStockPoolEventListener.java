@@ -0,0 +1,74 @@
+package shop.chaekmate.core.book.event;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shop.chaekmate.core.book.service.BookStockPoolService;
+
+// 재고 있는 도서 id 풀은 커밋 후 반영 (누락분은 BookStockPoolRebuildScheduler 가 보정)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookStockPoolEventListener {
+
+    private final BookStockPoolService bookStockPoolService;
+
+    // 책 등록
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookCreated(BookCreatedEvent event) {
+        try {
+            bookStockPoolService.syncStock(event.book().getId(), event.book().getStock());
+        } catch (Exception e) {
+            log.error("[BookStockPool] 재고 풀 반영 실패 bookId={}", event.book().getId(), e);
+        }
+    }
+
+    // 책 수정 (재고 포함)
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookUpdated(BookUpdatedEvent event) {
+        try {
+            bookStockPoolService.syncStock(event.book().getId(), event.book().getStock());
+        } catch (Exception e) {
+            log.error("[BookStockPool] 재고 풀 반영 실패 bookId={}", event.book().getId(), e);
+        }
+    }
+
+    // 알라딘 등록
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCardRefresh(BookCardRefreshEvent event) {
+        try {
+            bookStockPoolService.syncStocks(List.of(event.bookId()));
+        } catch (Exception e) {
+            log.error("[BookStockPool] 재고 풀 반영 실패 bookId={}", event.bookId(), e);
+        }
+    }
+
+    // 책 삭제
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookDeleted(BookDeletedEvent event) {
+        try {
+            bookStockPoolService.removeBook(event.id());
+        } catch (Exception e) {
+            log.error("[BookStockPool] 재고 풀 반영 실패 bookId={}", event.id(), e);
+        }
+    }
+
+    // 결제 완료로 재고 차감
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookSales(BookSalesEvent event) {
+        try {
+            bookStockPoolService.syncStocks(event.quantities().keySet());
+        } catch (Exception e) {
+            log.error("[BookStockPool] 재고 풀 반영 실패 orderNumber={}", event.orderNumber(), e);
+        }
+    }
+}
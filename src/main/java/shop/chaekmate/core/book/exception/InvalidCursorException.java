@@ -0,0 +1,9 @@
+package shop.chaekmate.core.book.exception;
+
+import shop.chaekmate.core.common.exception.CoreException;
+
+public class InvalidCursorException extends CoreException {
+    public InvalidCursorException() {
+        super(BookErrorCode.INVALID_CURSOR);
+    }
+}
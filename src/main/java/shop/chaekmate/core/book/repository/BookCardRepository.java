@@ -0,0 +1,69 @@
+package shop.chaekmate.core.book.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import shop.chaekmate.core.book.entity.BookCard;
+
+public interface BookCardRepository extends JpaRepository<BookCard, Long> {
+
+    @Modifying
+    @Query("update BookCard c set c.ratingSum = c.ratingSum + :ratingDelta, c.ratingCount = c.ratingCount + :countDelta where c.bookId = :bookId")
+    int applyReviewDelta(@Param("bookId") Long bookId, @Param("ratingDelta") long ratingDelta, @Param("countDelta") long countDelta);
+
+    @Modifying
+    @Query("update BookCard c set c.salesCount = c.salesCount + :quantity where c.bookId = :bookId")
+    int increaseSalesCount(@Param("bookId") Long bookId, @Param("quantity") long quantity);
+
+    @Modifying
+    @Query("update BookCard c set c.thumbnailUrl = :thumbnailUrl where c.bookId = :bookId")
+    int updateThumbnailUrl(@Param("bookId") Long bookId, @Param("thumbnailUrl") String thumbnailUrl);
+
+    @Modifying
+    @Query("delete from BookCard c where c.bookId = :bookId")
+    int deleteByBookId(@Param("bookId") Long bookId);
+
+    // 원본 테이블(book, book_image, review, ordered_book) 기준으로 단건 카드 재집계
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into book_card (book_id, thumbnail_url, rating_sum, rating_count, sales_count, views)
+            select b.id,
+                   (select bi.image_url from book_image bi
+                     where bi.book_id = b.id and bi.deleted_at is null
+                     order by bi.created_at, bi.id limit 1),
+                   coalesce((select sum(r.rating) from review r join ordered_book ob on r.ordered_book_id = ob.id
+                              where ob.book_id = b.id and r.deleted_at is null), 0),
+                   (select count(*) from review r join ordered_book ob on r.ordered_book_id = ob.id
+                     where ob.book_id = b.id and r.deleted_at is null),
+                   coalesce((select sum(ob.quantity) from ordered_book ob
+                              where ob.book_id = b.id and ob.deleted_at is null
+                                and ob.unit_status in ('PAYMENT_COMPLETE', 'SHIPPING', 'DELIVERED', 'CANCEL_REQUEST', 'RETURN_REQUEST')), 0),
+                   b.views
+              from book b
+             where b.id = :bookId and b.deleted_at is null
+            """, nativeQuery = true)
+    int insertCardFromSource(@Param("bookId") Long bookId);
+
+    // 카드가 없는 도서 전체 백필
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into book_card (book_id, thumbnail_url, rating_sum, rating_count, sales_count, views)
+            select b.id,
+                   (select bi.image_url from book_image bi
+                     where bi.book_id = b.id and bi.deleted_at is null
+                     order by bi.created_at, bi.id limit 1),
+                   coalesce((select sum(r.rating) from review r join ordered_book ob on r.ordered_book_id = ob.id
+                              where ob.book_id = b.id and r.deleted_at is null), 0),
+                   (select count(*) from review r join ordered_book ob on r.ordered_book_id = ob.id
+                     where ob.book_id = b.id and r.deleted_at is null),
+                   coalesce((select sum(ob.quantity) from ordered_book ob
+                              where ob.book_id = b.id and ob.deleted_at is null
+                                and ob.unit_status in ('PAYMENT_COMPLETE', 'SHIPPING', 'DELIVERED', 'CANCEL_REQUEST', 'RETURN_REQUEST')), 0),
+                   b.views
+              from book b
+             where b.deleted_at is null
+               and not exists (select 1 from book_card c where c.book_id = b.id)
+            """, nativeQuery = true)
+    int insertMissingCards();
+}
@@ -0,0 +1,78 @@
+package shop.chaekmate.core.book.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 도서 키워드 검색 (MySQL FULLTEXT, ngram parser)
+ * <ul>
+ *     <li>title, author, publisher 에 대한 FULLTEXT 인덱스가 있을 때만 사용한다.</li>
+ *     <li>인덱스가 없거나(H2 테스트 등) 키워드가 ngram 토큰보다 짧으면 LIKE 검색으로 대체한다.</li>
+ *     <li>검색 조건은 목록 쿼리 안의 {@code match_against} 함수로 걸어 페이지와 total 이 전체 일치 결과 기준이 된다.</li>
+ * </ul>
+ * 인덱스는 db/migration/V4 에서 생성한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class BookKeywordSearchRepository {
+
+    private static final String FULLTEXT_INDEX = "ft_book_keyword";
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    // BOOLEAN MODE 연산자
+    private static final String BOOLEAN_OPERATORS = "[+\\-<>()~*\"@]";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean fullTextEnabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void detectFullTextIndex() {
+        try {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            if (!"MySQL".equalsIgnoreCase(product)) {
+                return;
+            }
+
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics "
+                            + "WHERE table_schema = DATABASE() AND table_name = 'book' AND index_name = ?",
+                    Integer.class, FULLTEXT_INDEX);
+            fullTextEnabled = count != null && count > 0;
+
+            if (!fullTextEnabled) {
+                log.warn("[BookSearch] FULLTEXT 인덱스({})가 없어 LIKE 검색을 사용합니다.", FULLTEXT_INDEX);
+            }
+        } catch (Exception e) {
+            log.warn("[BookSearch] FULLTEXT 인덱스 확인 실패, LIKE 검색을 사용합니다.", e);
+        }
+    }
+
+    public boolean supports(String keyword) {
+        return fullTextEnabled && toPhrase(keyword) != null;
+    }
+
+    /**
+     * 연속된 ngram 을 모두 포함하도록 구문 검색 ("키워드") 으로 변환
+     *
+     * @return MATCH ... AGAINST 에 넘길 구문, 토큰보다 짧으면 null
+     */
+    public String toPhrase(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+
+        String cleaned = keyword.replaceAll(BOOLEAN_OPERATORS, " ").strip();
+        if (cleaned.length() < NGRAM_TOKEN_SIZE) {
+            return null;
+        }
+        return "\"" + cleaned + "\"";
+    }
+}
@@ -0,0 +1,17 @@
+package shop.chaekmate.core.book.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum BookRankingBoard {
+
+    SALES("book:ranking:sales", false),                 // 누적 판매량
+    VIEWS("book:ranking:views", false),                 // 누적 조회수
+    REVIEWS_30D("book:ranking:reviews", true),          // 30일간 리뷰 수 (일별 버킷)
+    EARLY_ADOPTER_30D("book:ranking:early-adopter", true); // 30일간 구매 회원 수 (일별 버킷)
+
+    private final String key;
+    private final boolean windowed;
+}
@@ -0,0 +1,249 @@
+package shop.chaekmate.core.book.repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class BookRankingRedisRepository {
+
+    public static final int WINDOW_DAYS = 30;
+
+    private static final String BUYERS_SUFFIX = ":buyers:";
+    private static final String WINDOW_SUFFIX = ":30d";
+    private static final String TMP_SUFFIX = ":tmp";
+
+    // 일별 버킷은 윈도우가 지나면 자연 만료
+    private static final Duration DAILY_TTL = Duration.ofDays(WINDOW_DAYS + 1L);
+    // 30일 합산 결과는 짧게 캐시 후 다시 합산
+    private static final Duration WINDOW_TTL = Duration.ofMinutes(1);
+
+    private static final int WRITE_CHUNK_SIZE = 1_000;
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // KEYS[1] = 누적 보드, ARGV = 커서 도서 id(첫 페이지면 빈 값), 커서 점수, 개수
+    // 커서 도서의 순위 다음부터 조회 (오프셋 조회와 같은 순서), 커서 도서가 보드에서 빠졌으면 커서 점수 아래부터
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SEEK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return false
+            end
+            local count = tonumber(ARGV[3])
+            if ARGV[1] == '' then
+              return redis.call('ZREVRANGE', KEYS[1], 0, count - 1, 'WITHSCORES')
+            end
+            local rank = redis.call('ZREVRANK', KEYS[1], ARGV[1])
+            if rank then
+              return redis.call('ZREVRANGE', KEYS[1], rank + 1, rank + count, 'WITHSCORES')
+            end
+            return redis.call('ZREVRANGEBYSCORE', KEYS[1], '(' .. ARGV[2], '-inf', 'WITHSCORES', 'LIMIT', 0, count)
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /* ============================== 쓰기 ============================== */
+
+    /**
+     * 누적 랭킹 점수를 증감함 (ZINCRBY)
+     *
+     * @param board  누적 랭킹 보드 (SALES, VIEWS)
+     * @param bookId 도서 ID
+     * @param delta  증감량
+     */
+    public void incrementScore(BookRankingBoard board, Long bookId, double delta) {
+        redisTemplate.opsForZSet().incrementScore(board.getKey(), bookId.toString(), delta);
+    }
+
+    /**
+     * 일별 버킷 점수를 증감함
+     *
+     * @param board  윈도우 랭킹 보드 (REVIEWS_30D, EARLY_ADOPTER_30D)
+     * @param day    버킷 날짜
+     * @param bookId 도서 ID
+     * @param delta  증감량
+     */
+    public void incrementDailyScore(BookRankingBoard board, LocalDate day, Long bookId, double delta) {
+        String key = dailyKey(board, day);
+        redisTemplate.opsForZSet().incrementScore(key, bookId.toString(), delta);
+        if (delta < 0) {
+            // 리뷰 삭제 등으로 0 이하가 된 도서는 랭킹에서 제외
+            redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, 0);
+        }
+        redisTemplate.expire(key, DAILY_TTL);
+    }
+
+    /**
+     * 해당 날짜에 처음 구매한 (도서, 회원) 조합이면 기록함
+     *
+     * @return 처음 기록된 조합이면 true
+     */
+    public boolean addDailyBuyer(LocalDate day, Long bookId, Long memberId) {
+        String key = buyersKey(day);
+        Long added = redisTemplate.opsForSet().add(key, bookId + ":" + memberId);
+        redisTemplate.expire(key, DAILY_TTL);
+        return added != null && added > 0;
+    }
+
+    /* ============================== 조회 ============================== */
+
+    /**
+     * 점수 내림차순으로 도서 ID를 조회함
+     *
+     * @param board  랭킹 보드
+     * @param offset 시작 순위 (0부터)
+     * @param count  조회 개수
+     * @return 도서 ID 목록, 보드가 아직 없으면 null
+     */
+    public List<Long> findTopBookIds(BookRankingBoard board, long offset, long count) {
+        String key = board.isWindowed() ? windowKey(board) : board.getKey();
+
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            return null;
+        }
+
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(key, offset, offset + count - 1);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 누적 랭킹 보드를 커서 다음 순위부터 조회함 (한 번의 스크립트로 순위 확인과 조회)
+     *
+     * @param board       누적 랭킹 보드 (SALES, VIEWS)
+     * @param afterBookId 마지막으로 내려준 도서 ID, 첫 페이지면 null
+     * @param afterScore  마지막으로 내려준 도서의 점수
+     * @param count       조회 개수
+     * @return 점수 내림차순 (도서 ID, 점수) 목록, 보드가 아직 없으면 null
+     */
+    public List<RankedBook> findTopBooksAfter(BookRankingBoard board, Long afterBookId, long afterScore, long count) {
+        List<?> reply = redisTemplate.execute(SEEK_SCRIPT, List.of(board.getKey()),
+                afterBookId == null ? "" : afterBookId.toString(), Long.toString(afterScore), Long.toString(count));
+        if (reply == null) {
+            return null;
+        }
+
+        // WITHSCORES 응답은 [도서 ID, 점수, 도서 ID, 점수, ...]
+        List<RankedBook> books = new ArrayList<>(reply.size() / 2);
+        for (int i = 0; i + 1 < reply.size(); i += 2) {
+            books.add(new RankedBook(Long.valueOf(reply.get(i).toString()),
+                    (long) Double.parseDouble(reply.get(i + 1).toString())));
+        }
+        return books;
+    }
+
+    /* ============================== 재구성 ============================== */
+
+    /**
+     * 누적 랭킹 보드를 통째로 교체함 (임시 키에 적재 후 RENAME)
+     */
+    public void replaceBoard(BookRankingBoard board, Map<Long, Long> scores) {
+        replaceSortedSet(board.getKey(), scores);
+    }
+
+    /**
+     * 일별 버킷을 통째로 교체함
+     */
+    public void replaceDailyBoard(BookRankingBoard board, LocalDate day, Map<Long, Long> scores) {
+        String key = dailyKey(board, day);
+        replaceSortedSet(key, scores);
+        redisTemplate.expire(key, DAILY_TTL);
+    }
+
+    /**
+     * 일별 구매자 집합을 통째로 교체함
+     *
+     * @param buyers "bookId:memberId" 형태의 구매 조합
+     */
+    public void replaceDailyBuyers(LocalDate day, Set<String> buyers) {
+        String key = buyersKey(day);
+        redisTemplate.delete(key);
+        if (buyers.isEmpty()) {
+            return;
+        }
+
+        List<String> values = new ArrayList<>(buyers);
+        for (int from = 0; from < values.size(); from += WRITE_CHUNK_SIZE) {
+            List<String> chunk = values.subList(from, Math.min(from + WRITE_CHUNK_SIZE, values.size()));
+            redisTemplate.opsForSet().add(key, chunk.toArray(String[]::new));
+        }
+        redisTemplate.expire(key, DAILY_TTL);
+    }
+
+    /**
+     * 30일 합산 캐시를 지워 다음 조회 시 다시 합산되도록 함
+     */
+    public void evictWindow(BookRankingBoard board) {
+        redisTemplate.delete(board.getKey() + WINDOW_SUFFIX);
+    }
+
+    // 오늘 포함 최근 30개 일별 버킷을 ZUNIONSTORE 로 합산
+    private String windowKey(BookRankingBoard board) {
+        String windowKey = board.getKey() + WINDOW_SUFFIX;
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(windowKey))) {
+            return windowKey;
+        }
+
+        LocalDate today = LocalDate.now();
+        List<String> dailyKeys = IntStream.range(0, WINDOW_DAYS)
+                .mapToObj(i -> dailyKey(board, today.minusDays(i)))
+                .toList();
+
+        Long size = redisTemplate.opsForZSet().unionAndStore(dailyKeys.getFirst(), dailyKeys.subList(1, dailyKeys.size()), windowKey);
+        if (size != null && size > 0) {
+            // 이전에 남은 0 이하 점수가 합산되어 있을 수 있음
+            redisTemplate.opsForZSet().removeRangeByScore(windowKey, Double.NEGATIVE_INFINITY, 0);
+            redisTemplate.expire(windowKey, WINDOW_TTL);
+        }
+        return windowKey;
+    }
+
+    private void replaceSortedSet(String key, Map<Long, Long> scores) {
+        if (scores.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+
+        String tmpKey = key + TMP_SUFFIX;
+        redisTemplate.delete(tmpKey);
+
+        Set<TypedTuple<String>> chunk = new HashSet<>();
+        for (Map.Entry<Long, Long> entry : scores.entrySet()) {
+            chunk.add(TypedTuple.of(entry.getKey().toString(), entry.getValue().doubleValue()));
+            if (chunk.size() == WRITE_CHUNK_SIZE) {
+                redisTemplate.opsForZSet().add(tmpKey, chunk);
+                chunk = new HashSet<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            redisTemplate.opsForZSet().add(tmpKey, chunk);
+        }
+
+        redisTemplate.rename(tmpKey, key);
+    }
+
+    private String dailyKey(BookRankingBoard board, LocalDate day) {
+        return board.getKey() + ":" + day.format(DAY_FORMAT);
+    }
+
+    private String buyersKey(LocalDate day) {
+        return BookRankingBoard.EARLY_ADOPTER_30D.getKey() + BUYERS_SUFFIX + day.format(DAY_FORMAT);
+    }
+
+    public record RankedBook(Long bookId, long score) {
+    }
+}
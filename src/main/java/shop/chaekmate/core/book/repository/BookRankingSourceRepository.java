@@ -0,0 +1,78 @@
+package shop.chaekmate.core.book.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// 랭킹 보드 재구성용 집계 쿼리
+@Repository
+@RequiredArgsConstructor
+public class BookRankingSourceRepository {
+
+    // 결제 완료된 (도서, 회원, 구매일) 조합, 얼리어답터 일별 버킷과 대체 조회가 같은 기준을 씀
+    private static final String DAILY_BUYERS_SQL =
+            "SELECT DISTINCT ob.book_id, o.member_id, DATE(ob.created_at) AS ordered_on "
+                    + "FROM ordered_book ob JOIN `order` o ON ob.order_id = o.id "
+                    + "WHERE ob.deleted_at IS NULL AND o.member_id IS NOT NULL AND ob.created_at >= ? "
+                    + "AND ob.unit_status IN ('PAYMENT_COMPLETE', 'SHIPPING', 'DELIVERED', 'CANCEL_REQUEST', 'RETURN_REQUEST')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<BookScore> findSalesCounts() {
+        String sql = "SELECT c.book_id, c.sales_count FROM book_card c JOIN book b ON b.id = c.book_id "
+                + "WHERE b.deleted_at IS NULL AND c.sales_count > 0";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new BookScore(rs.getLong(1), rs.getLong(2)));
+    }
+
+    public List<BookScore> findViewCounts() {
+        String sql = "SELECT c.book_id, c.views FROM book_card c JOIN book b ON b.id = c.book_id "
+                + "WHERE b.deleted_at IS NULL AND c.views > 0";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new BookScore(rs.getLong(1), rs.getLong(2)));
+    }
+
+    public List<BookDailyScore> findDailyReviewCounts(LocalDateTime since) {
+        String sql = "SELECT ob.book_id, DATE(r.created_at) AS reviewed_on, COUNT(*) AS review_count "
+                + "FROM review r JOIN ordered_book ob ON r.ordered_book_id = ob.id "
+                + "WHERE r.deleted_at IS NULL AND r.created_at >= ? "
+                + "GROUP BY ob.book_id, DATE(r.created_at)";
+
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> new BookDailyScore(rs.getLong(1), rs.getDate(2).toLocalDate(), rs.getLong(3)),
+                Timestamp.valueOf(since));
+    }
+
+    public List<BookDailyBuyer> findDailyBuyers(LocalDateTime since) {
+        return jdbcTemplate.query(DAILY_BUYERS_SQL,
+                (rs, rowNum) -> new BookDailyBuyer(rs.getLong(1), rs.getLong(2), rs.getDate(3).toLocalDate()),
+                Timestamp.valueOf(since));
+    }
+
+    /**
+     * 얼리어답터 순위 (랭킹 보드를 쓸 수 없을 때의 대체 조회)
+     * <p>
+     * 보드와 같은 기준: 결제 완료된 (도서, 회원, 구매일) 조합 수, 같은 회원이 다른 날 다시 사면 따로 집계
+     */
+    public List<Long> findEarlyAdopterBookIds(LocalDateTime since, long offset, int limit) {
+        String sql = "SELECT t.book_id FROM (" + DAILY_BUYERS_SQL + ") t "
+                + "JOIN book b ON b.id = t.book_id "
+                + "WHERE b.deleted_at IS NULL "
+                + "GROUP BY t.book_id ORDER BY COUNT(*) DESC, t.book_id DESC LIMIT ? OFFSET ?";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> rs.getLong(1), Timestamp.valueOf(since), limit, offset);
+    }
+
+    public record BookScore(Long bookId, long score) {
+    }
+
+    public record BookDailyScore(Long bookId, LocalDate day, long score) {
+    }
+
+    public record BookDailyBuyer(Long bookId, Long memberId, LocalDate day) {
+    }
+}
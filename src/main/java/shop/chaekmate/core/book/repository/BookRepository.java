@@ -1,8 +1,13 @@
 package shop.chaekmate.core.book.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import shop.chaekmate.core.book.entity.Book;
 
 public interface BookRepository extends JpaRepository<Book, Long>, BookRepositoryCustom {
     boolean existsByIsbn(String isbn);
+
+    @Query("select b.id from Book b where b.stock > 0")
+    List<Long> findInStockBookIds();
 }
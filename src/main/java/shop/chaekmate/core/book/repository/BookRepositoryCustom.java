@@ -1,11 +1,14 @@
 package shop.chaekmate.core.book.repository;
 
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import shop.chaekmate.core.book.dto.request.BookCursor;
 import shop.chaekmate.core.book.dto.request.BookSearchCondition;
 import shop.chaekmate.core.book.dto.response.BookListResponse;
 import shop.chaekmate.core.book.dto.response.BookQueryResponse;
+import shop.chaekmate.core.book.dto.response.BookQuerySliceResponse;
 
 public interface BookRepositoryCustom {
     Page<BookListResponse> searchBooks(BookSearchCondition condition, Pageable pageable);
@@ -24,5 +27,16 @@ public interface BookRepositoryCustom {
 
     Slice<BookQueryResponse> findBooksByViews(Pageable pageable);
 
-    Slice<BookQueryResponse> findEarlyAdopterPicks(Pageable pageable);
+    List<BookQueryResponse> findBookCardsByIds(List<Long> bookIds);
+
+    // 키셋(커서) 페이지네이션
+    BookQuerySliceResponse findRecentlyAddedBooks(BookCursor cursor, int size);
+
+    BookQuerySliceResponse findNewBooks(BookCursor cursor, int size);
+
+    BookQuerySliceResponse findAllBooks(BookSearchCondition condition, BookCursor cursor, int size);
+
+    BookQuerySliceResponse findBooksByViews(BookCursor cursor, int size);
+
+    BookQuerySliceResponse findBestsellers(BookCursor cursor, int size);
 }
@@ -1,33 +1,42 @@
 package shop.chaekmate.core.book.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.DateTimePath;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
+import shop.chaekmate.core.book.dto.request.BookCursor;
 import shop.chaekmate.core.book.dto.request.BookSearchCondition;
 import shop.chaekmate.core.book.dto.response.BookListResponse;
 import shop.chaekmate.core.book.dto.response.BookQueryResponse;
+import shop.chaekmate.core.book.dto.response.BookQuerySliceResponse;
 import shop.chaekmate.core.book.dto.response.QBookListResponse;
 
 import java.util.List;
-import shop.chaekmate.core.book.entity.QBookImage;
 
 import static shop.chaekmate.core.book.entity.QBook.book;
+import static shop.chaekmate.core.book.entity.QBookCard.bookCard;
 import static shop.chaekmate.core.book.entity.QBookCategory.bookCategory;
 import static shop.chaekmate.core.book.entity.QBookTag.bookTag;
-import static shop.chaekmate.core.order.entity.QOrder.order;
 import static shop.chaekmate.core.order.entity.QOrderedBook.orderedBook;
 import static shop.chaekmate.core.review.entity.QReview.review;
 
@@ -35,12 +44,30 @@ import static shop.chaekmate.core.review.entity.QReview.review;
 @RequiredArgsConstructor
 public class BookRepositoryImpl implements BookRepositoryCustom {
 
+    // 카드 목록 공통 프로젝션: 평점, 리뷰 수, 썸네일, 조회수는 book_card 에서 한 번에 가져온다
+    private static final ConstructorExpression<BookQueryResponse> BOOK_CARD = Projections.constructor(
+            BookQueryResponse.class,
+            book.id,
+            book.title,
+            book.author,
+            book.price,
+            book.salesPrice,
+            new CaseBuilder()
+                    .when(bookCard.ratingCount.gt(0L))
+                    .then(bookCard.ratingSum.doubleValue().divide(bookCard.ratingCount))
+                    .otherwise(0.0),
+            bookCard.ratingCount,
+            bookCard.thumbnailUrl,
+            bookCard.views
+    );
+
     private final JPAQueryFactory queryFactory;
+    private final BookKeywordSearchRepository keywordSearchRepository;
 
     @Override
     public Page<BookListResponse> searchBooks(BookSearchCondition condition, Pageable pageable) {
 
-        QBookImage firstImage = QBookImage.bookImage; // 썸네일
+        BooleanExpression keywordMatches = keywordContains(condition.keyword());
 
         List<BookListResponse> content = queryFactory
                 .select(new QBookListResponse(
@@ -50,169 +77,59 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
                         book.publisher,
                         book.price,
                         book.salesPrice,
-                        firstImage.imageUrl
+                        bookCard.thumbnailUrl
                 ))
                 .from(book)
-                .leftJoin(bookCategory).on(bookCategory.book.eq(book))
-                .leftJoin(bookTag).on(bookTag.book.eq(book))
-                // 첫 번째 이미지만 LEFT JOIN
-                .leftJoin(firstImage)
-                .on(firstImage.book.eq(book)
-                        .and(firstImage.id.eq(
-                                JPAExpressions.select(firstImage.id.min())
-                                        .from(firstImage)
-                                        .where(firstImage.book.eq(book))
-                        ))
-                )
+                // 썸네일은 book_card 에서 (카드가 아직 없으면 썸네일 없이 노출)
+                .leftJoin(bookCard).on(bookCard.bookId.eq(book.id))
                 .where(
                         categoryIdEq(condition.categoryId()),
                         tagIdEq(condition.tagId()),
-                        keywordContains(condition.keyword())
+                        keywordMatches
                 )
                 .orderBy(book.createdAt.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        // total 쿼리
-        Long total = queryFactory
-                .select(book.countDistinct())
+        // total 쿼리: 첫 페이지나 마지막 페이지처럼 content 로 알 수 있으면 생략
+        JPAQuery<Long> countQuery = queryFactory
+                .select(book.count())
                 .from(book)
-                .leftJoin(bookCategory).on(bookCategory.book.eq(book))
-                .leftJoin(bookTag).on(bookTag.book.eq(book))
                 .where(
                         categoryIdEq(condition.categoryId()),
                         tagIdEq(condition.tagId()),
-                        keywordContains(condition.keyword())
-                )
-                .fetchOne();
+                        keywordMatches
+                );
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
     @Override
     public Slice<BookQueryResponse> findRecentlyAddedBooks(Pageable pageable) {
-        QBookImage firstImage = new QBookImage("firstImage");
-
-        List<BookQueryResponse> content = queryFactory
-                .select(Projections.constructor(BookQueryResponse.class,
-                        book.id,
-                        book.title,
-                        book.author,
-                        book.price,
-                        book.salesPrice,
-                        JPAExpressions.select(review.rating.avg().coalesce(0.0))
-                                .from(review)
-                                .join(review.orderedBook, orderedBook)
-                                .where(orderedBook.book.id.eq(book.id)),
-                        JPAExpressions.select(review.count())
-                                .from(review)
-                                .join(review.orderedBook, orderedBook)
-                                .where(orderedBook.book.id.eq(book.id)),
-                        firstImage.imageUrl,
-                        book.views
-                ))
-                .from(book)
-                .leftJoin(firstImage)
-                .on(firstImage.book.eq(book)
-                        .and(firstImage.id.eq(
-                                JPAExpressions.select(firstImage.id.min())
-                                        .from(firstImage)
-                                        .where(firstImage.book.eq(book))
-                        ))
-                )
+        List<BookQueryResponse> content = selectBookCards()
                 .orderBy(book.createdAt.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1L)
                 .fetch();
 
-        boolean hasNext = false;
-        if (content.size() > pageable.getPageSize()) {
-            content.remove(pageable.getPageSize());
-            hasNext = true;
-        }
-
-        return new SliceImpl<>(content, pageable, hasNext);
+        return toSlice(content, pageable);
     }
 
     @Override
     public Slice<BookQueryResponse> findNewBooks(Pageable pageable) {
-        QBookImage firstImage = new QBookImage("firstImage");
-
-        List<BookQueryResponse> content = queryFactory
-                .select(Projections.constructor(BookQueryResponse.class,
-                        book.id,
-                        book.title,
-                        book.author,
-                        book.price,
-                        book.salesPrice,
-                        JPAExpressions.select(review.rating.avg().coalesce(0.0))
-                                .from(review)
-                                .join(review.orderedBook, orderedBook)
-                                .where(orderedBook.book.id.eq(book.id)),
-                        JPAExpressions.select(review.count())
-                                .from(review)
-                                .join(review.orderedBook, orderedBook)
-                                .where(orderedBook.book.id.eq(book.id)),
-                        firstImage.imageUrl,
-                        book.views
-                ))
-                .from(book)
-                .leftJoin(firstImage)
-                .on(firstImage.book.eq(book)
-                        .and(firstImage.id.eq(
-                                JPAExpressions.select(firstImage.id.min())
-                                        .from(firstImage)
-                                        .where(firstImage.book.eq(book))
-                        ))
-                )
+        List<BookQueryResponse> content = selectBookCards()
                 .orderBy(book.publishedAt.desc()) // Key difference here
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1L)
                 .fetch();
 
-        boolean hasNext = false;
-        if (content.size() > pageable.getPageSize()) {
-            content.remove(pageable.getPageSize());
-            hasNext = true;
-        }
-
-        return new SliceImpl<>(content, pageable, hasNext);
+        return toSlice(content, pageable);
     }
 
     @Override
     public Slice<BookQueryResponse> findAllBooks(BookSearchCondition condition, Pageable pageable) {
-        QBookImage firstImage = new QBookImage("firstImage");
-
-        List<BookQueryResponse> content = queryFactory
-                .select(Projections.constructor(BookQueryResponse.class,
-                        book.id,
-                        book.title,
-                        book.author,
-                        book.price,
-                        book.salesPrice,
-                        JPAExpressions.select(review.rating.avg().coalesce(0.0))
-                                .from(review)
-                                .join(review.orderedBook, orderedBook)
-                                .where(orderedBook.book.id.eq(book.id)),
-                        JPAExpressions.select(review.count())
-                                .from(review)
-                                .join(review.orderedBook, orderedBook)
-                                .where(orderedBook.book.id.eq(book.id)),
-                        firstImage.imageUrl,
-                        book.views
-                ))
-                .from(book)
-                .leftJoin(bookCategory).on(bookCategory.book.eq(book))
-                .leftJoin(bookTag).on(bookTag.book.eq(book))
-                .leftJoin(firstImage)
-                .on(firstImage.book.eq(book)
-                        .and(firstImage.id.eq(
-                                JPAExpressions.select(firstImage.id.min())
-                                        .from(firstImage)
-                                        .where(firstImage.book.eq(book))
-                        ))
-                )
+        List<BookQueryResponse> content = selectBookCards()
                 .where(
                         categoryIdEq(condition.categoryId()),
                         tagIdEq(condition.tagId()),
@@ -223,94 +140,25 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
                 .limit(pageable.getPageSize() + 1L)
                 .fetch();
 
-        boolean hasNext = false;
-        if (content.size() > pageable.getPageSize()) {
-            content.remove(pageable.getPageSize());
-            hasNext = true;
-        }
-
-        return new SliceImpl<>(content, pageable, hasNext);
+        return toSlice(content, pageable);
     }
 
     @Override
     public Slice<BookQueryResponse> findBestsellers(Pageable pageable) {
-        QBookImage firstImage = new QBookImage("firstImage");
-
-        List<BookQueryResponse> content = queryFactory
-                .select(Projections.constructor(BookQueryResponse.class,
-                        book.id,
-                        book.title,
-                        book.author,
-                        book.price,
-                        book.salesPrice,
-                        JPAExpressions.select(review.rating.avg().coalesce(0.0))
-                                .from(review)
-                                .join(review.orderedBook, orderedBook)
-                                .where(orderedBook.book.id.eq(book.id)),
-                        JPAExpressions.select(review.count())
-                                .from(review)
-                                .join(review.orderedBook, orderedBook)
-                                .where(orderedBook.book.id.eq(book.id)),
-                        firstImage.imageUrl,
-                        book.views
-                ))
-                .from(book)
-                .leftJoin(firstImage)
-                .on(firstImage.book.eq(book)
-                        .and(firstImage.id.eq(
-                                JPAExpressions.select(firstImage.id.min())
-                                        .from(firstImage)
-                                        .where(firstImage.book.eq(book))
-                        ))
-                )
-                .orderBy(new OrderSpecifier<>(Order.DESC, JPAExpressions.select(orderedBook.count())
-                        .from(orderedBook)
-                        .where(orderedBook.book.id.eq(book.id))))
+        List<BookQueryResponse> content = selectBookCards()
+                .orderBy(bookCard.salesCount.desc(), book.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1L)
                 .fetch();
 
-        boolean hasNext = false;
-        if (content.size() > pageable.getPageSize()) {
-            content.remove(pageable.getPageSize());
-            hasNext = true;
-        }
-
-        return new SliceImpl<>(content, pageable, hasNext);
+        return toSlice(content, pageable);
     }
 
     @Override
     public Slice<BookQueryResponse> findTopReviewedBooksForLast30Days(Pageable pageable) {
-        QBookImage firstImage = new QBookImage("firstImage");
         LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
 
-        List<BookQueryResponse> content = queryFactory
-                .select(Projections.constructor(BookQueryResponse.class,
-                        book.id,
-                        book.title,
-                        book.author,
-                        book.price,
-                        book.salesPrice,
-                        JPAExpressions.select(review.rating.avg().coalesce(0.0))
-                                .from(review)
-                                .join(review.orderedBook, orderedBook)
-                                .where(orderedBook.book.id.eq(book.id)),
-                        JPAExpressions.select(review.count())
-                                .from(review)
-                                .join(review.orderedBook, orderedBook)
-                                .where(orderedBook.book.id.eq(book.id)),
-                        firstImage.imageUrl,
-                        book.views
-                ))
-                .from(book)
-                .leftJoin(firstImage)
-                .on(firstImage.book.eq(book)
-                        .and(firstImage.id.eq(
-                                JPAExpressions.select(firstImage.id.min())
-                                        .from(firstImage)
-                                        .where(firstImage.book.eq(book))
-                        ))
-                )
+        List<BookQueryResponse> content = selectBookCards()
                 .where(JPAExpressions.select(review.count())
                         .from(review)
                         .join(review.orderedBook, orderedBook)
@@ -326,46 +174,12 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
                 .limit(pageable.getPageSize() + 1L)
                 .fetch();
 
-        boolean hasNext = false;
-        if (content.size() > pageable.getPageSize()) {
-            content.remove(pageable.getPageSize());
-            hasNext = true;
-        }
-
-        return new SliceImpl<>(content, pageable, hasNext);
+        return toSlice(content, pageable);
     }
 
     @Override
     public Slice<BookQueryResponse> findRandomInStockBooks(Pageable pageable) {
-        QBookImage firstImage = new QBookImage("firstImage");
-
-        List<BookQueryResponse> content = queryFactory
-                .select(Projections.constructor(BookQueryResponse.class,
-                        book.id,
-                        book.title,
-                        book.author,
-                        book.price,
-                        book.salesPrice,
-                        JPAExpressions.select(review.rating.avg().coalesce(0.0))
-                                .from(review)
-                                .join(review.orderedBook, orderedBook)
-                                .where(orderedBook.book.id.eq(book.id)),
-                        JPAExpressions.select(review.count())
-                                .from(review)
-                                .join(review.orderedBook, orderedBook)
-                                .where(orderedBook.book.id.eq(book.id)),
-                        firstImage.imageUrl,
-                        book.views
-                ))
-                .from(book)
-                .leftJoin(firstImage)
-                .on(firstImage.book.eq(book)
-                        .and(firstImage.id.eq(
-                                JPAExpressions.select(firstImage.id.min())
-                                        .from(firstImage)
-                                        .where(firstImage.book.eq(book))
-                        ))
-                )
+        List<BookQueryResponse> content = selectBookCards()
                 .where(book.stock.gt(0))
                 .orderBy(Expressions.numberTemplate(Double.class, "function('RAND')").asc())
                 .limit(pageable.getPageSize())
@@ -376,95 +190,152 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
 
     @Override
     public Slice<BookQueryResponse> findBooksByViews(Pageable pageable) {
-        QBookImage firstImage = new QBookImage("firstImage");
-
-        List<BookQueryResponse> content = queryFactory
-                .select(Projections.constructor(BookQueryResponse.class,
-                        book.id,
-                        book.title,
-                        book.author,
-                        book.price,
-                        book.salesPrice,
-                        JPAExpressions.select(review.rating.avg().coalesce(0.0))
-                                .from(review)
-                                .join(review.orderedBook, orderedBook)
-                                .where(orderedBook.book.id.eq(book.id)),
-                        JPAExpressions.select(review.count())
-                                .from(review)
-                                .join(review.orderedBook, orderedBook)
-                                .where(orderedBook.book.id.eq(book.id)),
-                        firstImage.imageUrl,
-                        book.views
-                ))
-                .from(book)
-                .leftJoin(firstImage)
-                .on(firstImage.book.eq(book)
-                        .and(firstImage.id.eq(
-                                JPAExpressions.select(firstImage.id.min())
-                                        .from(firstImage)
-                                        .where(firstImage.book.eq(book))
-                        ))
-                )
-                .orderBy(book.views.desc())
+        List<BookQueryResponse> content = selectBookCards()
+                .orderBy(bookCard.views.desc(), book.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1L)
                 .fetch();
 
-        boolean hasNext = false;
-        if (content.size() > pageable.getPageSize()) {
-            content.remove(pageable.getPageSize());
-            hasNext = true;
+        return toSlice(content, pageable);
+    }
+
+    @Override
+    public List<BookQueryResponse> findBookCardsByIds(List<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return List.of();
         }
 
-        return new SliceImpl<>(content, pageable, hasNext);
+        return selectBookCards()
+                .where(book.id.in(bookIds))
+                .fetch();
     }
 
     @Override
-    public Slice<BookQueryResponse> findEarlyAdopterPicks(Pageable pageable) {
-        QBookImage firstImage = new QBookImage("firstImage");
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
+    public BookQuerySliceResponse findRecentlyAddedBooks(BookCursor cursor, int size) {
+        List<Tuple> rows = selectBookCardsWith(book.createdAt)
+                .where(dateTimeSeek(book.createdAt, cursor))
+                .orderBy(book.createdAt.desc(), book.id.desc())
+                .limit(size + 1L)
+                .fetch();
 
-        List<BookQueryResponse> content = queryFactory
-                .select(Projections.constructor(BookQueryResponse.class,
-                        book.id,
-                        book.title,
-                        book.author,
-                        book.price,
-                        book.salesPrice,
-                        JPAExpressions.select(review.rating.avg().coalesce(0.0))
-                                .from(review)
-                                .join(review.orderedBook, orderedBook)
-                                .where(orderedBook.book.id.eq(book.id)),
-                        JPAExpressions.select(review.count())
-                                .from(review)
-                                .join(review.orderedBook, orderedBook)
-                                .where(orderedBook.book.id.eq(book.id)),
-                        firstImage.imageUrl,
-                        book.views
-                ))
-                .from(book)
-                .leftJoin(firstImage)
-                .on(firstImage.book.eq(book)
-                        .and(firstImage.id.eq(
-                                JPAExpressions.select(firstImage.id.min())
-                                        .from(firstImage)
-                                        .where(firstImage.book.eq(book))
-                        ))
+        return toCursorSlice(rows, book.createdAt, BookCursor.Type.CREATED_AT, size);
+    }
+
+    // 출간일 있는 구간을 (published_at, id) 범위로 먼저 읽고, 모자라면 출간일 없는 구간을 id 순으로 이어 읽음
+    @Override
+    public BookQuerySliceResponse findNewBooks(BookCursor cursor, int size) {
+        List<Tuple> rows = new ArrayList<>(size + 1);
+
+        boolean inNullSegment = cursor != null && cursor.dateTimeValue() == null;
+        if (!inNullSegment) {
+            rows.addAll(selectBookCardsWith(book.publishedAt)
+                    .where(book.publishedAt.isNotNull(), dateTimeSeek(book.publishedAt, cursor))
+                    .orderBy(book.publishedAt.desc(), book.id.desc())
+                    .limit(size + 1L)
+                    .fetch());
+        }
+
+        if (rows.size() <= size) {
+            rows.addAll(selectBookCardsWith(book.publishedAt)
+                    .where(book.publishedAt.isNull(), inNullSegment ? book.id.lt(cursor.id()) : null)
+                    .orderBy(book.id.desc())
+                    .limit(size + 1L - rows.size())
+                    .fetch());
+        }
+
+        return toCursorSlice(rows, book.publishedAt, BookCursor.Type.PUBLISHED_AT, size);
+    }
+
+    @Override
+    public BookQuerySliceResponse findAllBooks(BookSearchCondition condition, BookCursor cursor, int size) {
+        List<Tuple> rows = selectBookCardsWith(book.createdAt)
+                .where(
+                        categoryIdEq(condition.categoryId()),
+                        tagIdEq(condition.tagId()),
+                        keywordContains(condition.keyword()),
+                        dateTimeSeek(book.createdAt, cursor)
                 )
-                .where(JPAExpressions.select(orderedBook.count())
-                        .from(orderedBook)
-                        .where(orderedBook.book.id.eq(book.id)
-                                .and(orderedBook.createdAt.after(thirtyDaysAgo)))
-                        .gt(0L))
-                .orderBy(new OrderSpecifier<>(Order.DESC, JPAExpressions.select(order.member.id.countDistinct())
-                        .from(orderedBook)
-                        .join(orderedBook.order, order)
-                        .where(orderedBook.book.id.eq(book.id)
-                                .and(orderedBook.createdAt.after(thirtyDaysAgo)))))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize() + 1L)
+                .orderBy(book.createdAt.desc(), book.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        return toCursorSlice(rows, book.createdAt, BookCursor.Type.CREATED_AT, size);
+    }
+
+    @Override
+    public BookQuerySliceResponse findBooksByViews(BookCursor cursor, int size) {
+        List<Tuple> rows = selectBookCardsWith(bookCard.views)
+                .where(numberSeek(bookCard.views, cursor))
+                .orderBy(bookCard.views.desc(), book.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        return toCursorSlice(rows, bookCard.views, BookCursor.Type.VIEWS, size);
+    }
+
+    @Override
+    public BookQuerySliceResponse findBestsellers(BookCursor cursor, int size) {
+        List<Tuple> rows = selectBookCardsWith(bookCard.salesCount)
+                .where(numberSeek(bookCard.salesCount, cursor))
+                .orderBy(bookCard.salesCount.desc(), book.id.desc())
+                .limit(size + 1L)
                 .fetch();
 
+        return toCursorSlice(rows, bookCard.salesCount, BookCursor.Type.SALES, size);
+    }
+
+    // 카드가 없는 도서는 목록에서 빠지므로 BookCardBackfillScheduler 가 주기적으로 채운다
+    private JPAQuery<BookQueryResponse> selectBookCards() {
+        return queryFactory
+                .select(BOOK_CARD)
+                .from(book)
+                .join(bookCard).on(bookCard.bookId.eq(book.id));
+    }
+
+    // 커서 모드: 다음 커서를 만들기 위해 정렬 키를 함께 조회
+    private JPAQuery<Tuple> selectBookCardsWith(Expression<?> sortKey) {
+        return queryFactory
+                .select(BOOK_CARD, sortKey)
+                .from(book)
+                .join(bookCard).on(bookCard.bookId.eq(book.id));
+    }
+
+    private BookQuerySliceResponse toCursorSlice(List<Tuple> rows, Expression<?> sortKey, BookCursor.Type type, int size) {
+        boolean hasNext = rows.size() > size;
+        List<Tuple> page = hasNext ? rows.subList(0, size) : rows;
+        List<BookQueryResponse> content = page.stream().map(row -> row.get(BOOK_CARD)).toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = page.getLast();
+            nextCursor = BookCursor.encode(type, last.get(sortKey), last.get(BOOK_CARD).id());
+        }
+
+        return new BookQuerySliceResponse(content, hasNext, nextCursor);
+    }
+
+    // (정렬값, id) 내림차순 기준으로 커서 다음 행부터 (null 정렬값 구간은 호출하는 쪽에서 따로 조회)
+    private BooleanExpression dateTimeSeek(DateTimePath<LocalDateTime> path, BookCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        LocalDateTime value = cursor.dateTimeValue();
+        return path.lt(value)
+                .or(path.eq(value).and(book.id.lt(cursor.id())));
+    }
+
+    private BooleanExpression numberSeek(NumberPath<Long> path, BookCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        long value = cursor.longValue();
+        return path.lt(value)
+                .or(path.eq(value).and(book.id.lt(cursor.id())));
+    }
+
+    private Slice<BookQueryResponse> toSlice(List<BookQueryResponse> content, Pageable pageable) {
         boolean hasNext = false;
         if (content.size() > pageable.getPageSize()) {
             content.remove(pageable.getPageSize());
@@ -474,19 +345,39 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
         return new SliceImpl<>(content, pageable, hasNext);
     }
 
-
+    // 카테고리, 태그 필터는 조인 대신 EXISTS 로 걸어 행이 늘어나지 않게 함
     private BooleanExpression categoryIdEq(Long categoryId) {
-        return categoryId != null ? bookCategory.category.id.eq(categoryId) : null;
+        if (categoryId == null) {
+            return null;
+        }
+        return JPAExpressions.selectOne()
+                .from(bookCategory)
+                .where(bookCategory.book.id.eq(book.id), bookCategory.category.id.eq(categoryId))
+                .exists();
     }
 
     private BooleanExpression tagIdEq(Long tagId) {
-        return tagId != null ? bookTag.tag.id.eq(tagId) : null;
+        if (tagId == null) {
+            return null;
+        }
+        return JPAExpressions.selectOne()
+                .from(bookTag)
+                .where(bookTag.book.id.eq(book.id), bookTag.tag.id.eq(tagId))
+                .exists();
     }
 
     private BooleanExpression keywordContains(String keyword) {
         if (!StringUtils.hasText(keyword)) {
             return null;
         }
+
+        // FULLTEXT 조건을 같은 쿼리에 걸어 페이지, total 모두 전체 일치 결과 기준으로 계산
+        if (keywordSearchRepository.supports(keyword)) {
+            return Expressions.numberTemplate(Double.class, "function('match_against', {0}, {1}, {2}, {3})",
+                            book.title, book.author, book.publisher, keywordSearchRepository.toPhrase(keyword))
+                    .gt(0.0);
+        }
+
         return book.title.containsIgnoreCase(keyword)
                 .or(book.author.containsIgnoreCase(keyword))
                 .or(book.publisher.containsIgnoreCase(keyword));
@@ -0,0 +1,58 @@
+package shop.chaekmate.core.book.repository;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+// 재고 있는 도서 id 풀 (추천 목록 랜덤 추출용)
+@Repository
+@RequiredArgsConstructor
+public class BookStockPoolRedisRepository {
+
+    private static final String KEY = "book:in-stock";
+    private static final String TMP_KEY = KEY + ":tmp";
+    private static final int WRITE_CHUNK_SIZE = 1_000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void add(Long bookId) {
+        redisTemplate.opsForSet().add(KEY, bookId.toString());
+    }
+
+    public void remove(Long bookId) {
+        redisTemplate.opsForSet().remove(KEY, bookId.toString());
+    }
+
+    /**
+     * 풀에서 중복 없이 무작위로 도서 id 를 꺼냄 (SRANDMEMBER, O(count))
+     *
+     * @return 풀이 아직 구성되지 않았으면 null
+     */
+    public List<Long> findRandomBookIds(int count) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(KEY))) {
+            return null;
+        }
+
+        return redisTemplate.opsForSet().distinctRandomMembers(KEY, count).stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    // 임시 키에 채운 뒤 RENAME 으로 교체 (교체 중에도 기존 풀로 조회)
+    public void replacePool(List<Long> bookIds) {
+        redisTemplate.delete(TMP_KEY);
+        if (bookIds.isEmpty()) {
+            redisTemplate.delete(KEY);
+            return;
+        }
+
+        for (int from = 0; from < bookIds.size(); from += WRITE_CHUNK_SIZE) {
+            String[] chunk = bookIds.subList(from, Math.min(from + WRITE_CHUNK_SIZE, bookIds.size())).stream()
+                    .map(String::valueOf)
+                    .toArray(String[]::new);
+            redisTemplate.opsForSet().add(TMP_KEY, chunk);
+        }
+        redisTemplate.rename(TMP_KEY, KEY);
+    }
+}
@@ -0,0 +1,52 @@
+package shop.chaekmate.core.book.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 도서 재고 차감
+ * <ul>
+ *     <li>엔티티를 읽어 dirty checking 으로 줄이지 않고, 조건부 UPDATE 로 재고가 충분할 때만 차감한다 (동시 결제 시 초과 판매 방지).</li>
+ *     <li>여러 도서는 id 오름차순으로 하나씩 보낸다 (잠금 순서가 항상 같아 교착 상태가 생기지 않음).</li>
+ *     <li>batch 로 보내면 드라이버가 행 수 대신 SUCCESS_NO_INFO 를 돌려줄 수 있어, 행마다 실제 변경 수를 확인한다.</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookStockRepository {
+
+    private static final String DECREASE_STOCK =
+            "UPDATE book SET stock = stock - ?, updated_at = ? WHERE id = ? AND stock >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 재고가 충분한 도서만 차감 (호출한 트랜잭션이 롤백되면 함께 취소됨)
+     *
+     * @param quantities 도서 id → 차감 수량
+     * @return 재고가 부족하거나 없는 도서 id, 모두 차감되었으면 빈 목록
+     */
+    public List<Long> decreaseStocks(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Long> shortage = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantities).entrySet()) {
+            int quantity = entry.getValue();
+            if (jdbcTemplate.update(DECREASE_STOCK, quantity, now, entry.getKey(), quantity) != 1) {
+                shortage.add(entry.getKey());
+            }
+        }
+        return shortage;
+    }
+}
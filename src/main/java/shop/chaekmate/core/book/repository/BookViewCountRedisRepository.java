@@ -0,0 +1,155 @@
+package shop.chaekmate.core.book.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 도서 조회수 누적 카운터
+ * <ul>
+ *     <li>book:views:bucket:{bookId % BUCKET_COUNT} - 해시, field=도서 id, value=누적 조회수</li>
+ *     <li>book:views:flush:{epoch}:{bucket} - 동기화 시작 시 버킷을 통째로 옮겨둔 해시, DB 반영 후 삭제</li>
+ *     <li>book:views:flushing - 아직 삭제(ack)되지 않은 epoch 목록</li>
+ * </ul>
+ * 버킷 수가 고정이라 동기화 시 SCAN 없이 정해진 해시만 읽으면 된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookViewCountRedisRepository {
+
+    public static final int BUCKET_COUNT = 64;
+
+    private static final String BUCKET_KEY_PREFIX = "book:views:bucket:";
+    private static final String FLUSH_KEY_PREFIX = "book:views:flush:";
+    private static final String FLUSHING_EPOCHS_KEY = "book:views:flushing";
+
+    // KEYS = 버킷 N개 + epoch 키 N개 + flushing 목록, 있는 버킷만 RENAME 하고 옮긴 게 있으면 epoch 등록
+    private static final RedisScript<Long> BEGIN_FLUSH_SCRIPT = new DefaultRedisScript<>("""
+            local n = (#KEYS - 1) / 2
+            local moved = 0
+            for i = 1, n do
+              if redis.call('EXISTS', KEYS[i]) == 1 then
+                redis.call('RENAME', KEYS[i], KEYS[n + i])
+                moved = moved + 1
+              end
+            end
+            if moved > 0 then
+              redis.call('SADD', KEYS[#KEYS], ARGV[1])
+            end
+            return moved
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 아직 DB 에 반영되지 않은 조회수
+    public long findCount(Long bookId) {
+        Object count = redisTemplate.opsForHash().get(bucketKey(bookId), bookId.toString());
+        if (count == null) {
+            return 0L;
+        }
+
+        try {
+            return Long.parseLong(count.toString());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    // 여러 도서의 증가분을 한 번의 왕복(pipeline)으로 반영
+    public void increaseAll(Map<Long, Long> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                counts.forEach((bookId, count) ->
+                        operations.opsForHash().increment(bucketKey(bookId), bookId.toString(), count));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 현재 버킷들을 새 epoch 키로 원자적으로 옮김 (이후 증가분은 새 버킷에 쌓임)
+     *
+     * @return 옮길 조회수가 없으면 null
+     */
+    public String beginFlush() {
+        String epochId = UUID.randomUUID().toString();
+
+        List<String> keys = new ArrayList<>(BUCKET_COUNT * 2 + 1);
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            keys.add(BUCKET_KEY_PREFIX + bucket);
+        }
+        keys.addAll(flushKeys(epochId));
+        keys.add(FLUSHING_EPOCHS_KEY);
+
+        Long moved = redisTemplate.execute(BEGIN_FLUSH_SCRIPT, keys, epochId);
+        return moved != null && moved > 0 ? epochId : null;
+    }
+
+    // 이전 동기화가 중간에 멈춰 남아 있는 epoch 포함
+    public Set<String> findFlushingEpochs() {
+        Set<String> epochs = redisTemplate.opsForSet().members(FLUSHING_EPOCHS_KEY);
+        return epochs != null ? epochs : Set.of();
+    }
+
+    // epoch 에 옮겨둔 버킷들을 한 번의 왕복으로 읽음 (도서 id → 누적 조회수)
+    public Map<Long, Long> findEpoch(String epochId) {
+        List<String> keys = flushKeys(epochId);
+        List<Object> buckets = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (String key : keys) {
+                    operations.opsForHash().entries(key);
+                }
+                return null;
+            }
+        });
+
+        Map<Long, Long> views = new HashMap<>();
+        for (Object bucket : buckets) {
+            if (bucket instanceof Map<?, ?> entries) {
+                entries.forEach((bookId, count) ->
+                        views.merge(Long.valueOf(bookId.toString()), Long.valueOf(count.toString()), Long::sum));
+            }
+        }
+        return views;
+    }
+
+    // DB 반영이 끝난 epoch 정리, 중간에 멈추면 다음 동기화에서 빈 epoch 으로 다시 ack 됨
+    public void acknowledge(String epochId) {
+        redisTemplate.delete(flushKeys(epochId));
+        redisTemplate.opsForSet().remove(FLUSHING_EPOCHS_KEY, epochId);
+    }
+
+    public static int bucketOf(Long bookId) {
+        return (int) Math.floorMod(bookId, (long) BUCKET_COUNT);
+    }
+
+    private String bucketKey(Long bookId) {
+        return BUCKET_KEY_PREFIX + bucketOf(bookId);
+    }
+
+    private List<String> flushKeys(String epochId) {
+        List<String> keys = new ArrayList<>(BUCKET_COUNT);
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            keys.add(FLUSH_KEY_PREFIX + epochId + ":" + bucket);
+        }
+        return keys;
+    }
+}
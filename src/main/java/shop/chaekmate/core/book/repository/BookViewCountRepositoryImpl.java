@@ -1,35 +1,134 @@
 package shop.chaekmate.core.book.repository;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 조회수 증가분 DB 반영
+ * <ul>
+ *     <li>증가분을 book_view_delta 에 여러 행 INSERT 로 적재한다.</li>
+ *     <li>도서 id 순으로 자른 청크마다 book, book_card 에 조인 UPDATE 를 한 번씩 실행한다 (잠금 순서가 항상 id 오름차순).</li>
+ *     <li>MySQL 이 아니면(H2 테스트 등) 조인 UPDATE 대신 상관 서브쿼리 UPDATE 를 사용한다.</li>
+ * </ul>
+ */
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class BookViewCountRepositoryImpl {
 
+    private static final int CHUNK_SIZE = 1_000;
+
+    private static final String MYSQL_BOOK_UPDATE = "UPDATE book b JOIN book_view_delta d ON d.book_id = b.id "
+            + "SET b.views = b.views + d.delta WHERE d.epoch_id = ? AND d.book_id BETWEEN ? AND ?";
+    private static final String MYSQL_CARD_UPDATE = "UPDATE book_card c JOIN book_view_delta d ON d.book_id = c.book_id "
+            + "SET c.views = c.views + d.delta WHERE d.epoch_id = ? AND d.book_id BETWEEN ? AND ?";
+
+    private static final String BOOK_UPDATE = "UPDATE book b SET views = views + "
+            + "(SELECT d.delta FROM book_view_delta d WHERE d.epoch_id = ? AND d.book_id = b.id) "
+            + "WHERE b.id IN (SELECT d.book_id FROM book_view_delta d WHERE d.epoch_id = ? AND d.book_id BETWEEN ? AND ?)";
+    private static final String CARD_UPDATE = "UPDATE book_card c SET views = views + "
+            + "(SELECT d.delta FROM book_view_delta d WHERE d.epoch_id = ? AND d.book_id = c.book_id) "
+            + "WHERE c.book_id IN (SELECT d.book_id FROM book_view_delta d WHERE d.epoch_id = ? AND d.book_id BETWEEN ? AND ?)";
+
     private final JdbcTemplate jdbcTemplate;
 
+    private volatile boolean joinUpdateSupported;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void detectJoinUpdate() {
+        try {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            joinUpdateSupported = "MySQL".equalsIgnoreCase(product);
+        } catch (Exception e) {
+            log.warn("[ViewCountSync] DB 종류 확인 실패, 서브쿼리 UPDATE 를 사용합니다.", e);
+        }
+    }
+
+    /**
+     * epoch 기록과 조회수 반영을 한 트랜잭션으로 처리 (같은 epoch 은 한 번만 반영)
+     *
+     * @return 실제 반영된 도서의 증가분, 이미 반영된 epoch 이면 empty
+     */
     @Transactional
-    public int[] bulkUpdateViewCountOptimized(Map<Long, Long> viewMap) {
-        if (viewMap == null || viewMap.isEmpty()) return new int[0];
+    public Optional<Map<Long, Long>> applyEpoch(String epochId, Map<Long, Long> viewMap) {
+        try {
+            // 다른 노드가 같은 epoch 을 반영 중이면 PK 잠금에서 기다렸다가 중복 예외
+            jdbcTemplate.update("INSERT INTO book_view_flush_epoch (epoch_id, applied_at) VALUES (?, ?)",
+                    epochId, LocalDateTime.now());
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
 
-        String sql = "UPDATE book SET views = views + ? WHERE id = ?";
+        return Optional.of(bulkUpdateViewCount(epochId, viewMap));
+    }
 
-        List<Object[]> batchArgs = new ArrayList<>();
+    public int deleteEpochsAppliedBefore(LocalDateTime appliedAt) {
+        return jdbcTemplate.update("DELETE FROM book_view_flush_epoch WHERE applied_at < ?", appliedAt);
+    }
+
+    /**
+     * @return 실제 반영된 도서의 증가분 (없는 도서 제외)
+     */
+    @Transactional
+    public Map<Long, Long> bulkUpdateViewCount(String epochId, Map<Long, Long> viewMap) {
+        if (viewMap == null || viewMap.isEmpty()) return Map.of();
+
+        List<Long> bookIds = new ArrayList<>(viewMap.keySet());
+        Collections.sort(bookIds);
+
+        for (int from = 0; from < bookIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = bookIds.subList(from, Math.min(from + CHUNK_SIZE, bookIds.size()));
+            insertDeltas(epochId, chunk, viewMap);
+
+            // 도서 카드 조회수도 함께 반영
+            Long first = chunk.getFirst();
+            Long last = chunk.getLast();
+            if (joinUpdateSupported) {
+                jdbcTemplate.update(MYSQL_BOOK_UPDATE, epochId, first, last);
+                jdbcTemplate.update(MYSQL_CARD_UPDATE, epochId, first, last);
+            } else {
+                jdbcTemplate.update(BOOK_UPDATE, epochId, epochId, first, last);
+                jdbcTemplate.update(CARD_UPDATE, epochId, epochId, first, last);
+            }
+        }
+
+        Map<Long, Long> applied = new HashMap<>();
+        jdbcTemplate.queryForList("SELECT d.book_id FROM book_view_delta d JOIN book b ON b.id = d.book_id "
+                        + "WHERE d.epoch_id = ?", Long.class, epochId)
+                .forEach(bookId -> applied.put(bookId, viewMap.get(bookId)));
+
+        jdbcTemplate.update("DELETE FROM book_view_delta WHERE epoch_id = ?", epochId);
+        return applied;
+    }
 
-        for (Map.Entry<Long, Long> entry : viewMap.entrySet()) {
-            Long increment = entry.getValue(); // 증가량
-            Long bookId = entry.getKey();      // 책 ID
+    // 청크 하나를 INSERT 한 번으로 적재
+    private void insertDeltas(String epochId, List<Long> bookIds, Map<Long, Long> viewMap) {
+        StringBuilder sql = new StringBuilder("INSERT INTO book_view_delta (epoch_id, book_id, delta) VALUES ");
+        Object[] args = new Object[bookIds.size() * 3];
 
-            batchArgs.add(new Object[] { increment, bookId });
+        for (int i = 0; i < bookIds.size(); i++) {
+            Long bookId = bookIds.get(i);
+            sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+            args[i * 3] = epochId;
+            args[i * 3 + 1] = bookId;
+            args[i * 3 + 2] = viewMap.get(bookId);
         }
 
-        // JDBC Batch 실행
-        return jdbcTemplate.batchUpdate(sql, batchArgs);
+        jdbcTemplate.update(sql.toString(), args);
     }
 }
@@ -0,0 +1,30 @@
+package shop.chaekmate.core.book.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.chaekmate.core.book.service.BookCardService;
+import shop.chaekmate.core.common.annotation.LeaderOnly;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BookCardBackfillScheduler {
+
+    private final BookCardService bookCardService;
+
+    // 기동 시 + 5분마다 카드가 없는 도서 백필 (SQL 적재, 이벤트 처리 실패로 빠진 도서가 목록에 다시 노출됨)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 300_000, initialDelay = 300_000)
+    @LeaderOnly(value = "book-card-backfill", leaseSeconds = 300)
+    public void backfillMissingCards() {
+        try {
+            bookCardService.backfillMissingCards();
+        } catch (Exception e) {
+            log.error("[BookCard] 누락된 도서 카드 백필 실패", e);
+        }
+    }
+}
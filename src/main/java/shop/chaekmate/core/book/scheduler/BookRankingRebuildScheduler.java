@@ -0,0 +1,30 @@
+package shop.chaekmate.core.book.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.chaekmate.core.common.annotation.LeaderOnly;
+import shop.chaekmate.core.book.service.BookRankingService;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BookRankingRebuildScheduler {
+
+    private final BookRankingService bookRankingService;
+
+    // 기동 시 + 매일 새벽 4시에 DB 기준으로 랭킹 보드 재구성 (증분 반영 누락 보정)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 4 * * *")
+    @LeaderOnly(value = "book-ranking-rebuild", leaseSeconds = 600)
+    public void rebuildRankings() {
+        try {
+            bookRankingService.rebuildBoards();
+        } catch (Exception e) {
+            log.error("[BookRanking] 랭킹 보드 재구성 실패", e);
+        }
+    }
+}
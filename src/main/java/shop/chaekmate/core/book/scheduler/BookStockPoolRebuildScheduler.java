@@ -0,0 +1,30 @@
+package shop.chaekmate.core.book.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.chaekmate.core.common.annotation.LeaderOnly;
+import shop.chaekmate.core.book.service.BookStockPoolService;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BookStockPoolRebuildScheduler {
+
+    private final BookStockPoolService bookStockPoolService;
+
+    // 기동 시 + 매시 30분에 DB 기준으로 재고 풀 재구성 (이벤트 반영 누락 보정)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 * * * *")
+    @LeaderOnly(value = "book-stock-pool-rebuild", leaseSeconds = 600)
+    public void rebuildStockPool() {
+        try {
+            bookStockPoolService.rebuildPool();
+        } catch (Exception e) {
+            log.error("[BookStockPool] 재고 풀 재구성 실패", e);
+        }
+    }
+}
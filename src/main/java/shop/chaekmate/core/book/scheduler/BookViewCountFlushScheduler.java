@@ -0,0 +1,55 @@
+package shop.chaekmate.core.book.scheduler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import shop.chaekmate.core.book.service.BookViewCountService;
+
+/**
+ * 노드마다 메모리에 모아둔 조회수를 50ms 마다 Redis 에 반영
+ * <p>
+ * 공용 스케줄러 스레드에서 도는 오래 걸리는 작업(장바구니 정리, 랭킹 재구성 등)에 밀리지 않도록 전용 스레드에서 실행한다.
+ */
+@Slf4j
+@Component
+public class BookViewCountFlushScheduler {
+
+    private static final long FLUSH_INTERVAL_MILLIS = 50L;
+
+    private final BookViewCountService bookViewCountService;
+    private final ScheduledExecutorService executor;
+
+    public BookViewCountFlushScheduler(BookViewCountService bookViewCountService) {
+        this.bookViewCountService = bookViewCountService;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "view-count-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        executor.scheduleWithFixedDelay(this::flushPendingViews,
+                FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public void flushPendingViews() {
+        try {
+            bookViewCountService.flushPendingViews();
+        } catch (Exception e) {
+            // 예외가 새어 나가면 이후 주기가 모두 취소됨
+            log.warn("[ViewCount] 조회수 반영 실패", e);
+        }
+    }
+
+    // 남은 조회수는 BookViewCountService 종료 시 한 번 더 반영됨
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+}
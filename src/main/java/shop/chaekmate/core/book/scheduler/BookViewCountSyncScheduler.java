@@ -1,77 +1,91 @@
 package shop.chaekmate.core.book.scheduler;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.ScanOptions;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import shop.chaekmate.core.common.annotation.LeaderOnly;
+import shop.chaekmate.core.book.repository.BookViewCountRedisRepository;
 import shop.chaekmate.core.book.repository.BookViewCountRepositoryImpl;
+import shop.chaekmate.core.book.service.BookRankingService;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class BookViewCountSyncScheduler {
 
-    private final StringRedisTemplate redisTemplate;
+    private final BookViewCountRedisRepository bookViewCountRedisRepository;
     private final BookViewCountRepositoryImpl viewCountRepository; // DB 업데이트용 Repository
-    private static final String VIEW_KEY_PATTERN = "book:views:*";
-    private static final String KEY_PREFIX = "book:views:";
+    private final BookRankingService bookRankingService;
 
+    // 반영 완료 epoch 기록 보관 기간 (ack 가 이보다 오래 밀리는 일은 없음)
+    private static final Duration EPOCH_RETENTION = Duration.ofDays(7L);
+
+    /**
+     * 버킷을 epoch 키로 옮긴 뒤(RENAME) DB 반영 → ack 순서로 처리
+     * <ul>
+     *     <li>옮긴 뒤 들어온 조회수는 새 버킷에 쌓이므로 유실되지 않는다.</li>
+     *     <li>DB 반영 후 ack 전에 멈추면 다음 실행에서 같은 epoch 을 다시 처리하지만, epoch 기록이 남아 있어 중복 반영되지 않는다.</li>
+     * </ul>
+     */
+    @LeaderOnly(value = "book-view-count-sync", leaseSeconds = 180)
     @Scheduled(fixedRate = 60_000) // 1분마다 실행
     public void syncViewCounts() {
 
-        List<String> keys = new ArrayList<>();
-
-        // SCAN을 사용해 Redis에서 'book:views:*' 패턴의 모든 Key 수집
-        try (Cursor<String> cursor = redisTemplate.scan(
-                ScanOptions.scanOptions().match(VIEW_KEY_PATTERN).count(500).build())) {
-            while (cursor.hasNext()) {
-                keys.add(cursor.next());
+        Set<String> epochs;
+        try {
+            // 이전 실행에서 ack 되지 않은 epoch 먼저 처리
+            epochs = new LinkedHashSet<>(bookViewCountRedisRepository.findFlushingEpochs());
+            String epochId = bookViewCountRedisRepository.beginFlush();
+            if (epochId != null) {
+                epochs.add(epochId);
             }
         } catch (Exception e) {
-            log.error("[ViewCountSync] Redis SCAN 실패", e);
+            log.error("[ViewCountSync] Redis 조회수 버킷 이동 실패", e);
             return;
         }
 
-        if (keys.isEmpty()) return;
-
-        // multiGet으로 한 번에 value 가져오기
-        List<String> values = redisTemplate.opsForValue().multiGet(keys);
-        if (values == null || values.size() != keys.size()) {
-            log.error("[ViewCountSync] Redis multiGet 결과 오류: 요청된 키 수({})와 결과 수({}) 불일치",
-                    keys.size(), values == null ? 0 : values.size());
-            return;
-        }
-
-        Map<Long, Long> viewMap = new HashMap<>();
-        for (int i = 0; i < keys.size(); i++) {
-            String key = keys.get(i);
-            String valueStr = values.get(i);
-            if (valueStr == null) continue;
-
+        for (String epochId : epochs) {
             try {
-                Long bookId = Long.parseLong(key.replace(KEY_PREFIX, ""));
-                Long increment = Long.parseLong(valueStr);
-                viewMap.put(bookId, increment);
-            } catch (NumberFormatException e) {
-                log.warn("[ViewCountSync] Redis Key/Value 파싱 오류: Key={}, Value={}", key, valueStr);
+                flushEpoch(epochId);
+            } catch (Exception e) {
+                log.error("[ViewCountSync] epoch={} 반영 실패, 다음 실행에서 재시도", epochId, e);
             }
         }
 
-        if (viewMap.isEmpty()) return;
+        try {
+            viewCountRepository.deleteEpochsAppliedBefore(LocalDateTime.now().minus(EPOCH_RETENTION));
+        } catch (Exception e) {
+            log.warn("[ViewCountSync] 오래된 epoch 기록 삭제 실패", e);
+        }
+    }
 
-        // DB에 bulk update
-        viewCountRepository.bulkUpdateViewCountOptimized(viewMap);
+    private void flushEpoch(String epochId) {
+        Map<Long, Long> viewMap = bookViewCountRedisRepository.findEpoch(epochId);
 
-        // Redis에서 키 삭제
-        Long deletedCount = redisTemplate.delete(keys);
+        if (!viewMap.isEmpty()) {
+            // DB에 bulk update (epoch 기록과 같은 트랜잭션)
+            Optional<Map<Long, Long>> appliedViews = viewCountRepository.applyEpoch(epochId, viewMap);
+
+            if (appliedViews.isPresent()) {
+                // 조회수 랭킹 반영 (실제 반영된 도서만), 실패해도 ack 는 진행해야 중복 반영이 없음
+                try {
+                    bookRankingService.recordViews(appliedViews.get());
+                } catch (Exception e) {
+                    log.warn("[ViewCountSync] 조회수 랭킹 반영 실패", e);
+                }
+                log.info("[ViewCountSync] epoch={} 조회수 {}건 반영 완료", epochId, viewMap.size());
+            } else {
+                log.info("[ViewCountSync] epoch={} 은 이미 반영됨, ack 만 진행", epochId);
+            }
+        }
 
-        log.info("[ViewCountSync] 조회수 {}건 반영 완료. Redis에서 {}개의 키 삭제됨.", viewMap.size(), deletedCount);
+        bookViewCountRedisRepository.acknowledge(epochId);
     }
 }
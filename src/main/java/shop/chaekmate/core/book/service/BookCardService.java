@@ -0,0 +1,64 @@
+package shop.chaekmate.core.book.service;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shop.chaekmate.core.book.repository.BookCardRepository;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookCardService {
+
+    private final BookCardRepository bookCardRepository;
+
+    // 원본 테이블 기준으로 카드 재생성
+    @Transactional
+    public void refreshCard(Long bookId) {
+        bookCardRepository.deleteByBookId(bookId);
+        bookCardRepository.insertCardFromSource(bookId);
+    }
+
+    @Transactional
+    public void applyReviewDelta(Long bookId, int ratingDelta, int reviewCountDelta) {
+        int updated = bookCardRepository.applyReviewDelta(bookId, ratingDelta, reviewCountDelta);
+
+        // 카드가 아직 없는 도서면 원본 기준으로 새로 만든다 (이미 반영된 상태로 집계됨)
+        if (updated == 0) {
+            refreshCard(bookId);
+        }
+    }
+
+    @Transactional
+    public void applySales(Map<Long, Integer> quantities) {
+        quantities.forEach((bookId, quantity) -> {
+            if (bookCardRepository.increaseSalesCount(bookId, quantity) == 0) {
+                refreshCard(bookId);
+            }
+        });
+    }
+
+    @Transactional
+    public void updateThumbnail(Long bookId, String thumbnailUrl) {
+        if (bookCardRepository.updateThumbnailUrl(bookId, thumbnailUrl) == 0) {
+            refreshCard(bookId);
+        }
+    }
+
+    @Transactional
+    public void deleteCard(Long bookId) {
+        bookCardRepository.deleteByBookId(bookId);
+    }
+
+    // 카드가 없는 도서 백필 (이벤트를 거치지 않고 들어온 도서 보정, BookCardBackfillScheduler 에서 호출)
+    @Transactional
+    public int backfillMissingCards() {
+        int inserted = bookCardRepository.insertMissingCards();
+        if (inserted > 0) {
+            log.info("[BookCard] 누락된 도서 카드 백필 완료 {}건", inserted);
+        }
+        return inserted;
+    }
+}
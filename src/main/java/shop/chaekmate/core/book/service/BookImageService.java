@@ -129,7 +129,16 @@ public class BookImageService {
             throw new IllegalArgumentException("해당 이미지는 지정된 도서에 속하지 않습니다.");
         }
 
+        List<BookImage> images = bookImageRepository.findAllByBookIdOrderByCreatedAtAsc(bookId);
+        boolean isThumbnail = !images.isEmpty() && images.getFirst().getId().equals(bookImage.getId());
+
         bookImageRepository.delete(bookImage);
+
+        // 섬네일 삭제시 다음 이미지로 교체
+        if (isThumbnail) {
+            String nextThumbnailUrl = images.size() > 1 ? images.get(1).getImageUrl() : null;
+            eventPublisher.publishEvent(new BookThumbnailEvent(bookId, nextThumbnailUrl));
+        }
     }
 
     private Book findBookById(Long bookId) {
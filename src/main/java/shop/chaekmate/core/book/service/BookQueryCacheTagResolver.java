@@ -0,0 +1,50 @@
+package shop.chaekmate.core.book.service;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+import shop.chaekmate.core.book.dto.response.BookQuerySliceResponse;
+import shop.chaekmate.core.common.cache.CacheTagResolver;
+
+/**
+ * 도서 목록 캐시 태그
+ * <ul>
+ *     <li>list:{조회 메서드} - 캐시 키 접두어 (예: findNewBooks_...)</li>
+ *     <li>book:{도서 id} - 해당 페이지에 담긴 도서</li>
+ * </ul>
+ */
+@Component
+public class BookQueryCacheTagResolver implements CacheTagResolver {
+
+    public static final String BOOK_QUERIES = "bookQueries";
+    public static final String BOOK_RANKINGS = "bookRankings";
+
+    @Override
+    public boolean supports(String cacheName) {
+        return BOOK_QUERIES.equals(cacheName) || BOOK_RANKINGS.equals(cacheName);
+    }
+
+    @Override
+    public Set<String> resolveTags(Object key, Object value) {
+        Set<String> tags = new HashSet<>();
+        tags.add(listTag(listName(key.toString())));
+
+        if (value instanceof BookQuerySliceResponse response) {
+            response.content().forEach(book -> tags.add(bookTag(book.id())));
+        }
+        return tags;
+    }
+
+    public static String listTag(String listName) {
+        return "list:" + listName;
+    }
+
+    public static String bookTag(Long bookId) {
+        return "book:" + bookId;
+    }
+
+    private String listName(String key) {
+        int index = key.indexOf('_');
+        return index < 0 ? key : key.substring(0, index);
+    }
+}
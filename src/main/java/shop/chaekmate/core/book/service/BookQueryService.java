@@ -5,67 +5,76 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import shop.chaekmate.core.book.dto.request.BookCursor;
 import shop.chaekmate.core.book.dto.request.BookSearchCondition;
 import shop.chaekmate.core.book.dto.request.RankingType;
 import shop.chaekmate.core.book.dto.response.BookQueryResponse;
 import shop.chaekmate.core.book.dto.response.BookQuerySliceResponse;
+import shop.chaekmate.core.book.repository.BookRankingBoard;
 import shop.chaekmate.core.book.repository.BookRepository;
 
 @Service
 @RequiredArgsConstructor
 public class BookQueryService {
 
+    // 커서 목록은 첫 페이지(커서 없음)만 캐시 (이후 페이지는 커서마다 키가 달라 캐시 키가 끝없이 늘어남)
+    private static final String FIRST_PAGE = "!T(org.springframework.util.StringUtils).hasText(#cursor)";
+
     private final BookRepository bookRepository;
+    private final BookRankingService bookRankingService;
+    private final BookStockPoolService bookStockPoolService;
 
     /**
      * 최근 추가된 도서
      */
-    @Cacheable(value = "bookQueries", key = "'findRecentlyAddedBooks_' + #pageable.toString()")
+    @Cacheable(value = "bookQueries", key = "'findRecentlyAddedBooks_' + #pageable.toString()", sync = true)
     public BookQuerySliceResponse findRecentlyAddedBooks(Pageable pageable) {
         Slice<BookQueryResponse> slice = bookRepository.findRecentlyAddedBooks(pageable);
         return BookQuerySliceResponse.from(slice);
     }
 
     /**
-     * 맞춤 추천
+     * 맞춤 추천 (재고 풀에서 매번 새로 추출하므로 캐시하지 않음)
      */
-    @Cacheable(value = "bookQueries", key = "'findPersonalizedRecommendedBooks_' + #pageable.toString()")
     public BookQuerySliceResponse findPersonalizedRecommendedBooks(Pageable pageable) {
-        Slice<BookQueryResponse> slice = bookRepository.findRandomInStockBooks(pageable);
+        Slice<BookQueryResponse> slice = bookStockPoolService.findRandomBooks(pageable.getPageSize())
+                .orElseGet(() -> bookRepository.findRandomInStockBooks(pageable));
         return BookQuerySliceResponse.from(slice);
     }
 
     /**
      * 30일간 리뷰 많은 책
      */
-    @Cacheable(value = "bookQueries", key = "'findTopReviewedBooksForLast30Days_' + #pageable.toString()")
+    @Cacheable(value = "bookRankings", key = "'findTopReviewedBooksForLast30Days_' + #pageable.toString()", sync = true)
     public BookQuerySliceResponse findTopReviewedBooksForLast30Days(Pageable pageable) {
-        Slice<BookQueryResponse> slice = bookRepository.findTopReviewedBooksForLast30Days(pageable);
+        Slice<BookQueryResponse> slice = bookRankingService.findRanking(BookRankingBoard.REVIEWS_30D, pageable)
+                .orElseGet(() -> bookRepository.findTopReviewedBooksForLast30Days(pageable));
         return BookQuerySliceResponse.from(slice);
     }
 
     /**
      * 얼리어답터들의 픽
      */
-    @Cacheable(value = "bookQueries", key = "'findEarlyAdopterPicks_' + #pageable.toString()")
+    @Cacheable(value = "bookRankings", key = "'findEarlyAdopterPicks_' + #pageable.toString()", sync = true)
     public BookQuerySliceResponse findEarlyAdopterPicks(Pageable pageable) {
-        Slice<BookQueryResponse> slice = bookRepository.findEarlyAdopterPicks(pageable);
+        Slice<BookQueryResponse> slice = bookRankingService.findRanking(BookRankingBoard.EARLY_ADOPTER_30D, pageable)
+                .orElseGet(() -> bookRankingService.findEarlyAdopterPicksFromSource(pageable));
         return BookQuerySliceResponse.from(slice);
     }
 
     /**
-     * 책메이트 추천
+     * 책메이트 추천 (재고 풀에서 매번 새로 추출하므로 캐시하지 않음)
      */
-    @Cacheable(value = "bookQueries", key = "'findChaekmateRecommendedBooks_' + #pageable.toString()")
     public BookQuerySliceResponse findChaekmateRecommendedBooks(Pageable pageable) {
-        Slice<BookQueryResponse> slice = bookRepository.findRandomInStockBooks(pageable);
+        Slice<BookQueryResponse> slice = bookStockPoolService.findRandomBooks(pageable.getPageSize())
+                .orElseGet(() -> bookRepository.findRandomInStockBooks(pageable));
         return BookQuerySliceResponse.from(slice);
     }
 
     /**
      * 신간도서
      */
-    @Cacheable(value = "bookQueries", key = "'findNewBooks_' + #pageable.toString()")
+    @Cacheable(value = "bookQueries", key = "'findNewBooks_' + #pageable.toString()", sync = true)
     public BookQuerySliceResponse findNewBooks(Pageable pageable) {
         Slice<BookQueryResponse> slice = bookRepository.findNewBooks(pageable);
         return BookQuerySliceResponse.from(slice);
@@ -74,7 +83,7 @@ public class BookQueryService {
     /**
      * 전체도서
      */
-    @Cacheable(value = "bookQueries", key = "'findAllBooks_' + #condition.toString() + '_' + #pageable.toString()")
+    @Cacheable(value = "bookQueries", key = "'findAllBooks_' + #condition.toString() + '_' + #pageable.toString()", sync = true)
     public BookQuerySliceResponse findAllBooks(BookSearchCondition condition, Pageable pageable) {
         Slice<BookQueryResponse> slice = bookRepository.findAllBooks(condition, pageable);
         return BookQuerySliceResponse.from(slice);
@@ -83,11 +92,13 @@ public class BookQueryService {
     /**
      * 랭킹
      */
-    @Cacheable(value = "bookQueries", key = "'findBookRanking_' + #type.name() + '_' + #pageable.toString()")
+    @Cacheable(value = "bookRankings", key = "'findBookRanking_' + #type.name() + '_' + #pageable.toString()", sync = true)
     public BookQuerySliceResponse findBookRanking(RankingType type, Pageable pageable) {
         Slice<BookQueryResponse> slice = switch (type) {
-            case VIEWS -> bookRepository.findBooksByViews(pageable);
-            case SALES -> bookRepository.findBestsellers(pageable);
+            case VIEWS -> bookRankingService.findRanking(BookRankingBoard.VIEWS, pageable)
+                    .orElseGet(() -> bookRepository.findBooksByViews(pageable));
+            case SALES -> bookRankingService.findRanking(BookRankingBoard.SALES, pageable)
+                    .orElseGet(() -> bookRepository.findBestsellers(pageable));
         };
         return BookQuerySliceResponse.from(slice);
     }
@@ -95,9 +106,55 @@ public class BookQueryService {
     /**
      * 베스트셀러
      */
-    @Cacheable(value = "bookQueries", key = "'findBestsellers_' + #pageable.toString()")
+    @Cacheable(value = "bookRankings", key = "'findBestsellers_' + #pageable.toString()", sync = true)
     public BookQuerySliceResponse findBestsellers(Pageable pageable) {
-        Slice<BookQueryResponse> slice = bookRepository.findBestsellers(pageable);
+        Slice<BookQueryResponse> slice = bookRankingService.findRanking(BookRankingBoard.SALES, pageable)
+                .orElseGet(() -> bookRepository.findBestsellers(pageable));
         return BookQuerySliceResponse.from(slice);
     }
+
+    /**
+     * 최근 추가된 도서 (커서)
+     */
+    @Cacheable(value = "bookQueries", key = "'findRecentlyAddedBooksByCursor_' + #size", condition = FIRST_PAGE, sync = true)
+    public BookQuerySliceResponse findRecentlyAddedBooksByCursor(String cursor, int size) {
+        return bookRepository.findRecentlyAddedBooks(BookCursor.decode(cursor, BookCursor.Type.CREATED_AT), size);
+    }
+
+    /**
+     * 신간도서 (커서)
+     */
+    @Cacheable(value = "bookQueries", key = "'findNewBooksByCursor_' + #size", condition = FIRST_PAGE, sync = true)
+    public BookQuerySliceResponse findNewBooksByCursor(String cursor, int size) {
+        return bookRepository.findNewBooks(BookCursor.decode(cursor, BookCursor.Type.PUBLISHED_AT), size);
+    }
+
+    /**
+     * 전체도서 (커서)
+     */
+    @Cacheable(value = "bookQueries", key = "'findAllBooksByCursor_' + #condition.toString() + '_' + #size", condition = FIRST_PAGE, sync = true)
+    public BookQuerySliceResponse findAllBooksByCursor(BookSearchCondition condition, String cursor, int size) {
+        return bookRepository.findAllBooks(condition, BookCursor.decode(cursor, BookCursor.Type.CREATED_AT), size);
+    }
+
+    /**
+     * 랭킹 (커서)
+     * <p>
+     * 오프셋 조회와 같은 랭킹 보드를 읽고, 보드를 쓸 수 없을 때만 book_card 키셋 조회로 대체
+     */
+    @Cacheable(value = "bookRankings", key = "'findBookRankingByCursor_' + #type.name() + '_' + #size", condition = FIRST_PAGE, sync = true)
+    public BookQuerySliceResponse findBookRankingByCursor(RankingType type, String cursor, int size) {
+        return switch (type) {
+            case VIEWS -> {
+                BookCursor decoded = BookCursor.decode(cursor, BookCursor.Type.VIEWS);
+                yield bookRankingService.findRankingByCursor(BookRankingBoard.VIEWS, decoded, size)
+                        .orElseGet(() -> bookRepository.findBooksByViews(decoded, size));
+            }
+            case SALES -> {
+                BookCursor decoded = BookCursor.decode(cursor, BookCursor.Type.SALES);
+                yield bookRankingService.findRankingByCursor(BookRankingBoard.SALES, decoded, size)
+                        .orElseGet(() -> bookRepository.findBestsellers(decoded, size));
+            }
+        };
+    }
 }
@@ -0,0 +1,208 @@
+package shop.chaekmate.core.book.service;
+
+import static shop.chaekmate.core.book.repository.BookRankingRedisRepository.WINDOW_DAYS;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import shop.chaekmate.core.book.dto.request.BookCursor;
+import shop.chaekmate.core.book.dto.response.BookQueryResponse;
+import shop.chaekmate.core.book.dto.response.BookQuerySliceResponse;
+import shop.chaekmate.core.book.repository.BookRankingBoard;
+import shop.chaekmate.core.book.repository.BookRankingRedisRepository;
+import shop.chaekmate.core.book.repository.BookRankingRedisRepository.RankedBook;
+import shop.chaekmate.core.book.repository.BookRankingSourceRepository;
+import shop.chaekmate.core.book.repository.BookRankingSourceRepository.BookDailyBuyer;
+import shop.chaekmate.core.book.repository.BookRankingSourceRepository.BookDailyScore;
+import shop.chaekmate.core.book.repository.BookRankingSourceRepository.BookScore;
+import shop.chaekmate.core.book.repository.BookRepository;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookRankingService {
+
+    private final BookRankingRedisRepository rankingRepository;
+    private final BookRankingSourceRepository rankingSourceRepository;
+    private final BookRepository bookRepository;
+
+    /**
+     * 랭킹 보드에서 top-N 도서 카드를 조회함
+     *
+     * @return 랭킹 보드가 아직 구성되지 않았으면 empty (DB 쿼리로 대체)
+     */
+    public Optional<Slice<BookQueryResponse>> findRanking(BookRankingBoard board, Pageable pageable) {
+        List<Long> bookIds;
+        try {
+            bookIds = rankingRepository.findTopBookIds(board, pageable.getOffset(), pageable.getPageSize() + 1L);
+        } catch (Exception e) {
+            log.warn("[BookRanking] 랭킹 보드 조회 실패, DB 조회로 대체 board={}", board, e);
+            return Optional.empty();
+        }
+
+        if (bookIds == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(toRankedSlice(bookIds, pageable));
+    }
+
+    /**
+     * 누적 랭킹 보드에서 커서 다음 순위의 도서 카드를 조회함 (오프셋 조회와 같은 보드를 읽어 순서가 같음)
+     * <p>
+     * 커서는 (점수, id) 라서 보드를 쓸 수 없을 때의 DB 키셋 조회에도 그대로 쓸 수 있다.
+     *
+     * @return 랭킹 보드가 아직 구성되지 않았으면 empty (DB 키셋 조회로 대체)
+     */
+    public Optional<BookQuerySliceResponse> findRankingByCursor(BookRankingBoard board, BookCursor cursor, int size) {
+        List<RankedBook> ranked;
+        try {
+            ranked = rankingRepository.findTopBooksAfter(board, cursor == null ? null : cursor.id(),
+                    cursor == null ? 0L : cursor.longValue(), size + 1L);
+        } catch (Exception e) {
+            log.warn("[BookRanking] 랭킹 보드 조회 실패, DB 조회로 대체 board={}", board, e);
+            return Optional.empty();
+        }
+
+        if (ranked == null) {
+            return Optional.empty();
+        }
+
+        boolean hasNext = ranked.size() > size;
+        List<RankedBook> page = hasNext ? ranked.subList(0, size) : ranked;
+        List<BookQueryResponse> content = findCardsInOrder(page.stream().map(RankedBook::bookId).toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            RankedBook last = page.getLast();
+            nextCursor = BookCursor.encode(cursorType(board), last.score(), last.bookId());
+        }
+        return Optional.of(new BookQuerySliceResponse(content, hasNext, nextCursor));
+    }
+
+    /**
+     * 얼리어답터 랭킹 보드를 쓸 수 없을 때 DB 에서 같은 기준으로 집계해 조회함
+     * <p>
+     * 보드와 같이 결제 완료된 회원 구매를 일별로 한 번씩 세어 최근 30일을 합산 (다른 날 재구매는 따로 집계)
+     */
+    public Slice<BookQueryResponse> findEarlyAdopterPicksFromSource(Pageable pageable) {
+        LocalDateTime since = LocalDate.now().minusDays(WINDOW_DAYS - 1L).atStartOfDay();
+        List<Long> bookIds = rankingSourceRepository.findEarlyAdopterBookIds(
+                since, pageable.getOffset(), pageable.getPageSize() + 1);
+        return toRankedSlice(bookIds, pageable);
+    }
+
+    // 결제 완료 주문 반영
+    public void recordSales(Long memberId, Map<Long, Integer> quantities) {
+        LocalDate today = LocalDate.now();
+
+        quantities.forEach((bookId, quantity) -> {
+            rankingRepository.incrementScore(BookRankingBoard.SALES, bookId, quantity);
+
+            // 얼리어답터: 같은 날 같은 회원의 재구매는 한 번만 집계
+            if (memberId != null && rankingRepository.addDailyBuyer(today, bookId, memberId)) {
+                rankingRepository.incrementDailyScore(BookRankingBoard.EARLY_ADOPTER_30D, today, bookId, 1);
+            }
+        });
+    }
+
+    // 조회수 동기화 반영
+    public void recordViews(Map<Long, Long> viewMap) {
+        viewMap.forEach((bookId, views) -> rankingRepository.incrementScore(BookRankingBoard.VIEWS, bookId, views));
+    }
+
+    // 리뷰 생성, 삭제 반영 (리뷰 작성일 버킷 기준)
+    public void recordReview(Long bookId, int reviewCountDelta, LocalDateTime reviewCreatedAt) {
+        if (reviewCountDelta == 0 || reviewCreatedAt == null) {
+            return;
+        }
+
+        LocalDate reviewedOn = reviewCreatedAt.toLocalDate();
+        if (reviewedOn.isBefore(LocalDate.now().minusDays(WINDOW_DAYS - 1L))) {
+            return;
+        }
+
+        rankingRepository.incrementDailyScore(BookRankingBoard.REVIEWS_30D, reviewedOn, bookId, reviewCountDelta);
+    }
+
+    /**
+     * DB 기준으로 모든 랭킹 보드를 다시 구성함
+     * <ul>
+     *     <li>SALES, VIEWS: book_card 집계값으로 교체</li>
+     *     <li>REVIEWS_30D, EARLY_ADOPTER_30D: 최근 30일 일별 버킷 교체</li>
+     * </ul>
+     */
+    public void rebuildBoards() {
+        rankingRepository.replaceBoard(BookRankingBoard.SALES, toScoreMap(rankingSourceRepository.findSalesCounts()));
+        rankingRepository.replaceBoard(BookRankingBoard.VIEWS, toScoreMap(rankingSourceRepository.findViewCounts()));
+
+        LocalDate today = LocalDate.now();
+        LocalDateTime since = today.minusDays(WINDOW_DAYS - 1L).atStartOfDay();
+
+        Map<LocalDate, Map<Long, Long>> dailyReviews = new HashMap<>();
+        for (BookDailyScore score : rankingSourceRepository.findDailyReviewCounts(since)) {
+            dailyReviews.computeIfAbsent(score.day(), d -> new HashMap<>()).put(score.bookId(), score.score());
+        }
+
+        Map<LocalDate, Map<Long, Long>> dailyBuyerCounts = new HashMap<>();
+        Map<LocalDate, Set<String>> dailyBuyers = new HashMap<>();
+        for (BookDailyBuyer buyer : rankingSourceRepository.findDailyBuyers(since)) {
+            dailyBuyerCounts.computeIfAbsent(buyer.day(), d -> new HashMap<>()).merge(buyer.bookId(), 1L, Long::sum);
+            dailyBuyers.computeIfAbsent(buyer.day(), d -> new HashSet<>()).add(buyer.bookId() + ":" + buyer.memberId());
+        }
+
+        for (int i = 0; i < WINDOW_DAYS; i++) {
+            LocalDate day = today.minusDays(i);
+            rankingRepository.replaceDailyBoard(BookRankingBoard.REVIEWS_30D, day, dailyReviews.getOrDefault(day, Map.of()));
+            rankingRepository.replaceDailyBoard(BookRankingBoard.EARLY_ADOPTER_30D, day, dailyBuyerCounts.getOrDefault(day, Map.of()));
+            rankingRepository.replaceDailyBuyers(day, dailyBuyers.getOrDefault(day, Set.of()));
+        }
+
+        rankingRepository.evictWindow(BookRankingBoard.REVIEWS_30D);
+        rankingRepository.evictWindow(BookRankingBoard.EARLY_ADOPTER_30D);
+
+        log.info("[BookRanking] 랭킹 보드 재구성 완료");
+    }
+
+    private Slice<BookQueryResponse> toRankedSlice(List<Long> bookIds, Pageable pageable) {
+        boolean hasNext = bookIds.size() > pageable.getPageSize();
+        List<Long> pageIds = hasNext ? bookIds.subList(0, pageable.getPageSize()) : bookIds;
+        return new SliceImpl<>(findCardsInOrder(pageIds), pageable, hasNext);
+    }
+
+    // 랭킹 순서대로 정렬 (삭제된 도서는 제외)
+    private List<BookQueryResponse> findCardsInOrder(List<Long> bookIds) {
+        Map<Long, BookQueryResponse> cards = bookRepository.findBookCardsByIds(bookIds).stream()
+                .collect(Collectors.toMap(BookQueryResponse::id, Function.identity()));
+        return bookIds.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private BookCursor.Type cursorType(BookRankingBoard board) {
+        return switch (board) {
+            case SALES -> BookCursor.Type.SALES;
+            case VIEWS -> BookCursor.Type.VIEWS;
+            default -> throw new IllegalArgumentException("커서 조회를 지원하지 않는 랭킹 보드입니다: " + board);
+        };
+    }
+
+    private Map<Long, Long> toScoreMap(List<BookScore> scores) {
+        return scores.stream().collect(Collectors.toMap(BookScore::bookId, BookScore::score));
+    }
+}
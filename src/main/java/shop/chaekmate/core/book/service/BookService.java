@@ -6,7 +6,6 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import shop.chaekmate.core.book.dto.request.BookCreateRequest;
@@ -17,6 +16,7 @@ import shop.chaekmate.core.book.dto.response.BookListResponse;
 import shop.chaekmate.core.book.dto.response.BookResponse;
 import shop.chaekmate.core.book.dto.response.BookSummaryResponse;
 import shop.chaekmate.core.book.entity.*;
+import shop.chaekmate.core.book.event.BookCardRefreshEvent;
 import shop.chaekmate.core.book.event.BookCreatedEvent;
 import shop.chaekmate.core.book.event.BookDeletedEvent;
 import shop.chaekmate.core.book.event.BookUpdatedEvent;
@@ -50,8 +50,7 @@ public class BookService {
     // 트랜잭션 끝 난 뒤 서비스 호출 이벤트 발행
     private final ApplicationEventPublisher eventPublisher;
 
-    private final StringRedisTemplate redisTemplate;
-    private static final String VIEW_KEY_PREFIX = "book:views:";
+    private final BookViewCountRedisRepository bookViewCountRedisRepository;
 
     @Value("${aladin.api.key}")
     private String aladinApiKey;
@@ -160,18 +159,8 @@ public class BookService {
             tagIds.add(bookTag.getTag().getId());
         }
 
-        // 레디스에 캐시된 조회수 있으면 증가시킴
-        String redisKey = VIEW_KEY_PREFIX + bookId;
-        String redisValue = redisTemplate.opsForValue().get(redisKey);
-        long increment = 0L;
-        if (redisValue != null) {
-            try {
-                increment = Long.parseLong(redisValue);
-            } catch (NumberFormatException e) {
-                // 잘못된 값이면 무시
-            }
-        }
-        long totalViews = book.getViews() + increment;
+        // 레디스에 쌓인 조회수 있으면 증가시킴
+        long totalViews = book.getViews() + bookViewCountRedisRepository.findCount(bookId);
 
 
         return BookResponse.from(book, categoryIds, tagIds, totalViews);
@@ -295,6 +284,9 @@ public class BookService {
                 bookTagRepository.save(bookTag);
             }
         }
+
+        // 도서 카드 생성
+        eventPublisher.publishEvent(new BookCardRefreshEvent(book.getId()));
     }
 
     private void updateBookCategory(Book book, List<Long> newCategoryIds) {
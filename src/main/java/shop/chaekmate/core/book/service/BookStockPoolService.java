@@ -0,0 +1,82 @@
+package shop.chaekmate.core.book.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import shop.chaekmate.core.book.dto.response.BookQueryResponse;
+import shop.chaekmate.core.book.entity.Book;
+import shop.chaekmate.core.book.repository.BookRepository;
+import shop.chaekmate.core.book.repository.BookStockPoolRedisRepository;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookStockPoolService {
+
+    private final BookStockPoolRedisRepository stockPoolRepository;
+    private final BookRepository bookRepository;
+
+    /**
+     * 재고 있는 도서 중 무작위로 size 권을 조회함
+     *
+     * @return 풀이 아직 구성되지 않았거나 Redis 조회에 실패하면 empty (DB 쿼리로 대체)
+     */
+    public Optional<Slice<BookQueryResponse>> findRandomBooks(int size) {
+        List<Long> bookIds;
+        try {
+            bookIds = stockPoolRepository.findRandomBookIds(size);
+        } catch (Exception e) {
+            log.warn("[BookStockPool] 재고 풀 조회 실패, DB 조회로 대체", e);
+            return Optional.empty();
+        }
+
+        if (bookIds == null) {
+            return Optional.empty();
+        }
+
+        Map<Long, BookQueryResponse> cards = bookRepository.findBookCardsByIds(bookIds).stream()
+                .collect(Collectors.toMap(BookQueryResponse::id, Function.identity()));
+        List<BookQueryResponse> content = bookIds.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return Optional.of(new SliceImpl<>(content, Pageable.unpaged(), false));
+    }
+
+    // 도서 등록, 수정 시 재고 기준으로 풀 반영
+    public void syncStock(Long bookId, int stock) {
+        if (stock > 0) {
+            stockPoolRepository.add(bookId);
+        } else {
+            stockPoolRepository.remove(bookId);
+        }
+    }
+
+    // 판매 후 재고를 다시 읽어 반영 (품절 도서 제외)
+    public void syncStocks(Collection<Long> bookIds) {
+        List<Book> books = bookRepository.findAllById(bookIds);
+        books.forEach(book -> syncStock(book.getId(), book.getStock()));
+    }
+
+    public void removeBook(Long bookId) {
+        stockPoolRepository.remove(bookId);
+    }
+
+    // DB 기준으로 풀 재구성
+    public void rebuildPool() {
+        List<Long> bookIds = bookRepository.findInStockBookIds();
+        stockPoolRepository.replacePool(bookIds);
+        log.info("[BookStockPool] 재고 풀 재구성 완료 size={}", bookIds.size());
+    }
+}
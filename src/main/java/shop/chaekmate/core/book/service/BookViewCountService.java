@@ -1,31 +1,81 @@
 package shop.chaekmate.core.book.service;
 
-import java.time.Duration;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import shop.chaekmate.core.book.repository.BookViewCountRedisRepository;
 import shop.chaekmate.core.common.exception.CommonErrorCode;
 import shop.chaekmate.core.common.exception.CoreException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BookViewCountService {
 
-    private final StringRedisTemplate redisTemplate; // Key value 가 문자열로 고정
-    private static final String PREFIX = "book:views:";
+    // Redis 장애가 길어져도 메모리가 계속 늘지 않도록 모아둘 도서 수 제한
+    static final int MAX_PENDING_BOOKS = 50_000;
+
+    private final BookViewCountRedisRepository bookViewCountRedisRepository;
+
+    // 짧은 주기로 모아서 Redis 에 반영할 조회수 (도서 id → 증가량)
+    private final ConcurrentMap<Long, Long> pendingViews = new ConcurrentHashMap<>();
+
+    // Redis 장애로 한도를 비우지 못해 버린 조회수 (다음 반영 때 로그로 남김)
+    private final AtomicLong droppedViews = new AtomicLong();
 
     public void increase(Long bookId) {
 
         if(Objects.isNull(bookId)) throw new CoreException(CommonErrorCode.BAD_REQUEST);
 
-        String key = PREFIX + bookId;
-
-        // 먼저 키를 0으로 초기화하고 TTL 5분 지정 (실제론 1분마다 DB반영하면서 삭제)
-        redisTemplate.opsForValue().setIfAbsent(key, "0", Duration.ofMinutes(5));
+        // 이미 모으고 있는 도서는 계속 합산하고, 한도가 차면 주기를 기다리지 않고 바로 반영해 자리를 비움
+        if (pendingViews.size() >= MAX_PENDING_BOOKS && !pendingViews.containsKey(bookId)) {
+            flushPendingViews();
 
-        // 증가
-        redisTemplate.opsForValue().increment(key);
+            // 반영에 실패해 자리가 나지 않으면(Redis 장애) 메모리가 늘지 않도록 버림
+            if (pendingViews.size() >= MAX_PENDING_BOOKS) {
+                droppedViews.incrementAndGet();
+                return;
+            }
+        }
+        pendingViews.merge(bookId, 1L, Long::sum);
     }
 
+    /**
+     * 모아둔 조회수를 pipeline 한 번으로 Redis 해시 버킷에 반영 (BookViewCountFlushScheduler 전용 스레드가 주기적으로 호출)
+     */
+    @PreDestroy
+    public void flushPendingViews() {
+        long dropped = droppedViews.getAndSet(0L);
+        if (dropped > 0) {
+            log.warn("[ViewCount] Redis 반영 실패로 대기 도서 수 한도({})를 비우지 못해 조회수 {}건을 버림", MAX_PENDING_BOOKS, dropped);
+        }
+
+        if (pendingViews.isEmpty()) {
+            return;
+        }
+
+        // remove 는 키 단위로 원자적이라 꺼내는 도중 들어온 조회수는 다음 주기로 넘어감
+        Map<Long, Long> views = new HashMap<>();
+        for (Long bookId : pendingViews.keySet()) {
+            Long count = pendingViews.remove(bookId);
+            if (count != null) {
+                views.put(bookId, count);
+            }
+        }
+
+        try {
+            bookViewCountRedisRepository.increaseAll(views);
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            views.forEach((bookId, count) -> pendingViews.merge(bookId, count, Long::sum));
+            log.warn("[ViewCount] 조회수 Redis 반영 실패 {}건, 다음 주기에 재시도", views.size(), e);
+        }
+    }
 }
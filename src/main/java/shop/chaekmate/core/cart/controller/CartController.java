@@ -19,6 +19,7 @@ import shop.chaekmate.core.cart.dto.CartItemDeleteAllDto;
 import shop.chaekmate.core.cart.dto.CartItemDeleteDto;
 import shop.chaekmate.core.cart.dto.CartItemReadDto;
 import shop.chaekmate.core.cart.dto.CartItemUpdateDto;
+import shop.chaekmate.core.cart.dto.CartMergeDto;
 import shop.chaekmate.core.cart.dto.request.CartItemCreateRequest;
 import shop.chaekmate.core.cart.dto.request.CartItemUpdateRequest;
 import shop.chaekmate.core.cart.dto.response.CartItemListAdvancedResponse;
@@ -194,4 +195,31 @@ public class CartController {
         return ResponseEntity.noContent().build();
     }
 
+    // 비회원 장바구니 병합
+    /**
+     * 비회원 장바구니 병합
+     * - 로그인 직후 비회원 장바구니를 회원 장바구니로 합침
+     *
+     * <p>같은 도서는 더 큰 수량을 유지하며, 병합 후 비회원 장바구니는 삭제됨</p>
+     *
+     * @param memberId  회원 ID(헤더), 필수
+     * @param guestId   비회원 Guest ID(쿠키), 없으면 회원 장바구니를 그대로 반환
+     * @return          병합된 회원 장바구니 전체 아이템 리스트 응답
+     */
+    @PostMapping("/carts/merge")
+    public ResponseEntity<CartItemListResponse> mergeGuestCart(
+            @RequestHeader(value = "X-Member-Id") Long memberId,
+            @CookieValue(name = "Guest-Id", required = false) String guestId
+    )
+    {
+        CartMergeDto dto = new CartMergeDto(
+                memberId,
+                guestId
+        );
+
+        CartItemListResponse response = this.cartService.mergeGuestCart(dto);
+
+        return ResponseEntity.ok(response);
+    }
+
 }
@@ -0,0 +1,18 @@
+package shop.chaekmate.core.cart.dto;
+
+import shop.chaekmate.core.cart.dto.response.CartItemAdvancedResponse;
+
+// 장바구니 화면에 필요한 도서 정보 (대표 이미지는 book_card 썸네일)
+public record CartBookSummary(
+        Long bookId,
+        String bookImageUrl,
+        String bookTitle,
+        int bookPrice,
+        int bookSalesPrice,
+        int stock
+) {
+    public CartItemAdvancedResponse toResponse(int quantity) {
+        return new CartItemAdvancedResponse(bookId, bookImageUrl, bookTitle, bookPrice, bookSalesPrice, stock,
+                quantity);
+    }
+}
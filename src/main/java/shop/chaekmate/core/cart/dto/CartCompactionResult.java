@@ -0,0 +1,17 @@
+package shop.chaekmate.core.cart.dto;
+
+/**
+ * 장바구니 하나의 컴팩션 결과
+ *
+ * @param cartId 장바구니 ID
+ * @param migratedFields 이전 형식에서 옮긴 아이템 필드 수
+ * @param expireApplied 비회원 장바구니에 TTL 을 새로 적용했는지 여부
+ * @param memoryBytes 정리 후 메모리 사용량 (MEMORY USAGE)
+ */
+public record CartCompactionResult(
+        String cartId,
+        long migratedFields,
+        boolean expireApplied,
+        long memoryBytes
+) {
+}
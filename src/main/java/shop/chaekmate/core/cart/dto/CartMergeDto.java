@@ -0,0 +1,7 @@
+package shop.chaekmate.core.cart.dto;
+
+public record CartMergeDto(
+        Long memberId,
+        String guestId
+) {
+}
@@ -0,0 +1,10 @@
+package shop.chaekmate.core.cart.dto;
+
+import java.util.Map;
+
+// 장바구니 ID 와 담긴 아이템 (bookId → quantity)
+public record CartSnapshot(
+        String cartId,
+        Map<Long, Integer> items
+) {
+}
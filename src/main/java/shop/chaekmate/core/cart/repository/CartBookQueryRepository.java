@@ -0,0 +1,43 @@
+package shop.chaekmate.core.cart.repository;
+
+import static shop.chaekmate.core.book.entity.QBook.book;
+import static shop.chaekmate.core.book.entity.QBookCard.bookCard;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import shop.chaekmate.core.cart.dto.CartBookSummary;
+
+@Repository
+@RequiredArgsConstructor
+public class CartBookQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 장바구니에 담긴 도서들의 정보와 대표 이미지를 한 번에 조회함
+     * <p>
+     * 대표 이미지는 book_card 에 미리 저장된 썸네일(가장 먼저 등록된 이미지)을 사용
+     */
+    public List<CartBookSummary> findCartBookSummaries(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .select(Projections.constructor(CartBookSummary.class,
+                        book.id,
+                        bookCard.thumbnailUrl,
+                        book.title,
+                        book.price,
+                        book.salesPrice,
+                        book.stock))
+                .from(book)
+                .leftJoin(bookCard).on(bookCard.bookId.eq(book.id))
+                .where(book.id.in(bookIds))
+                .fetch();
+    }
+}
@@ -1,153 +1,429 @@
 package shop.chaekmate.core.cart.repository;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
+import shop.chaekmate.core.cart.dto.CartCompactionResult;
+import shop.chaekmate.core.cart.dto.CartSnapshot;
 
 @Repository
 @RequiredArgsConstructor
 public class CartRedisRepository {
 
     private static final String CART_PREFIX = "cart:";
-    private static final String BOOK_PREFIX = "book:";
     private static final String OWNER_ID = "ownerId";
     private static final String CART_OWNER_PREFIX = "cart:owner:";
 
     private static final String CART_SEQ_KEY = "cart:id:seq";
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final HashOperations<String, String, Object> hashOperations;
+    // 장바구니 ID, 회원 ownerId(memberId) 형식
+    private static final Pattern NUMERIC_ID = Pattern.compile("\\d+");
+    private static final int SCAN_COUNT = 500;
 
-    /* TTL 적용X --> 영구 저장 */
-    /* TTL 적용  --> redisTemplate 활용 : key 단위로 관리 --> key 생성 시 expire 옵션 추가 */
+    // 이전 형식의 아이템 필드 접두사 ("book:{bookId}"), 읽기/삭제 시 함께 처리하고 컴팩션에서 새 형식으로 옮김
+    private static final String LEGACY_BOOK_PREFIX = "book:";
 
-    /* ============================== 장바구니 ============================== */
-    /**
-     * 새로운 장바구니를 생성하고 ownerId와 연관된 key를 Redis에 저장함
-     * @param ownerId 장바구니 소유자 ID
-     * @return 생성된 장바구니 ID
-     * @throws IllegalStateException Redis ID Sequence 생성 실패 시
+    // 비회원 장바구니 TTL, 접근할 때마다 연장됨 (회원 장바구니는 만료 없음)
+    public static final Duration GUEST_CART_TTL = Duration.ofDays(14L);
+
+    /*
+     * 아이템은 field = bookId, value = 수량 (둘 다 정수 문자열)
+     * - 작은 해시는 listpack 으로 저장되고 정수 문자열은 정수로 인코딩되어, "book:" 접두사 필드보다 메모리를 적게 씀
+     *
+     * 여러 단계의 장바구니 변경은 Lua 스크립트 하나로 처리 (원자적, 왕복 1회)
+     * - KEYS[1] = cart:owner:{ownerId}
+     * - ARGV[1] = "cart:" (장바구니 key 는 스크립트 안에서 cartId 로 구성), ARGV[2] = TTL(초, 0 이면 만료 없음), ARGV[3] = "book:"
+     * - 장바구니 + 아이템을 돌려주는 스크립트는 { cartId, field1, value1, ... } 형태로 반환
      */
-    public String createCart(String ownerId) {
-        Long cartIdLong = this.redisTemplate.opsForValue().increment(CART_SEQ_KEY);
-        if (Objects.isNull(cartIdLong)) {
-            throw new IllegalStateException("Redis ID Sequence 생성 실패");
-        }
+    private static final String LUA_FUNCTIONS = """
+            local function touch(cartKey)
+              local ttl = tonumber(ARGV[2])
+              if ttl > 0 then
+                redis.call('EXPIRE', cartKey, ttl)
+                redis.call('EXPIRE', KEYS[1], ttl)
+              end
+            end
+            local function putItems(cartKey, from)
+              if #ARGV < from then
+                return
+              end
+              redis.call('HSET', cartKey, unpack(ARGV, from))
+              local legacy = {}
+              for i = from, #ARGV, 2 do
+                table.insert(legacy, ARGV[3] .. ARGV[i])
+              end
+              redis.call('HDEL', cartKey, unpack(legacy))
+            end
+            local function deleteAllItems(cartKey)
+              local fields = {}
+              for _, field in ipairs(redis.call('HKEYS', cartKey)) do
+                if field ~= 'ownerId' then
+                  table.insert(fields, field)
+                end
+              end
+              if #fields > 0 then
+                redis.call('HDEL', cartKey, unpack(fields))
+              end
+              return #fields
+            end
+            """;
 
-        String cartId = cartIdLong.toString();
+    // 장바구니가 없으면 생성한 뒤 아이템 저장 (ARGV[5..] = bookId, 수량 쌍), 전체 아이템 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GET_OR_CREATE_AND_PUT_SCRIPT = new DefaultRedisScript<>(LUA_FUNCTIONS + """
+            local cartId = redis.call('GET', KEYS[1])
+            if not cartId then
+              cartId = tostring(redis.call('INCR', KEYS[2]))
+              redis.call('HSET', ARGV[1] .. cartId, 'ownerId', ARGV[4])
+              redis.call('SET', KEYS[1], cartId)
+            end
+            local cartKey = ARGV[1] .. cartId
+            putItems(cartKey, 5)
+            touch(cartKey)
+            local result = redis.call('HGETALL', cartKey)
+            table.insert(result, 1, cartId)
+            return result
+            """, List.class);
 
-        String key = CART_PREFIX + cartId;
-        this.hashOperations.put(key, OWNER_ID, ownerId);   // HSET (key --> ownerId)
-        this.redisTemplate.opsForValue().set(CART_OWNER_PREFIX + ownerId, cartId);  // HSET (ownerId --> cartId 매핑)
+    // 장바구니 + 전체 아이템 조회, 장바구니가 없으면 빈 목록
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FIND_CART_SCRIPT = new DefaultRedisScript<>(LUA_FUNCTIONS + """
+            local cartId = redis.call('GET', KEYS[1])
+            if not cartId then
+              return {}
+            end
+            local cartKey = ARGV[1] .. cartId
+            touch(cartKey)
+            local result = redis.call('HGETALL', cartKey)
+            table.insert(result, 1, cartId)
+            return result
+            """, List.class);
 
-        return cartId;
-    }
+    // 장바구니가 있을 때만 아이템 저장 (ARGV[4..] = bookId, 수량 쌍), 장바구니가 없으면 nil
+    private static final RedisScript<String> PUT_IF_CART_EXISTS_SCRIPT = new DefaultRedisScript<>(LUA_FUNCTIONS + """
+            local cartId = redis.call('GET', KEYS[1])
+            if not cartId then
+              return nil
+            end
+            local cartKey = ARGV[1] .. cartId
+            putItems(cartKey, 4)
+            touch(cartKey)
+            return cartId
+            """, String.class);
+
+    // 아이템 삭제 (ARGV[4] = bookId), 장바구니가 없으면 -1, 아이템이 없으면 0
+    private static final RedisScript<Long> DELETE_ITEM_SCRIPT = new DefaultRedisScript<>(LUA_FUNCTIONS + """
+            local cartId = redis.call('GET', KEYS[1])
+            if not cartId then
+              return -1
+            end
+            local cartKey = ARGV[1] .. cartId
+            touch(cartKey)
+            local deleted = redis.call('HDEL', cartKey, ARGV[4], ARGV[3] .. ARGV[4])
+            return math.min(deleted, 1)
+            """, Long.class);
+
+    // 소유자 기준 아이템 필드 전체 삭제, 장바구니가 없으면 -1
+    private static final RedisScript<Long> DELETE_ALL_ITEMS_BY_OWNER_SCRIPT = new DefaultRedisScript<>(LUA_FUNCTIONS + """
+            local cartId = redis.call('GET', KEYS[1])
+            if not cartId then
+              return -1
+            end
+            local cartKey = ARGV[1] .. cartId
+            touch(cartKey)
+            return deleteAllItems(cartKey)
+            """, Long.class);
+
+    /*
+     * 비회원 장바구니를 회원 장바구니로 합침 (KEYS[1] = 비회원 소유자 key, KEYS[2] = 회원 소유자 key, ARGV[4] = 회원 ownerId)
+     * - 회원 장바구니가 없으면 비회원 장바구니를 그대로 넘겨받고 만료를 해제
+     * - 같은 도서는 더 큰 수량을 사용 (담을 때 재고 검증을 통과한 수량이므로 더해서 재고를 넘기지 않게 함)
+     * - 비회원 장바구니와 소유자 key 는 삭제, 회원 장바구니가 없고 합칠 것도 없으면 빈 목록
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> MERGE_CART_SCRIPT = new DefaultRedisScript<>("""
+            local guestCartId = redis.call('GET', KEYS[1])
+            local memberCartId = redis.call('GET', KEYS[2])
+            if guestCartId and guestCartId ~= memberCartId then
+              local guestKey = ARGV[1] .. guestCartId
+              if not memberCartId then
+                memberCartId = guestCartId
+                redis.call('HSET', guestKey, 'ownerId', ARGV[4])
+                redis.call('PERSIST', guestKey)
+                redis.call('SET', KEYS[2], memberCartId)
+              else
+                local memberKey = ARGV[1] .. memberCartId
+                local entries = redis.call('HGETALL', guestKey)
+                for i = 1, #entries, 2 do
+                  local field = entries[i]
+                  if field ~= 'ownerId' then
+                    if string.sub(field, 1, #ARGV[3]) == ARGV[3] then
+                      field = string.sub(field, #ARGV[3] + 1)
+                    end
+                    local quantity = tonumber(entries[i + 1])
+                    local current = redis.call('HGET', memberKey, field) or redis.call('HGET', memberKey, ARGV[3] .. field)
+                    if current and tonumber(current) > quantity then
+                      quantity = tonumber(current)
+                    end
+                    redis.call('HSET', memberKey, field, quantity)
+                    redis.call('HDEL', memberKey, ARGV[3] .. field)
+                  end
+                end
+                redis.call('DEL', guestKey)
+              end
+              redis.call('DEL', KEYS[1])
+            end
+            if not memberCartId then
+              return {}
+            end
+            local result = redis.call('HGETALL', ARGV[1] .. memberCartId)
+            table.insert(result, 1, memberCartId)
+            return result
+            """, List.class);
+
+    /*
+     * 장바구니 하나를 현재 형식으로 정리 (KEYS[1] = 장바구니 key, ARGV[1] = "cart:owner:", ARGV[2] = 비회원 TTL, ARGV[3] = "book:")
+     * - "book:{bookId}" 필드를 "{bookId}" 필드로 옮김 (새 형식 필드가 이미 있으면 그 값을 유지)
+     * - 만료가 없는 비회원 장바구니(숫자가 아닌 ownerId)에 TTL 적용
+     * - { 옮긴 필드 수, TTL 적용 여부(0/1) } 반환
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> COMPACT_CART_SCRIPT = new DefaultRedisScript<>("""
+            local entries = redis.call('HGETALL', KEYS[1])
+            local ownerId
+            local migrated = 0
+            for i = 1, #entries, 2 do
+              local field = entries[i]
+              if field == 'ownerId' then
+                ownerId = entries[i + 1]
+              elseif string.sub(field, 1, #ARGV[3]) == ARGV[3] then
+                redis.call('HSETNX', KEYS[1], string.sub(field, #ARGV[3] + 1), entries[i + 1])
+                redis.call('HDEL', KEYS[1], field)
+                migrated = migrated + 1
+              end
+            end
+            local expired = 0
+            if ownerId and not string.match(ownerId, '^%d+$') and redis.call('TTL', KEYS[1]) == -1 then
+              redis.call('EXPIRE', KEYS[1], ARGV[2])
+              redis.call('EXPIRE', ARGV[1] .. ownerId, ARGV[2])
+              expired = 1
+            end
+            return { migrated, expired }
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /* 회원 장바구니 --> 영구 저장 */
+    /* 비회원 장바구니 --> GUEST_CART_TTL 적용, 스크립트로 접근할 때마다 장바구니 key 와 소유자 key 만료 연장 */
 
+    /* ============================== 장바구니 ============================== */
     /**
-     * 장바구니 ID로 소유자 ID를 조회함
+     * 소유자의 장바구니를 조회하거나 없으면 생성한 뒤, 아이템을 저장하고 전체 아이템을 반환함
+     * <p>
+     * 동시에 처음 담더라도 장바구니는 하나만 생성됨 (스크립트 1회 실행)
      *
-     * @param cartId 조회할 장바구니 ID
-     * @return 장바구니 소유자 ID, 없으면 null
+     * @param ownerId 장바구니 소유자 ID
+     * @param items 저장할 아이템 (bookId → quantity), 비어 있으면 조회/생성만 함
+     * @return 장바구니 ID 와 저장 후 전체 아이템
      */
-    public String getOwnerId(String cartId) {
-        String key = CART_PREFIX + cartId;
-        Object value = this.hashOperations.get(key, OWNER_ID);
-        return Objects.nonNull(value) ? value.toString() : null;
+    @SuppressWarnings("unchecked")
+    public CartSnapshot getOrCreateCartAndPutItems(String ownerId, Map<Long, Integer> items) {
+        List<String> args = this.scriptArgs(ownerId);
+        args.add(ownerId);
+        args.addAll(this.toFieldValueArgs(items));
+
+        List<String> result = this.execute(GET_OR_CREATE_AND_PUT_SCRIPT,
+                List.of(CART_OWNER_PREFIX + ownerId, CART_SEQ_KEY), args.toArray());
+        return this.toSnapshot(result);
     }
 
     /**
-     * 소유자 ID로 장바구니 ID를 조회함
+     * 소유자 ID로 장바구니와 전체 아이템을 조회함 (왕복 1회)
      *
      * @param ownerId 장바구니 소유자 ID
-     * @return 장바구니 ID, 없으면 null
+     * @return 장바구니 ID 와 전체 아이템, 장바구니가 없으면 null
      */
-    public String findCartIdByOwner(String ownerId) {
-        Object value = this.redisTemplate.opsForValue().get(CART_OWNER_PREFIX + ownerId);
-        return Objects.nonNull(value) ? value.toString() : null;
+    @SuppressWarnings("unchecked")
+    public CartSnapshot findCartByOwner(String ownerId) {
+        List<String> result = this.execute(FIND_CART_SCRIPT, List.of(CART_OWNER_PREFIX + ownerId),
+                this.scriptArgs(ownerId).toArray());
+        return this.toSnapshot(result);
     }
 
     /* =========================== 장바구니 아이템 =========================== */
 
     /**
-     * 장바구니에 아이템을 추가하거나 수량을 수정함
+     * 소유자의 장바구니가 있을 때만 아이템을 추가하거나 수량을 수정함 (왕복 1회)
      *
-     * @param cartId 장바구니 ID
-     * @param bookId 도서 ID
-     * @param quantity 수량
+     * @param ownerId 장바구니 소유자 ID
+     * @param items bookId → quantity
+     * @return 장바구니 ID, 장바구니가 없으면 null
      */
-    public void putCartItem(String cartId, Long bookId, int quantity) {
-        String key = CART_PREFIX + cartId;
-        String bookField  = BOOK_PREFIX + bookId;
-        this.hashOperations.put(key, bookField, quantity);  // HSET
+    public String putCartItemsIfCartExists(String ownerId, Map<Long, Integer> items) {
+        List<String> args = this.scriptArgs(ownerId);
+        args.addAll(this.toFieldValueArgs(items));
+
+        return this.execute(PUT_IF_CART_EXISTS_SCRIPT, List.of(CART_OWNER_PREFIX + ownerId), args.toArray());
     }
 
     /**
-     * 장바구니 내 특정 아이템을 조회함 (수량 조회)
+     * 소유자 기준으로 장바구니 내 특정 아이템을 삭제함 (왕복 1회)
      *
-     * @param cartId 장바구니 ID
+     * @param ownerId 장바구니 소유자 ID
      * @param bookId 도서 ID
-     * @return 수량, 없으면 null
+     * @return 삭제된 개수 (0: 아이템 없음), 장바구니가 없으면 -1
      */
-    public Integer getCartItem(String cartId, Long bookId) {
-        String key = CART_PREFIX + cartId;
-        String bookField = BOOK_PREFIX + bookId;
-        Object value = this.hashOperations.get(key, bookField);     // HGET
+    public long deleteCartItemByOwner(String ownerId, Long bookId) {
+        List<String> args = this.scriptArgs(ownerId);
+        args.add(bookId.toString());
 
-        return Objects.nonNull(value) ? Integer.parseInt(value.toString()) : null;
+        Long deleted = this.execute(DELETE_ITEM_SCRIPT, List.of(CART_OWNER_PREFIX + ownerId), args.toArray());
+        return Objects.nonNull(deleted) ? deleted : -1L;
     }
 
     /**
-     * 장바구니 내 모든 아이템을 조회함 (수량 조회)
+     * 소유자 기준으로 장바구니 내 모든 아이템을 삭제함 (왕복 1회)
      *
-     * @param cartId 장바구니 ID
-     * @return Map<bookId, quantity>
+     * @param ownerId 장바구니 소유자 ID
+     * @return 장바구니가 없으면 false
      */
-    public Map<Long, Integer> getAllCartItems(String cartId) {
-        String key = CART_PREFIX + cartId;
-        Map<String, Object> entries = this.hashOperations.entries(key); // HGETALL
-        return this.parseBookFields(entries);   // bookId --> quantity 형태로 반환
+    public boolean deleteAllCartItemsByOwner(String ownerId) {
+        Long deleted = this.execute(DELETE_ALL_ITEMS_BY_OWNER_SCRIPT, List.of(CART_OWNER_PREFIX + ownerId),
+                this.scriptArgs(ownerId).toArray());
+        return Objects.nonNull(deleted) && deleted >= 0;
     }
 
+    /* =========================== 장바구니 병합/정리 =========================== */
+
     /**
-     * 장바구니 내 특정 아이템을 삭제함
+     * 로그인 시 비회원 장바구니를 회원 장바구니로 합침 (스크립트 1회, 원자적)
+     * <ul>
+     *     <li>회원 장바구니가 없으면 비회원 장바구니를 그대로 넘겨받음 (만료 해제)</li>
+     *     <li>같은 도서는 더 큰 수량을 사용</li>
+     *     <li>합친 뒤 비회원 장바구니와 소유자 key 는 삭제</li>
+     * </ul>
      *
-     * @param cartId 장바구니 ID
-     * @param bookId 도서 ID
+     * @param guestId 비회원 ID
+     * @param memberOwnerId 회원 장바구니 소유자 ID (memberId)
+     * @return 회원 장바구니 ID 와 전체 아이템, 두 장바구니 모두 없으면 null
      */
-    public void deleteCartItem(String cartId, Long bookId) {
-        String key = CART_PREFIX + cartId;
-        String bookField = BOOK_PREFIX + bookId;
-        this.hashOperations.delete(key, bookField); // HDEL
+    @SuppressWarnings("unchecked")
+    public CartSnapshot mergeGuestCart(String guestId, String memberOwnerId) {
+        List<String> result = this.execute(MERGE_CART_SCRIPT,
+                List.of(CART_OWNER_PREFIX + guestId, CART_OWNER_PREFIX + memberOwnerId),
+                CART_PREFIX, "0", LEGACY_BOOK_PREFIX, memberOwnerId);
+        return this.toSnapshot(result);
     }
 
     /**
-     * 장바구니 내 모든 아이템을 삭제함
+     * 모든 장바구니 ID를 SCAN 으로 순회함 (소유자 key, 시퀀스 key 제외)
      *
-     * @param cartId 장바구니 ID
+     * @param action 장바구니 ID 별로 실행할 작업
      */
-    public void deleteAllCartItems(String cartId) {
-        String key = CART_PREFIX + cartId;
-        Set<String> fields = this.hashOperations.keys(key); // HKEYS
-        for (String field : fields) {
-            if (field.startsWith(BOOK_PREFIX)) {
-                this.hashOperations.delete(key, field); // HDEL
+    public void forEachCartId(Consumer<String> action) {
+        ScanOptions options = ScanOptions.scanOptions().match(CART_PREFIX + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = this.stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String cartId = cursor.next().substring(CART_PREFIX.length());
+                if (NUMERIC_ID.matcher(cartId).matches()) {
+                    action.accept(cartId);
+                }
             }
         }
     }
 
+    /**
+     * 장바구니 하나를 현재 저장 형식으로 정리하고 메모리 사용량을 조회함
+     * <ul>
+     *     <li>이전 형식("book:{bookId}") 필드를 새 형식으로 옮김</li>
+     *     <li>만료가 없는 비회원 장바구니에 TTL 적용</li>
+     * </ul>
+     *
+     * @param cartId 장바구니 ID
+     * @return 정리 결과 (옮긴 필드 수, TTL 적용 여부, 정리 후 메모리 사용량)
+     */
+    public CartCompactionResult compactCart(String cartId) {
+        String key = CART_PREFIX + cartId;
+        List<?> result = this.execute(COMPACT_CART_SCRIPT, List.of(key),
+                CART_OWNER_PREFIX, String.valueOf(GUEST_CART_TTL.toSeconds()), LEGACY_BOOK_PREFIX);
+
+        long migratedFields = ((Number) result.get(0)).longValue();
+        boolean expireApplied = ((Number) result.get(1)).longValue() == 1L;
+
+        Long memoryBytes = this.stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                (Long) connection.execute("MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8),
+                        key.getBytes(StandardCharsets.UTF_8)));
+
+        return new CartCompactionResult(cartId, migratedFields, expireApplied,
+                Objects.nonNull(memoryBytes) ? memoryBytes : 0L);
+    }
+
     /* =========================== 내부 유틸 메서드 =========================== */
 
+    // 스크립트 인자/결과는 문자열로 주고받음
+    private <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+        return this.stringRedisTemplate.execute(script, keys, args);
+    }
+
+    // 소유자 기준 스크립트 공통 인자 ("cart:", TTL(초), "book:")
+    private List<String> scriptArgs(String ownerId) {
+        List<String> args = new ArrayList<>();
+        args.add(CART_PREFIX);
+        args.add(this.ttlSecondsOf(ownerId));
+        args.add(LEGACY_BOOK_PREFIX);
+        return args;
+    }
+
+    // 회원 ownerId 는 memberId(숫자), 그 외는 비회원으로 보고 TTL 적용
+    private String ttlSecondsOf(String ownerId) {
+        boolean member = NUMERIC_ID.matcher(ownerId).matches();
+        return member ? "0" : String.valueOf(GUEST_CART_TTL.toSeconds());
+    }
+
+    // bookId → quantity 를 HSET 인자(field, value, field, value ...)로 변환
+    private List<String> toFieldValueArgs(Map<Long, Integer> items) {
+        List<String> args = new ArrayList<>(items.size() * 2);
+        items.forEach((bookId, quantity) -> {
+            args.add(bookId.toString());
+            args.add(String.valueOf(quantity));
+        });
+        return args;
+    }
+
+    // { cartId, field1, value1, ... } 형태의 스크립트 결과를 변환, 비어 있으면 null
+    private CartSnapshot toSnapshot(List<String> result) {
+        if (Objects.isNull(result) || result.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Object> entries = new HashMap<>();
+        for (int i = 1; i + 1 < result.size(); i += 2) {
+            entries.put(result.get(i), result.get(i + 1));
+        }
+        return new CartSnapshot(result.getFirst(), this.parseBookFields(entries));
+    }
+
     /**
      * Redis에서 조회한 Hash entries 를 "bookId → quantity" 형식으로 변환함
      *
      * <p>특징:
      * 1. "ownerId" 필드는 제외
-     * 2. Object 타입을 Integer 로 변환
+     * 2. 새 형식("{bookId}")과 이전 형식("book:{bookId}") 필드 모두 읽음, 둘 다 있으면 새 형식 우선
+     * 3. Object 타입을 Integer 로 변환
      *
      * @param entries Redis hash entries (field → value)
      * @return Map<bookId, quantity>
@@ -159,11 +435,12 @@ public class CartRedisRepository {
             String field = entry.getKey();
 
             // ownerId FIELD 제외
-            if (!field.startsWith(BOOK_PREFIX)) {
+            if (OWNER_ID.equals(field)) {
                 continue;
             }
 
-            Long bookId = Long.parseLong(field.substring(5));   // "bookId:{bookId}" → {bookId}
+            boolean legacy = field.startsWith(LEGACY_BOOK_PREFIX);
+            Long bookId = Long.parseLong(legacy ? field.substring(LEGACY_BOOK_PREFIX.length()) : field);
 
             Object value = entry.getValue();
             Integer quantity;
@@ -173,7 +450,11 @@ public class CartRedisRepository {
                 quantity = Integer.parseInt(value.toString());  // Integer 아닐 경우, Integer 변환
             }
 
-            result.put(bookId, quantity);
+            if (legacy) {
+                result.putIfAbsent(bookId, quantity);
+            } else {
+                result.put(bookId, quantity);
+            }
         }
 
         return result;
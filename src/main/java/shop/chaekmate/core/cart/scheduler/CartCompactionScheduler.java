@@ -0,0 +1,71 @@
+package shop.chaekmate.core.cart.scheduler;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.chaekmate.core.cart.dto.CartCompactionResult;
+import shop.chaekmate.core.cart.repository.CartRedisRepository;
+import shop.chaekmate.core.common.annotation.LeaderOnly;
+
+/**
+ * 장바구니 저장 형식 정리 + 장바구니별 메모리 사용량 보고
+ * <ul>
+ *     <li>이전 형식("book:{bookId}") 필드를 정수 필드로 옮기고, 만료가 없는 비회원 장바구니에 TTL 을 건다.</li>
+ *     <li>장바구니별 메모리 사용량은 cart.memory.bytes 분포로 기록하고 실행 결과를 로그로 남긴다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class CartCompactionScheduler {
+
+    private final CartRedisRepository cartRedisRepository;
+    private final DistributionSummary cartMemory;
+
+    public CartCompactionScheduler(CartRedisRepository cartRedisRepository, MeterRegistry meterRegistry) {
+        this.cartRedisRepository = cartRedisRepository;
+        this.cartMemory = DistributionSummary.builder("cart.memory.bytes")
+                .description("장바구니 하나의 Redis 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    // 매일 새벽 3시 30분에 전체 장바구니 정리
+    @Scheduled(cron = "0 30 3 * * *")
+    @LeaderOnly(value = "cart-compaction", leaseSeconds = 1800)
+    public void compactCarts() {
+        AtomicLong carts = new AtomicLong();
+        AtomicLong migratedFields = new AtomicLong();
+        AtomicLong expireApplied = new AtomicLong();
+        AtomicLong totalBytes = new AtomicLong();
+        AtomicLong maxBytes = new AtomicLong();
+
+        try {
+            cartRedisRepository.forEachCartId(cartId -> {
+                try {
+                    CartCompactionResult result = cartRedisRepository.compactCart(cartId);
+
+                    carts.incrementAndGet();
+                    migratedFields.addAndGet(result.migratedFields());
+                    if (result.expireApplied()) {
+                        expireApplied.incrementAndGet();
+                    }
+                    totalBytes.addAndGet(result.memoryBytes());
+                    maxBytes.accumulateAndGet(result.memoryBytes(), Math::max);
+                    cartMemory.record(result.memoryBytes());
+                } catch (Exception e) {
+                    log.warn("[CartCompaction] cartId={} 정리 실패", cartId, e);
+                }
+            });
+        } catch (Exception e) {
+            log.error("[CartCompaction] 장바구니 SCAN 실패", e);
+            return;
+        }
+
+        log.info("[CartCompaction] 장바구니 {}개 정리 (필드 이전 {}건, TTL 적용 {}건), 메모리 합계 {}B / 평균 {}B / 최대 {}B",
+                carts.get(), migratedFields.get(), expireApplied.get(), totalBytes.get(),
+                carts.get() > 0 ? totalBytes.get() / carts.get() : 0, maxBytes.get());
+    }
+}
@@ -1,20 +1,28 @@
 package shop.chaekmate.core.cart.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import lombok.RequiredArgsConstructor;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import shop.chaekmate.core.book.exception.BookNotFoundException;
-import shop.chaekmate.core.book.repository.BookImageRepository;
 import shop.chaekmate.core.book.repository.BookRepository;
+import shop.chaekmate.core.cart.dto.CartBookSummary;
 import shop.chaekmate.core.cart.dto.CartItemCreateDto;
 import shop.chaekmate.core.cart.dto.CartItemDeleteAllDto;
 import shop.chaekmate.core.cart.dto.CartItemDeleteDto;
 import shop.chaekmate.core.cart.dto.CartItemUpdateDto;
+import shop.chaekmate.core.cart.dto.CartMergeDto;
 import shop.chaekmate.core.cart.dto.CartOwner;
+import shop.chaekmate.core.cart.dto.CartSnapshot;
 import shop.chaekmate.core.cart.dto.response.CartItemAdvancedResponse;
 import shop.chaekmate.core.cart.dto.response.CartItemListAdvancedResponse;
 import shop.chaekmate.core.cart.dto.response.CartItemListResponse;
@@ -23,7 +31,9 @@ import shop.chaekmate.core.cart.dto.response.CartItemUpdateResponse;
 import shop.chaekmate.core.cart.exception.BookInsufficientStockException;
 import shop.chaekmate.core.cart.exception.CartItemNotFoundException;
 import shop.chaekmate.core.cart.exception.CartNotFoundException;
+import shop.chaekmate.core.cart.repository.CartBookQueryRepository;
 import shop.chaekmate.core.cart.repository.CartRedisRepository;
+import shop.chaekmate.core.common.config.CacheSpecProperties;
 
 /**
  * 장바구니 관련 비즈니스 로직을 처리하는 서비스 클래스
@@ -33,19 +43,43 @@ import shop.chaekmate.core.cart.repository.CartRedisRepository;
  */
 
 @Service
-@RequiredArgsConstructor
 public class CartService {
 
+    // 장바구니 화면용 도서 정보 캐시 (짧은 TTL, cache.specs 의 local-ttl / local-max-size 사용)
+    public static final String CART_BOOK_SUMMARIES = "cartBookSummaries";
+
     private final CartRedisRepository cartRedisRepository;
     private final BookRepository bookRepository;
-    private final BookImageRepository bookImageRepository;
+    private final CartBookQueryRepository cartBookQueryRepository;
+
+    // 로컬 전용 캐시: 줄마다 Redis 를 조회하거나 put 마다 무효화를 발행하지 않도록 CacheManager(L1+L2)를 거치지 않음
+    private final Cache<Long, CartBookSummary> bookSummaryCache;
+
+    public CartService(CartRedisRepository cartRedisRepository,
+                       BookRepository bookRepository,
+                       CartBookQueryRepository cartBookQueryRepository,
+                       CacheSpecProperties cacheSpecProperties,
+                       MeterRegistry meterRegistry) {
+        this.cartRedisRepository = cartRedisRepository;
+        this.bookRepository = bookRepository;
+        this.cartBookQueryRepository = cartBookQueryRepository;
+
+        CacheSpecProperties.Spec spec = cacheSpecProperties.getSpec(CART_BOOK_SUMMARIES);
+        this.bookSummaryCache = Caffeine.newBuilder()
+                .maximumSize(spec.getLocalMaxSize())
+                .expireAfterWrite(spec.getLocalTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.bookSummaryCache, CART_BOOK_SUMMARIES, "level", "local");
+    }
 
     /**
      * 장바구니 아이템을 추가함 (수량은 항상 1로 고정)
      * <ul>
-     *     <li>장바구니가 존재하지 않으면 자동 생성</li>
-     *     <li>이미 존재하는 도서인 경우 Redis HashOperations.put 으로 수량 overwrite</li>
+     *     <li>장바구니가 존재하지 않으면 자동 생성 (동시에 담아도 하나만 생성)</li>
+     *     <li>이미 존재하는 도서인 경우 수량 overwrite</li>
      *     <li>최종적으로 장바구니 전체 목록을 반환</li>
+     *     <li>장바구니 생성, 아이템 추가, 전체 조회는 Redis 스크립트 한 번으로 처리</li>
      * </ul>
      *
      * @param dto 생성 요청 DTO (owner + bookId 포함)
@@ -54,9 +88,6 @@ public class CartService {
     @Transactional
     public CartItemListResponse addCartItem(CartItemCreateDto dto) {
 
-        // 장바구니 조회
-        String cartId = this.resolveOrCreateCartId(dto);
-
         // 도서 재고 검증
         var book = this.bookRepository.findById(dto.bookId())
                 .orElseThrow(BookNotFoundException::new);
@@ -66,25 +97,25 @@ public class CartService {
             throw new BookInsufficientStockException();
         }
 
-        // 장바구니 아이템 생성 및 추가
-        this.cartRedisRepository.putCartItem(cartId, dto.bookId(), dto.quantity());
-
-        // 장바구니 전체 조회 후 Response DTO 반환
-        Map<Long, Integer> itemsMap = this.cartRedisRepository.getAllCartItems(cartId);
+        // 장바구니 조회(없으면 생성) + 아이템 추가 + 전체 조회를 한 번에 처리
+        CartSnapshot cart = this.cartRedisRepository.getOrCreateCartAndPutItems(
+                this.resolveOwnerId(dto), Map.of(dto.bookId(), dto.quantity()));
 
-        List<CartItemResponse> items = itemsMap.entrySet().stream()
+        // Response DTO 반환
+        List<CartItemResponse> items = cart.items().entrySet().stream()
                 .map(e -> new CartItemResponse(e.getKey(), e.getValue()))
                 .toList();
 
-        return new CartItemListResponse(Long.parseLong(cartId), items);
+        return new CartItemListResponse(Long.parseLong(cart.cartId()), items);
     }
 
     /**
      * 장바구니 아이템 목록을 조회하고 도서 정보 및 대표 이미지까지 포함하여 반환함
      * <ul>
-     *     <li>장바구니가 존재하지 않으면 자동 생성</li>
-     *     <li>도서 존재 여부 검증: bookRepository.findById → BookNotFoundException</li>
-     *     <li>대표 이미지: createdAt 기준 오름차순 1번째 이미지</li>
+     *     <li>장바구니가 존재하지 않으면 빈 목록 반환</li>
+     *     <li>도서 정보와 대표 이미지는 한 번의 쿼리로 일괄 조회 (짧은 TTL 로컬 캐시 우선)</li>
+     *     <li>도서 존재 여부 검증: 조회되지 않은 도서 → BookNotFoundException</li>
+     *     <li>대표 이미지: createdAt 기준 오름차순 1번째 이미지 (book_card 썸네일)</li>
      * </ul>
      *
      * @param dto 장바구니 소유자 정보 DTO
@@ -93,49 +124,35 @@ public class CartService {
      */
     @Transactional(readOnly = true)
     public CartItemListAdvancedResponse getCartItemsWithBookInfo(CartOwner dto) {
-        // 장바구니 조회
-        String cartId = this.resolveCartId(dto);
+        // 장바구니 + 아이템 전체 조회
+        // - bookId --> quantity
+        CartSnapshot cart = this.cartRedisRepository.findCartByOwner(this.resolveOwnerId(dto));
 
         // 장바구니가 없으면 빈 목록 반환
-        if (Objects.isNull(cartId)) {
+        if (Objects.isNull(cart)) {
             return new CartItemListAdvancedResponse(null, Collections.emptyList());
         }
 
-        // 장바구니 아이템 전체 조회
-        // - bookId --> quantity
-        Map<Long, Integer> cartItems = this.cartRedisRepository.getAllCartItems(cartId);
+        Map<Long, Integer> cartItems = cart.items();
+
+        // 도서 정보 + 대표 이미지 일괄 조회 후 DTO 변환
+        Map<Long, CartBookSummary> books = this.findCartBookSummaries(cartItems.keySet());
 
-        // 각 책 정보 + 대표 이미지 조회 후 DTO 변환
         List<CartItemAdvancedResponse> items = cartItems.entrySet().stream().map(entry -> {
-            Long bookId = entry.getKey();
-            int quantity = entry.getValue();
-
-            // 책 정보 조회
-            var book = this.bookRepository.findById(bookId)
-                    .orElseThrow(BookNotFoundException::new);
-
-            // 책 이미지 조회 (대표 이미지 선택)
-            var images = this.bookImageRepository.findAllByBookIdOrderByCreatedAtAsc(bookId);
-            String bookImageUrl = images.isEmpty() ? null : images.get(0).getImageUrl();
-
-            return new CartItemAdvancedResponse(
-                    book.getId(),
-                    bookImageUrl,
-                    book.getTitle(),
-                    book.getPrice(),
-                    book.getSalesPrice(),
-                    book.getStock(),
-                    quantity
-            );
+            CartBookSummary book = books.get(entry.getKey());
+            if (Objects.isNull(book)) {
+                throw new BookNotFoundException();
+            }
+            return book.toResponse(entry.getValue());
         }).toList();
 
-        return new CartItemListAdvancedResponse(Long.parseLong(cartId), items);
+        return new CartItemListAdvancedResponse(Long.parseLong(cart.cartId()), items);
     }
 
     /**
      * 장바구니 내 특정 아이템의 수량을 업데이트함
      * <ul>
-     *     <li>Redis의 putCartItem을 사용하여 해당 key의 수량을 그대로 저장</li>
+     *     <li>장바구니 존재 확인과 수량 저장을 Redis 스크립트 한 번으로 처리</li>
      * </ul>
      *
      * @param dto bookId 및 새로운 quantity를 포함한 DTO
@@ -143,11 +160,6 @@ public class CartService {
      */
     @Transactional
     public CartItemUpdateResponse updateCartItem(CartItemUpdateDto dto) {
-        String cartId = this.resolveCartId(dto);
-        if (Objects.isNull(cartId)) {
-            throw new CartNotFoundException();
-        }
-
         // 도서 재고 검증
         var book = this.bookRepository.findById(dto.bookId())
                 .orElseThrow(BookNotFoundException::new);
@@ -157,7 +169,12 @@ public class CartService {
             throw new BookInsufficientStockException();
         }
 
-        this.cartRedisRepository.putCartItem(cartId, dto.bookId(), dto.quantity());
+        // 장바구니가 있을 때만 수량 저장
+        String cartId = this.cartRedisRepository.putCartItemsIfCartExists(
+                this.resolveOwnerId(dto), Map.of(dto.bookId(), dto.quantity()));
+        if (Objects.isNull(cartId)) {
+            throw new CartNotFoundException();
+        }
 
         return new CartItemUpdateResponse(dto.bookId(), dto.quantity());
     }
@@ -169,18 +186,15 @@ public class CartService {
      */
     @Transactional
     public void deleteCartItem(CartItemDeleteDto dto) {
-        String cartId = this.resolveCartId(dto);
-        if (Objects.isNull(cartId)) {
+        long deleted = this.cartRedisRepository.deleteCartItemByOwner(this.resolveOwnerId(dto), dto.bookId());
+        if (deleted < 0) {
             throw new CartNotFoundException();
         }
 
         // 해당 아이템이 장바구니에 존재하지 않는 경우
-        Integer quantity = this.cartRedisRepository.getCartItem(cartId, dto.bookId());
-        if (Objects.isNull(quantity)) {
+        if (deleted == 0) {
             throw new CartItemNotFoundException();
         }
-
-        this.cartRedisRepository.deleteCartItem(cartId, dto.bookId());
     }
 
     /**
@@ -192,12 +206,57 @@ public class CartService {
      */
     @Transactional
     public void deleteAllCartItems(CartItemDeleteAllDto dto) {
-        String cartId = this.resolveCartId(dto);
-        if (Objects.isNull(cartId)) {
+        if (!this.cartRedisRepository.deleteAllCartItemsByOwner(this.resolveOwnerId(dto))) {
             throw new CartNotFoundException();
         }
+    }
+
+    /**
+     * 로그인 시 비회원 장바구니를 회원 장바구니로 합침
+     * <ul>
+     *     <li>병합은 Redis 스크립트 한 번으로 처리 (중간 상태가 보이지 않음)</li>
+     *     <li>같은 도서는 두 장바구니 중 더 큰 수량을 유지</li>
+     *     <li>비회원 장바구니가 없으면 회원 장바구니를 그대로 반환, 둘 다 없으면 빈 목록</li>
+     * </ul>
+     *
+     * @param dto 회원 ID 와 비회원 ID
+     * @return 병합된 회원 장바구니 전체 아이템 목록 응답 DTO
+     */
+    @Transactional
+    public CartItemListResponse mergeGuestCart(CartMergeDto dto) {
+        if (Objects.isNull(dto.memberId())) {
+            throw new IllegalArgumentException("장바구니 병합에는 회원 ID가 반드시 존재해야 합니다.");
+        }
+
+        String memberOwnerId = dto.memberId().toString();
+        CartSnapshot cart = Objects.nonNull(dto.guestId())
+                ? this.cartRedisRepository.mergeGuestCart(dto.guestId(), memberOwnerId)
+                : this.cartRedisRepository.findCartByOwner(memberOwnerId);
 
-        this.cartRedisRepository.deleteAllCartItems(cartId);
+        if (Objects.isNull(cart)) {
+            return new CartItemListResponse(null, Collections.emptyList());
+        }
+
+        List<CartItemResponse> items = cart.items().entrySet().stream()
+                .map(e -> new CartItemResponse(e.getKey(), e.getValue()))
+                .toList();
+
+        return new CartItemListResponse(Long.parseLong(cart.cartId()), items);
+    }
+
+    /**
+     * 장바구니 화면용 도서 정보를 조회함
+     * <p>
+     * 페이지 이동마다 장바구니를 다시 그리므로 로컬 캐시에 없는 도서만 한 번의 쿼리로 조회
+     * (재고 검증은 추가/수정 시 DB 기준으로 하므로 화면 표시용 재고는 잠깐 지연되어도 됨)
+     *
+     * @param bookIds 도서 ID 목록
+     * @return bookId → 도서 정보, 존재하지 않는 도서는 제외
+     */
+    private Map<Long, CartBookSummary> findCartBookSummaries(Set<Long> bookIds) {
+        return this.bookSummaryCache.getAll(bookIds, missingIds ->
+                this.cartBookQueryRepository.findCartBookSummaries(List.copyOf(missingIds)).stream()
+                        .collect(Collectors.toMap(CartBookSummary::bookId, Function.identity())));
     }
 
     /**
@@ -223,33 +282,4 @@ public class CartService {
         }
     }
 
-    /**
-     * ownerId 기반으로 Redis 에 저장된 장바구니 ID(cartId)를 조회함
-     * <ul>
-     *     <li>장바구니가 존재하지 않으면 null 반환</li>
-     * </ul>
-     *
-     * @param dto CartOwner DTO
-     * @return cartId (문자열) 또는 null
-     */
-    private String resolveCartId(CartOwner dto) {
-        return this.cartRedisRepository.findCartIdByOwner(this.resolveOwnerId(dto));
-    }
-
-    /**
-     * 장바구니 ID(cartId)를 조회하며, 존재하지 않을 경우 자동으로 생성함
-     * <p>쓰기 작업이 필요한 메서드에서만 사용</p>
-     *
-     * @param dto CartOwner DTO
-     * @return 생성되었거나 기존에 존재하던 cartId 문자열
-     */
-    private String resolveOrCreateCartId(CartOwner dto) {
-        String cartId = this.resolveCartId(dto);
-        if (Objects.isNull(cartId)) {
-            String ownerId = this.resolveOwnerId(dto);
-            cartId = this.cartRedisRepository.createCart(ownerId);
-        }
-        return cartId;
-    }
-
 }
@@ -0,0 +1,20 @@
+package shop.chaekmate.core.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 core 노드 중 리스를 가진 노드 하나에서만 실행 (스케줄 작업용)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LeaderOnly {
+
+    // 작업 이름 (리스 키, 지표 태그)
+    String value();
+
+    // 리스 유지 시간, 실행 주기보다 길어야 함 (실행 중에는 1/3 마다 연장)
+    long leaseSeconds();
+}
@@ -0,0 +1,46 @@
+package shop.chaekmate.core.common.aop;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import shop.chaekmate.core.common.annotation.LeaderOnly;
+import shop.chaekmate.core.common.scheduler.SchedulerLeaseManager;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderOnlyAspect {
+
+    private final SchedulerLeaseManager schedulerLeaseManager;
+
+    @Around("@annotation(leaderOnly)")
+    public Object runOnLeader(ProceedingJoinPoint joinPoint, LeaderOnly leaderOnly) throws Throwable {
+        String job = leaderOnly.value();
+        Duration lease = Duration.ofSeconds(leaderOnly.leaseSeconds());
+
+        if (!schedulerLeaseManager.tryAcquire(job, lease)) {
+            log.debug("[Scheduler] 리스가 다른 노드에 있어 실행하지 않음 job={}", job);
+            return null;
+        }
+
+        // 실행이 리스 유지 시간보다 길어져도 다른 노드가 넘겨받지 않도록 실행 중 연장
+        ScheduledFuture<?> renewal = schedulerLeaseManager.startRenewal(job, lease);
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            schedulerLeaseManager.recordSuccess(job, Duration.ofNanos(System.nanoTime() - start));
+            return result;
+        } catch (Throwable e) {
+            schedulerLeaseManager.recordFailure(job);
+            throw e;
+        } finally {
+            renewal.cancel(false);
+        }
+    }
+}
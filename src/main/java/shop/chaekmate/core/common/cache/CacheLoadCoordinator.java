@@ -0,0 +1,103 @@
+package shop.chaekmate.core.common.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 캐시 미스 시 노드 간 single-flight 와 만료 전 갱신(stale-while-revalidate)을 담당
+ * <ul>
+ *     <li>cache:lock:{캐시}:{키} - 원본을 다시 조회하는 노드 하나만 잡는 락 (SET NX PX)</li>
+ *     <li>cache:fresh:{캐시}:{키} - refreshAfter 동안만 존재, 없으면 락을 잡은 다음 조회 하나가 갱신</li>
+ * </ul>
+ */
+@Slf4j
+public class CacheLoadCoordinator {
+
+    private static final Duration LOCK_TTL = Duration.ofSeconds(10L);
+    private static final long WAIT_INTERVAL_MILLIS = 50L;
+    private static final long MAX_WAIT_MILLIS = 3_000L;
+
+    // 자신이 잡은 락만 해제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    public CacheLoadCoordinator(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public boolean tryLock(String cacheName, Object key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), owner, LOCK_TTL));
+        } catch (Exception e) {
+            // Redis 장애 시 각자 조회
+            log.warn("[Cache] 캐시 락 획득 실패 cache={}, key={}", cacheName, key, e);
+            return true;
+        }
+    }
+
+    public void unlock(String cacheName, Object key) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey(cacheName, key)), owner);
+        } catch (Exception e) {
+            log.warn("[Cache] 캐시 락 해제 실패 cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    /**
+     * 다른 노드가 채워 넣을 때까지 잠시 기다림
+     *
+     * @return 기다리는 동안 채워지지 않으면 null
+     */
+    public ValueWrapper awaitValue(Supplier<ValueWrapper> lookup) {
+        long deadline = System.currentTimeMillis() + MAX_WAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(WAIT_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            ValueWrapper value = lookup.get();
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    public boolean isFresh(String cacheName, Object key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(freshKey(cacheName, key)));
+        } catch (Exception e) {
+            return true;
+        }
+    }
+
+    public void markFresh(String cacheName, Object key, Duration refreshAfter) {
+        try {
+            redisTemplate.opsForValue().set(freshKey(cacheName, key), "1", refreshAfter);
+        } catch (Exception e) {
+            log.warn("[Cache] 캐시 갱신 시각 기록 실패 cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    private String lockKey(String cacheName, Object key) {
+        return "cache:lock:" + cacheName + ":" + key;
+    }
+
+    private String freshKey(String cacheName, Object key) {
+        return "cache:fresh:" + cacheName + ":" + key;
+    }
+}
@@ -0,0 +1,16 @@
+package shop.chaekmate.core.common.cache;
+
+import java.util.Set;
+
+/**
+ * 캐시 엔트리에 태그를 붙여 태그 단위로 무효화할 수 있게 함
+ * <p>
+ * put 시점에 태그별로 캐시 키를 Redis set 에 기록하고,
+ * {@link TwoLevelCacheManager#evictTagged} 로 해당 태그가 붙은 키만 비운다.
+ */
+public interface CacheTagResolver {
+
+    boolean supports(String cacheName);
+
+    Set<String> resolveTags(Object key, Object value);
+}
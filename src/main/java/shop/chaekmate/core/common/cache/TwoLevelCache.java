@@ -0,0 +1,220 @@
+package shop.chaekmate.core.common.cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import org.springframework.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * 로컬 캐시(L1) + Redis 캐시(L2)
+ * <ul>
+ *     <li>조회: L1 → L2 → 원본 순서로 찾고, 아래 단계에서 찾은 값은 L1 에 채운다.</li>
+ *     <li>변경: L2 를 먼저 반영한 뒤 L1 을 갱신하고, 다른 노드의 L1 무효화를 발행한다.</li>
+ *     <li>{@code @Cacheable(sync = true)} 조회는 노드 안에서는 키별 적재 future, 노드 간에는 Redis 락으로 키당 한 번만 원본을 조회한다.</li>
+ *     <li>원본 조회는 Caffeine compute 밖에서 실행한다 (다른 키를 막거나 재귀 갱신 예외가 나지 않게).</li>
+ *     <li>refreshAfter 가 지난 L2 값은 락을 잡은 조회 하나만 자신의 로더로 갱신하고, 나머지는 기존 값을 그대로 돌려받는다.</li>
+ * </ul>
+ * L1 에는 null 도 담을 수 있도록 {@link ValueWrapper} 를 저장한다.
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> localCache;
+    private final Cache remoteCache;
+    private final BiConsumer<String, Object> invalidationPublisher;
+    private final BiConsumer<Object, Object> putListener;
+    private final CacheLoadCoordinator loadCoordinator;
+    private final Duration refreshAfter;
+
+    // 이 노드에서 원본을 적재 중인 키
+    private final ConcurrentMap<Object, CompletableFuture<ValueWrapper>> loading = new ConcurrentHashMap<>();
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> localCache,
+                         Cache remoteCache,
+                         BiConsumer<String, Object> invalidationPublisher,
+                         BiConsumer<Object, Object> putListener,
+                         CacheLoadCoordinator loadCoordinator,
+                         Duration refreshAfter) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.putListener = putListener;
+        this.loadCoordinator = loadCoordinator;
+        this.refreshAfter = refreshAfter;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = localCache.getIfPresent(key);
+        if (wrapper != null) {
+            return wrapper;
+        }
+
+        wrapper = remoteCache.get(key);
+        if (wrapper != null) {
+            localCache.put(key, new SimpleValueWrapper(wrapper.get()));
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = localCache.getIfPresent(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        // 같은 노드의 동시 미스는 먼저 온 조회 하나만 적재하고 나머지는 그 결과를 기다림
+        CompletableFuture<ValueWrapper> mine = new CompletableFuture<>();
+        CompletableFuture<ValueWrapper> inFlight = loading.putIfAbsent(key, mine);
+        if (inFlight != null) {
+            return (T) awaitLoading(inFlight).get();
+        }
+
+        try {
+            ValueWrapper loaded = new SimpleValueWrapper(loadThrough(key, valueLoader));
+            localCache.put(key, loaded);
+            mine.complete(loaded);
+            return (T) loaded.get();
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        storeRemote(key, value);
+        localCache.put(key, new SimpleValueWrapper(value));
+        invalidationPublisher.accept(name, key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        localCache.invalidate(key);
+        invalidationPublisher.accept(name, key);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.accept(name, null);
+    }
+
+    private <T> Object loadThrough(Object key, Callable<T> valueLoader) {
+        ValueWrapper remote = remoteCache.get(key);
+        if (remote != null) {
+            return refreshIfStale(key, remote, valueLoader);
+        }
+
+        // 노드 간 single-flight: 락을 잡은 노드만 원본 조회, 나머지는 채워질 때까지 대기
+        if (loadCoordinator.tryLock(name, key)) {
+            try {
+                return loadAndStore(key, valueLoader);
+            } finally {
+                loadCoordinator.unlock(name, key);
+            }
+        }
+
+        ValueWrapper loaded = loadCoordinator.awaitValue(() -> remoteCache.get(key));
+        if (loaded != null) {
+            return loaded.get();
+        }
+        return loadAndStore(key, valueLoader);
+    }
+
+    // 로더는 이번 조회에서만 유효하므로, 락을 잡은 조회가 직접 갱신하고 실패하면 기존 값을 돌려줌
+    private <T> Object refreshIfStale(Object key, ValueWrapper remote, Callable<T> valueLoader) {
+        if (refreshAfter == null || loadCoordinator.isFresh(name, key) || !loadCoordinator.tryLock(name, key)) {
+            return remote.get();
+        }
+
+        try {
+            Object value = loadAndStore(key, valueLoader);
+            invalidationPublisher.accept(name, key);
+            return value;
+        } catch (RuntimeException e) {
+            log.warn("[Cache] 만료 전 갱신 실패, 기존 값 사용 cache={}, key={}", name, key, e);
+            return remote.get();
+        } finally {
+            loadCoordinator.unlock(name, key);
+        }
+    }
+
+    private ValueWrapper awaitLoading(CompletableFuture<ValueWrapper> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> Object loadAndStore(Object key, Callable<T> valueLoader) {
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        storeRemote(key, value);
+        return value;
+    }
+
+    private void storeRemote(Object key, Object value) {
+        remoteCache.put(key, value);
+        if (refreshAfter != null) {
+            loadCoordinator.markFresh(name, key, refreshAfter);
+        }
+        putListener.accept(key, value);
+    }
+
+    // 다른 노드에서 발행한 무효화 반영
+    void evictLocal(Object key) {
+        localCache.invalidate(key);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+}
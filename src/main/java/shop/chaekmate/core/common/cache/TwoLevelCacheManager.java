@@ -0,0 +1,187 @@
+package shop.chaekmate.core.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import shop.chaekmate.core.common.config.CacheSpecProperties;
+
+/**
+ * {@link TwoLevelCache} 를 만드는 CacheManager
+ * <ul>
+ *     <li>캐시별 TTL, 로컬 최대 크기는 {@link CacheSpecProperties} 를 따른다.</li>
+ *     <li>put, evict, clear 는 Redis pub/sub 으로 다른 노드에 알려 각 노드의 로컬 캐시를 비운다.</li>
+ *     <li>캐시 미스와 만료 전 갱신은 {@link CacheLoadCoordinator} 로 노드 간 한 번만 원본을 조회한다.</li>
+ *     <li>{@link CacheTagResolver} 가 있는 캐시는 put 시 태그별 키 목록을 기록해 태그 단위로 무효화할 수 있다.</li>
+ *     <li>캐시별 hit/miss/load 지표를 level(local, remote) 태그로 구분해 actuator 에 노출한다.</li>
+ * </ul>
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private static final String DELIMITER = "|";
+    private static final String ALL_ENTRIES = "*";
+    private static final String TAG_KEY_PREFIX = "cache:tag:";
+
+    // 태그별 키 목록을 읽고 지우는 사이에 put 이 추가한 키를 잃지 않도록 한 번에 처리
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TAKE_TAGGED_KEYS_SCRIPT = new DefaultRedisScript<>("""
+            local keys = redis.call('SMEMBERS', KEYS[1])
+            redis.call('DEL', KEYS[1])
+            return keys
+            """, List.class);
+
+    private final RedisCacheManager redisCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final CacheSpecProperties cacheSpecProperties;
+    private final MeterRegistry meterRegistry;
+    private final List<CacheTagResolver> tagResolvers;
+    private final CacheLoadCoordinator loadCoordinator;
+
+    // 자신이 발행한 무효화 메시지는 무시
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                StringRedisTemplate redisTemplate,
+                                CacheSpecProperties cacheSpecProperties,
+                                MeterRegistry meterRegistry,
+                                List<CacheTagResolver> tagResolvers,
+                                CacheLoadCoordinator loadCoordinator) {
+        this.redisCacheManager = redisCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.cacheSpecProperties = cacheSpecProperties;
+        this.meterRegistry = meterRegistry;
+        this.tagResolvers = tagResolvers;
+        this.loadCoordinator = loadCoordinator;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * 태그가 붙은 엔트리만 비움 (다른 노드의 로컬 캐시도 함께 무효화)
+     */
+    public void evictTagged(String cacheName, Collection<String> tags) {
+        Cache cache = getCache(cacheName);
+
+        for (String tag : tags) {
+            String tagKey = TAG_KEY_PREFIX + cacheName + ":" + tag;
+            List<?> keys = redisTemplate.execute(TAKE_TAGGED_KEYS_SCRIPT, List.of(tagKey));
+
+            if (keys != null) {
+                keys.forEach(key -> cache.evict(key.toString()));
+            }
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + DELIMITER, 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+
+        if (ALL_ENTRIES.equals(parts[2])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        CacheSpecProperties.Spec spec = cacheSpecProperties.getSpec(name);
+
+        com.github.benmanes.caffeine.cache.Cache<Object, Cache.ValueWrapper> localCache = Caffeine.newBuilder()
+                .maximumSize(spec.getLocalMaxSize())
+                .expireAfterWrite(spec.getLocalTtl())
+                .recordStats()
+                .build();
+        RedisCache remoteCache = (RedisCache) redisCacheManager.getCache(name);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, name, "level", "local");
+        new RedisCacheMetrics(remoteCache, Tags.of("level", "remote")).bindTo(meterRegistry);
+
+        CacheTagResolver tagResolver = tagResolvers.stream()
+                .filter(resolver -> resolver.supports(name))
+                .findFirst()
+                .orElse(null);
+        BiConsumer<Object, Object> putListener = tagResolver == null
+                ? (key, value) -> { }
+                : (key, value) -> recordTags(name, spec.getTtl(), key, tagResolver.resolveTags(key, value));
+
+        return new TwoLevelCache(name, localCache, remoteCache, this::publishInvalidation, putListener,
+                loadCoordinator, spec.getRefreshAfter());
+    }
+
+    // 태그별 키 목록은 캐시 TTL 동안 유지 (put 마다 연장)
+    private void recordTags(String cacheName, Duration ttl, Object key, Set<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    for (String tag : tags) {
+                        String tagKey = TAG_KEY_PREFIX + cacheName + ":" + tag;
+                        operations.opsForSet().add(tagKey, key.toString());
+                        operations.expire(tagKey, ttl);
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("[Cache] 캐시 태그 기록 실패 cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    // 캐시 키는 문자열(SpEL key) 기준으로 전달, clear 는 "*"
+    private void publishInvalidation(String cacheName, Object key) {
+        String target = key != null ? key.toString() : ALL_ENTRIES;
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + DELIMITER + cacheName + DELIMITER + target);
+        } catch (Exception e) {
+            log.warn("[Cache] 로컬 캐시 무효화 발행 실패 cache={}, key={}", cacheName, target, e);
+        }
+    }
+}
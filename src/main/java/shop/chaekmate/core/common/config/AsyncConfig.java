@@ -0,0 +1,50 @@
+package shop.chaekmate.core.common.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 커밋 후 이벤트 리스너(@Async) 실행 풀
+ * <ul>
+ *     <li>MQ 발행, 랭킹/재고 풀/목록 캐시 반영을 요청 스레드가 아닌 고정 크기 풀에서 처리한다.</li>
+ *     <li>대기열이 가득 차면 호출한 스레드에서 바로 실행한다 (느려질 뿐 버리지 않음).</li>
+ * </ul>
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig implements AsyncConfigurer {
+
+    private static final int THREADS = 4;
+    private static final int QUEUE_SIZE = 1_000;
+
+    @Bean
+    public ThreadPoolTaskExecutor eventTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(THREADS);
+        executor.setMaxPoolSize(THREADS);
+        executor.setQueueCapacity(QUEUE_SIZE);
+        executor.setThreadNamePrefix("event-async-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return eventTaskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("[Async] {} 실행 실패", method.getName(), e);
+    }
+}
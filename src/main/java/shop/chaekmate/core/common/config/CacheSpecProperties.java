@@ -0,0 +1,32 @@
+package shop.chaekmate.core.common.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache")
+public class CacheSpecProperties {
+
+    private Spec defaults = new Spec();
+    private Map<String, Spec> specs = new HashMap<>();
+
+    public Spec getSpec(String cacheName) {
+        return specs.getOrDefault(cacheName, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private Duration ttl = Duration.ofHours(1L);        // Redis(L2) TTL
+        private Duration localTtl = Duration.ofMinutes(1L); // 로컬(L1) TTL
+        private long localMaxSize = 1000L;                  // 로컬(L1) 최대 엔트리 수
+        private Duration refreshAfter;                      // 이 시간이 지나면 다음 조회 하나가 갱신 (null 이면 사용 안 함)
+    }
+}
@@ -0,0 +1,24 @@
+package shop.chaekmate.core.common.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL/QueryDSL 에서 MySQL FULLTEXT 검색을 쓰기 위한 함수 등록
+ * <pre>
+ * function('match_against', title, author, publisher, :phrase) > 0
+ * </pre>
+ * META-INF/services 로 등록되며, FULLTEXT 인덱스가 있을 때만 호출된다 ({@code BookKeywordSearchRepository}).
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "match_against",
+                "match(?1, ?2, ?3) against (?4 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package shop.chaekmate.core.common.config;
 
-import org.springframework.cache.CacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,12 +14,19 @@ import org.springframework.data.redis.connection.lettuce.LettuceClientConfigurat
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericToStringSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import shop.chaekmate.core.common.cache.CacheLoadCoordinator;
+import shop.chaekmate.core.common.cache.CacheTagResolver;
+import shop.chaekmate.core.common.cache.TwoLevelCacheManager;
 
 @Configuration
 @EnableCaching
@@ -58,13 +66,46 @@ public class RedisConfig {
     }
 
 
+    // 로컬 캐시(L1) + Redis 캐시(L2)
     @Bean
-    public CacheManager cacheManager(LettuceConnectionFactory cf) {
+    public TwoLevelCacheManager cacheManager(LettuceConnectionFactory cf,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             CacheSpecProperties cacheSpecProperties,
+                                             MeterRegistry meterRegistry,
+                                             ObjectProvider<CacheTagResolver> tagResolvers,
+                                             CacheLoadCoordinator cacheLoadCoordinator) {
         RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
-                .entryTtl(Duration.ofHours(1L));
+                .entryTtl(cacheSpecProperties.getDefaults().getTtl());
 
-        return RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(cf).cacheDefaults(redisCacheConfiguration).build();
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        cacheSpecProperties.getSpecs().forEach((name, spec) ->
+                cacheConfigurations.put(name, redisCacheConfiguration.entryTtl(spec.getTtl())));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(cf)
+                .cacheDefaults(redisCacheConfiguration)
+                .withInitialCacheConfigurations(cacheConfigurations)
+                .enableStatistics()
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate, cacheSpecProperties, meterRegistry,
+                tagResolvers.orderedStream().toList(), cacheLoadCoordinator);
+    }
+
+    @Bean
+    public CacheLoadCoordinator cacheLoadCoordinator(StringRedisTemplate stringRedisTemplate) {
+        return new CacheLoadCoordinator(stringRedisTemplate);
+    }
+
+    // 다른 노드의 캐시 변경 시 로컬 캐시 무효화
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return container;
     }
 }
@@ -0,0 +1,222 @@
+package shop.chaekmate.core.common.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 리스 기반 스케줄 작업 리더 선출
+ * <ul>
+ *     <li>scheduler:lease:{작업} - 리스를 가진 노드 id, 리더는 실행할 때마다 TTL 을 연장한다.</li>
+ *     <li>scheduler:last-success:{작업} - 마지막으로 성공한 시각(epoch millis), 모든 노드가 지연 지표 계산에 사용</li>
+ * </ul>
+ * 리더가 죽으면 리스가 만료된 뒤 다음 주기에 먼저 시도한 노드가 넘겨받는다.
+ * 실행 중에는 리스 유지 시간의 1/3 마다 TTL 을 연장해, 실행이 길어져도 다른 노드가 리스를 넘겨받지 않게 한다.
+ * 종료 시에는 가진 리스를 바로 반납해 재배포 중 공백을 줄인다.
+ * <p>
+ * 지표: scheduler.lease.held(이 노드가 리더면 1), scheduler.job.lag(마지막 성공 후 경과 시간),
+ * scheduler.job.duration, scheduler.job.failures - 모두 job 태그로 구분
+ */
+@Slf4j
+@Component
+public class SchedulerLeaseManager {
+
+    private static final String LEASE_KEY_PREFIX = "scheduler:lease:";
+    private static final String LAST_SUCCESS_KEY_PREFIX = "scheduler:last-success:";
+
+    // 비어 있으면 획득, 자신이 가진 리스면 연장
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local holder = redis.call('GET', KEYS[1])
+            if not holder then
+              redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+              return 1
+            end
+            if holder == ARGV[1] then
+              redis.call('PEXPIRE', KEYS[1], ARGV[2])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 자신이 가진 리스만 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    // 자신이 가진 리스만 반납
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, JobState> jobs = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService renewalExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "scheduler-lease-renewal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SchedulerLeaseManager(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean tryAcquire(String job, Duration lease) {
+        JobState state = state(job);
+
+        boolean held;
+        try {
+            held = Long.valueOf(1L).equals(redisTemplate.execute(ACQUIRE_SCRIPT, List.of(LEASE_KEY_PREFIX + job),
+                    nodeId, String.valueOf(lease.toMillis())));
+        } catch (Exception e) {
+            // Redis 장애 시 중복 실행보다 건너뛰는 쪽을 택함
+            log.warn("[Scheduler] 리스 획득 실패 job={}", job, e);
+            held = false;
+        }
+
+        if (state.held.getAndSet(held) != held) {
+            log.info("[Scheduler] 리스 {} job={}, node={}", held ? "획득" : "상실", job, nodeId);
+        }
+        if (!held) {
+            refreshLastSuccess(job, state);
+        }
+        return held;
+    }
+
+    /**
+     * 작업이 실행되는 동안 리스를 주기적으로 연장
+     *
+     * @return 작업이 끝나면 취소해야 하는 연장 작업
+     */
+    public ScheduledFuture<?> startRenewal(String job, Duration lease) {
+        long periodMillis = Math.max(lease.toMillis() / 3, 1_000L);
+        return renewalExecutor.scheduleAtFixedRate(() -> renew(job, lease),
+                periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 자신이 가진 리스의 TTL 연장
+     *
+     * @return 리스를 여전히 가지고 있으면 true
+     */
+    boolean renew(String job, Duration lease) {
+        JobState state = state(job);
+
+        try {
+            if (Long.valueOf(1L).equals(redisTemplate.execute(RENEW_SCRIPT, List.of(LEASE_KEY_PREFIX + job),
+                    nodeId, String.valueOf(lease.toMillis())))) {
+                return true;
+            }
+        } catch (Exception e) {
+            // 일시적인 장애면 다음 연장에서 다시 시도, 그 사이 만료되면 다음 연장이 실패로 드러남
+            log.warn("[Scheduler] 리스 연장 실패 job={}", job, e);
+            return state.held.get();
+        }
+
+        if (state.held.getAndSet(false)) {
+            log.warn("[Scheduler] 실행 중 리스 상실, 다른 노드와 겹쳐 실행될 수 있음 job={}, node={}", job, nodeId);
+        }
+        return false;
+    }
+
+    public void recordSuccess(String job, Duration elapsed) {
+        JobState state = state(job);
+        long now = System.currentTimeMillis();
+
+        state.lastSuccessMillis.set(now);
+        state.duration.record(elapsed);
+
+        try {
+            redisTemplate.opsForValue().set(LAST_SUCCESS_KEY_PREFIX + job, String.valueOf(now));
+        } catch (Exception e) {
+            log.warn("[Scheduler] 마지막 성공 시각 기록 실패 job={}", job, e);
+        }
+    }
+
+    public void recordFailure(String job) {
+        state(job).failures.increment();
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        renewalExecutor.shutdownNow();
+
+        jobs.forEach((job, state) -> {
+            if (!state.held.getAndSet(false)) {
+                return;
+            }
+
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY_PREFIX + job), nodeId);
+            } catch (Exception e) {
+                log.warn("[Scheduler] 리스 반납 실패 job={}", job, e);
+            }
+        });
+    }
+
+    // 리더가 아닌 노드도 지연 지표를 볼 수 있도록 리더가 기록한 시각을 가져옴
+    private void refreshLastSuccess(String job, JobState state) {
+        try {
+            String lastSuccess = redisTemplate.opsForValue().get(LAST_SUCCESS_KEY_PREFIX + job);
+            if (lastSuccess != null) {
+                state.lastSuccessMillis.set(Long.parseLong(lastSuccess));
+            }
+        } catch (Exception e) {
+            log.debug("[Scheduler] 마지막 성공 시각 조회 실패 job={}", job, e);
+        }
+    }
+
+    private JobState state(String job) {
+        return jobs.computeIfAbsent(job, this::register);
+    }
+
+    private JobState register(String job) {
+        JobState state = new JobState(
+                Timer.builder("scheduler.job.duration").tag("job", job).register(meterRegistry),
+                Counter.builder("scheduler.job.failures").tag("job", job).register(meterRegistry));
+
+        Gauge.builder("scheduler.lease.held", state, s -> s.held.get() ? 1 : 0)
+                .tag("job", job)
+                .register(meterRegistry);
+        TimeGauge.builder("scheduler.job.lag", state, TimeUnit.MILLISECONDS, s -> {
+                    long lastSuccess = s.lastSuccessMillis.get();
+                    return lastSuccess > 0 ? System.currentTimeMillis() - lastSuccess : Double.NaN;
+                })
+                .tag("job", job)
+                .register(meterRegistry);
+        return state;
+    }
+
+    private static class JobState {
+        private final AtomicBoolean held = new AtomicBoolean();
+        private final AtomicLong lastSuccessMillis = new AtomicLong();
+        private final Timer duration;
+        private final Counter failures;
+
+        private JobState(Timer duration, Counter failures) {
+            this.duration = duration;
+            this.failures = failures;
+        }
+    }
+}
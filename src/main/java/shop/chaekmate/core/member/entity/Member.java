@@ -58,6 +58,10 @@ public class Member extends BaseEntity {
     @Column(length = 20, nullable = false)
     private PlatformType platformType;
 
+    // 현재 등급 (최신 등급 이력의 grade_id, 적립 시 이력 정렬 없이 등급을 찾기 위함)
+    @Column(name = "current_grade_id")
+    private Long currentGradeId;
+
     public Member(String loginId, String password, String name, String phone, String email, LocalDate birthDate,
                   PlatformType platformType) {
         this.loginId = loginId;
@@ -68,4 +72,8 @@ public class Member extends BaseEntity {
         this.birthDate = birthDate;
         this.platformType = platformType;
     }
+
+    public void changeGrade(Long gradeId) {
+        this.currentGradeId = gradeId;
+    }
 }
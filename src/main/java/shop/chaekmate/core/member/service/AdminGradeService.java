@@ -1,6 +1,7 @@
 package shop.chaekmate.core.member.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import shop.chaekmate.core.member.dto.request.CreateGradeRequest;
@@ -16,6 +17,7 @@ import shop.chaekmate.core.member.repository.GradeRepository;
 public class AdminGradeService {
     private final GradeRepository gradeRepository;
 
+    @CacheEvict(value = "grades", allEntries = true)
     @Transactional
     public void updateGrade(Long gradeId, UpdateGradeRequest request) {
         Grade grade = gradeRepository.findById(gradeId).orElseThrow(GradeNotFoundException::new);
@@ -34,6 +36,7 @@ public class AdminGradeService {
         grade.update(request.name(), request.pointRate(), request.upgradeStandardAmount());
     }
 
+    @CacheEvict(value = "grades", allEntries = true)
     @Transactional
     public void createGrade(CreateGradeRequest request) {
         int upgradeStandardAmount = request.upgradeStandardAmount();
@@ -47,6 +50,7 @@ public class AdminGradeService {
         gradeRepository.save(grade);
     }
 
+    @CacheEvict(value = "grades", allEntries = true)
     @Transactional
     public void deleteGrade(Long gradeId) {
         Grade grade = gradeRepository.findById(gradeId)
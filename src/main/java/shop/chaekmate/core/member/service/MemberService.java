@@ -1,6 +1,7 @@
 package shop.chaekmate.core.member.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -63,6 +64,7 @@ public class MemberService {
         Member savedMember = memberRepository.save(member);
         Grade grade = gradeRepository.findByUpgradeStandardAmount(0).orElseThrow(GradeConfigurationException::new);
         MemberGradeHistory memberGradeHistory = new MemberGradeHistory(member, grade, "회원가입");
+        member.changeGrade(grade.getId());
         memberGradeHistoryRepository.save(memberGradeHistory);
 
         MemberResponse memberResponse = new MemberResponse(
@@ -124,6 +126,8 @@ public class MemberService {
         return new GradeResponse(gradeId, name, pointRate, upgradeStandardAmount);
     }
 
+    // 등급 표는 거의 바뀌지 않으므로 캐시 (AdminGradeService 변경 시 무효화)
+    @Cacheable(value = "grades", key = "'all'", sync = true)
     public List<GradeResponse> getAllGrades() {
         return gradeRepository.findAllByOrderByPointRate().stream().map(GradeResponse::from).toList();
     }
@@ -134,5 +138,6 @@ public class MemberService {
         Grade grade = gradeRepository.findByName(request.gradeName()).orElseThrow(GradeNotFoundException::new);
         String reason = request.reason();
         memberGradeHistoryRepository.save(new MemberGradeHistory(member, grade, reason));
+        member.changeGrade(grade.getId());
     }
 }
@@ -0,0 +1,32 @@
+package shop.chaekmate.core.order.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shop.chaekmate.core.book.event.BookSalesEvent;
+import shop.chaekmate.core.order.service.StockReservationService;
+
+/**
+ * 트랜잭션 결과에 따라 재고 선점 해제
+ * <ul>
+ *     <li>결제 성공: DB 재고 차감이 커밋된 뒤 해제 (커밋 전에 해제하면 그 사이 다른 주문이 같은 재고를 선점할 수 있음)</li>
+ *     <li>주문 생성 실패: 선점 후 주문 트랜잭션이 롤백되면 해제 (없는 주문의 선점이 만료까지 재고를 잡고 있지 않게)</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class StockReservationEventListener {
+
+    private final StockReservationService stockReservationService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookSales(BookSalesEvent event) {
+        stockReservationService.release(event.orderNumber());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void handleStockReserved(StockReservedEvent event) {
+        stockReservationService.release(event.orderNumber());
+    }
+}
@@ -0,0 +1,7 @@
+package shop.chaekmate.core.order.event;
+
+// 주문 생성 트랜잭션 안에서 재고를 선점함 (트랜잭션이 롤백되면 선점 해제)
+public record StockReservedEvent(
+        String orderNumber
+) {
+}
@@ -0,0 +1,93 @@
+package shop.chaekmate.core.order.repository;
+
+import static shop.chaekmate.core.order.entity.QOrder.order;
+import static shop.chaekmate.core.order.entity.QOrderedBook.orderedBook;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.StringUtils;
+import shop.chaekmate.core.order.entity.Order;
+import shop.chaekmate.core.order.entity.type.OrderedBookStatusType;
+
+@RequiredArgsConstructor
+public class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Page<Order> searchNonMemberOrder(String orderNumber, String ordererName, String ordererPhone,
+                                            Pageable pageable) {
+        // 조건이 하나도 없으면 전체 주문이 노출되므로 조회하지 않음
+        if (!StringUtils.hasText(orderNumber) && !StringUtils.hasText(ordererName)
+                && !StringUtils.hasText(ordererPhone)) {
+            return Page.empty(pageable);
+        }
+
+        BooleanExpression[] conditions = {
+                orderNumberEq(orderNumber),
+                ordererNameEq(ordererName),
+                ordererPhoneEq(ordererPhone),
+                hasPaidBook()
+        };
+
+        return fetchPage(conditions, pageable);
+    }
+
+    @Override
+    public Page<Order> findMemberOrders(Long memberId, Pageable pageable) {
+        BooleanExpression[] conditions = {
+                order.member.id.eq(memberId),
+                hasPaidBook()
+        };
+
+        return fetchPage(conditions, pageable);
+    }
+
+    private Page<Order> fetchPage(BooleanExpression[] conditions, Pageable pageable) {
+        List<Order> content = queryFactory
+                .selectFrom(order)
+                .where(conditions)
+                .orderBy(order.createdAt.desc(), order.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(order.count())
+                .from(order)
+                .where(conditions);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    // 결제 전/결제 실패 상품만 있는 주문은 주문 내역에서 제외
+    private BooleanExpression hasPaidBook() {
+        return JPAExpressions.selectOne()
+                .from(orderedBook)
+                .where(
+                        orderedBook.order.id.eq(order.id),
+                        orderedBook.unitStatus.notIn(OrderedBookStatusType.PAYMENT_READY,
+                                OrderedBookStatusType.PAYMENT_FAILED)
+                )
+                .exists();
+    }
+
+    private BooleanExpression orderNumberEq(String orderNumber) {
+        return StringUtils.hasText(orderNumber) ? order.orderNumber.eq(orderNumber) : null;
+    }
+
+    private BooleanExpression ordererNameEq(String ordererName) {
+        return StringUtils.hasText(ordererName) ? order.ordererName.eq(ordererName) : null;
+    }
+
+    private BooleanExpression ordererPhoneEq(String ordererPhone) {
+        return StringUtils.hasText(ordererPhone) ? order.ordererPhone.eq(ordererPhone) : null;
+    }
+}
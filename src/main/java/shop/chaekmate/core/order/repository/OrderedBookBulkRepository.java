@@ -0,0 +1,76 @@
+package shop.chaekmate.core.order.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import shop.chaekmate.core.order.entity.OrderedBook;
+
+/**
+ * 주문 상품 일괄 저장
+ * <ul>
+ *     <li>ordered_book 은 IDENTITY 라 JPA 로 저장하면 행마다 INSERT 가 나가므로, 여러 행 INSERT 한 번으로 저장한다.</li>
+ *     <li>저장 후 주문 상품 id 는 사용하지 않으므로 AUTO_INCREMENT 를 그대로 쓴다.</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderedBookBulkRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_PREFIX = "INSERT INTO ordered_book (order_id, book_id, quantity, original_price, "
+            + "sales_price, discount_price, wrapper_id, wrapper_price, issued_coupon_id, coupon_discount, point_used, "
+            + "final_unit_price, total_price, unit_status, created_at, updated_at) VALUES ";
+    private static final String VALUES = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 16;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 영속화되지 않은 주문 상품을 저장 (주문, 도서, 포장지는 이미 저장된 엔티티여야 함)
+     *
+     * @return 저장된 행 수
+     */
+    public int insertAll(List<OrderedBook> orderedBooks) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int inserted = 0;
+        for (int from = 0; from < orderedBooks.size(); from += CHUNK_SIZE) {
+            List<OrderedBook> chunk = orderedBooks.subList(from, Math.min(from + CHUNK_SIZE, orderedBooks.size()));
+            inserted += insertChunk(chunk, now);
+        }
+        return inserted;
+    }
+
+    // 청크 하나를 INSERT 한 번으로 저장
+    private int insertChunk(List<OrderedBook> chunk, Timestamp now) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        Object[] args = new Object[chunk.size() * COLUMN_COUNT];
+
+        int i = 0;
+        for (OrderedBook ob : chunk) {
+            sql.append(i == 0 ? VALUES : ", " + VALUES);
+            args[i++] = ob.getOrder().getId();
+            args[i++] = ob.getBook().getId();
+            args[i++] = ob.getQuantity();
+            args[i++] = ob.getOriginalPrice();
+            args[i++] = ob.getSalesPrice();
+            args[i++] = ob.getDiscountPrice();
+            args[i++] = ob.getWrapper() != null ? ob.getWrapper().getId() : null;
+            args[i++] = ob.getWrapperPrice();
+            args[i++] = ob.getIssuedCouponId();
+            args[i++] = ob.getCouponDiscount();
+            args[i++] = ob.getPointUsed();
+            args[i++] = ob.getFinalUnitPrice();
+            args[i++] = ob.getTotalPrice();
+            args[i++] = ob.getUnitStatus().name();
+            args[i++] = now;
+            args[i++] = now;
+        }
+
+        return jdbcTemplate.update(sql.toString(), args);
+    }
+}
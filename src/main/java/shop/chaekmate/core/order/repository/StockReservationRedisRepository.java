@@ -0,0 +1,150 @@
+package shop.chaekmate.core.order.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 주문별 재고 선점(hold)
+ * <ul>
+ *     <li>stock:reserved:{bookId} - 도서별 선점 수량 합계 (INCRBY/DECRBY 라 인기 도서에 선점이 몰려도 DB 행 잠금이 없음)</li>
+ *     <li>stock:hold:{orderNumber} - 해시, field=도서 id, value=선점 수량</li>
+ *     <li>stock:hold:expiry - 정렬 집합, member=주문번호, score=만료 시각(ms), 스위퍼가 만료된 선점을 해제</li>
+ * </ul>
+ * 선점 해시에는 Redis TTL 을 걸지 않는다. 해시만 사라지면 합계가 줄지 않으므로 해제는 항상 스크립트로 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockReservationRedisRepository {
+
+    private static final String RESERVED_KEY_PREFIX = "stock:reserved:";
+    private static final String HOLD_KEY_PREFIX = "stock:hold:";
+    private static final String EXPIRY_KEY = "stock:hold:expiry";
+
+    /*
+     * KEYS[1] = 선점 해시, KEYS[2] = 만료 집합, KEYS[3..] = 도서별 선점 합계
+     * ARGV[1] = 주문번호, ARGV[2] = 만료 시각, ARGV[3..] = (도서 id, 수량, DB 재고) 세 개씩
+     * 하나라도 (선점 합계 + 수량) > DB 재고 이면 아무것도 선점하지 않고 그 도서 id 반환, 성공(또는 이미 선점됨)이면 0
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+              return 0
+            end
+            for i = 3, #KEYS do
+              local base = 3 + (i - 3) * 3
+              local reserved = tonumber(redis.call('GET', KEYS[i]) or '0')
+              if reserved + tonumber(ARGV[base + 1]) > tonumber(ARGV[base + 2]) then
+                return tonumber(ARGV[base])
+              end
+            end
+            for i = 3, #KEYS do
+              local base = 3 + (i - 3) * 3
+              redis.call('INCRBY', KEYS[i], ARGV[base + 1])
+              redis.call('HSET', KEYS[1], ARGV[base], ARGV[base + 1])
+            end
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+            return 0
+            """, Long.class);
+
+    /*
+     * KEYS[1] = 선점 해시, KEYS[2] = 만료 집합, ARGV[1] = 주문번호, ARGV[2] = "stock:reserved:"
+     * ARGV[3] = 이 시각 이전에 만료된 선점만 해제 (빈 문자열이면 무조건 해제), 해제한 도서 수 반환
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local expireAt = redis.call('ZSCORE', KEYS[2], ARGV[1])
+            if ARGV[3] ~= '' and expireAt and tonumber(expireAt) > tonumber(ARGV[3]) then
+              return 0
+            end
+            local entries = redis.call('HGETALL', KEYS[1])
+            for i = 1, #entries, 2 do
+              local key = ARGV[2] .. entries[i]
+              if redis.call('DECRBY', key, entries[i + 1]) <= 0 then
+                redis.call('DEL', key)
+              end
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            return #entries / 2
+            """, Long.class);
+
+    // 선점이 남아 있으면 만료 시각 연장 (KEYS[1] = 선점 해시, KEYS[2] = 만료 집합), 없으면 0
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return 0
+            end
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 주문 수량을 한 번에 선점 (전부 선점하거나 하나도 하지 않음)
+     *
+     * @param quantities 도서 id → 수량
+     * @param stocks 도서 id → DB 재고
+     * @return 재고가 부족한 도서 id, 선점했거나 이미 선점되어 있으면 null
+     */
+    public Long reserve(String orderNumber, Map<Long, Integer> quantities, Map<Long, Integer> stocks,
+                        long expireAtMillis) {
+        List<String> keys = new ArrayList<>(quantities.size() + 2);
+        keys.add(HOLD_KEY_PREFIX + orderNumber);
+        keys.add(EXPIRY_KEY);
+
+        List<String> args = new ArrayList<>(quantities.size() * 3 + 2);
+        args.add(orderNumber);
+        args.add(String.valueOf(expireAtMillis));
+
+        quantities.forEach((bookId, quantity) -> {
+            keys.add(RESERVED_KEY_PREFIX + bookId);
+            args.add(bookId.toString());
+            args.add(quantity.toString());
+            args.add(String.valueOf(stocks.getOrDefault(bookId, 0)));
+        });
+
+        Long result = redisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+        return Objects.isNull(result) || result == 0L ? null : result;
+    }
+
+    // 선점 해제 (없으면 아무것도 하지 않음)
+    public boolean release(String orderNumber) {
+        return releaseIfExpired(orderNumber, "") > 0;
+    }
+
+    // 만료 시각이 지난 선점만 해제 (스위퍼와 연장이 겹쳐도 연장된 선점은 남음)
+    public long releaseExpired(String orderNumber, long nowMillis) {
+        return releaseIfExpired(orderNumber, String.valueOf(nowMillis));
+    }
+
+    public boolean extend(String orderNumber, long expireAtMillis) {
+        Long result = redisTemplate.execute(EXTEND_SCRIPT, List.of(HOLD_KEY_PREFIX + orderNumber, EXPIRY_KEY),
+                orderNumber, String.valueOf(expireAtMillis));
+        return Objects.nonNull(result) && result == 1L;
+    }
+
+    // 만료 시각이 지난 주문번호를 오래된 순으로 조회
+    public Set<String> findExpiredOrderNumbers(long nowMillis, int limit) {
+        Set<String> orderNumbers = redisTemplate.opsForZSet().rangeByScore(EXPIRY_KEY, 0, nowMillis, 0, limit);
+        return orderNumbers != null ? orderNumbers : Set.of();
+    }
+
+    // 도서의 현재 선점 수량 합계
+    public long findReserved(Long bookId) {
+        String reserved = redisTemplate.opsForValue().get(RESERVED_KEY_PREFIX + bookId);
+        return reserved != null ? Long.parseLong(reserved) : 0L;
+    }
+
+    private long releaseIfExpired(String orderNumber, String nowMillis) {
+        Long released = redisTemplate.execute(RELEASE_SCRIPT, List.of(HOLD_KEY_PREFIX + orderNumber, EXPIRY_KEY),
+                orderNumber, RESERVED_KEY_PREFIX, nowMillis);
+        return Objects.nonNull(released) ? released : 0L;
+    }
+}
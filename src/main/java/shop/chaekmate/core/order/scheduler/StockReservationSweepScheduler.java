@@ -0,0 +1,32 @@
+package shop.chaekmate.core.order.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.chaekmate.core.common.annotation.LeaderOnly;
+import shop.chaekmate.core.order.service.StockReservationService;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class StockReservationSweepScheduler {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final StockReservationService stockReservationService;
+
+    // 10초마다 결제 대기 시간이 지난 재고 선점 해제
+    @Scheduled(fixedDelay = 10_000)
+    @LeaderOnly(value = "stock-reservation-sweep", leaseSeconds = 60)
+    public void releaseExpiredReservations() {
+        try {
+            int released = stockReservationService.releaseExpired(BATCH_SIZE);
+            if (released > 0) {
+                log.info("[StockReservation] 만료된 재고 선점 {}건 해제", released);
+            }
+        } catch (Exception e) {
+            log.error("[StockReservation] 만료된 재고 선점 해제 실패", e);
+        }
+    }
+}
@@ -1,18 +1,24 @@
 package shop.chaekmate.core.order.service;
 
 import com.aventrix.jnanoid.jnanoid.NanoIdUtils;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import shop.chaekmate.core.book.entity.Book;
+import shop.chaekmate.core.book.event.BookSalesEvent;
 import shop.chaekmate.core.book.exception.BookNotFoundException;
 import shop.chaekmate.core.book.exception.InsufficientStockException;
 import shop.chaekmate.core.book.repository.BookRepository;
+import shop.chaekmate.core.book.repository.BookStockRepository;
 import shop.chaekmate.core.member.entity.Member;
 import shop.chaekmate.core.member.repository.MemberRepository;
 import shop.chaekmate.core.order.dto.request.OrderSaveRequest;
@@ -21,11 +27,14 @@ import shop.chaekmate.core.order.dto.response.OrderSaveResponse;
 import shop.chaekmate.core.order.entity.Order;
 import shop.chaekmate.core.order.entity.OrderedBook;
 import shop.chaekmate.core.order.entity.Wrapper;
+import shop.chaekmate.core.order.event.StockReservedEvent;
 import shop.chaekmate.core.order.exception.WrapperNotFoundException;
 import shop.chaekmate.core.order.repository.OrderRepository;
+import shop.chaekmate.core.order.repository.OrderedBookBulkRepository;
 import shop.chaekmate.core.order.repository.OrderedBookRepository;
 import shop.chaekmate.core.order.repository.WrapperRepository;
 import shop.chaekmate.core.payment.dto.response.impl.PaymentApproveResponse;
+import shop.chaekmate.core.payment.event.PaymentApprovedEvent;
 import shop.chaekmate.core.payment.exception.NotFoundOrderNumberException;
 import shop.chaekmate.core.point.exception.MemberNotFoundException;
 
@@ -36,21 +45,59 @@ public class OrderService {
 
     private final MemberRepository memberRepository;
     private final BookRepository bookRepository;
+    private final BookStockRepository bookStockRepository;
     private final WrapperRepository wrapperRepository;
     private final OrderRepository orderRepository;
     private final OrderedBookRepository orderedBookRepository;
-
+    private final OrderedBookBulkRepository orderedBookBulkRepository;
+    private final StockReservationService stockReservationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 주문 생성 (주문 상품 수와 관계없이 쿼리 수 일정)
+     * <ul>
+     *     <li>도서, 포장지는 각각 한 번에 조회하고 재고는 메모리에서 검증 (같은 도서가 여러 줄이면 수량 합산)</li>
+     *     <li>주문 상품은 여러 행 INSERT 로 한 번에 저장</li>
+     *     <li>결제 대기 시간 동안 주문 수량을 선점 (다른 주문의 선점을 빼고 재고가 부족하면 주문 실패)</li>
+     *     <li>선점 후 주문 트랜잭션이 롤백되면 StockReservationEventListener 가 선점을 해제</li>
+     * </ul>
+     */
     @Transactional
     public OrderSaveResponse createOrder(Long memberId, OrderSaveRequest request) {
 
-        //예외 검증
-        for (OrderedBookSaveRequest item : request.orderedBooks()) {
+        List<OrderedBookSaveRequest> items = request.orderedBooks();
+
+        Map<Long, Integer> quantities = new HashMap<>();
+        Set<Long> wrapperIds = new HashSet<>();
+        for (OrderedBookSaveRequest item : items) {
+            quantities.merge(item.bookId(), item.quantity(), Integer::sum);
+            if (item.wrapperId() != null) {
+                wrapperIds.add(item.wrapperId());
+            }
+        }
 
-            Book book = bookRepository.findById(item.bookId()).orElseThrow(BookNotFoundException::new);
+        Map<Long, Book> bookMap = bookRepository.findAllById(quantities.keySet())
+                .stream()
+                .collect(Collectors.toMap(Book::getId, b -> b));
 
-            if (!book.hasStock(item.quantity())) {
+        Map<Long, Wrapper> wrapperMap = wrapperIds.isEmpty()
+                ? Map.of()
+                : wrapperRepository.findAllById(wrapperIds)
+                        .stream()
+                        .collect(Collectors.toMap(Wrapper::getId, w -> w));
+
+        //예외 검증
+        quantities.forEach((bookId, quantity) -> {
+            Book book = bookMap.get(bookId);
+            if (book == null) {
+                throw new BookNotFoundException();
+            }
+            if (!book.hasStock(quantity)) {
                 throw new InsufficientStockException();
             }
+        });
+        if (wrapperMap.size() != wrapperIds.size()) {
+            throw new WrapperNotFoundException();
         }
 
         //주문번호
@@ -63,25 +110,6 @@ public class OrderService {
             member = memberRepository.findById(memberId).orElseThrow(MemberNotFoundException::new);
         }
 
-        List<Long> bookIds = request.orderedBooks().stream()
-                .map(OrderedBookSaveRequest::bookId)
-                .toList();
-
-        List<Long> wrapperIds = request.orderedBooks().stream()
-                .map(OrderedBookSaveRequest::wrapperId)
-                .filter(Objects::nonNull)
-                .toList();
-
-        Map<Long, Book> bookMap = bookRepository.findAllById(bookIds)
-                .stream()
-                .collect(Collectors.toMap(Book::getId, b -> b));
-
-        Map<Long, Wrapper> wrapperMap = wrapperIds.isEmpty()
-                ? Map.of()
-                : wrapperRepository.findAllById(wrapperIds)
-                        .stream()
-                        .collect(Collectors.toMap(Wrapper::getId, w -> w));
-
         Order order = Order.createOrderReady(
                 member,
                 orderNumber,
@@ -101,24 +129,13 @@ public class OrderService {
 
         Order savedOrder = orderRepository.save(order);
 
-        for (OrderedBookSaveRequest obRequest : request.orderedBooks()) {
-
-            Book book = bookMap.get(obRequest.bookId());
-            if (book == null) {
-                throw new BookNotFoundException();
-            }
-
-            Wrapper wrapper = null;
-            if (obRequest.wrapperId() != null) {
-                wrapper = wrapperMap.get(obRequest.wrapperId());
-                if (wrapper == null) {
-                    throw new WrapperNotFoundException();
-                }
-            }
+        List<OrderedBook> orderedBooks = new ArrayList<>(items.size());
+        for (OrderedBookSaveRequest obRequest : items) {
+            Wrapper wrapper = obRequest.wrapperId() != null ? wrapperMap.get(obRequest.wrapperId()) : null;
 
-            OrderedBook orderedBook = OrderedBook.createOrderDetailReady(
+            orderedBooks.add(OrderedBook.createOrderDetailReady(
                     savedOrder,
-                    book,
+                    bookMap.get(obRequest.bookId()),
                     obRequest.quantity(),
                     obRequest.originalPrice(),
                     obRequest.salesPrice(),
@@ -129,45 +146,88 @@ public class OrderService {
                     obRequest.couponDiscount(),
                     obRequest.pointUsed(),
                     obRequest.finalUnitPrice()
-            );
-
-            orderedBookRepository.save(orderedBook);
+            ));
         }
 
+        orderedBookBulkRepository.insertAll(orderedBooks);
+
+        Map<Long, Integer> stocks = new HashMap<>();
+        bookMap.forEach((bookId, book) -> stocks.put(bookId, book.getStock()));
+        stockReservationService.reserve(orderNumber, quantities, stocks);
+        // 커밋 전에 잡은 선점이므로 주문이 롤백되면 해제
+        eventPublisher.publishEvent(new StockReservedEvent(orderNumber));
+
         return new OrderSaveResponse(orderNumber, request.totalPrice());
     }
 
+    /**
+     * 결제 승인 전 재고 확인
+     * <ul>
+     *     <li>선점이 남아 있으면 만료 시각만 연장</li>
+     *     <li>선점이 만료되었으면 도서를 한 번에 조회해 다시 선점</li>
+     * </ul>
+     */
     @Transactional(readOnly = true)
     public void verifyOrderStock(String orderNumber) {
+        if (stockReservationService.extend(orderNumber)) {
+            return;
+        }
+
         Order order = orderRepository.findByOrderNumber(orderNumber).orElseThrow(NotFoundOrderNumberException::new);
 
-        List<OrderedBook> items = orderedBookRepository.findByOrder(order);
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (OrderedBook item : orderedBookRepository.findByOrder(order)) {
+            quantities.merge(item.getBook().getId(), item.getQuantity(), Integer::sum);
+        }
 
-        for (OrderedBook item : items) {
-            Book book = item.getBook();
+        Map<Long, Integer> stocks = new HashMap<>();
+        bookRepository.findAllById(quantities.keySet()).forEach(book -> stocks.put(book.getId(), book.getStock()));
 
-            if (!book.hasStock(item.getQuantity())) {
+        quantities.forEach((bookId, quantity) -> {
+            if (stocks.getOrDefault(bookId, 0) < quantity) {
                 log.info("Order stock for order number {} has unexpected quantity", orderNumber);
                 throw new InsufficientStockException();
             }
-        }
+        });
+
+        stockReservationService.reserve(orderNumber, quantities, stocks);
     }
 
+    /**
+     * 결제 성공 반영
+     * <ul>
+     *     <li>재고는 조건부 UPDATE 로 도서 id 순서대로 한 번에 차감 (도서 엔티티를 읽지 않음)</li>
+     *     <li>하나라도 재고가 부족하면 예외로 전체 롤백</li>
+     *     <li>결제 완료 후 같은 트랜잭션에서 승인 이벤트 발행 (포인트 처리 기록이 결제 완료된 주문과 함께 커밋/롤백)</li>
+     * </ul>
+     */
     @Transactional
-    public void applyPaymentSuccess(String orderNumber) {
+    public void applyPaymentSuccess(PaymentApproveResponse response) {
+        String orderNumber = response.orderNumber();
         Order order = orderRepository.findByOrderNumber(orderNumber).orElseThrow(NotFoundOrderNumberException::new);
 
         List<OrderedBook> orderedBooks = orderedBookRepository.findByOrder((order));
+        Map<Long, Integer> soldQuantities = new HashMap<>();
 
         for (OrderedBook item : orderedBooks) {
             item.markPaymentCompleted();
 
-            Book book = item.getBook();
-            book.decreaseStock(item.getQuantity());
-            log.info("책 주문 상태 {} {}", book.getId(), item.getUnitStatus());
+            // 프록시의 id 만 사용하므로 도서는 로딩되지 않음
+            soldQuantities.merge(item.getBook().getId(), item.getQuantity(), Integer::sum);
+        }
+
+        List<Long> shortage = bookStockRepository.decreaseStocks(soldQuantities);
+        if (!shortage.isEmpty()) {
+            log.warn("재고 부족으로 결제 반영 실패 주문번호={}, 도서={}", orderNumber, shortage);
+            throw new InsufficientStockException();
         }
 
         order.markPaymentSuccess();
+        eventPublisher.publishEvent(new PaymentApprovedEvent(response));
+
+        // 도서 카드 판매량, 랭킹 반영
+        Long memberId = order.getMember() != null ? order.getMember().getId() : null;
+        eventPublisher.publishEvent(new BookSalesEvent(orderNumber, memberId, soldQuantities));
         log.info("결제 및 주문 완료");
     }
 
@@ -182,6 +242,7 @@ public class OrderService {
         }
 
         order.markPaymentFailed();
+        stockReservationService.release(orderNumber);
         log.info("결제 및 주문 실패");
     }
 }
@@ -0,0 +1,98 @@
+package shop.chaekmate.core.order.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import shop.chaekmate.core.book.exception.InsufficientStockException;
+import shop.chaekmate.core.order.repository.StockReservationRedisRepository;
+
+/**
+ * 결제 대기 중인 주문의 재고 선점
+ * <ul>
+ *     <li>주문 생성 시 선점하고, 결제 실패 시 해제, 결제 성공 시 DB 차감이 커밋된 뒤 해제한다.</li>
+ *     <li>결제하지 않은 주문은 HOLD_TTL 이 지나면 스위퍼가 해제한다.</li>
+ *     <li>선점은 결제 전에 재고 부족을 걸러내는 용도이고, 최종 판단은 DB 조건부 차감(BookStockRepository)이 한다.
+ *     Redis 장애 시에는 선점 없이 진행한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    // 결제 대기 시간
+    public static final Duration HOLD_TTL = Duration.ofMinutes(15L);
+
+    private final StockReservationRedisRepository stockReservationRedisRepository;
+
+    /**
+     * 주문 수량 선점 (이미 선점된 주문이면 만료 시각만 연장)
+     *
+     * @param quantities 도서 id → 수량
+     * @param stocks 도서 id → DB 재고
+     * @throws InsufficientStockException 다른 주문의 선점을 제외한 재고가 부족한 경우
+     */
+    public void reserve(String orderNumber, Map<Long, Integer> quantities, Map<Long, Integer> stocks) {
+        Long shortageBookId;
+        try {
+            shortageBookId = stockReservationRedisRepository.reserve(orderNumber, quantities, stocks, expireAt());
+        } catch (DataAccessException e) {
+            log.warn("[StockReservation] 재고 선점 실패, DB 차감 시 검증 주문번호={}", orderNumber, e);
+            return;
+        }
+
+        if (shortageBookId != null) {
+            log.info("[StockReservation] 선점 재고 부족 주문번호={}, 도서={}", orderNumber, shortageBookId);
+            throw new InsufficientStockException();
+        }
+    }
+
+    /**
+     * 결제 직전 선점 만료 시각 연장
+     *
+     * @return 선점이 남아 있지 않으면 false (만료되었거나 Redis 장애)
+     */
+    public boolean extend(String orderNumber) {
+        try {
+            return stockReservationRedisRepository.extend(orderNumber, expireAt());
+        } catch (DataAccessException e) {
+            log.warn("[StockReservation] 선점 연장 실패 주문번호={}", orderNumber, e);
+            return false;
+        }
+    }
+
+    // 실패하면 스위퍼가 만료 후 해제
+    public void release(String orderNumber) {
+        try {
+            stockReservationRedisRepository.release(orderNumber);
+        } catch (DataAccessException e) {
+            log.warn("[StockReservation] 선점 해제 실패, 만료 후 해제 주문번호={}", orderNumber, e);
+        }
+    }
+
+    /**
+     * 만료된 선점 해제 (StockReservationSweepScheduler 가 주기적으로 호출)
+     *
+     * @return 해제한 주문 수
+     */
+    public int releaseExpired(int batchSize) {
+        long now = System.currentTimeMillis();
+        Set<String> orderNumbers = stockReservationRedisRepository.findExpiredOrderNumbers(now, batchSize);
+
+        int released = 0;
+        for (String orderNumber : orderNumbers) {
+            if (stockReservationRedisRepository.releaseExpired(orderNumber, now) > 0) {
+                released++;
+            }
+        }
+        return released;
+    }
+
+    private long expireAt() {
+        return System.currentTimeMillis() + HOLD_TTL.toMillis();
+    }
+}
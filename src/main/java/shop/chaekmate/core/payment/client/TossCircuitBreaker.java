@@ -0,0 +1,65 @@
+package shop.chaekmate.core.payment.client;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 결제사 호출 차단기
+ * <ul>
+ *     <li>CLOSED: 연속 장애가 FAILURE_THRESHOLD 번 나면 OPEN</li>
+ *     <li>OPEN: OPEN_DURATION 동안 호출하지 않고 바로 실패</li>
+ *     <li>HALF_OPEN: OPEN_DURATION 이 지나면 한 건만 시험 호출, 성공하면 CLOSED, 실패하면 다시 OPEN</li>
+ * </ul>
+ * 카드 거절 같은 결제사의 4xx 응답은 장애로 세지 않는다.
+ */
+public class TossCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probing = new AtomicBoolean();
+    private volatile long openUntil;
+
+    public TossCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDuration.toMillis();
+    }
+
+    // 호출 가능 여부, HALF_OPEN 에서는 한 건만 true
+    public boolean tryAcquire() {
+        if (openUntil == 0L) {
+            return true;
+        }
+        if (System.currentTimeMillis() < openUntil) {
+            return false;
+        }
+        return probing.compareAndSet(false, true);
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        openUntil = 0L;
+        probing.set(false);
+    }
+
+    public void onFailure() {
+        if (probing.compareAndSet(true, false)) {
+            openUntil = System.currentTimeMillis() + openDurationMillis;
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openUntil = System.currentTimeMillis() + openDurationMillis;
+        }
+    }
+
+    public State state() {
+        if (openUntil == 0L) {
+            return State.CLOSED;
+        }
+        return System.currentTimeMillis() < openUntil ? State.OPEN : State.HALF_OPEN;
+    }
+}
@@ -0,0 +1,173 @@
+package shop.chaekmate.core.payment.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import shop.chaekmate.core.payment.dto.response.ApiApproveResponse;
+import shop.chaekmate.core.payment.dto.response.ApiPaymentLookupResponse;
+import shop.chaekmate.core.payment.exception.PaymentResultUnknownException;
+
+/**
+ * 토스 결제 승인, 조회 API 호출
+ * <ul>
+ *     <li>동시 호출 수를 MAX_CONCURRENT_CALLS 로 제한 (결제사가 느려져도 요청 스레드가 모두 묶이지 않음)</li>
+ *     <li>응답은 CONFIRM_TIMEOUT 까지만 기다림</li>
+ *     <li>타임아웃, 연결 실패, 5xx 가 연속되면 차단기가 열려 바로 실패</li>
+ * </ul>
+ * 실패는 기존과 같이 "코드:메시지" 형식의 IllegalStateException 으로 알린다.
+ * 요청이 결제사에 닿았는지 알 수 없는 실패(응답 타임아웃, 5xx)는 {@link PaymentResultUnknownException} 으로 구분한다.
+ */
+@Slf4j
+@Component
+public class TossPaymentClient {
+
+    private static final int MAX_CONCURRENT_CALLS = 20;
+    private static final Duration CONFIRM_TIMEOUT = Duration.ofSeconds(10L);
+
+    private final WebClient webClient;
+    private final Semaphore permits = new Semaphore(MAX_CONCURRENT_CALLS);
+    private final TossCircuitBreaker circuitBreaker = new TossCircuitBreaker(5, Duration.ofSeconds(30L));
+
+    @Value("${toss.api.url}")
+    private String tossBaseUrl;
+
+    @Value("${toss.secret-key}")
+    private String tossSecretKey;
+
+    public TossPaymentClient(WebClient webClient, MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+
+        Gauge.builder("payment.toss.circuit.open", circuitBreaker, cb -> cb.state() == TossCircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("토스 결제 승인 차단기 열림 여부")
+                .register(meterRegistry);
+        Gauge.builder("payment.toss.in-flight", permits, p -> MAX_CONCURRENT_CALLS - p.availablePermits())
+                .description("진행 중인 토스 결제 승인 호출 수")
+                .register(meterRegistry);
+    }
+
+    public ApiApproveResponse confirm(String paymentKey, String orderNumber, long amount) {
+        if (!permits.tryAcquire()) {
+            throw new IllegalStateException("PAYMENT_PROVIDER_BUSY:결제 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            permits.release();
+            throw new IllegalStateException("PAYMENT_PROVIDER_UNAVAILABLE:결제사 응답이 원활하지 않습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        Map<String, Object> body = new HashMap<>(Map.of(
+                "paymentKey", paymentKey,
+                "orderId", orderNumber,
+                "amount", amount
+        ));
+
+        try {
+            ApiApproveResponse response = webClient.post()
+                    .uri(tossBaseUrl + "/payments/confirm")
+                    .header("Authorization", getAuthorization())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(body)
+                    .retrieve()
+                    .bodyToMono(ApiApproveResponse.class)
+                    .timeout(CONFIRM_TIMEOUT)
+                    .block();
+
+            circuitBreaker.onSuccess();
+            return response;
+
+        } catch (WebClientResponseException e) {
+            if (!e.getStatusCode().is5xxServerError()) {
+                circuitBreaker.onSuccess();
+                throw new IllegalStateException(parseErrorMessage(e));
+            }
+            // 결제사 내부 오류, 승인되었을 수 있음
+            circuitBreaker.onFailure();
+            log.error("[TOSS] 결제 승인 결과 불명 - 주문번호={}, 상태={}", orderNumber, e.getStatusCode());
+            throw new PaymentResultUnknownException();
+
+        } catch (WebClientRequestException e) {
+            circuitBreaker.onFailure();
+            if (e.getCause() instanceof ConnectException) {
+                // 연결 전에 실패했으므로 결제사에 요청이 가지 않음
+                log.error("[TOSS] 결제 승인 연결 실패 - 주문번호={}", orderNumber, e);
+                throw new IllegalStateException("PAYMENT_PROVIDER_UNAVAILABLE:결제사 응답이 원활하지 않습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            log.error("[TOSS] 결제 승인 결과 불명 - 주문번호={}", orderNumber, e);
+            throw new PaymentResultUnknownException();
+
+        } catch (RuntimeException e) {
+            // 응답 타임아웃 등, 결제사에서는 승인되었을 수 있음
+            circuitBreaker.onFailure();
+            log.error("[TOSS] 결제 승인 결과 불명 - 주문번호={}", orderNumber, e);
+            throw new PaymentResultUnknownException();
+
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 결제 키로 결제사의 결제 상태 조회 (승인 결과를 알 수 없었던 결제 확인용)
+     *
+     * @return 결제 정보, 결제사에 없는 결제키면 empty
+     * @throws PaymentResultUnknownException 조회에 실패해 여전히 결과를 알 수 없는 경우
+     */
+    public Optional<ApiPaymentLookupResponse> lookup(String paymentKey) {
+        try {
+            return Optional.ofNullable(webClient.get()
+                    .uri(tossBaseUrl + "/payments/{paymentKey}", paymentKey)
+                    .header("Authorization", getAuthorization())
+                    .retrieve()
+                    .bodyToMono(ApiPaymentLookupResponse.class)
+                    .timeout(CONFIRM_TIMEOUT)
+                    .block());
+
+        } catch (WebClientResponseException e) {
+            if (e.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+                return Optional.empty();
+            }
+            log.warn("[TOSS] 결제 조회 실패 - 결제키={}, 응답={}", paymentKey, parseErrorMessage(e));
+            throw new PaymentResultUnknownException();
+
+        } catch (RuntimeException e) {
+            log.warn("[TOSS] 결제 조회 실패 - 결제키={}", paymentKey, e);
+            throw new PaymentResultUnknownException();
+        }
+    }
+
+    // api 오류 파싱
+    private String parseErrorMessage(WebClientResponseException e) {
+        String code = "UNKNOWN";
+        String message = "결제 요청 중 오류가 발생했습니다.";
+        try {
+            JsonNode json = new ObjectMapper().readTree(e.getResponseBodyAsString());
+            if (json.has("error")) {
+                JsonNode error = json.get("error");
+                code = error.has("code") ? error.get("code").asText() : code;
+                message = error.has("message") ? error.get("message").asText() : message;
+            }
+        } catch (Exception ignored) {
+            log.warn("[TOSS] 응답 메시지 파싱 실패: {}", e.getResponseBodyAsString());
+        }
+        return String.format("%s:%s",code.trim(),message.trim());
+    }
+
+    private String getAuthorization() {
+        return "Basic " + Base64.getEncoder().encodeToString((tossSecretKey + ":").getBytes());
+    }
+}
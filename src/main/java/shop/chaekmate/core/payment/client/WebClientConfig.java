@@ -1,18 +1,30 @@
 package shop.chaekmate.core.payment.client;
 
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
 
 @Configuration
 public class WebClientConfig {
 
+    // 외부 API 가 느려도 무한정 기다리지 않도록 연결/응답 타임아웃 지정
+    private static final int CONNECT_TIMEOUT_MILLIS = 3_000;
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(10L);
+
     @Bean
     public WebClient webClient(WebClient.Builder builder) {
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECT_TIMEOUT_MILLIS)
+                .responseTimeout(RESPONSE_TIMEOUT);
+
         return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader("Accept", MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
 }
-
@@ -0,0 +1,34 @@
+package shop.chaekmate.core.payment.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "외부 결제 조회 응답")
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ApiPaymentLookupResponse(
+
+        @Schema(description = "결제 키 (결제사에서 전달받은 고유 키)")
+        String paymentKey,
+
+        @Schema(description = "주문 번호")
+        @JsonProperty("orderId")
+        String orderNumber,
+
+        @Schema(description = "결제 상태 (DONE, ABORTED, EXPIRED 등)")
+        String status,
+
+        @Schema(description = "결제 금액")
+        long totalAmount
+) {
+
+    // 결제사에서 승인 완료된 결제
+    public boolean isApprovedFor(String orderNumber, long amount) {
+        return "DONE".equals(status) && orderNumber.equals(this.orderNumber) && totalAmount == amount;
+    }
+
+    // 결제사에서 승인되지 않고 끝난 결제
+    public boolean isFailed() {
+        return "ABORTED".equals(status) || "EXPIRED".equals(status);
+    }
+}
@@ -21,6 +21,10 @@ import shop.chaekmate.core.payment.exception.InvalidCancelAmountException;
         name = "payment",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"payment_type", "payment_key"})
+        },
+        indexes = {
+                // 결과 확인이 필요한 승인 대기 결제 조회
+                @Index(name = "idx_payment_status_updated_at", columnList = "payment_status, updated_at")
         }
 )
 @Getter
@@ -66,6 +70,19 @@ public class Payment extends BaseEntity {
         return payment;
     }
 
+    // 승인 대기 (결제사 승인 요청 전에 기록)
+    public static Payment createPending(String orderNumber, String paymentKey, PaymentMethodType type,
+                                        long totalAmount, int pointUsed) {
+        Payment payment = new Payment();
+        payment.orderNumber = orderNumber;
+        payment.paymentKey = paymentKey;
+        payment.paymentType = type;
+        payment.totalAmount = totalAmount;
+        payment.paymentStatus = PaymentStatusType.PENDING;
+        payment.pointUsed = pointUsed;
+        return payment;
+    }
+
     // 실패
     public static Payment createAborted(String orderNumber, String paymentKey, PaymentMethodType type,
                                         long totalAmount) {
@@ -78,6 +95,15 @@ public class Payment extends BaseEntity {
         return payment;
     }
 
+    public boolean isPending() {
+        return this.paymentStatus == PaymentStatusType.PENDING;
+    }
+
+    // 승인 대기 → 실패
+    public void markAborted() {
+        this.paymentStatus = PaymentStatusType.ABORTED;
+    }
+
     public long cancelOrPartial(Long cancelAmount) {
         if (this.paymentStatus == PaymentStatusType.CANCELED) {
             throw new AlreadyCanceledException();
@@ -1,6 +1,7 @@
 package shop.chaekmate.core.payment.entity.type;
 
 public enum PaymentStatusType {
+    PENDING,            // 승인 대기 (결제사 승인 요청 중)
     APPROVED,           // 승인
     ABORTED,            // 실패
     CANCELED,           // 취소
@@ -12,7 +12,6 @@ import shop.chaekmate.core.order.entity.OrderedBook;
 import shop.chaekmate.core.order.repository.OrderRepository;
 import shop.chaekmate.core.order.repository.OrderedBookRepository;
 import shop.chaekmate.core.order.service.OrderService;
-import shop.chaekmate.core.payment.dto.response.impl.PaymentApproveResponse;
 import shop.chaekmate.core.payment.dto.response.PaymentCancelResponse;
 import shop.chaekmate.core.payment.exception.NotFoundOrderNumberException;
 
@@ -24,15 +23,7 @@ public class PaymentEventListener {
 //    private final OrderRepository orderRepository;
 //    private final OrderedBookRepository orderedBookRepository;
     private final OrderService orderService;
-    // 결제 성공
-    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
-    public void handlePaymentApproved(PaymentApprovedEvent event) {
-        PaymentApproveResponse res = event.approveResponse();
-
-        log.info("[EVENT] 결제 승인 수신 - 주문ID: {}", res.orderNumber());
-        // 이메일 전송
-        // 두레이 알림
-    }
+    // 결제 승인(PaymentApprovedEvent)은 PointEventListener 가 포인트 처리 기록으로 받음
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handlePaymentAborted(String orderNumber) {
         orderService.applyPaymentFail(orderNumber);
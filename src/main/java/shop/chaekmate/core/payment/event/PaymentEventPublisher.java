@@ -4,7 +4,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import shop.chaekmate.core.payment.dto.response.*;
-import shop.chaekmate.core.payment.dto.response.impl.PaymentApproveResponse;
 
 @Component
 @RequiredArgsConstructor
@@ -12,9 +11,6 @@ public class PaymentEventPublisher {
 
     private final ApplicationEventPublisher publisher;
 
-    public void publishPaymentApproved(PaymentApproveResponse response) {
-        publisher.publishEvent(new PaymentApprovedEvent(response));
-    }
     public void publishPaymentCanceled(PaymentCancelResponse response) {
         publisher.publishEvent(new PaymentCanceledEvent(response));
     }
@@ -0,0 +1,15 @@
+package shop.chaekmate.core.payment.exception;
+
+/**
+ * 같은 주문번호의 결제 승인을 다른 요청이 처리 중
+ * <p>
+ * 처리 중인 결제를 실패로 바꾸지 않도록 일반 승인 실패와 구분한다.
+ */
+public class PaymentInProgressException extends IllegalStateException {
+
+    public static final String CODE = "PAYMENT_IN_PROGRESS";
+
+    public PaymentInProgressException() {
+        super(CODE + ":이미 결제 승인을 처리하고 있습니다.");
+    }
+}
@@ -0,0 +1,16 @@
+package shop.chaekmate.core.payment.exception;
+
+/**
+ * 결제사 승인 요청의 결과를 알 수 없음 (응답 타임아웃, 5xx)
+ * <p>
+ * 결제사에서는 이미 승인되었을 수 있으므로 결제를 실패로 바꾸지 않고 승인 대기로 둔다.
+ * 결과는 재시도 시 또는 {@code PaymentReconcileService} 가 결제 조회 API 로 확인한다.
+ */
+public class PaymentResultUnknownException extends IllegalStateException {
+
+    public static final String CODE = "PAYMENT_RESULT_UNKNOWN";
+
+    public PaymentResultUnknownException() {
+        super(CODE + ":결제 결과를 확인하고 있습니다. 잠시 후 주문 내역을 확인해 주세요.");
+    }
+}
@@ -1,119 +1,104 @@
 package shop.chaekmate.core.payment.provider.impl;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
-import java.util.Base64;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
+import shop.chaekmate.core.payment.client.TossPaymentClient;
 import shop.chaekmate.core.payment.dto.request.PaymentApproveRequest;
 import shop.chaekmate.core.payment.dto.response.ApiApproveResponse;
 import shop.chaekmate.core.payment.dto.response.impl.PaymentApproveResponse;
-import shop.chaekmate.core.payment.entity.Payment;
-import shop.chaekmate.core.payment.entity.PaymentHistory;
 import shop.chaekmate.core.payment.entity.type.PaymentMethodType;
-import shop.chaekmate.core.payment.entity.type.PaymentStatusType;
 import shop.chaekmate.core.payment.provider.PaymentProvider;
-import shop.chaekmate.core.payment.repository.PaymentHistoryRepository;
-import shop.chaekmate.core.payment.repository.PaymentRepository;
-
+import shop.chaekmate.core.payment.service.PaymentRecordService;
+
+/**
+ * 토스 결제 승인
+ * <ol>
+ *     <li>prepare: 짧은 트랜잭션으로 승인 대기 결제 기록</li>
+ *     <li>confirm: 트랜잭션 없이 토스 승인 API 호출 (DB 커넥션을 잡지 않음)</li>
+ *     <li>record: 짧은 트랜잭션으로 승인 결과 기록</li>
+ * </ol>
+ * 단계별 소요 시간은 payment.approve.phase 타이머로 기록한다.
+ * <p>
+ * 이전 시도의 승인 결과를 알 수 없어 재시도한 경우 결제사가 이미 처리된 결제로 거절하므로,
+ * 결제 조회 API 로 승인 완료를 확인하면 성공으로 기록한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TossPaymentProvider implements PaymentProvider {
 
-    private final WebClient webClient;
-    private final PaymentRepository paymentRepository;
-    private final PaymentHistoryRepository paymentHistoryRepository;
-
-    @Value("${toss.api.url}")
-    private String tossBaseUrl;
+    private static final String ALREADY_PROCESSED_PAYMENT = "ALREADY_PROCESSED_PAYMENT";
 
-    @Value("${toss.secret-key}")
-    private String tossSecretKey;
+    private final TossPaymentClient tossPaymentClient;
+    private final PaymentRecordService paymentRecordService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public PaymentMethodType getType() {
         return PaymentMethodType.TOSS;
     }
 
-    @Transactional
     @Override
     public PaymentApproveResponse approve(PaymentApproveRequest request) {
         log.info("[TOSS] 결제 승인 요청 - 주문번호={}, 결제 금액={}, 포인트사용={}", request.orderNumber(), request.amount() ,request.pointUsed());
 
-        Map<String, Object> body = new HashMap<>(Map.of(
-                "paymentKey", request.paymentKey(),
-                "orderId", request.orderNumber(),
-                "amount", request.amount()
-        ));
-
-        try {
-            ApiApproveResponse apiResponse = webClient.post()
-                    .uri(tossBaseUrl + "/payments/confirm")
-                    .header("Authorization", getAuthorization())
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(ApiApproveResponse.class)
-                    .block();
-
-            Payment payment = Payment.createApproved(
-                    Objects.requireNonNull(apiResponse).orderNumber(),
-                    apiResponse.paymentKey(),
-                    getType(),
-                    request.amount(),
-                    request.pointUsed()
-            );
-
-            paymentRepository.save(payment);
-            LocalDateTime now = LocalDateTime.now();
-
-            paymentHistoryRepository.save(PaymentHistory.approved(payment, request.amount()+request.pointUsed(), now));
+        timed("prepare", () -> {
+            paymentRecordService.preparePending(request, getType());
+            return null;
+        });
 
-            return new PaymentApproveResponse(
-                    request.orderNumber(),
-                    request.amount(),
-                    request.pointUsed(),
-                    PaymentStatusType.APPROVED.name(),
-                    now
-            );
+        String paymentKey = confirm(request);
 
-        } catch (WebClientResponseException e) {
-            String errorMessage = parseErrorMessage(e);
-            log.error("[TOSS] 결제 승인 실패 - 주문번호={}, 사유={}", request.orderNumber(), errorMessage);
-            throw new IllegalStateException(errorMessage);
-        }
+        LocalDateTime now = LocalDateTime.now();
+        return timed("record", () -> paymentRecordService.recordApproved(request, paymentKey, now));
     }
 
-    // api 오류 파싱
-    private String parseErrorMessage(WebClientResponseException e) {
-        String code = "UNKNOWN";
-        String message = "결제 요청 중 오류가 발생했습니다.";
+    // 승인된 결제의 결제키 반환
+    private String confirm(PaymentApproveRequest request) {
         try {
-            JsonNode json = new ObjectMapper().readTree(e.getResponseBodyAsString());
-            if (json.has("error")) {
-                JsonNode error = json.get("error");
-                code = error.has("code") ? error.get("code").asText() : code;
-                message = error.has("message") ? error.get("message").asText() : message;
+            ApiApproveResponse apiResponse = timed("confirm", () ->
+                    tossPaymentClient.confirm(request.paymentKey(), request.orderNumber(), request.amount()));
+            return Objects.requireNonNull(apiResponse).paymentKey();
+        } catch (IllegalStateException e) {
+            if (!isAlreadyApproved(request, e)) {
+                log.error("[TOSS] 결제 승인 실패 - 주문번호={}, 사유={}", request.orderNumber(), e.getMessage());
+                throw e;
             }
-        } catch (Exception ignored) {
-            log.warn("[TOSS] 응답 메시지 파싱 실패: {}", e.getResponseBodyAsString());
+            log.info("[TOSS] 이전 시도에서 승인된 결제 확인 - 주문번호={}", request.orderNumber());
+            return request.paymentKey();
+        }
+    }
+
+    // 이미 처리된 결제로 거절되었으면 결제사에서 같은 주문, 금액으로 승인 완료되었는지 조회
+    private boolean isAlreadyApproved(PaymentApproveRequest request, IllegalStateException e) {
+        if (e.getMessage() == null || !e.getMessage().startsWith(ALREADY_PROCESSED_PAYMENT + ":")) {
+            return false;
         }
-        return String.format("%s:%s",code.trim(),message.trim());
+        return timed("lookup", () -> tossPaymentClient.lookup(request.paymentKey()))
+                .filter(payment -> payment.isApprovedFor(request.orderNumber(), request.amount()))
+                .isPresent();
     }
 
-    private String getAuthorization() {
-        return "Basic " + Base64.getEncoder().encodeToString((tossSecretKey + ":").getBytes());
+    private <T> T timed(String phase, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            T result = action.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder("payment.approve.phase")
+                    .description("결제 승인 단계별 소요 시간")
+                    .tag("provider", getType().name())
+                    .tag("phase", phase)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
     }
 }
@@ -0,0 +1,67 @@
+package shop.chaekmate.core.payment.repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 주문번호 기준 결제 승인 멱등 키
+ * <ul>
+ *     <li>payment:approve:{orderNumber} = "I|{지문}|{uuid}" - 승인 진행 중 (처리 중인 요청의 토큰)</li>
+ *     <li>payment:approve:{orderNumber} = "A|{지문}|{json}" / "F|{지문}|{json}" - 승인 / 실패 응답</li>
+ * </ul>
+ * 지문은 요청 내용(결제키, 금액, 포인트)의 해시로, 같은 주문번호의 다른 요청을 구분한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentApproveIdempotencyRedisRepository {
+
+    public static final String IN_FLIGHT = "I|";
+    public static final String APPROVED = "A|";
+    public static final String ABORTED = "F|";
+
+    private static final String KEY_PREFIX = "payment:approve:";
+
+    // 진행 중 상태를 가진 요청만 결과를 기록 (만료 후 다른 요청이 가져간 키는 덮어쓰지 않음)
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+              return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 진행 중 상태 선점 (SET NX PX)
+     *
+     * @return 선점하면 null, 이미 있으면 현재 값
+     */
+    public String begin(String orderNumber, String token, Duration inFlightTtl) {
+        String key = KEY_PREFIX + orderNumber;
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, IN_FLIGHT + token, inFlightTtl);
+        if (Boolean.TRUE.equals(acquired)) {
+            return null;
+        }
+
+        String current = redisTemplate.opsForValue().get(key);
+        // 조회 사이에 만료되었으면 빈 값으로 알려 다시 시도하게 함
+        return Objects.requireNonNullElse(current, "");
+    }
+
+    public String find(String orderNumber) {
+        return redisTemplate.opsForValue().get(KEY_PREFIX + orderNumber);
+    }
+
+    public boolean complete(String orderNumber, String token, String value, Duration ttl) {
+        Long result = redisTemplate.execute(COMPLETE_SCRIPT, List.of(KEY_PREFIX + orderNumber),
+                IN_FLIGHT + token, value, String.valueOf(ttl.toMillis()));
+        return Objects.nonNull(result) && result == 1L;
+    }
+}
@@ -1,9 +1,48 @@
 package shop.chaekmate.core.payment.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import shop.chaekmate.core.payment.entity.Payment;
+import shop.chaekmate.core.payment.entity.type.PaymentMethodType;
+import shop.chaekmate.core.payment.entity.type.PaymentStatusType;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByOrderNumber(String orderNumber);
+
+    // 결과 확인이 필요한 오래된 승인 대기 결제
+    List<Payment> findByPaymentStatusAndPaymentTypeAndUpdatedAtBeforeOrderByUpdatedAtAsc(
+            PaymentStatusType paymentStatus, PaymentMethodType paymentType, LocalDateTime updatedAt, Pageable pageable);
+
+    // 승인 대기 → 승인 (재시도와 결과 확인이 겹쳐도 한 번만 성공)
+    @Modifying(clearAutomatically = true)
+    @Query("update Payment p set p.paymentStatus = shop.chaekmate.core.payment.entity.type.PaymentStatusType.APPROVED, "
+            + "p.paymentKey = :paymentKey, p.updatedAt = current_timestamp "
+            + "where p.orderNumber = :orderNumber "
+            + "and p.paymentStatus = shop.chaekmate.core.payment.entity.type.PaymentStatusType.PENDING")
+    int markApprovedIfPending(@Param("orderNumber") String orderNumber, @Param("paymentKey") String paymentKey);
+
+    // 실패 → 승인 대기 (재시도, 동시에 들어온 재시도 중 하나만 성공)
+    @Modifying(clearAutomatically = true)
+    @Query("update Payment p set p.paymentStatus = shop.chaekmate.core.payment.entity.type.PaymentStatusType.PENDING, "
+            + "p.paymentKey = :paymentKey, p.totalAmount = :totalAmount, p.pointUsed = :pointUsed, p.updatedAt = :now "
+            + "where p.orderNumber = :orderNumber "
+            + "and p.paymentStatus = shop.chaekmate.core.payment.entity.type.PaymentStatusType.ABORTED")
+    int retryPendingIfAborted(@Param("orderNumber") String orderNumber, @Param("paymentKey") String paymentKey,
+                              @Param("totalAmount") long totalAmount, @Param("pointUsed") int pointUsed,
+                              @Param("now") LocalDateTime now);
+
+    // 결과를 알 수 없어 오래 남은 승인 대기 결제를 같은 결제키의 재시도가 가져감 (하나만 성공)
+    @Modifying(clearAutomatically = true)
+    @Query("update Payment p set p.updatedAt = :now "
+            + "where p.orderNumber = :orderNumber and p.paymentKey = :paymentKey "
+            + "and p.paymentStatus = shop.chaekmate.core.payment.entity.type.PaymentStatusType.PENDING "
+            + "and p.updatedAt < :staleBefore")
+    int reclaimStalePending(@Param("orderNumber") String orderNumber, @Param("paymentKey") String paymentKey,
+                            @Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,32 @@
+package shop.chaekmate.core.payment.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.chaekmate.core.common.annotation.LeaderOnly;
+import shop.chaekmate.core.payment.service.PaymentReconcileService;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PaymentReconcileScheduler {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final PaymentReconcileService paymentReconcileService;
+
+    // 1분마다 승인 결과를 알 수 없었던 결제를 결제사 조회로 확정
+    @Scheduled(fixedDelay = 60_000)
+    @LeaderOnly(value = "payment-reconcile", leaseSeconds = 300)
+    public void reconcilePendingPayments() {
+        try {
+            int resolved = paymentReconcileService.reconcile(BATCH_SIZE);
+            if (resolved > 0) {
+                log.info("[결제 확인] 승인 대기 결제 {}건 확정", resolved);
+            }
+        } catch (Exception e) {
+            log.error("[결제 확인] 승인 대기 결제 확인 실패", e);
+        }
+    }
+}
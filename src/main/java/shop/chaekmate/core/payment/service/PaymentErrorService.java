@@ -26,13 +26,23 @@ public class PaymentErrorService {
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void saveAbortedPayment(PaymentApproveRequest request, String reason) {
         try{
-            Payment payment = Payment.createAborted(
-                    request.orderNumber(),
-                    null,    // 결제 실패 시 결제키 없음
-                    request.paymentType(),
-                    request.amount()
-            );
-            paymentRepository.save(payment);
+            // 승인 대기로 기록된 결제가 있으면 실패로 변경, 이미 승인/취소된 결제는 그대로 둠
+            Payment payment = paymentRepository.findByOrderNumber(request.orderNumber()).orElse(null);
+            if (payment == null) {
+                payment = Payment.createAborted(
+                        request.orderNumber(),
+                        null,    // 결제 실패 시 결제키 없음
+                        request.paymentType(),
+                        request.amount()
+                );
+                paymentRepository.save(payment);
+            } else if (payment.isPending()) {
+                payment.markAborted();
+            } else {
+                log.warn("[결제 실패 로그 저장 생략] 이미 처리된 결제 주문번호={}, 상태={}, 이유={}",
+                        payment.getOrderNumber(), payment.getPaymentStatus(), reason);
+                return;
+            }
 
             PaymentHistory history = PaymentHistory.aborted(payment, request.amount(), reason, LocalDateTime.now());
             paymentHistoryRepository.save(history);
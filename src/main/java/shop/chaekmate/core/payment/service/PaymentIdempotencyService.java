@@ -0,0 +1,171 @@
+package shop.chaekmate.core.payment.service;
+
+import static shop.chaekmate.core.payment.repository.PaymentApproveIdempotencyRedisRepository.ABORTED;
+import static shop.chaekmate.core.payment.repository.PaymentApproveIdempotencyRedisRepository.APPROVED;
+import static shop.chaekmate.core.payment.repository.PaymentApproveIdempotencyRedisRepository.IN_FLIGHT;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import shop.chaekmate.core.payment.dto.request.PaymentApproveRequest;
+import shop.chaekmate.core.payment.dto.response.base.PaymentResponse;
+import shop.chaekmate.core.payment.dto.response.impl.PaymentAbortedResponse;
+import shop.chaekmate.core.payment.dto.response.impl.PaymentApproveResponse;
+import shop.chaekmate.core.payment.repository.PaymentApproveIdempotencyRedisRepository;
+
+/**
+ * 결제 승인 멱등 처리 (주문번호 기준)
+ * <ul>
+ *     <li>처음 들어온 요청만 승인을 실행하고 응답을 Redis 에 남긴다.</li>
+ *     <li>요청 내용(결제키, 결제 금액, 포인트)의 지문을 함께 남겨, 같은 주문번호의 다른 요청에는 저장된 응답을 주지 않는다.</li>
+ *     <li>진행 중에 들어온 중복 요청은 WAIT_TIMEOUT 동안만 간격을 늘려 가며 기다리고, 그 뒤에는 처리 중 응답을 돌려준다.</li>
+ *     <li>완료된 뒤의 중복 요청은 결제사 호출, DB 조회 없이 저장된 응답을 돌려준다.</li>
+ *     <li>실패 응답은 ABORTED_TTL 동안만 보관해, 그 뒤의 재시도는 다시 승인을 시도한다.</li>
+ * </ul>
+ * Redis 장애 시에는 멱등 처리 없이 승인한다 (승인 대기 결제의 조건부 상태 변경으로 한 요청만 결제사를 호출함).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentIdempotencyService {
+
+    // 결제사 응답 타임아웃보다 넉넉하게
+    private static final Duration IN_FLIGHT_TTL = Duration.ofSeconds(30L);
+    private static final Duration APPROVED_TTL = Duration.ofHours(24L);
+    private static final Duration ABORTED_TTL = Duration.ofSeconds(10L);
+
+    // 요청 스레드를 오래 잡지 않도록 짧게 기다리고, 그 뒤에는 처리 중 응답 (클라이언트가 다시 조회)
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(3L);
+    private static final long MIN_POLL_INTERVAL_MILLIS = 50L;
+    private static final long MAX_POLL_INTERVAL_MILLIS = 500L;
+
+    // 지문 길이 (SHA-256 hex)
+    private static final int FINGERPRINT_LENGTH = 64;
+
+    private final PaymentApproveIdempotencyRedisRepository idempotencyRepository;
+    private final ObjectMapper objectMapper;
+
+    public PaymentResponse execute(PaymentApproveRequest request, Supplier<PaymentResponse> approve) {
+        String orderNumber = request.orderNumber();
+        String fingerprint = fingerprint(request);
+        // 진행 중 상태에도 지문을 남겨 다른 요청이 기다리지 않게 함
+        String token = fingerprint + "|" + UUID.randomUUID();
+        long deadline = System.currentTimeMillis() + WAIT_TIMEOUT.toMillis();
+        long pollInterval = MIN_POLL_INTERVAL_MILLIS;
+
+        while (true) {
+            String current;
+            try {
+                current = idempotencyRepository.begin(orderNumber, token, IN_FLIGHT_TTL);
+            } catch (DataAccessException e) {
+                log.warn("[결제 멱등] Redis 조회 실패, 멱등 처리 없이 승인 주문번호={}", orderNumber, e);
+                return approve.get();
+            }
+
+            if (current == null) {
+                return approveAndRecord(orderNumber, fingerprint, token, approve);
+            }
+
+            // 조회 사이에 만료된 경우 바로 다시 선점 시도
+            if (current.isEmpty()) {
+                continue;
+            }
+
+            if (!fingerprint.equals(fingerprintOf(current))) {
+                log.warn("[결제 멱등] 같은 주문번호의 다른 결제 요청 주문번호={}", orderNumber);
+                return new PaymentAbortedResponse("PAYMENT_REQUEST_MISMATCH",
+                        "같은 주문번호로 다른 결제 요청이 처리되었습니다.", LocalDateTime.now());
+            }
+
+            PaymentResponse previous = decode(current);
+            if (previous != null) {
+                log.info("[결제 멱등] 이전 승인 응답 반환 주문번호={}", orderNumber);
+                return previous;
+            }
+
+            if (System.currentTimeMillis() + pollInterval > deadline || !sleep(pollInterval)) {
+                return new PaymentAbortedResponse("PAYMENT_IN_PROGRESS", "이미 결제 승인을 처리하고 있습니다.",
+                        LocalDateTime.now());
+            }
+            pollInterval = Math.min(pollInterval * 2, MAX_POLL_INTERVAL_MILLIS);
+        }
+    }
+
+    private PaymentResponse approveAndRecord(String orderNumber, String fingerprint, String token,
+                                             Supplier<PaymentResponse> approve) {
+        PaymentResponse response = approve.get();
+
+        try {
+            if (response instanceof PaymentApproveResponse) {
+                idempotencyRepository.complete(orderNumber, token,
+                        APPROVED + fingerprint + "|" + objectMapper.writeValueAsString(response), APPROVED_TTL);
+            } else if (response instanceof PaymentAbortedResponse) {
+                idempotencyRepository.complete(orderNumber, token,
+                        ABORTED + fingerprint + "|" + objectMapper.writeValueAsString(response), ABORTED_TTL);
+            }
+        } catch (JsonProcessingException | DataAccessException e) {
+            // 진행 중 상태는 IN_FLIGHT_TTL 후 만료됨
+            log.warn("[결제 멱등] 승인 응답 저장 실패 주문번호={}", orderNumber, e);
+        }
+        return response;
+    }
+
+    // 요청 내용 지문 (같은 주문번호로 다른 결제키, 금액의 요청이 들어오면 저장된 응답을 주지 않음)
+    static String fingerprint(PaymentApproveRequest request) {
+        String source = request.paymentType() + "|" + request.paymentKey() + "|" + request.amount() + "|"
+                + request.pointUsed();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // "{상태}{지문}|{내용}" 에서 지문, 형식이 다르면 null
+    private String fingerprintOf(String value) {
+        int prefixLength = IN_FLIGHT.length();
+        if (value.length() <= prefixLength + FINGERPRINT_LENGTH
+                || value.charAt(prefixLength + FINGERPRINT_LENGTH) != '|') {
+            return null;
+        }
+        return value.substring(prefixLength, prefixLength + FINGERPRINT_LENGTH);
+    }
+
+    // 저장된 응답이면 변환, 진행 중이면 null
+    private PaymentResponse decode(String value) {
+        int bodyStart = IN_FLIGHT.length() + FINGERPRINT_LENGTH + 1;
+        try {
+            if (value.startsWith(APPROVED)) {
+                return objectMapper.readValue(value.substring(bodyStart), PaymentApproveResponse.class);
+            }
+            if (value.startsWith(ABORTED)) {
+                return objectMapper.readValue(value.substring(bodyStart), PaymentAbortedResponse.class);
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("[결제 멱등] 저장된 응답 변환 실패: {}", value, e);
+        }
+        return null;
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
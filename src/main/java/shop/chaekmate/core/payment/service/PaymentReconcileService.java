@@ -0,0 +1,90 @@
+package shop.chaekmate.core.payment.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import shop.chaekmate.core.order.service.OrderService;
+import shop.chaekmate.core.payment.client.TossPaymentClient;
+import shop.chaekmate.core.payment.dto.request.PaymentApproveRequest;
+import shop.chaekmate.core.payment.dto.response.ApiPaymentLookupResponse;
+import shop.chaekmate.core.payment.dto.response.impl.PaymentApproveResponse;
+import shop.chaekmate.core.payment.entity.Payment;
+import shop.chaekmate.core.payment.entity.type.PaymentMethodType;
+import shop.chaekmate.core.payment.entity.type.PaymentStatusType;
+import shop.chaekmate.core.payment.repository.PaymentRepository;
+
+/**
+ * 승인 결과를 알 수 없어 승인 대기로 남은 토스 결제 확인
+ * 승인 요청 중인 결제와 겹치지 않도록 {@link PaymentRecordService#STALE_PENDING_AFTER} 가 지난 결제만 확인한다.
+ * <ul>
+ *     <li>결제사에서 승인 완료된 결제는 승인으로 기록하고 주문에 반영</li>
+ *     <li>결제사에 없거나 실패, 만료된 결제는 실패로 기록</li>
+ *     <li>그 외(결제사에서 아직 진행 중)는 다음 확인 때 다시 조회</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentReconcileService {
+
+    private final PaymentRepository paymentRepository;
+    private final TossPaymentClient tossPaymentClient;
+    private final PaymentRecordService paymentRecordService;
+    private final PaymentErrorService paymentErrorService;
+    private final OrderService orderService;
+
+    /**
+     * @param batchSize 한 번에 확인할 최대 결제 수
+     * @return 승인 또는 실패로 확정된 결제 수
+     */
+    public int reconcile(int batchSize) {
+        List<Payment> pendingPayments = paymentRepository.findByPaymentStatusAndPaymentTypeAndUpdatedAtBeforeOrderByUpdatedAtAsc(
+                PaymentStatusType.PENDING, PaymentMethodType.TOSS, LocalDateTime.now().minus(PaymentRecordService.STALE_PENDING_AFTER),
+                PageRequest.of(0, batchSize));
+
+        int resolved = 0;
+        for (Payment payment : pendingPayments) {
+            try {
+                if (reconcile(payment)) {
+                    resolved++;
+                }
+            } catch (Exception e) {
+                log.warn("[결제 확인] 결제 결과 확인 실패 주문번호={}, 사유={}", payment.getOrderNumber(), e.getMessage());
+            }
+        }
+        return resolved;
+    }
+
+    private boolean reconcile(Payment payment) {
+        PaymentApproveRequest request = new PaymentApproveRequest(
+                payment.getPaymentType(),
+                payment.getPaymentKey(),
+                payment.getOrderNumber(),
+                payment.getTotalAmount(),
+                payment.getPointUsed()
+        );
+
+        Optional<ApiPaymentLookupResponse> found = payment.getPaymentKey() == null
+                ? Optional.empty()
+                : tossPaymentClient.lookup(payment.getPaymentKey());
+
+        if (found.filter(p -> p.isApprovedFor(payment.getOrderNumber(), payment.getTotalAmount())).isPresent()) {
+            PaymentApproveResponse approved = paymentRecordService.recordApproved(
+                    request, payment.getPaymentKey(), LocalDateTime.now());
+            orderService.applyPaymentSuccess(approved);
+            log.info("[결제 확인] 결제사 승인 확인 후 승인 처리 주문번호={}", payment.getOrderNumber());
+            return true;
+        }
+
+        if (found.isEmpty() || found.get().isFailed()) {
+            paymentErrorService.saveAbortedPayment(request, "PAYMENT_NOT_APPROVED:결제사에서 승인되지 않은 결제입니다.");
+            log.info("[결제 확인] 결제사 미승인 확인 후 실패 처리 주문번호={}", payment.getOrderNumber());
+            return true;
+        }
+        return false;
+    }
+}
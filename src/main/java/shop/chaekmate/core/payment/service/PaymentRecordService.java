@@ -0,0 +1,119 @@
+package shop.chaekmate.core.payment.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shop.chaekmate.core.payment.dto.request.PaymentApproveRequest;
+import shop.chaekmate.core.payment.dto.response.impl.PaymentApproveResponse;
+import shop.chaekmate.core.payment.entity.Payment;
+import shop.chaekmate.core.payment.entity.PaymentHistory;
+import shop.chaekmate.core.payment.entity.type.PaymentMethodType;
+import shop.chaekmate.core.payment.entity.type.PaymentStatusType;
+import shop.chaekmate.core.payment.exception.PaymentInProgressException;
+import shop.chaekmate.core.payment.exception.PaymentResultUnknownException;
+import shop.chaekmate.core.payment.repository.PaymentHistoryRepository;
+import shop.chaekmate.core.payment.repository.PaymentRepository;
+
+/**
+ * 외부 결제 승인 전후의 짧은 트랜잭션
+ * <p>
+ * 결제사 호출은 트랜잭션 밖에서 하고, 호출 전(승인 대기 기록)과 후(결과 기록)만 각각 커밋함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentRecordService {
+
+    // 승인 호출과 결과 조회가 모두 끝났을 시간, 이보다 오래된 승인 대기는 결과를 알 수 없었던 결제
+    static final Duration STALE_PENDING_AFTER = Duration.ofMinutes(1L);
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentHistoryRepository paymentHistoryRepository;
+
+    /**
+     * 승인 대기 결제 기록 (조건부 상태 변경으로 동시에 들어온 요청 중 하나만 성공)
+     * <ul>
+     *     <li>결제가 없으면 승인 대기로 INSERT (주문번호 유니크 제약으로 하나만 성공)</li>
+     *     <li>이전 시도가 실패했으면 실패 → 승인 대기로 변경 (결제사 거절 등으로 실패한 뒤의 재시도)</li>
+     *     <li>결과를 알 수 없어 오래 승인 대기로 남은 같은 결제키면 다시 가져옴 (승인 시 결제사 조회로 확정)</li>
+     *     <li>그 외 승인 대기 중이면 다른 요청이 처리 중</li>
+     * </ul>
+     *
+     * @throws PaymentInProgressException    다른 요청이 처리 중인 경우
+     * @throws PaymentResultUnknownException 다른 결제키로 시도한 이전 결제의 결과를 아직 알 수 없는 경우
+     * @throws IllegalStateException         이미 승인/취소된 주문번호인 경우
+     */
+    @Transactional
+    public void preparePending(PaymentApproveRequest request, PaymentMethodType type) {
+        Payment payment = paymentRepository.findByOrderNumber(request.orderNumber()).orElse(null);
+        if (payment == null) {
+            try {
+                paymentRepository.saveAndFlush(Payment.createPending(
+                        request.orderNumber(),
+                        request.paymentKey(),
+                        type,
+                        request.amount(),
+                        request.pointUsed()
+                ));
+            } catch (DataIntegrityViolationException e) {
+                throw new PaymentInProgressException();
+            }
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        if (payment.getPaymentStatus() == PaymentStatusType.ABORTED) {
+            if (paymentRepository.retryPendingIfAborted(request.orderNumber(), request.paymentKey(),
+                    request.amount(), request.pointUsed(), now) != 1) {
+                throw new PaymentInProgressException();
+            }
+            return;
+        }
+
+        if (!payment.isPending()) {
+            throw new IllegalStateException("ALREADY_PROCESSED_PAYMENT:이미 처리된 결제입니다.");
+        }
+
+        // 다른 결제키로 승인되었을 수 있으므로 결과 확인 스케줄러가 확정할 때까지 새 결제키로는 승인하지 않음
+        if (!Objects.equals(payment.getPaymentKey(), request.paymentKey())) {
+            throw new PaymentResultUnknownException();
+        }
+
+        if (paymentRepository.reclaimStalePending(request.orderNumber(), request.paymentKey(),
+                now.minus(STALE_PENDING_AFTER), now) != 1) {
+            throw new PaymentInProgressException();
+        }
+    }
+
+    /**
+     * 승인 대기 → 승인, 승인 이력 기록 (승인 이벤트는 주문 결제 완료 트랜잭션에서 발행)
+     * <p>
+     * 재시도와 결과 확인({@link PaymentReconcileService})이 겹쳐도 조건부 UPDATE 로 한 번만 승인된다.
+     *
+     * @throws IllegalStateException 승인 대기 결제가 없거나 이미 처리된 경우
+     */
+    @Transactional
+    public PaymentApproveResponse recordApproved(PaymentApproveRequest request, String paymentKey, LocalDateTime approvedAt) {
+        if (paymentRepository.markApprovedIfPending(request.orderNumber(), paymentKey) != 1) {
+            throw new IllegalStateException("ALREADY_PROCESSED_PAYMENT:이미 처리된 결제입니다.");
+        }
+
+        Payment payment = paymentRepository.findByOrderNumber(request.orderNumber())
+                .orElseThrow(() -> new IllegalStateException("PAYMENT_NOT_PREPARED:승인 대기 결제가 없습니다."));
+        paymentHistoryRepository.save(PaymentHistory.approved(payment, request.amount() + request.pointUsed(), approvedAt));
+
+        return new PaymentApproveResponse(
+                request.orderNumber(),
+                request.amount(),
+                request.pointUsed(),
+                PaymentStatusType.APPROVED.name(),
+                approvedAt
+        );
+    }
+}
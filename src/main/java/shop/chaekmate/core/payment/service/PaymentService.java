@@ -16,6 +16,8 @@ import shop.chaekmate.core.payment.entity.Payment;
 import shop.chaekmate.core.payment.entity.PaymentHistory;
 import shop.chaekmate.core.payment.event.PaymentEventPublisher;
 import shop.chaekmate.core.payment.exception.NotFoundOrderNumberException;
+import shop.chaekmate.core.payment.exception.PaymentInProgressException;
+import shop.chaekmate.core.payment.exception.PaymentResultUnknownException;
 import shop.chaekmate.core.payment.provider.PaymentProvider;
 import shop.chaekmate.core.payment.provider.PaymentProviderFactory;
 import shop.chaekmate.core.payment.repository.PaymentHistoryRepository;
@@ -32,12 +34,22 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final PaymentHistoryRepository paymentHistoryRepository;
     private final OrderService orderService;
+    private final PaymentIdempotencyService paymentIdempotencyService;
 
 
+    /**
+     * 결제 승인 (주문번호 기준 멱등)
+     * <p>
+     * 같은 주문번호의 중복 요청은 승인을 다시 실행하지 않고 처음 요청의 응답을 돌려받음 (요청 내용이 다르면 거절)
+     */
     public PaymentResponse approve(Long memberId, PaymentApproveRequest request) {
         log.info("[결제 승인 요청] 주문번호={}, 결제수단={}, 결제금액={}, 포인트사용={}",
                 request.orderNumber(), request.paymentType(), request.amount(), request.pointUsed());
 
+        return paymentIdempotencyService.execute(request, () -> approveOnce(request));
+    }
+
+    private PaymentResponse approveOnce(PaymentApproveRequest request) {
         PaymentProvider provider = providerFactory.getProvider(request.paymentType());
 
         try {
@@ -45,11 +57,10 @@ public class PaymentService {
 
             PaymentApproveResponse response = provider.approve(request);
 
-            orderService.applyPaymentSuccess(response.orderNumber());
+            // 승인 이벤트는 주문 결제 완료 트랜잭션 안에서 발행됨 (재고 부족으로 롤백되면 포인트 처리도 기록되지 않음)
+            orderService.applyPaymentSuccess(response);
 
-            // 이벤트 발행
-            eventPublisher.publishPaymentApproved(response);
-            log.info("[결제 승인 완료 및 이벤트 발행] 주문번호={}, 상태={}", response.orderNumber(), response.status());
+            log.info("[결제 승인 완료] 주문번호={}, 상태={}", response.orderNumber(), response.status());
 
             return response;
 
@@ -62,6 +73,12 @@ public class PaymentService {
             }
 
             String[] error = msg.split(":", 2);
+
+            // 결제사에서 승인되었을 수 있거나 다른 요청이 처리 중이므로 승인 대기 결제를 실패로 바꾸지 않음
+            if (e instanceof PaymentResultUnknownException || e instanceof PaymentInProgressException) {
+                return new PaymentAbortedResponse(error[0], error[1], LocalDateTime.now());
+            }
+
             //실패 로그 저장 - 새 트랜잭션으로 분리
             paymentErrorService.saveAbortedPayment(request, msg);
 
@@ -8,9 +8,11 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import shop.chaekmate.core.point.dto.response.MemberPointHistoryResponse;
 import shop.chaekmate.core.point.dto.response.PointHistoryResponse;
+import shop.chaekmate.core.point.dto.response.PointHistorySliceResponse;
 import shop.chaekmate.core.point.dto.response.PointResponse;
 import shop.chaekmate.core.point.service.PointHistoryService;
 
@@ -28,6 +30,15 @@ public class PointHistoryController {
         return ResponseEntity.ok().body(response);
     }
 
+    // 모든 history 불러오기 (커서, 최신순)
+    @GetMapping(path = "/admin/point-histories/cursor")
+    public ResponseEntity<PointHistorySliceResponse<PointHistoryResponse>> getPointHistoryByCursor(
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok()
+                .body(pointHistoryService.getPointHistoryByCursor(cursor, pageable.getPageSize()));
+    }
+
     // 특정 회원의 포인트 history 조회
     @GetMapping(path = "/members/{memberId}/point-histories")
     public ResponseEntity<Page<MemberPointHistoryResponse>> getMemberPointHistory(
@@ -38,6 +49,16 @@ public class PointHistoryController {
         return ResponseEntity.ok().body(response);
     }
 
+    // 특정 회원의 포인트 history 조회 (커서, 최신순)
+    @GetMapping(path = "/members/{memberId}/point-histories/cursor")
+    public ResponseEntity<PointHistorySliceResponse<MemberPointHistoryResponse>> getMemberPointHistoryByCursor(
+            @PathVariable("memberId") Long memberId,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 10) Pageable pageable) {
+        return ResponseEntity.ok().body(pointHistoryService.getPointHistoryByMemberIdAndCursor(
+                memberId, cursor, pageable.getPageSize()));
+    }
+
     // 특정 회원의 포인트 잔액 조회
     @GetMapping(path = "/members/{memberId}/points")
     public ResponseEntity<PointResponse> getMemberPoint(
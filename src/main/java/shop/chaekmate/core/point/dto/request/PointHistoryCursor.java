@@ -0,0 +1,49 @@
+package shop.chaekmate.core.point.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.springframework.util.StringUtils;
+import shop.chaekmate.core.point.exception.InvalidPointHistoryCursorException;
+
+/**
+ * 포인트 내역 키셋 페이지네이션 커서.
+ * <p>
+ * 마지막으로 내려준 내역의 (created_at, id) 를 "created_at|id" 형태의 Base64(URL-safe) 토큰으로 전달한다.
+ */
+public record PointHistoryCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * @param token 클라이언트가 보낸 커서 토큰, 비어 있으면 첫 페이지
+     * @return 커서, 첫 페이지면 null
+     * @throws InvalidPointHistoryCursorException 형식이 잘못된 경우
+     */
+    public static PointHistoryCursor decode(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER, -1);
+            if (parts.length != 2) {
+                throw new InvalidPointHistoryCursorException();
+            }
+            return new PointHistoryCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (InvalidPointHistoryCursorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new InvalidPointHistoryCursorException();
+        }
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
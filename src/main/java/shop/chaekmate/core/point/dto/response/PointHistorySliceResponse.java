@@ -0,0 +1,10 @@
+package shop.chaekmate.core.point.dto.response;
+
+import java.util.List;
+
+public record PointHistorySliceResponse<T>(
+        List<T> content,
+        boolean hasNext,
+        String nextCursor // 다음 페이지가 없으면 null
+) {
+}
@@ -0,0 +1,35 @@
+package shop.chaekmate.core.point.entity;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 포인트 잔액 (적립 합계 - 차감 합계).
+ * <ul>
+ *     <li>포인트 내역을 저장하는 트랜잭션에서 함께 증감되어, 잔액 조회 시 내역 전체를 합산하지 않는다.</li>
+ *     <li>{@code MemberPointBalanceRepository} 가 JDBC 로 기록하고, 행이 없으면 내역 합계로 다시 만든다.</li>
+ * </ul>
+ */
+@Entity
+@Getter
+@Table(name = "member_point_balance")
+@NoArgsConstructor(access = PROTECTED)
+public class MemberPointBalance {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "balance", nullable = false)
+    private long balance;
+
+    @Column(name = "updated_at", columnDefinition = "datetime(6)", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -15,7 +15,10 @@ import static jakarta.persistence.GenerationType.IDENTITY;
 import static lombok.AccessLevel.PROTECTED;
 
 @Getter
-@Table(name = "point_history")
+@Table(name = "point_history", indexes = {
+        @Index(name = "idx_point_history_member_created", columnList = "member_id, created_at"),
+        @Index(name = "idx_point_history_created", columnList = "created_at")
+})
 @SQLRestriction("deleted_at is null")
 @NoArgsConstructor(access = PROTECTED)
 @SQLDelete(sql = "UPDATE point_history SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
@@ -0,0 +1,57 @@
+package shop.chaekmate.core.point.entity;
+
+import static jakarta.persistence.EnumType.STRING;
+import static lombok.AccessLevel.PROTECTED;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import shop.chaekmate.core.point.entity.type.PointSpendType;
+
+/**
+ * 월 마감 후 point_history 에서 옮겨진 오래된 포인트 내역 (id 유지).
+ * <p>
+ * {@code PointLedgerRepository} 가 JDBC 로 옮기며, 잔액 계산에는 쓰이지 않는다.
+ */
+@Entity
+@Getter
+@Table(name = "point_history_archive", indexes = {
+        @Index(name = "idx_point_history_archive_member_created", columnList = "member_id, created_at")
+})
+@NoArgsConstructor(access = PROTECTED)
+public class PointHistoryArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(STRING)
+    @Column(name = "type", nullable = false, length = 10)
+    private PointSpendType type;
+
+    @Column(name = "amount", nullable = false)
+    private int point;
+
+    @Column(name = "source", nullable = false, length = 200)
+    private String source;
+
+    @Column(name = "created_at", columnDefinition = "datetime(6)", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", columnDefinition = "datetime(6)", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "deleted_at", columnDefinition = "datetime(6)")
+    private LocalDateTime deletedAt;
+
+    @Column(name = "archived_at", columnDefinition = "datetime(6)", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,66 @@
+package shop.chaekmate.core.point.entity;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import shop.chaekmate.core.point.entity.type.PointIntentStatus;
+
+/**
+ * 결제 승인 후 처리할 주문 포인트 차감/적립 (outbox).
+ * <ul>
+ *     <li>주문 결제 완료와 같은 트랜잭션에서 주문번호당 한 행이 기록되어, 결제 완료된 주문의 포인트 처리가 유실되지 않는다.</li>
+ *     <li>{@code PointIntentRepository} 가 JDBC 로 선점/완료/재시도 예약을 기록한다.</li>
+ *     <li>next_attempt_at 은 다음 시도 시각이자 처리 중 선점 만료 시각이다.</li>
+ * </ul>
+ */
+@Entity
+@Getter
+@Table(name = "point_intent", indexes = {
+        @Index(name = "idx_point_intent_status_next", columnList = "status, next_attempt_at")
+})
+@NoArgsConstructor(access = PROTECTED)
+public class PointIntent {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "order_number", unique = true, length = 21, nullable = false)
+    private String orderNumber;
+
+    @Column(name = "total_amount", nullable = false)
+    private long totalAmount;
+
+    @Column(name = "point_used", nullable = false)
+    private int pointUsed;
+
+    @Enumerated(STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private PointIntentStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", columnDefinition = "datetime(6)", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", columnDefinition = "datetime(6)", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", columnDefinition = "datetime(6)", nullable = false)
+    private LocalDateTime updatedAt;
+}
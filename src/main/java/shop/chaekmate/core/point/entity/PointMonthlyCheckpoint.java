@@ -0,0 +1,59 @@
+package shop.chaekmate.core.point.entity;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 월 마감 포인트 잔액.
+ * <ul>
+ *     <li>해당 월에 적립/차감이 있었던 회원만 기록한다 (없던 달의 잔액은 직전 체크포인트와 같음).</li>
+ *     <li>잔액 = 가장 최근 체크포인트의 마감 잔액 + period_end 이후 포인트 내역 합계.</li>
+ *     <li>마감된 달의 내역은 point_history_archive 로 옮겨도 잔액 계산에 영향이 없다.</li>
+ * </ul>
+ */
+@Entity
+@Getter
+@Table(name = "point_monthly_checkpoint", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_point_monthly_checkpoint_member_month", columnNames = {"member_id", "closing_month"})
+})
+@NoArgsConstructor(access = PROTECTED)
+public class PointMonthlyCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    // 마감 월의 1일
+    @Column(name = "closing_month", nullable = false)
+    private LocalDate closingMonth;
+
+    // 다음 달 1일 0시 (이 시각 이전 내역까지 반영됨)
+    @Column(name = "period_end", columnDefinition = "datetime(6)", nullable = false)
+    private LocalDateTime periodEnd;
+
+    @Column(name = "earned", nullable = false)
+    private long earned;
+
+    @Column(name = "spent", nullable = false)
+    private long spent;
+
+    @Column(name = "closing_balance", nullable = false)
+    private long closingBalance;
+
+    @Column(name = "created_at", columnDefinition = "datetime(6)", nullable = false)
+    private LocalDateTime createdAt;
+}
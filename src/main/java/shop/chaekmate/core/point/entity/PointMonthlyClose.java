@@ -0,0 +1,33 @@
+package shop.chaekmate.core.point.entity;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 월 마감을 마친 달.
+ * <ul>
+ *     <li>체크포인트와 같은 트랜잭션에서 기록되어, 같은 달이 두 번 마감되지 않게 한다.</li>
+ *     <li>{@code PointLedgerRepository} 가 JDBC 로 기록하며, 보관 이동은 마감된 달까지만 한다.</li>
+ * </ul>
+ */
+@Entity
+@Getter
+@Table(name = "point_monthly_close")
+@NoArgsConstructor(access = PROTECTED)
+public class PointMonthlyClose {
+
+    @Id
+    @Column(name = "closing_month")
+    private LocalDate closingMonth;
+
+    @Column(name = "closed_at", columnDefinition = "datetime(6)", nullable = false)
+    private LocalDateTime closedAt;
+}
@@ -0,0 +1,7 @@
+package shop.chaekmate.core.point.entity.type;
+
+public enum PointIntentStatus {
+    PENDING, // 처리 대기 (재시도 포함)
+    DONE,    // 차감/적립 완료
+    FAILED   // 최대 재시도 초과, 수동 확인 필요
+}
@@ -2,20 +2,18 @@ package shop.chaekmate.core.point.event;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 import shop.chaekmate.core.member.dto.response.MemberResponse;
 import shop.chaekmate.core.member.event.MemberCreatedEvent;
-import shop.chaekmate.core.order.entity.Order;
-import shop.chaekmate.core.order.repository.OrderRepository;
 import shop.chaekmate.core.payment.dto.response.impl.PaymentApproveResponse;
 import shop.chaekmate.core.payment.event.PaymentApprovedEvent;
-import shop.chaekmate.core.point.dto.request.CreatePointHistoryRequest;
 import shop.chaekmate.core.point.dto.response.CreatePointHistoryResponse;
-import shop.chaekmate.core.point.entity.type.PointSpendType;
 import shop.chaekmate.core.point.service.PointEarnService;
-import shop.chaekmate.core.point.service.PointHistoryService;
+import shop.chaekmate.core.point.service.PointIntentService;
+import shop.chaekmate.core.point.service.PointIntentWorker;
 
 @Slf4j
 @Component
@@ -23,57 +21,25 @@ import shop.chaekmate.core.point.service.PointHistoryService;
 public class PointEventListener {
 
     private final PointEarnService pointEarnService;
-    private final PointHistoryService pointHistoryService;
-    private final OrderRepository orderRepository;
+    private final PointIntentService pointIntentService;
+    private final PointIntentWorker pointIntentWorker;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void handlePaymentApproved(PaymentApprovedEvent event) {
+    // 주문 결제 완료 트랜잭션 안에서 포인트 처리 행 기록 (결제 완료된 주문과 함께 커밋되므로 적립/차감이 유실되지 않음)
+    @EventListener
+    public void recordPaymentApproved(PaymentApprovedEvent event) {
         PaymentApproveResponse response = event.approveResponse();
         log.info("[포인트 이벤트] 결제 승인 이벤트 수신 - 주문번호: {}, 금액: {}, 사용포인트: {}",
                 response.orderNumber(), response.totalAmount(), response.pointUsed());
 
-        try {
-            // 포인트 사용(차감) 처리
-            if (response.pointUsed() > 0) {
-                Order order = orderRepository.findByOrderNumber(response.orderNumber())
-                        .orElseThrow(() -> new IllegalStateException("주문을 찾을 수 없습니다: " + response.orderNumber()));
-
-                // 비회원 주문인 경우 포인트 차감하지 않음
-                Long memberId = order.getMember().getId();
-
-                if (memberId != null) {
-
-                    CreatePointHistoryRequest spendRequest = new CreatePointHistoryRequest(
-                            null,
-                            memberId,
-                            PointSpendType.SPEND,
-                            response.pointUsed(),
-                            String.format("주문 결제 - 주문번호: %s", response.orderNumber())
-                    );
-
-                    pointHistoryService.spendPointHistory(memberId, spendRequest);
-                    log.info("[포인트 이벤트] 포인트 차감 완료 - 주문번호: {}, 차감포인트: {}",
-                            response.orderNumber(), response.pointUsed());
-
-                    // 포인트 적립 처리
-                    pointEarnService.earnPointForOrder(
-                            response.orderNumber(),
-                            response.totalAmount()
-                    );
+        pointIntentService.record(response.orderNumber(), response.totalAmount(), response.pointUsed());
+    }
 
-                    log.info("[포인트 이벤트] 포인트 적립 완료 - 주문번호: {}", response.orderNumber());
-                } else {
-                    log.warn("[포인트 이벤트] 비회원 주문이므로 포인트 차감하지 않음 - 주문번호: {}",
-                            response.orderNumber());
-                }
-            }
-        } catch (Exception e) {
-            // 포인트 적립 실패 시 로그만 남기고 예외를 던지지 않음
-            // - 결제는 이미 완료되었으므로 포인트 적립 실패가 결제를 롤백하면 안 됨
-            log.error("[포인트 이벤트] 포인트 적립 실패 - 주문번호: {}, 오류: {}",
-                    response.orderNumber(), e.getMessage(), e);
-        }
+    // 커밋 후 워커에 넘기고 바로 반환 (결제 응답이 포인트 처리를 기다리지 않음, 넘기지 못하면 폴링에서 처리)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePaymentApproved(PaymentApprovedEvent event) {
+        pointIntentWorker.submit(event.approveResponse().orderNumber());
     }
+
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleMemberCreated(MemberCreatedEvent event) {
         MemberResponse memberResponse = event.memberResponse();
@@ -0,0 +1,9 @@
+package shop.chaekmate.core.point.exception;
+
+import shop.chaekmate.core.common.exception.CoreException;
+
+public class InvalidPointHistoryCursorException extends CoreException {
+    public InvalidPointHistoryCursorException() {
+        super(PointErrorCode.INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,120 @@
+package shop.chaekmate.core.point.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 회원 포인트 잔액 (member_point_balance)
+ * <ul>
+ *     <li>포인트 내역 저장과 같은 트랜잭션에서 조건 없는 증감 UPDATE 로 반영한다 (행 잠금으로 동시 적립/차감이 직렬화됨).</li>
+ *     <li>행이 없으면 월 마감 체크포인트 + 이후 point_history 합계 SQL 로 만든다 (기존 회원, 유실 복구).</li>
+ *     <li>정합성 검사는 잔액과 내역 합계를 한 쿼리로 읽어 같은 시점의 값끼리 비교한다.</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberPointBalanceRepository {
+
+    // 회원의 가장 최근 월 마감 체크포인트 (없으면 c.* 가 null)
+    private static final String LATEST_CHECKPOINT = "LEFT JOIN point_monthly_checkpoint c ON c.member_id = %1$s "
+            + "AND c.closing_month = (SELECT MAX(x.closing_month) FROM point_monthly_checkpoint x WHERE x.member_id = %1$s) ";
+
+    // 체크포인트 마감 잔액 + 마감 이후 내역 합계 (보관으로 옮겨진 내역은 읽지 않음)
+    private static final String LEDGER_BALANCE = "COALESCE(c.closing_balance, 0) + "
+            + "(SELECT COALESCE(SUM(CASE WHEN h.type = 'EARN' THEN h.amount ELSE -h.amount END), 0) FROM point_history h "
+            + "WHERE h.member_id = %1$s AND h.deleted_at IS NULL AND (c.period_end IS NULL OR h.created_at >= c.period_end))";
+
+    private static final String SUM_HISTORY = "SELECT " + LEDGER_BALANCE.formatted("m.id") + " FROM member m "
+            + LATEST_CHECKPOINT.formatted("m.id") + "WHERE m.id = ?";
+
+    private static final String ADD_BALANCE =
+            "UPDATE member_point_balance SET balance = balance + ?, updated_at = ? WHERE member_id = ?";
+
+    private static final String FIND_CHECKS = "SELECT b.member_id, b.balance, "
+            + LEDGER_BALANCE.formatted("b.member_id") + " AS expected FROM member_point_balance b "
+            + LATEST_CHECKPOINT.formatted("b.member_id") + "WHERE b.member_id > ? ORDER BY b.member_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record BalanceCheck(Long memberId, long balance, long expected) {
+
+        public boolean drifted() {
+            return balance != expected;
+        }
+    }
+
+    public Optional<Long> findBalance(Long memberId) {
+        return jdbcTemplate.queryForList("SELECT balance FROM member_point_balance WHERE member_id = ?",
+                Long.class, memberId).stream().findFirst();
+    }
+
+    // 보정 전 잠금 (잠금 이후 커밋된 적립/차감은 보정이 끝난 뒤 증감으로 반영됨)
+    public Optional<Long> findBalanceForUpdate(Long memberId) {
+        return jdbcTemplate.queryForList("SELECT balance FROM member_point_balance WHERE member_id = ? FOR UPDATE",
+                Long.class, memberId).stream().findFirst();
+    }
+
+    /**
+     * 잔액 증감 (호출한 트랜잭션에 포함됨)
+     * <p>
+     * 행이 없으면 방금 저장한 내역까지 포함한 합계로 새로 만든다.
+     */
+    public void add(Long memberId, long delta) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(ADD_BALANCE, delta, now, memberId) > 0) {
+            return;
+        }
+
+        try {
+            insert(memberId, sumHistory(memberId));
+        } catch (DuplicateKeyException e) {
+            // 다른 트랜잭션이 먼저 만든 행은 이 내역을 포함하지 않음
+            jdbcTemplate.update(ADD_BALANCE, delta, now, memberId);
+        }
+    }
+
+    /**
+     * 내역 합계로 잔액 행 생성
+     *
+     * @return 생성한(또는 동시에 다른 트랜잭션이 만든) 잔액
+     */
+    public long initialize(Long memberId) {
+        long balance = sumHistory(memberId);
+        try {
+            insert(memberId, balance);
+            return balance;
+        } catch (DuplicateKeyException e) {
+            return findBalance(memberId).orElse(balance);
+        }
+    }
+
+    // 최근 체크포인트 마감 잔액 + 이후 내역 합계
+    public long sumHistory(Long memberId) {
+        return jdbcTemplate.queryForList(SUM_HISTORY, Long.class, memberId).stream()
+                .findFirst()
+                .orElse(0L);
+    }
+
+    public void overwrite(Long memberId, long balance) {
+        jdbcTemplate.update("UPDATE member_point_balance SET balance = ?, updated_at = ? WHERE member_id = ?",
+                balance, Timestamp.valueOf(LocalDateTime.now()), memberId);
+    }
+
+    // 회원 id 순 keyset 조회 (잔액과 내역 합계를 한 번에)
+    public List<BalanceCheck> findChecks(Long afterMemberId, int limit) {
+        return jdbcTemplate.query(FIND_CHECKS,
+                (rs, rowNum) -> new BalanceCheck(rs.getLong("member_id"), rs.getLong("balance"), rs.getLong("expected")),
+                afterMemberId, limit);
+    }
+
+    private void insert(Long memberId, long balance) {
+        jdbcTemplate.update("INSERT INTO member_point_balance (member_id, balance, updated_at) VALUES (?, ?, ?)",
+                memberId, balance, Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
@@ -1,15 +1,47 @@
 package shop.chaekmate.core.point.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import shop.chaekmate.core.point.dto.response.MemberPointHistoryResponse;
+import shop.chaekmate.core.point.dto.response.PointHistoryResponse;
 import shop.chaekmate.core.point.entity.PointHistory;
-import java.util.List;
 
 public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
 
-    List<PointHistory> findByMemberId(Long memberId);
+    String HISTORY_RESPONSE = "select new shop.chaekmate.core.point.dto.response.PointHistoryResponse("
+            + "h.id, h.member.id, h.type, h.point, h.source, h.createdAt) from PointHistory h ";
+
+    // 회원 엔티티를 읽지 않는 DTO 조회 (member_id 컬럼만 사용)
+    @Query(value = HISTORY_RESPONSE, countQuery = "select count(h) from PointHistory h")
+    Page<PointHistoryResponse> findAllResponses(Pageable pageable);
+
+    @Query(value = "select new shop.chaekmate.core.point.dto.response.MemberPointHistoryResponse("
+            + "h.member.id, h.type, h.point, h.source, h.createdAt) from PointHistory h where h.member.id = :memberId",
+            countQuery = "select count(h) from PointHistory h where h.member.id = :memberId")
+    Page<MemberPointHistoryResponse> findResponsesByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 키셋 조회: (created_at, id) 내림차순, 인덱스 (member_id, created_at) / (created_at) 범위 스캔
+    @Query(HISTORY_RESPONSE + "order by h.createdAt desc, h.id desc")
+    List<PointHistoryResponse> findLatestResponses(Limit limit);
+
+    @Query(HISTORY_RESPONSE + "where h.createdAt < :createdAt or (h.createdAt = :createdAt and h.id < :id) "
+            + "order by h.createdAt desc, h.id desc")
+    List<PointHistoryResponse> findResponsesBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id, Limit limit);
 
-    Page<PointHistory> findByMemberId(Long memberId, Pageable pageable);
+    @Query(HISTORY_RESPONSE + "where h.member.id = :memberId order by h.createdAt desc, h.id desc")
+    List<PointHistoryResponse> findLatestResponsesByMemberId(@Param("memberId") Long memberId, Limit limit);
 
-}
\ No newline at end of file
+    @Query(HISTORY_RESPONSE + "where h.member.id = :memberId "
+            + "and (h.createdAt < :createdAt or (h.createdAt = :createdAt and h.id < :id)) "
+            + "order by h.createdAt desc, h.id desc")
+    List<PointHistoryResponse> findResponsesByMemberIdBefore(@Param("memberId") Long memberId,
+                                                             @Param("createdAt") LocalDateTime createdAt,
+                                                             @Param("id") Long id, Limit limit);
+}
@@ -0,0 +1,98 @@
+package shop.chaekmate.core.point.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import shop.chaekmate.core.point.entity.type.PointIntentStatus;
+
+/**
+ * 주문 포인트 처리 outbox (point_intent)
+ * <ul>
+ *     <li>선점은 조건부 UPDATE 한 번으로 한다 (여러 노드가 같은 행을 동시에 처리하지 않음).</li>
+ *     <li>선점 시 next_attempt_at 을 선점 만료 시각으로 미뤄, 처리 중 노드가 죽으면 만료 후 다시 처리된다.</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointIntentRepository {
+
+    private static final String CLAIM = "UPDATE point_intent SET attempts = attempts + 1, next_attempt_at = ?, updated_at = ? "
+            + "WHERE order_number = ? AND status = 'PENDING' AND next_attempt_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record PointIntentRow(String orderNumber, long totalAmount, int pointUsed, PointIntentStatus status,
+                                 int attempts) {
+    }
+
+    /**
+     * 처리 대기 행 기록 (호출한 트랜잭션에 포함됨)
+     *
+     * @return 이미 기록된 주문번호면 false
+     */
+    public boolean insert(String orderNumber, long totalAmount, int pointUsed) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.update("INSERT INTO point_intent (order_number, total_amount, point_used, status, attempts, "
+                            + "next_attempt_at, created_at, updated_at) VALUES (?, ?, ?, 'PENDING', 0, ?, ?, ?)",
+                    orderNumber, totalAmount, pointUsed, now, now, now);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 처리할 차례인 행 선점
+     *
+     * @return 선점했으면 true (이미 처리됐거나 다른 노드가 처리 중이면 false)
+     */
+    public boolean claim(String orderNumber, LocalDateTime now, LocalDateTime leaseUntil) {
+        return jdbcTemplate.update(CLAIM, Timestamp.valueOf(leaseUntil), Timestamp.valueOf(now), orderNumber,
+                Timestamp.valueOf(now)) > 0;
+    }
+
+    public List<String> findDueOrderNumbers(LocalDateTime now, int limit) {
+        return jdbcTemplate.queryForList("SELECT order_number FROM point_intent "
+                        + "WHERE status = 'PENDING' AND next_attempt_at <= ? ORDER BY next_attempt_at LIMIT ?",
+                String.class, Timestamp.valueOf(now), limit);
+    }
+
+    public Optional<PointIntentRow> findForUpdate(String orderNumber) {
+        return jdbcTemplate.query("SELECT order_number, total_amount, point_used, status, attempts FROM point_intent "
+                                + "WHERE order_number = ? FOR UPDATE",
+                        (rs, rowNum) -> new PointIntentRow(rs.getString("order_number"), rs.getLong("total_amount"),
+                                rs.getInt("point_used"), PointIntentStatus.valueOf(rs.getString("status")),
+                                rs.getInt("attempts")),
+                        orderNumber)
+                .stream()
+                .findFirst();
+    }
+
+    public void markDone(String orderNumber) {
+        jdbcTemplate.update("UPDATE point_intent SET status = 'DONE', last_error = NULL, updated_at = ? WHERE order_number = ?",
+                Timestamp.valueOf(LocalDateTime.now()), orderNumber);
+    }
+
+    public void markRetry(String orderNumber, LocalDateTime nextAttemptAt, String error) {
+        jdbcTemplate.update("UPDATE point_intent SET next_attempt_at = ?, last_error = ?, updated_at = ? "
+                        + "WHERE order_number = ? AND status = 'PENDING'",
+                Timestamp.valueOf(nextAttemptAt), error, Timestamp.valueOf(LocalDateTime.now()), orderNumber);
+    }
+
+    public void markFailed(String orderNumber, String error) {
+        jdbcTemplate.update("UPDATE point_intent SET status = 'FAILED', last_error = ?, updated_at = ? "
+                        + "WHERE order_number = ? AND status = 'PENDING'",
+                error, Timestamp.valueOf(LocalDateTime.now()), orderNumber);
+    }
+
+    public Optional<Integer> findAttempts(String orderNumber) {
+        return jdbcTemplate.queryForList("SELECT attempts FROM point_intent WHERE order_number = ?", Integer.class,
+                orderNumber).stream().findFirst();
+    }
+}
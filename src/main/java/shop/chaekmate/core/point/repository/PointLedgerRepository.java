@@ -0,0 +1,98 @@
+package shop.chaekmate.core.point.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 포인트 내역 월 마감/보관
+ * <ul>
+ *     <li>월 마감: 그 달에 내역이 있는 회원마다 (직전 체크포인트 잔액 + 그 달 합계) 를 한 번의 INSERT ... SELECT 로 기록한다.</li>
+ *     <li>보관: 마감된 달의 내역을 id 순 청크로 point_history_archive 에 복사한 뒤 point_history 에서 지운다.</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerRepository {
+
+    private static final String INSERT_CHECKPOINTS = "INSERT INTO point_monthly_checkpoint "
+            + "(member_id, closing_month, period_end, earned, spent, closing_balance, created_at) "
+            + "SELECT h.member_id, ?, ?, "
+            + "SUM(CASE WHEN h.type = 'EARN' THEN h.amount ELSE 0 END), "
+            + "SUM(CASE WHEN h.type = 'SPEND' THEN h.amount ELSE 0 END), "
+            + "COALESCE(MAX(p.closing_balance), 0) + SUM(CASE WHEN h.type = 'EARN' THEN h.amount ELSE -h.amount END), ? "
+            + "FROM point_history h "
+            + "LEFT JOIN point_monthly_checkpoint p ON p.member_id = h.member_id AND p.closing_month = "
+            + "(SELECT MAX(c.closing_month) FROM point_monthly_checkpoint c WHERE c.member_id = h.member_id AND c.closing_month < ?) "
+            + "WHERE h.created_at >= ? AND h.created_at < ? AND h.deleted_at IS NULL "
+            + "GROUP BY h.member_id";
+
+    private static final String ARCHIVE_COLUMNS = "id, member_id, type, amount, source, created_at, updated_at, deleted_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<LocalDate> findLastClosedMonth() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(
+                "SELECT MAX(closing_month) FROM point_monthly_close", LocalDate.class));
+    }
+
+    // 아직 마감된 적이 없을 때 시작할 달
+    public Optional<LocalDateTime> findFirstHistoryCreatedAt() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM point_history", LocalDateTime.class));
+    }
+
+    /**
+     * 마감 기록과 체크포인트 생성을 한 트랜잭션으로 처리 (같은 달은 한 번만 마감)
+     *
+     * @param month 마감 월의 1일
+     * @return 체크포인트를 만든 회원 수, 이미 마감된 달이면 empty
+     */
+    @Transactional
+    public Optional<Integer> closeMonth(LocalDate month) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            // 다른 노드가 같은 달을 마감 중이면 PK 잠금에서 기다렸다가 중복 예외
+            jdbcTemplate.update("INSERT INTO point_monthly_close (closing_month, closed_at) VALUES (?, ?)", month, now);
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+
+        Timestamp periodStart = Timestamp.valueOf(month.atStartOfDay());
+        Timestamp periodEnd = Timestamp.valueOf(month.plusMonths(1).atStartOfDay());
+        return Optional.of(jdbcTemplate.update(INSERT_CHECKPOINTS,
+                month, periodEnd, now, month, periodStart, periodEnd));
+    }
+
+    /**
+     * cutoff 이전 내역 한 청크를 보관 테이블로 이동
+     *
+     * @return 옮긴 건수, batchSize 보다 작으면 남은 내역 없음
+     */
+    @Transactional
+    public int archiveBefore(LocalDateTime cutoff, int batchSize) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM point_history WHERE created_at < ? ORDER BY created_at, id LIMIT ?",
+                Long.class, Timestamp.valueOf(cutoff), batchSize);
+        if (ids.isEmpty()) return 0;
+
+        String in = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        Object[] args = ids.toArray();
+
+        Object[] insertArgs = new Object[ids.size() + 1];
+        insertArgs[0] = Timestamp.valueOf(LocalDateTime.now());
+        System.arraycopy(args, 0, insertArgs, 1, args.length);
+
+        jdbcTemplate.update("INSERT INTO point_history_archive (" + ARCHIVE_COLUMNS + ", archived_at) "
+                + "SELECT " + ARCHIVE_COLUMNS + ", ? FROM point_history WHERE id IN (" + in + ")", insertArgs);
+        return jdbcTemplate.update("DELETE FROM point_history WHERE id IN (" + in + ")", args);
+    }
+}
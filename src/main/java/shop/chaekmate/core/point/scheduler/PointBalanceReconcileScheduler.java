@@ -0,0 +1,65 @@
+package shop.chaekmate.core.point.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.chaekmate.core.common.annotation.LeaderOnly;
+import shop.chaekmate.core.point.repository.MemberPointBalanceRepository.BalanceCheck;
+import shop.chaekmate.core.point.service.PointBalanceService;
+
+/**
+ * 포인트 잔액 정합성 검사
+ * <p>
+ * 회원 id 순으로 잔액과 포인트 내역 합계를 비교하고, 어긋난 회원은 잠금 후 다시 확인해 보정한다.
+ * 어긋난 건수는 point.balance.drift 카운터로 남긴다.
+ */
+@Slf4j
+@Component
+public class PointBalanceReconcileScheduler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PointBalanceService pointBalanceService;
+    private final Counter drift;
+
+    public PointBalanceReconcileScheduler(PointBalanceService pointBalanceService, MeterRegistry meterRegistry) {
+        this.pointBalanceService = pointBalanceService;
+        this.drift = Counter.builder("point.balance.drift")
+                .description("내역 합계와 어긋나 보정한 포인트 잔액 수")
+                .register(meterRegistry);
+    }
+
+    // 매일 새벽 4시에 전체 잔액 검사
+    @Scheduled(cron = "0 0 4 * * *")
+    @LeaderOnly(value = "point-balance-reconcile", leaseSeconds = 3600)
+    public void reconcile() {
+        long checked = 0;
+        long repaired = 0;
+        Long lastMemberId = 0L;
+
+        try {
+            List<BalanceCheck> checks;
+            do {
+                checks = pointBalanceService.findChecks(lastMemberId, BATCH_SIZE);
+                for (BalanceCheck check : checks) {
+                    checked++;
+                    if (check.drifted() && pointBalanceService.repair(check.memberId())) {
+                        repaired++;
+                        drift.increment();
+                    }
+                }
+                if (!checks.isEmpty()) {
+                    lastMemberId = checks.getLast().memberId();
+                }
+            } while (checks.size() == BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("[PointBalance] 잔액 검사 실패 (마지막 회원ID={})", lastMemberId, e);
+            return;
+        }
+
+        log.info("[PointBalance] 잔액 {}건 검사, {}건 보정", checked, repaired);
+    }
+}
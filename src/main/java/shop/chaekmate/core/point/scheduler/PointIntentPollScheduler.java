@@ -0,0 +1,27 @@
+package shop.chaekmate.core.point.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.chaekmate.core.point.service.PointIntentWorker;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PointIntentPollScheduler {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final PointIntentWorker pointIntentWorker;
+
+    // 5초마다 커밋 직후 예약되지 못했거나 재시도할 차례인 주문 포인트 처리 예약 (선점 후 처리하므로 모든 노드에서 실행)
+    @Scheduled(fixedDelay = 5_000)
+    public void dispatchDueIntents() {
+        try {
+            pointIntentWorker.submitDue(BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("[포인트 처리] 처리 대기 조회 실패", e);
+        }
+    }
+}
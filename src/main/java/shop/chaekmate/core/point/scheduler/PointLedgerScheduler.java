@@ -0,0 +1,44 @@
+package shop.chaekmate.core.point.scheduler;
+
+import java.time.YearMonth;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.chaekmate.core.common.annotation.LeaderOnly;
+import shop.chaekmate.core.point.service.PointLedgerService;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PointLedgerScheduler {
+
+    // 최근 12개월 내역은 point_history 에 남김
+    private static final int RETENTION_MONTHS = 12;
+    private static final int BATCH_SIZE = 1_000;
+
+    private final PointLedgerService pointLedgerService;
+
+    // 매일 새벽 4시 30분에 지난달까지 월 마감 후 보관 기간이 지난 내역 이동 (밀린 달도 함께 처리)
+    @Scheduled(cron = "0 30 4 * * *")
+    @LeaderOnly(value = "point-ledger-archive", leaseSeconds = 3600)
+    public void closeAndArchive() {
+        YearMonth current = YearMonth.now();
+
+        try {
+            pointLedgerService.closeMonths(current.minusMonths(1));
+        } catch (Exception e) {
+            log.error("[PointLedger] 월 마감 실패", e);
+            return;
+        }
+
+        try {
+            int moved = pointLedgerService.archive(current.minusMonths(RETENTION_MONTHS), BATCH_SIZE);
+            if (moved > 0) {
+                log.info("[PointLedger] 포인트 내역 {}건 보관 이동", moved);
+            }
+        } catch (Exception e) {
+            log.error("[PointLedger] 포인트 내역 보관 이동 실패", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package shop.chaekmate.core.point.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shop.chaekmate.core.point.repository.MemberPointBalanceRepository;
+import shop.chaekmate.core.point.repository.MemberPointBalanceRepository.BalanceCheck;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointBalanceService {
+
+    private final MemberPointBalanceRepository memberPointBalanceRepository;
+
+    // 잔액 행이 없으면 내역 합계로 만든 뒤 반환
+    @Transactional
+    public long getBalance(Long memberId) {
+        return memberPointBalanceRepository.findBalance(memberId)
+                .orElseGet(() -> memberPointBalanceRepository.initialize(memberId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<BalanceCheck> findChecks(Long afterMemberId, int limit) {
+        return memberPointBalanceRepository.findChecks(afterMemberId, limit);
+    }
+
+    /**
+     * 잔액 행을 잠근 뒤 내역 합계와 다시 비교해 다르면 합계로 보정
+     *
+     * @return 보정했으면 true
+     */
+    @Transactional
+    public boolean repair(Long memberId) {
+        Long balance = memberPointBalanceRepository.findBalanceForUpdate(memberId).orElse(null);
+        if (balance == null) {
+            return false;
+        }
+
+        long expected = memberPointBalanceRepository.sumHistory(memberId);
+        if (balance == expected) {
+            return false;
+        }
+
+        memberPointBalanceRepository.overwrite(memberId, expected);
+        log.warn("[PointBalance] 잔액 보정 회원ID={}, 잔액={} → {}", memberId, balance, expected);
+        return true;
+    }
+}
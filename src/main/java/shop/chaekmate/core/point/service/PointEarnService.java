@@ -3,25 +3,21 @@ package shop.chaekmate.core.point.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import shop.chaekmate.core.member.entity.Grade;
+import shop.chaekmate.core.member.dto.response.GradeResponse;
 import shop.chaekmate.core.member.entity.Member;
-import shop.chaekmate.core.member.entity.MemberGradeHistory;
 import shop.chaekmate.core.member.entity.type.PointPolicyType;
+import shop.chaekmate.core.member.exception.GradeNotFoundException;
 import shop.chaekmate.core.member.exception.MemberNotFoundException;
 import shop.chaekmate.core.member.repository.MemberGradeHistoryRepository;
 import shop.chaekmate.core.member.repository.MemberRepository;
-import shop.chaekmate.core.order.entity.Order;
-import shop.chaekmate.core.order.repository.OrderRepository;
+import shop.chaekmate.core.member.service.MemberService;
 import shop.chaekmate.core.point.dto.request.CreatePointHistoryRequest;
 import shop.chaekmate.core.point.dto.response.CreatePointHistoryResponse;
 import shop.chaekmate.core.point.entity.type.PointEarnedType;
 import shop.chaekmate.core.point.entity.type.PointSpendType;
 import shop.chaekmate.core.point.repository.PointPolicyRepository;
 
-import java.util.Optional;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -30,7 +26,7 @@ public class PointEarnService {
     private final PointService pointService;
     private final MemberRepository memberRepository;
     private final MemberGradeHistoryRepository memberGradeHistoryRepository;
-    private final OrderRepository orderRepository;
+    private final MemberService memberService;
 
     @Transactional
     public CreatePointHistoryResponse earnPointForWelcome(Long memberId) {
@@ -71,57 +67,31 @@ public class PointEarnService {
         }
     }
 
-    //TODO: 후에 주문 exception 바꾸기
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public CreatePointHistoryResponse earnPointForOrder(String orderNumber, long totalAmount) {
-
-        log.info("[포인트 적립] 시작 - 주문번호: {}, totalAmount: {}", orderNumber, totalAmount);
-
-        Order order = orderRepository.findByOrderNumber(orderNumber)
-                .orElseThrow(() -> new IllegalStateException("주문을 찾을 수 없습니다: " + orderNumber));
-
-        Long memberId = order.getMember().getId();
-
-        // 비회원 주문인 경우 포인트 적립하지 않음
-        if (order.getMember() == null) {
-            log.info("[포인트 적립] 비회원 주문이므로 포인트 적립하지 않음 - 주문번호: {}", orderNumber);
-            return null;
-        }
-
-        if (!memberRepository.existsById(memberId)) {
-            throw new MemberNotFoundException();
-        }
-
-        Grade grade = getCurrentGrade(memberId);
+    // 주문 적립 포인트 (기본 적립률 + 등급 적립률), 호출한 트랜잭션에서 실행
+    public int calculateOrderPoint(Member member, long totalAmount) {
+        GradeResponse grade = getCurrentGrade(member);
         int basePointRate = getPolicyBaseRate(PointEarnedType.ORDER);
 
-        int earnedPoint = calculateBaseRatePoint(totalAmount, basePointRate) + calculateGradeRatePoint(totalAmount, grade.getPointRate());
-
-        if (earnedPoint <= 0) {
-            return null;
-        }
-
-        CreatePointHistoryRequest request = new CreatePointHistoryRequest(
-                null,
-                memberId,
-                PointSpendType.EARN,
-                earnedPoint,
-                String.format("주문 완료 - 주문번호: %s", orderNumber)
-        );
-
-        return pointHistoryService.earnPointHistory(memberId, request);
+        return calculateBaseRatePoint(totalAmount, basePointRate) + calculateGradeRatePoint(totalAmount, grade.pointRate());
     }
 
-    @Transactional (readOnly = true)
-    public Grade getCurrentGrade(Long memberId) {
-        Optional<MemberGradeHistory> latedstGradeHistory =
-                memberGradeHistoryRepository.findTopByMemberIdOrderByCreatedAtDesc(memberId);
+    // 회원의 현재 등급 포인터로 캐시된 등급 표에서 찾음
+    private GradeResponse getCurrentGrade(Member member) {
+        Long gradeId = member.getCurrentGradeId();
 
-        if(latedstGradeHistory.isPresent()) {
-            return latedstGradeHistory.get().getGrade();
+        if (gradeId == null) {
+            // 포인터가 없는 기존 회원은 최신 등급 이력에서 찾아 채워둠
+            gradeId = memberGradeHistoryRepository.findTopByMemberIdOrderByCreatedAtDesc(member.getId())
+                    .map(history -> history.getGrade().getId())
+                    .orElseThrow(() -> new IllegalStateException("회원의 등급을 찾을 수 없습니다." + member.getId()));
+            member.changeGrade(gradeId);
         }
 
-        throw new IllegalStateException("회원의 등급을 찾을 수 없습니다." + memberId);
+        Long currentGradeId = gradeId;
+        return memberService.getAllGrades().stream()
+                .filter(grade -> grade.id().equals(currentGradeId))
+                .findFirst()
+                .orElseThrow(GradeNotFoundException::new);
     }
 
     //타입 주고 고치기
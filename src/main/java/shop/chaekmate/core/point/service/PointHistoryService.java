@@ -3,29 +3,35 @@ package shop.chaekmate.core.point.service;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;import lombok.RequiredArgsConstructor;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import shop.chaekmate.core.member.entity.Member;
 import shop.chaekmate.core.member.repository.MemberRepository;
 import shop.chaekmate.core.point.dto.request.CreatePointHistoryRequest;
+import shop.chaekmate.core.point.dto.request.PointHistoryCursor;
 import shop.chaekmate.core.point.dto.response.CreatePointHistoryResponse;
 import shop.chaekmate.core.point.dto.response.MemberPointHistoryResponse;
 import shop.chaekmate.core.point.dto.response.PointHistoryResponse;
+import shop.chaekmate.core.point.dto.response.PointHistorySliceResponse;
 import shop.chaekmate.core.point.dto.response.PointResponse;
 import shop.chaekmate.core.point.entity.PointHistory;
 import shop.chaekmate.core.point.entity.type.PointSpendType;
 import shop.chaekmate.core.point.exception.MemberNotFoundException;
+import shop.chaekmate.core.point.repository.MemberPointBalanceRepository;
 import shop.chaekmate.core.point.repository.PointHistoryRepository;
 
-import java.util.List;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PointHistoryService {
     private final PointHistoryRepository pointHistoryRepository;
     private final MemberRepository memberRepository;
+    private final MemberPointBalanceRepository memberPointBalanceRepository;
+    private final PointBalanceService pointBalanceService;
 
     //회원 포인트 적립
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -49,6 +55,7 @@ public class PointHistoryService {
         log.info("[포인트 히스토리] PointHistory 엔티티 생성 완료 - 회원ID: {}, 포인트: {}", memberId, request.point());
 
         PointHistory saved = pointHistoryRepository.save(history);
+        memberPointBalanceRepository.add(memberId, request.point());
 
         log.info("[포인트 히스토리] DB 저장 완료 - ID: {}, 회원ID: {}, 포인트: {}",
                 saved.getId(), saved.getMember().getId(), saved.getPoint());
@@ -67,60 +74,33 @@ public class PointHistoryService {
         return response;
     }
 
-    //회원 포인트 차감
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public CreatePointHistoryResponse spendPointHistory(Long memberId, CreatePointHistoryRequest request) {
-        log.info("[포인트 히스토리] 포인트 차감 시작 - 회원ID: {}, 포인트: {}, 사유: {}",
-                memberId, request.point(), request.source());
-
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> {
-                    log.error("[포인트 히스토리] 회원을 찾을 수 없음 - 회원ID: {}", memberId);
-                    return new MemberNotFoundException();
-                });
-
-        PointHistory history = new PointHistory(
-                member,
-                PointSpendType.SPEND,
-                request.point(),
-                request.source()
-        );
-
-        log.info("[포인트 히스토리] PointHistory 엔티티 생성 완료 - 회원ID: {}, 포인트: {}", memberId, request.point());
-
-        PointHistory saved = pointHistoryRepository.save(history);
-
-        log.info("[포인트 히스토리] DB 저장 완료 - ID: {}, 회원ID: {}, 포인트: {}",
-                saved.getId(), saved.getMember().getId(), saved.getPoint());
-
-        CreatePointHistoryResponse response = new CreatePointHistoryResponse(
-                saved.getId(),
-                saved.getMember().getId(),
-                saved.getType(),
-                saved.getPoint(),
-                saved.getSource()
-        );
-
-        log.info("[포인트 히스토리] 포인트 차감 완료 - 응답 ID: {}, 회원ID: {}, 포인트: {}",
-                response.id(), response.member(), response.point());
-
-        return response;
+    /**
+     * 주문 포인트 차감 + 적립을 호출한 트랜잭션 안에서 기록 (포인트 처리 outbox 에서 사용)
+     * <p>
+     * 처리 완료 표시와 같은 트랜잭션이어야 재시도 시 중복 차감/적립되지 않음
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyOrderPoints(Member member, int spendPoint, int earnPoint, String orderNumber) {
+        if (spendPoint > 0) {
+            pointHistoryRepository.save(new PointHistory(member, PointSpendType.SPEND, spendPoint,
+                    String.format("주문 결제 - 주문번호: %s", orderNumber)));
+            memberPointBalanceRepository.add(member.getId(), -spendPoint);
+        }
+
+        if (earnPoint > 0) {
+            pointHistoryRepository.save(new PointHistory(member, PointSpendType.EARN, earnPoint,
+                    String.format("주문 완료 - 주문번호: %s", orderNumber)));
+            memberPointBalanceRepository.add(member.getId(), earnPoint);
+        }
+
+        log.info("[포인트 히스토리] 주문 포인트 반영 - 회원ID: {}, 주문번호: {}, 차감: {}, 적립: {}",
+                member.getId(), orderNumber, spendPoint, earnPoint);
     }
 
-
     //포인트 history 조회 (전체)
     @Transactional(readOnly = true)
     public Page<PointHistoryResponse> getPointHistory(Pageable pageable) {
-        return pointHistoryRepository.findAll(pageable)
-                .map(point -> new PointHistoryResponse(
-                        point.getId(),
-                        point.getMember().getId(),
-                        point.getType(),
-                        point.getPoint(),
-                        point.getSource(),
-                        point.getCreatedAt()
-                        )
-                );
+        return pointHistoryRepository.findAllResponses(pageable);
     }
 
     //포인트 history 조회 (특정 회원)
@@ -129,14 +109,42 @@ public class PointHistoryService {
         memberRepository.findById(memberId)
                 .orElseThrow(MemberNotFoundException::new);
 
-        return pointHistoryRepository.findByMemberId(memberId, pageable)
-                .map(point -> new MemberPointHistoryResponse(
-                        point.getMember().getId(),
-                        point.getType(),
-                        point.getPoint(),
-                        point.getSource(),
-                        point.getCreatedAt())
-                );
+        return pointHistoryRepository.findResponsesByMemberId(memberId, pageable);
+    }
+
+    //포인트 history 조회 (전체, 커서)
+    @Transactional(readOnly = true)
+    public PointHistorySliceResponse<PointHistoryResponse> getPointHistoryByCursor(String cursor, int size) {
+        PointHistoryCursor decoded = PointHistoryCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+
+        List<PointHistoryResponse> rows = decoded == null
+                ? pointHistoryRepository.findLatestResponses(limit)
+                : pointHistoryRepository.findResponsesBefore(decoded.createdAt(), decoded.id(), limit);
+
+        return toSlice(rows, size, Function.identity());
+    }
+
+    //포인트 history 조회 (특정 회원, 커서)
+    @Transactional(readOnly = true)
+    public PointHistorySliceResponse<MemberPointHistoryResponse> getPointHistoryByMemberIdAndCursor(
+            Long memberId, String cursor, int size) {
+        memberRepository.findById(memberId)
+                .orElseThrow(MemberNotFoundException::new);
+
+        PointHistoryCursor decoded = PointHistoryCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+
+        List<PointHistoryResponse> rows = decoded == null
+                ? pointHistoryRepository.findLatestResponsesByMemberId(memberId, limit)
+                : pointHistoryRepository.findResponsesByMemberIdBefore(memberId, decoded.createdAt(), decoded.id(), limit);
+
+        return toSlice(rows, size, row -> new MemberPointHistoryResponse(
+                row.member(),
+                row.type(),
+                row.point(),
+                row.source(),
+                row.createdAt()));
     }
 
     //회원 포인트 조회
@@ -145,20 +153,24 @@ public class PointHistoryService {
         memberRepository.findById(memberId)
                 .orElseThrow(MemberNotFoundException::new);
 
-        List<PointHistory> histories = pointHistoryRepository.findByMemberId(memberId);
+        // 포인트 내역 합산 대신 잔액 행 조회
+        int totalPoint = (int) pointBalanceService.getBalance(memberId);
 
-        int earnedPoint = histories.stream()
-                .filter(h -> h.getType() == PointSpendType.EARN)
-                .mapToInt(PointHistory::getPoint)
-                .sum();
+        return new PointResponse(totalPoint);
+    }
 
-        int spendPoint = histories.stream()
-                .filter(h -> h.getType() == PointSpendType.SPEND)
-                .mapToInt(PointHistory::getPoint)
-                .sum();
+    // size + 1 건을 읽어 다음 페이지 여부 판단, 커서는 마지막 행의 (created_at, id)
+    private <T> PointHistorySliceResponse<T> toSlice(List<PointHistoryResponse> rows, int size,
+                                                     Function<PointHistoryResponse, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<PointHistoryResponse> page = hasNext ? rows.subList(0, size) : rows;
 
-        int totalPoint = earnedPoint - spendPoint;
+        String nextCursor = null;
+        if (hasNext) {
+            PointHistoryResponse last = page.getLast();
+            nextCursor = PointHistoryCursor.encode(last.createdAt(), last.id());
+        }
 
-        return new PointResponse(totalPoint);
+        return new PointHistorySliceResponse<>(page.stream().map(mapper).toList(), hasNext, nextCursor);
     }
 }
@@ -0,0 +1,107 @@
+package shop.chaekmate.core.point.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import shop.chaekmate.core.member.entity.Member;
+import shop.chaekmate.core.member.exception.MemberNotFoundException;
+import shop.chaekmate.core.member.repository.MemberRepository;
+import shop.chaekmate.core.order.entity.Order;
+import shop.chaekmate.core.order.repository.OrderRepository;
+import shop.chaekmate.core.point.entity.type.PointIntentStatus;
+import shop.chaekmate.core.point.repository.PointIntentRepository;
+import shop.chaekmate.core.point.repository.PointIntentRepository.PointIntentRow;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointIntentService {
+
+    public static final int MAX_ATTEMPTS = 10;
+
+    private static final long BASE_BACKOFF_SECONDS = 5L;
+    private static final long MAX_BACKOFF_SECONDS = 1_800L;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final PointIntentRepository pointIntentRepository;
+    private final OrderRepository orderRepository;
+    private final MemberRepository memberRepository;
+    private final PointEarnService pointEarnService;
+    private final PointHistoryService pointHistoryService;
+
+    // 주문 결제 완료 트랜잭션 안에서 호출 (결제 완료된 주문과 함께 커밋/롤백)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String orderNumber, long totalAmount, int pointUsed) {
+        if (!pointIntentRepository.insert(orderNumber, totalAmount, pointUsed)) {
+            log.warn("[포인트 처리] 이미 기록된 주문 - 주문번호: {}", orderNumber);
+        }
+    }
+
+    /**
+     * 주문 포인트 차감/적립과 완료 표시를 한 트랜잭션으로 처리 (재시도해도 한 번만 반영됨)
+     */
+    @Transactional
+    public void process(String orderNumber) {
+        PointIntentRow intent = pointIntentRepository.findForUpdate(orderNumber).orElse(null);
+        if (intent == null || intent.status() != PointIntentStatus.PENDING) {
+            return;
+        }
+
+        Order order = orderRepository.findByOrderNumber(orderNumber)
+                .orElseThrow(() -> new IllegalStateException("주문을 찾을 수 없습니다: " + orderNumber));
+
+        // 비회원 주문은 차감/적립 없음
+        if (order.getMember() == null) {
+            log.info("[포인트 처리] 비회원 주문이므로 처리하지 않음 - 주문번호: {}", orderNumber);
+            pointIntentRepository.markDone(orderNumber);
+            return;
+        }
+
+        Member member = memberRepository.findById(order.getMember().getId())
+                .orElseThrow(MemberNotFoundException::new);
+        int earnPoint = pointEarnService.calculateOrderPoint(member, intent.totalAmount());
+
+        pointHistoryService.applyOrderPoints(member, intent.pointUsed(), earnPoint, orderNumber);
+        pointIntentRepository.markDone(orderNumber);
+
+        log.info("[포인트 처리] 완료 - 주문번호: {}, 시도: {}회", orderNumber, intent.attempts());
+    }
+
+    /**
+     * 실패한 시도 기록 (최대 시도 전이면 지수 백오프로 재시도 예약)
+     *
+     * @return 더 이상 재시도하지 않으면(FAILED) false
+     */
+    @Transactional
+    public boolean recordFailure(String orderNumber, Exception cause) {
+        int attempts = pointIntentRepository.findAttempts(orderNumber).orElse(MAX_ATTEMPTS);
+        String error = abbreviate(cause);
+
+        if (attempts >= MAX_ATTEMPTS) {
+            pointIntentRepository.markFailed(orderNumber, error);
+            log.error("[포인트 처리] 최대 재시도 초과, 수동 확인 필요 - 주문번호: {}, 시도: {}회", orderNumber, attempts, cause);
+            return false;
+        }
+
+        Duration backoff = backoff(attempts);
+        pointIntentRepository.markRetry(orderNumber, LocalDateTime.now().plus(backoff), error);
+        log.warn("[포인트 처리] 실패, {}초 후 재시도 - 주문번호: {}, 시도: {}회, 오류: {}",
+                backoff.toSeconds(), orderNumber, attempts, error);
+        return true;
+    }
+
+    // 5초, 10초, 20초 ... 최대 30분
+    static Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        return Duration.ofSeconds(Math.min(BASE_BACKOFF_SECONDS << exponent, MAX_BACKOFF_SECONDS));
+    }
+
+    private String abbreviate(Exception cause) {
+        String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
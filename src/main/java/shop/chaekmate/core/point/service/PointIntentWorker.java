@@ -0,0 +1,130 @@
+package shop.chaekmate.core.point.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import shop.chaekmate.core.point.repository.PointIntentRepository;
+
+/**
+ * 주문 포인트 처리 워커
+ * <ul>
+ *     <li>고정 크기 스레드 풀과 제한된 대기열에서 처리한다 (결제 요청 스레드는 기다리지 않음).</li>
+ *     <li>대기열이 가득 차면 버리고, 행이 남아 있으므로 다음 폴링에서 다시 예약된다.</li>
+ *     <li>처리 전에 행을 선점하므로 같은 주문이 여러 번 예약되어도 한 번만 처리된다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PointIntentWorker {
+
+    private static final int THREADS = 4;
+    private static final int QUEUE_SIZE = 500;
+
+    // 처리 중 노드가 죽으면 이 시간 뒤 다른 노드가 다시 처리
+    private static final Duration LEASE = Duration.ofMinutes(1L);
+
+    private final PointIntentRepository pointIntentRepository;
+    private final PointIntentService pointIntentService;
+    private final ThreadPoolExecutor executor;
+    private final Counter failed;
+
+    public PointIntentWorker(PointIntentRepository pointIntentRepository,
+                             PointIntentService pointIntentService,
+                             MeterRegistry meterRegistry) {
+        this.pointIntentRepository = pointIntentRepository;
+        this.pointIntentService = pointIntentService;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(THREADS, THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_SIZE),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "point-intent-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("point.intent.queue", executor, pool -> pool.getQueue().size())
+                .description("처리를 기다리는 주문 포인트 작업 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("point.intent.failed")
+                .description("최대 재시도를 넘겨 수동 확인이 필요한 주문 포인트 처리 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처리 예약
+     *
+     * @return 대기열이 가득 차 예약하지 못했으면 false
+     */
+    public boolean submit(String orderNumber) {
+        try {
+            executor.execute(() -> run(orderNumber));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.debug("[포인트 처리] 대기열 초과, 다음 폴링에서 처리 - 주문번호: {}", orderNumber);
+            return false;
+        }
+    }
+
+    // 처리할 차례인 행(신규, 재시도, 선점 만료)을 예약
+    public int submitDue(int limit) {
+        List<String> orderNumbers = pointIntentRepository.findDueOrderNumbers(LocalDateTime.now(), limit);
+
+        int submitted = 0;
+        for (String orderNumber : orderNumbers) {
+            if (!submit(orderNumber)) {
+                break;
+            }
+            submitted++;
+        }
+        return submitted;
+    }
+
+    private void run(String orderNumber) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            if (!pointIntentRepository.claim(orderNumber, now, now.plus(LEASE))) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("[포인트 처리] 선점 실패 - 주문번호: {}", orderNumber, e);
+            return;
+        }
+
+        try {
+            pointIntentService.process(orderNumber);
+        } catch (Exception e) {
+            recordFailure(orderNumber, e);
+        }
+    }
+
+    private void recordFailure(String orderNumber, Exception cause) {
+        try {
+            if (!pointIntentService.recordFailure(orderNumber, cause)) {
+                failed.increment();
+            }
+        } catch (Exception e) {
+            // 기록하지 못해도 선점 만료 후 다시 처리됨
+            log.error("[포인트 처리] 실패 기록 실패 - 주문번호: {}", orderNumber, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10L, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package shop.chaekmate.core.point.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import shop.chaekmate.core.point.repository.PointLedgerRepository;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointLedgerService {
+
+    private final PointLedgerRepository pointLedgerRepository;
+
+    /**
+     * 마감되지 않은 달을 lastMonth 까지 순서대로 마감 (달마다 별도 트랜잭션)
+     *
+     * @return 이번에 마감한 달 수
+     */
+    public int closeMonths(YearMonth lastMonth) {
+        LocalDate from = pointLedgerRepository.findLastClosedMonth()
+                .map(month -> month.plusMonths(1))
+                .or(() -> pointLedgerRepository.findFirstHistoryCreatedAt()
+                        .map(createdAt -> createdAt.toLocalDate().withDayOfMonth(1)))
+                .orElse(null);
+        if (from == null) {
+            return 0;
+        }
+
+        int closed = 0;
+        for (LocalDate month = from; !month.isAfter(lastMonth.atDay(1)); month = month.plusMonths(1)) {
+            Optional<Integer> checkpoints = pointLedgerRepository.closeMonth(month);
+            if (checkpoints.isEmpty()) {
+                // 다른 노드가 이미 마감함
+                continue;
+            }
+
+            closed++;
+            log.info("[PointLedger] {} 마감, 체크포인트 {}건", YearMonth.from(month), checkpoints.get());
+        }
+        return closed;
+    }
+
+    /**
+     * before 이전이면서 마감된 달의 내역을 보관 테이블로 이동
+     *
+     * @return 옮긴 내역 수
+     */
+    public int archive(YearMonth before, int batchSize) {
+        Optional<LocalDate> lastClosed = pointLedgerRepository.findLastClosedMonth();
+        if (lastClosed.isEmpty()) {
+            return 0;
+        }
+
+        // 마감되지 않은 달의 내역은 체크포인트에 반영되지 않았으므로 옮기지 않음
+        LocalDate closedUntil = lastClosed.get().plusMonths(1);
+        LocalDate cutoff = before.atDay(1).isBefore(closedUntil) ? before.atDay(1) : closedUntil;
+
+        int moved = 0;
+        int chunk;
+        do {
+            chunk = pointLedgerRepository.archiveBefore(cutoff.atStartOfDay(), batchSize);
+            moved += chunk;
+        } while (chunk == batchSize);
+        return moved;
+    }
+}
@@ -2,6 +2,8 @@ package shop.chaekmate.core.point.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Service;
@@ -26,6 +28,7 @@ public class PointService {
     private final PointPolicyRepository pointPolicyRepository;
 
     //포인트 규정 등록 기능 구현
+    @CacheEvict(value = "pointPolicies", allEntries = true)
     @Transactional
     public CreatePointPolicyResponse createPointPolicyRequest(CreatePointPolicyRequest request) {
         if (pointPolicyRepository.existsByType(request.earnedType())) {
@@ -42,6 +45,7 @@ public class PointService {
     }
 
     //포인트 규정 수정 기능
+    @CacheEvict(value = "pointPolicies", allEntries = true)
     @Transactional
     public UpdatePointPolicyResponse updatePointPolicy(UpdatePointPolicyRequest request) {
         PointPolicy policy = pointPolicyRepository.findByType(request.type())
@@ -52,7 +56,8 @@ public class PointService {
         return new UpdatePointPolicyResponse(saved.getId(), saved.getType(), saved.getPoint());
     }
 
-    //정책 단건 조회
+    //정책 단건 조회 (적립 시마다 호출되므로 캐시, 정책 변경 시 무효화)
+    @Cacheable(value = "pointPolicies", key = "#type.name()", sync = true)
     @Transactional(readOnly = true)
     public PointPolicyResponse getPolicyByType(PointEarnedType type) {
         PointPolicy policy = pointPolicyRepository.findByType(type)
@@ -61,6 +66,7 @@ public class PointService {
     }
 
     //정책 전체 조회
+    @Cacheable(value = "pointPolicies", key = "'all'", sync = true)
     @Transactional(readOnly = true)
     public List<PointPolicyResponse> getAllPolicies() {
         List<PointPolicy> allPolicies = pointPolicyRepository.findAll();
@@ -83,6 +89,7 @@ public class PointService {
     }
 
     //삭제 기능
+    @CacheEvict(value = "pointPolicies", allEntries = true)
     @Transactional
     public void deletePointPolicyResponse(DeletePointPolicyRequest request) {
         PointPolicy policy = pointPolicyRepository.findByType(request.pointEarnedType())
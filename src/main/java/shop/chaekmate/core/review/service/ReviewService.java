@@ -1,10 +1,12 @@
 package shop.chaekmate.core.review.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import shop.chaekmate.core.book.event.BookReviewChangedEvent;
 import shop.chaekmate.core.member.entity.Member;
 import shop.chaekmate.core.member.repository.MemberRepository;
 import shop.chaekmate.core.order.entity.OrderedBook;
@@ -28,6 +30,7 @@ public class ReviewService {
     private final MemberRepository memberRepository;
     private final OrderedBookRepository orderedBookRepository;
     private final ReviewImageRepository reviewImageRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     //Review 생성 기능
     @Transactional
@@ -47,6 +50,10 @@ public class ReviewService {
 
         Review saved = reviewRepository.save(review);
 
+        // 도서 카드 평점, 리뷰 랭킹 반영
+        eventPublisher.publishEvent(new BookReviewChangedEvent(
+                orderedBook.getBook().getId(), saved.getRating(), 1, saved.getCreatedAt()));
+
         return new CreateReviewResponse(
                 saved.getId(),
                 saved.getMember().getId(),
@@ -95,9 +102,17 @@ public class ReviewService {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(ReviewNotFoundException::new);
 
+        int previousRating = review.getRating();
+
         review.updateReview(request.comment(), request.rating());
         reviewRepository.save(review);
 
+        if (previousRating != review.getRating()) {
+            eventPublisher.publishEvent(new BookReviewChangedEvent(
+                    review.getOrderedBook().getBook().getId(), review.getRating() - previousRating, 0,
+                    review.getCreatedAt()));
+        }
+
         return new UpdateReviewResponse(
                 review.getId(),
                 review.getMember().getId(),
@@ -115,6 +130,9 @@ public class ReviewService {
 
         reviewImageRepository.deleteByReview(review); // 리뷰 이미지 삭제 추가
         reviewRepository.delete(review);
+
+        eventPublisher.publishEvent(new BookReviewChangedEvent(
+                review.getOrderedBook().getBook().getId(), -review.getRating(), -1, review.getCreatedAt()));
     }
 
 }
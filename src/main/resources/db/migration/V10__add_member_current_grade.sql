@@ -0,0 +1,14 @@
+-- 회원 현재 등급 포인터 (Member.currentGradeId)
+-- 등급 이력 저장과 같은 트랜잭션에서 갱신, 적립 계산 시 등급 이력 조회 없이 캐시된 등급 표에서 찾는다.
+alter table member add column current_grade_id bigint null;
+
+-- 기존 회원은 최신 등급 이력으로 채움 (남은 회원은 첫 적립 계산 시 채워짐)
+update member m
+set m.current_grade_id = (
+    select h.grade_id
+    from member_grade_history h
+    where h.member_id = m.id
+    order by h.created_at desc, h.id desc
+    limit 1
+)
+where m.current_grade_id is null;
@@ -0,0 +1,19 @@
+-- 결제 완료 주문의 포인트 차감/적립 처리 (PointIntent)
+-- 주문 결제 완료 트랜잭션에서 주문번호당 한 행을 기록하고, PointIntentWorker 와 폴링 스케줄러가 처리한다.
+create table point_intent (
+    id bigint not null auto_increment,
+    order_number varchar(21) not null,
+    total_amount bigint not null,
+    point_used integer not null,
+    status enum ('PENDING','DONE','FAILED') not null,
+    attempts integer not null,
+    next_attempt_at datetime(6) not null,
+    last_error varchar(500),
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    primary key (id),
+    constraint uk_point_intent_order_number unique (order_number)
+) engine=InnoDB;
+
+-- 처리할 행 선점 (상태, 다음 시도 시각 순)
+create index idx_point_intent_status_next on point_intent (status, next_attempt_at);
@@ -0,0 +1,14 @@
+-- 도서 목록 카드 조회용 비정규화 테이블 (BookCard)
+-- 기존 도서의 카드는 기동 시와 주기적으로 BookCardRepository.insertMissingCards 로 채워진다.
+create table book_card (
+    book_id bigint not null,
+    thumbnail_url text,
+    rating_sum bigint not null,
+    rating_count bigint not null,
+    sales_count bigint not null,
+    views bigint not null,
+    primary key (book_id)
+) engine=InnoDB;
+
+create index idx_book_card_sales_count_book_id on book_card (sales_count, book_id);
+create index idx_book_card_views_book_id on book_card (views, book_id);
@@ -0,0 +1,3 @@
+-- 도서 목록 커서(키셋) 조회용 (정렬값, id) 복합 인덱스
+create index idx_book_created_at_id on book (created_at, id);
+create index idx_book_published_at_id on book (published_at, id);
@@ -0,0 +1,2 @@
+-- 도서 키워드 검색용 FULLTEXT 인덱스 (BookKeywordSearchRepository)
+alter table book add fulltext index ft_book_keyword (title, author, publisher) with parser ngram;
@@ -0,0 +1,9 @@
+-- 조회수 동기화 epoch 반영 기록 (BookViewFlushEpoch)
+-- 조회수 증가분과 같은 트랜잭션에서 INSERT 되어 같은 epoch 이 두 번 반영되지 않게 한다.
+create table book_view_flush_epoch (
+    epoch_id varchar(36) not null,
+    applied_at datetime(6) not null,
+    primary key (epoch_id)
+) engine=InnoDB;
+
+create index idx_book_view_flush_epoch_applied_at on book_view_flush_epoch (applied_at);
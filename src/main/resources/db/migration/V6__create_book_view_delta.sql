@@ -0,0 +1,8 @@
+-- 조회수 동기화 증가분 적재 테이블 (BookViewDelta)
+-- epoch 단위로 INSERT 한 뒤 book, book_card 에 조인 UPDATE 로 반영하고 같은 트랜잭션에서 지운다.
+create table book_view_delta (
+    epoch_id varchar(36) not null,
+    book_id bigint not null,
+    delta bigint not null,
+    primary key (epoch_id, book_id)
+) engine=InnoDB;
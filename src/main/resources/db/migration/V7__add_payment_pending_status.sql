@@ -0,0 +1,10 @@
+-- 결제 승인 대기(PENDING) 상태 추가
+-- 결제사 호출 전 승인 대기로 기록하고, 결과를 알 수 없으면 결제 조회로 확정할 때까지 유지한다.
+alter table payment
+    modify column payment_status enum ('PENDING','APPROVED','ABORTED','CANCELED','PARTIAL_CANCELED') not null;
+
+alter table payment_history
+    modify column payment_status enum ('PENDING','APPROVED','ABORTED','CANCELED','PARTIAL_CANCELED') not null;
+
+-- 결과 확인이 필요한 승인 대기 결제 조회 (PaymentReconcileService)
+create index idx_payment_status_updated_at on payment (payment_status, updated_at);
@@ -0,0 +1,18 @@
+-- 회원 포인트 잔액 (MemberPointBalance)
+-- 포인트 내역 저장과 같은 트랜잭션에서 증감 UPDATE 로 반영한다.
+create table member_point_balance (
+    member_id bigint not null,
+    balance bigint not null,
+    updated_at datetime(6) not null,
+    primary key (member_id)
+) engine=InnoDB;
+
+-- 기존 회원의 잔액을 내역 합계로 채움
+-- (배포 중 이전 버전 노드가 남긴 내역은 잔액 정합성 검사 스케줄러가 보정, 행이 없는 회원은 첫 조회 시 생성)
+insert into member_point_balance (member_id, balance, updated_at)
+select h.member_id,
+       coalesce(sum(case when h.type = 'EARN' then h.amount else -h.amount end), 0),
+       current_timestamp(6)
+from point_history h
+where h.deleted_at is null
+group by h.member_id;
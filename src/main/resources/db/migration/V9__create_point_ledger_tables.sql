@@ -0,0 +1,42 @@
+-- 포인트 월 마감, 내역 보관 (PointMonthlyCheckpoint, PointMonthlyClose, PointHistoryArchive)
+
+-- 회원별 월 마감 잔액 (해당 월에 적립/차감이 있었던 회원만)
+create table point_monthly_checkpoint (
+    id bigint not null auto_increment,
+    member_id bigint not null,
+    closing_month date not null,
+    period_end datetime(6) not null,
+    earned bigint not null,
+    spent bigint not null,
+    closing_balance bigint not null,
+    created_at datetime(6) not null,
+    primary key (id),
+    constraint uk_point_monthly_checkpoint_member_month unique (member_id, closing_month)
+) engine=InnoDB;
+
+-- 마감을 마친 월
+create table point_monthly_close (
+    closing_month date not null,
+    closed_at datetime(6) not null,
+    primary key (closing_month)
+) engine=InnoDB;
+
+-- 마감된 달의 포인트 내역 (point_history 에서 id 그대로 옮김)
+create table point_history_archive (
+    id bigint not null,
+    member_id bigint not null,
+    type enum ('EARN','SPEND') not null,
+    amount integer not null,
+    source varchar(200) not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    deleted_at datetime(6),
+    archived_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_point_history_archive_member_created on point_history_archive (member_id, created_at);
+
+-- 회원별 최근 내역 keyset 조회, 월 마감/보관 시 기간 조회
+create index idx_point_history_member_created on point_history (member_id, created_at);
+create index idx_point_history_created on point_history (created_at);
@@ -15,6 +15,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 import shop.chaekmate.core.book.entity.Book;
+import shop.chaekmate.core.book.repository.BookCardRepository;
 import shop.chaekmate.core.book.repository.BookRepository;
 import shop.chaekmate.core.member.entity.Member;
 import shop.chaekmate.core.member.entity.type.PlatformType;
@@ -56,6 +57,8 @@ class BookQueryControllerTest {
     @Autowired
     private ReviewRepository reviewRepository;
     @Autowired
+    private BookCardRepository bookCardRepository;
+    @Autowired
     CacheManager cacheManager;
 
     @AfterEach
@@ -87,21 +90,30 @@ class BookQueryControllerTest {
 
         // book1: 2 orders by 2 members, 2 reviews
         Order order1 = orderRepository.save(Order.createOrderReady(member1, "order1", "n", "p", "e", "r", "p", "z", "s", "d", "r", LocalDate.now(), 0, 9000));
-        OrderedBook ob1 = orderedBookRepository.save(OrderedBook.createOrderDetailReady(order1, book1, 1, 10000, 9000, 0, null, 0, null, 0, 0, 9000));
+        OrderedBook ob1 = orderedBookRepository.save(paidOrderedBook(order1, book1));
         reviewRepository.save(Review.createReview(member1, ob1, "good book", 5));
 
         Order order2 = orderRepository.save(Order.createOrderReady(member2, "order2", "n", "p", "e", "r", "p", "z", "s", "d", "r", LocalDate.now(), 0, 9000));
-        OrderedBook ob2 = orderedBookRepository.save(OrderedBook.createOrderDetailReady(order2, book1, 1, 10000, 9000, 0, null, 0, null, 0, 0, 9000));
+        OrderedBook ob2 = orderedBookRepository.save(paidOrderedBook(order2, book1));
         reviewRepository.save(Review.createReview(member2, ob2, "nice book", 4));
 
         // book3: 1 order by 1 member, 1 review
         Order order3 = orderRepository.save(Order.createOrderReady(member1, "order3", "n", "p", "e", "r", "p", "z", "s", "d", "r", LocalDate.now(), 0, 9000));
-        OrderedBook ob3 = orderedBookRepository.save(OrderedBook.createOrderDetailReady(order3, book3, 1, 10000, 9000, 0, null, 0, null, 0, 0, 9000));
+        OrderedBook ob3 = orderedBookRepository.save(paidOrderedBook(order3, book3));
         reviewRepository.save(Review.createReview(member1, ob3, "fun", 3));
 
         // book4: 1 order by 1 member, no reviews
         Order order4 = orderRepository.save(Order.createOrderReady(member2, "order4", "n", "p", "e", "r", "p", "z", "s", "d", "r", LocalDate.now(), 0, 9000));
-        orderedBookRepository.save(OrderedBook.createOrderDetailReady(order4, book4, 1, 10000, 9000, 0, null, 0, null, 0, 0, 9000));
+        orderedBookRepository.save(paidOrderedBook(order4, book4));
+
+        // 리포지토리로 직접 저장한 데이터 기준으로 도서 카드 집계
+        bookCardRepository.insertMissingCards();
+    }
+
+    private OrderedBook paidOrderedBook(Order order, Book book) {
+        OrderedBook orderedBook = OrderedBook.createOrderDetailReady(order, book, 1, 10000, 9000, 0, null, 0, null, 0, 0, 9000);
+        orderedBook.markPaymentCompleted();
+        return orderedBook;
     }
 
     @Test
@@ -113,6 +125,22 @@ class BookQueryControllerTest {
                 .andExpect(jsonPath("$.data.content[1].id").value(book3.getId()));
     }
 
+    @Test
+    void 최근_추가된_도서_커서_조회() throws Exception {
+        mockMvc.perform(get("/books/recent").param("cursor", "").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].id").value(book4.getId()))
+                .andExpect(jsonPath("$.data.content[1].id").value(book3.getId()))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").isNotEmpty());
+    }
+
+    @Test
+    void 잘못된_커서로_조회시_400() throws Exception {
+        mockMvc.perform(get("/books/recent").param("cursor", "invalid-cursor").param("size", "2"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void 신간_도서_조회() throws Exception {
         mockMvc.perform(get("/books/new-releases").param("size", "2"))
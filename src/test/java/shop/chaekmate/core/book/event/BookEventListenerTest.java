@@ -1,6 +1,8 @@
 package shop.chaekmate.core.book.event;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -132,5 +134,16 @@ class BookEventListenerTest {
 
         assert msg.id().equals(1L);
     }
-}
 
+    @Test
+    void 섬네일이_없어지면_메시지를_보내지_않음() {
+        // given
+        BookThumbnailEvent event = new BookThumbnailEvent(1L, null);
+
+        // when
+        listener.handleBookThumbnail(event);
+
+        // then
+        verify(publisher, never()).sendBookTaskMessage(any(), any());
+    }
+}
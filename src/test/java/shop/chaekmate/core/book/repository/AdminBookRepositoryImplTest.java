@@ -28,7 +28,7 @@ import shop.chaekmate.core.common.config.QueryDslConfig;
 @ActiveProfiles("test")
 @SuppressWarnings("NonAsciiCharacters")
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
-@Import({QueryDslConfig.class, JpaAuditingConfig.class, AdminBookRepositoryImpl.class})
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, AdminBookRepositoryImpl.class, BookKeywordSearchRepository.class})
 class AdminBookRepositoryImplTest {
 
     @Autowired
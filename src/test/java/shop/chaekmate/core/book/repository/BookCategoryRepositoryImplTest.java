@@ -23,7 +23,7 @@ import shop.chaekmate.core.common.config.QueryDslConfig;
 @ActiveProfiles("test")
 @SuppressWarnings("NonAsciiCharacters")
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
-@Import({QueryDslConfig.class, JpaAuditingConfig.class, BookCategoryRepositoryImpl.class})
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, BookCategoryRepositoryImpl.class, BookKeywordSearchRepository.class})
 class BookCategoryRepositoryImplTest {
 
     private BookCategoryRepositoryImpl bookCategoryRepositoryImpl;
@@ -23,7 +23,7 @@ import shop.chaekmate.core.common.config.QueryDslConfig;
 @ActiveProfiles("test")
 @SuppressWarnings("NonAsciiCharacters")
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
-@Import({QueryDslConfig.class, JpaAuditingConfig.class, BookImageRepositoryImpl.class})
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, BookImageRepositoryImpl.class, BookKeywordSearchRepository.class})
 class BookImageRepositoryImplTest {
 
     private BookImageRepositoryImpl bookImageRepositoryImpl;
@@ -0,0 +1,78 @@
+package shop.chaekmate.core.book.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BookKeywordSearchRepositoryTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    BookKeywordSearchRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new BookKeywordSearchRepository(jdbcTemplate);
+    }
+
+    @Test
+    void MySQL_FULLTEXT_인덱스가_있으면_구문_검색() {
+        // given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("MySQL");
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("ft_book_keyword"))).thenReturn(1);
+
+        // when
+        repository.detectFullTextIndex();
+        String phrase = repository.toPhrase("+해리 포터*");
+
+        // then
+        assertThat(repository.supports("해리 포터")).isTrue();
+        assertThat(phrase).isEqualTo("\"해리 포터\"");
+    }
+
+    @Test
+    void H2_에서는_LIKE_검색으로_대체() {
+        // given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+
+        // when
+        repository.detectFullTextIndex();
+
+        // then
+        assertThat(repository.supports("해리 포터")).isFalse();
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Integer.class), any());
+    }
+
+    @Test
+    void ngram_토큰보다_짧은_키워드는_LIKE_검색으로_대체() {
+        // given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("MySQL");
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("ft_book_keyword"))).thenReturn(1);
+
+        // when
+        repository.detectFullTextIndex();
+
+        // then
+        assertThat(repository.supports("책")).isFalse();
+    }
+}
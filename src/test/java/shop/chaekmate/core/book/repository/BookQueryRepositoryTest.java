@@ -11,8 +11,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.book.dto.request.BookCursor;
 import shop.chaekmate.core.book.dto.request.BookSearchCondition;
 import shop.chaekmate.core.book.dto.response.BookQueryResponse;
+import shop.chaekmate.core.book.dto.response.BookQuerySliceResponse;
 import shop.chaekmate.core.book.entity.Book;
 import shop.chaekmate.core.common.config.JpaAuditingConfig;
 import shop.chaekmate.core.common.config.QueryDslConfig;
@@ -37,7 +39,8 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 @ActiveProfiles("test")
 @SuppressWarnings("NonAsciiCharacters")
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
-@Import({QueryDslConfig.class, JpaAuditingConfig.class, BookRepositoryImpl.class})
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, BookRepositoryImpl.class, BookKeywordSearchRepository.class,
+        BookRankingSourceRepository.class})
 class BookQueryRepositoryTest {
 
     @Autowired
@@ -52,6 +55,10 @@ class BookQueryRepositoryTest {
     private OrderedBookRepository orderedBookRepository;
     @Autowired
     private ReviewRepository reviewRepository;
+    @Autowired
+    private BookCardRepository bookCardRepository;
+    @Autowired
+    private BookRankingSourceRepository rankingSourceRepository;
 
     private Member member1, member2;
     private Book book1, book2, book3, book4;
@@ -85,15 +92,24 @@ class BookQueryRepositoryTest {
         book4 = bookRepository.save(createBook("Recent, In-Stock Book", LocalDateTime.now().minusDays(5), "4", 200, 20));
 
         Order order1 = orderRepository.save(Order.createOrderReady(member1, "order1", "n", "p", "e", "r", "p", "z", "s", "d", "r", LocalDate.now(), 0, 9000));
-        OrderedBook ob1 = orderedBookRepository.save(OrderedBook.createOrderDetailReady(order1, book1, 1, 10000, 9000, 0, null, 0, null, 0, 0, 9000));
+        OrderedBook ob1 = orderedBookRepository.save(paidOrderedBook(order1, book1));
         reviewRepository.save(Review.createReview(member1, ob1, "good book", 5));
 
         Order order2 = orderRepository.save(Order.createOrderReady(member2, "order2", "n", "p", "e", "r", "p", "z", "s", "d", "r", LocalDate.now(), 0, 9000));
-        orderedBookRepository.save(OrderedBook.createOrderDetailReady(order2, book1, 1, 10000, 9000, 0, null, 0, null, 0, 0, 9000));
+        orderedBookRepository.save(paidOrderedBook(order2, book1));
 
         Order order3 = orderRepository.save(Order.createOrderReady(member1, "order3", "n", "p", "e", "r", "p", "z", "s", "d", "r", LocalDate.now(), 0, 9000));
-        OrderedBook ob3 = orderedBookRepository.save(OrderedBook.createOrderDetailReady(order3, book3, 1, 10000, 9000, 0, null, 0, null, 0, 0, 9000));
+        OrderedBook ob3 = orderedBookRepository.save(paidOrderedBook(order3, book3));
         reviewRepository.save(Review.createReview(member1, ob3, "fun", 3));
+
+        // 원본 데이터 기준으로 도서 카드 집계
+        bookCardRepository.insertMissingCards();
+    }
+
+    private OrderedBook paidOrderedBook(Order order, Book book) {
+        OrderedBook orderedBook = OrderedBook.createOrderDetailReady(order, book, 1, 10000, 9000, 0, null, 0, null, 0, 0, 9000);
+        orderedBook.markPaymentCompleted();
+        return orderedBook;
     }
 
     @Test
@@ -119,6 +135,14 @@ class BookQueryRepositoryTest {
         List<Long> ids = result.getContent().stream().map(BookQueryResponse::id).toList();
         assertThat(ids).containsExactly(book1.getId(), book3.getId());
     }
+
+    @Test
+    void 베스트셀러_판매량이_같으면_id_역순으로_조회() {
+        Pageable pageable = PageRequest.of(1, 2);
+        Slice<BookQueryResponse> result = bookRepositoryImpl.findBestsellers(pageable);
+        List<Long> ids = result.getContent().stream().map(BookQueryResponse::id).toList();
+        assertThat(ids).containsExactly(book4.getId(), book2.getId()); // 판매량 0 인 도서
+    }
     
     @Test
     void 전체도서_조회_검색조건_포함() {
@@ -149,12 +173,83 @@ class BookQueryRepositoryTest {
 
     @Test
     void 얼리어답터의_픽_조회() {
-        Pageable pageable = PageRequest.of(0, 2);
-        Slice<BookQueryResponse> result = bookRepositoryImpl.findEarlyAdopterPicks(pageable);
-        List<Long> ids = result.getContent().stream().map(BookQueryResponse::id).toList();
+        List<Long> ids = rankingSourceRepository.findEarlyAdopterBookIds(LocalDateTime.now().minusDays(29), 0, 2);
+        assertThat(ids).containsExactly(book1.getId(), book3.getId());
+    }
+
+    @Test
+    void 얼리어답터의_픽은_결제_완료된_구매만_집계() {
+        // book4 를 두 회원이 주문했지만 결제 전
+        Order order4 = orderRepository.save(Order.createOrderReady(member1, "order4", "n", "p", "e", "r", "p", "z", "s", "d", "r", LocalDate.now(), 0, 9000));
+        orderedBookRepository.save(OrderedBook.createOrderDetailReady(order4, book4, 1, 10000, 9000, 0, null, 0, null, 0, 0, 9000));
+        Order order5 = orderRepository.save(Order.createOrderReady(member2, "order5", "n", "p", "e", "r", "p", "z", "s", "d", "r", LocalDate.now(), 0, 9000));
+        orderedBookRepository.save(OrderedBook.createOrderDetailReady(order5, book4, 1, 10000, 9000, 0, null, 0, null, 0, 0, 9000));
+
+        List<Long> ids = rankingSourceRepository.findEarlyAdopterBookIds(LocalDateTime.now().minusDays(29), 0, 10);
         assertThat(ids).containsExactly(book1.getId(), book3.getId());
     }
 
+    @Test
+    void 도서_카드에서_평점과_리뷰수_조회() {
+        Pageable pageable = PageRequest.of(0, 4);
+        Slice<BookQueryResponse> result = bookRepositoryImpl.findBestsellers(pageable);
+        BookQueryResponse bestseller = result.getContent().getFirst();
+        assertAll(
+                () -> assertThat(bestseller.id()).isEqualTo(book1.getId()),
+                () -> assertThat(bestseller.rating()).isEqualTo(5.0),
+                () -> assertThat(bestseller.reviewCount()).isEqualTo(1L),
+                () -> assertThat(bestseller.views()).isEqualTo(100L)
+        );
+    }
+
+    @Test
+    void 최근_추가된_도서_커서_조회() {
+        BookQuerySliceResponse first = bookRepositoryImpl.findRecentlyAddedBooks((BookCursor) null, 2);
+        BookCursor cursor = BookCursor.decode(first.nextCursor(), BookCursor.Type.CREATED_AT);
+        BookQuerySliceResponse second = bookRepositoryImpl.findRecentlyAddedBooks(cursor, 2);
+
+        assertAll(
+                () -> assertThat(first.content()).extracting(BookQueryResponse::id)
+                        .containsExactly(book4.getId(), book3.getId()),
+                () -> assertThat(first.hasNext()).isTrue(),
+                () -> assertThat(second.content()).extracting(BookQueryResponse::id)
+                        .containsExactly(book2.getId(), book1.getId()),
+                () -> assertThat(second.hasNext()).isFalse(),
+                () -> assertThat(second.nextCursor()).isNull()
+        );
+    }
+
+    @Test
+    void 신간_도서_커서_조회시_출간일_없는_도서는_마지막_구간에서_id_역순() {
+        Book book5 = bookRepository.save(createBook("No Published Date 1", null, "5", 0, 1));
+        Book book6 = bookRepository.save(createBook("No Published Date 2", null, "6", 0, 1));
+        bookCardRepository.insertMissingCards();
+
+        BookQuerySliceResponse first = bookRepositoryImpl.findNewBooks((BookCursor) null, 5);
+        BookCursor cursor = BookCursor.decode(first.nextCursor(), BookCursor.Type.PUBLISHED_AT);
+        BookQuerySliceResponse second = bookRepositoryImpl.findNewBooks(cursor, 5);
+
+        assertAll(
+                () -> assertThat(first.content()).extracting(BookQueryResponse::id)
+                        .containsExactly(book3.getId(), book4.getId(), book1.getId(), book2.getId(), book6.getId()),
+                () -> assertThat(first.hasNext()).isTrue(),
+                () -> assertThat(cursor.dateTimeValue()).isNull(),
+                () -> assertThat(second.content()).extracting(BookQueryResponse::id)
+                        .containsExactly(book5.getId()),
+                () -> assertThat(second.hasNext()).isFalse()
+        );
+    }
+
+    @Test
+    void 조회수_기준_랭킹_커서_조회() {
+        BookQuerySliceResponse first = bookRepositoryImpl.findBooksByViews((BookCursor) null, 2);
+        BookCursor cursor = BookCursor.decode(first.nextCursor(), BookCursor.Type.VIEWS);
+        BookQuerySliceResponse second = bookRepositoryImpl.findBooksByViews(cursor, 2);
+
+        assertThat(second.content()).extracting(BookQueryResponse::id)
+                .containsExactly(book1.getId(), book2.getId()); // 조회수 3 ,4 등
+    }
+
     @Test
     void 재고있는_책_랜덤_조회() {
         Pageable pageable = PageRequest.of(0, 3);
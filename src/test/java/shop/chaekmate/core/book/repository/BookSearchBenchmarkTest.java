@@ -0,0 +1,158 @@
+package shop.chaekmate.core.book.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.book.dto.request.BookSearchCondition;
+import shop.chaekmate.core.book.dto.response.BookListResponse;
+import shop.chaekmate.core.book.dto.response.BookQueryResponse;
+import shop.chaekmate.core.common.config.JpaAuditingConfig;
+import shop.chaekmate.core.common.config.QueryDslConfig;
+
+/**
+ * 도서 목록 필터 회귀 벤치마크 (도서 10만 권 x 카테고리 5개 x 태그 10개)
+ * <p>
+ * 데이터 적재에 시간이 걸리므로 {@code -Dbenchmark=true} 일 때만 실행한다.
+ */
+@Slf4j
+@DataJpaTest
+@ActiveProfiles("test")
+@SuppressWarnings("NonAsciiCharacters")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, BookRepositoryImpl.class, BookKeywordSearchRepository.class})
+class BookSearchBenchmarkTest {
+
+    private static final int BOOK_COUNT = 100_000;
+    private static final int CATEGORY_COUNT = 5;
+    private static final int TAG_COUNT = 10;
+    private static final int BATCH_SIZE = 5_000;
+
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+    private static final long MAX_MEDIAN_MILLIS = 300;
+
+    @Autowired
+    private BookRepositoryImpl bookRepositoryImpl;
+    @Autowired
+    private BookCardRepository bookCardRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long categoryId;
+    private Long tagId;
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> books = new ArrayList<>();
+        for (int i = 0; i < BOOK_COUNT; i++) {
+            books.add(new Object[]{"Book " + i, "Author " + (i % 1000), "Publisher " + (i % 100),
+                    String.format("%013d", i), 10000, 9000, i % 500, i % 10, now, now, now});
+        }
+        batchInsert("INSERT INTO book (title, author, publisher, isbn, price, sales_price, is_wrappable, views, "
+                + "is_sale_end, stock, published_at, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, false, ?, false, ?, ?, ?, ?)", books);
+
+        List<Object[]> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            categories.add(new Object[]{"Category " + i, now, now});
+        }
+        batchInsert("INSERT INTO category (name, created_at, updated_at) VALUES (?, ?, ?)", categories);
+
+        List<Object[]> tags = new ArrayList<>();
+        for (int i = 0; i < TAG_COUNT; i++) {
+            tags.add(new Object[]{"Tag " + i, now, now});
+        }
+        batchInsert("INSERT INTO tag (name, created_at, updated_at) VALUES (?, ?, ?)", tags);
+
+        List<Long> bookIds = jdbcTemplate.queryForList("SELECT id FROM book", Long.class);
+        List<Long> categoryIds = jdbcTemplate.queryForList("SELECT id FROM category", Long.class);
+        List<Long> tagIds = jdbcTemplate.queryForList("SELECT id FROM tag", Long.class);
+        categoryId = categoryIds.getFirst();
+        tagId = tagIds.getFirst();
+
+        // 모든 도서를 모든 카테고리, 태그에 연결 (조인 시 도서당 50행으로 늘어나는 최악의 경우)
+        List<Object[]> bookCategories = new ArrayList<>();
+        List<Object[]> bookTags = new ArrayList<>();
+        for (Long bookId : bookIds) {
+            categoryIds.forEach(id -> bookCategories.add(new Object[]{bookId, id, now, now}));
+            tagIds.forEach(id -> bookTags.add(new Object[]{bookId, id, now, now}));
+        }
+        batchInsert("INSERT INTO book_category (book_id, category_id, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                bookCategories);
+        batchInsert("INSERT INTO book_tag (book_id, tag_id, created_at, updated_at) VALUES (?, ?, ?, ?)", bookTags);
+
+        bookCardRepository.insertMissingCards();
+    }
+
+    @Test
+    void 카테고리_태그_필터_전체도서_조회() {
+        BookSearchCondition condition = new BookSearchCondition(categoryId, tagId, null);
+        Pageable pageable = PageRequest.of(100, 20);
+
+        Slice<BookQueryResponse> result = bookRepositoryImpl.findAllBooks(condition, pageable);
+        long median = measure("findAllBooks", () -> bookRepositoryImpl.findAllBooks(condition, pageable));
+
+        assertThat(result.getContent()).extracting(BookQueryResponse::id).doesNotHaveDuplicates().hasSize(20);
+        assertThat(median).isLessThan(MAX_MEDIAN_MILLIS);
+    }
+
+    @Test
+    void 카테고리_태그_필터_도서_검색() {
+        BookSearchCondition condition = new BookSearchCondition(categoryId, tagId, null);
+        Pageable pageable = PageRequest.of(100, 20);
+
+        Page<BookListResponse> result = bookRepositoryImpl.searchBooks(condition, pageable);
+        long median = measure("searchBooks", () -> bookRepositoryImpl.searchBooks(condition, pageable));
+
+        assertThat(result.getContent()).extracting(BookListResponse::id).doesNotHaveDuplicates().hasSize(20);
+        assertThat(result.getTotalElements()).isEqualTo(BOOK_COUNT);
+        assertThat(median).isLessThan(MAX_MEDIAN_MILLIS);
+    }
+
+    private long measure(String name, Supplier<?> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+        }
+
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            elapsed[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+
+        Arrays.sort(elapsed);
+        long median = elapsed[ITERATIONS / 2];
+        log.info("[Benchmark] {} median={}ms p95={}ms", name, median, elapsed[(int) (ITERATIONS * 0.95) - 1]);
+        return median;
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
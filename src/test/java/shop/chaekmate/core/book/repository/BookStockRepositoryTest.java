@@ -0,0 +1,78 @@
+package shop.chaekmate.core.book.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.common.config.JpaAuditingConfig;
+import shop.chaekmate.core.common.config.QueryDslConfig;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, BookStockRepository.class,
+        BookKeywordSearchRepository.class})
+class BookStockRepositoryTest {
+
+    @Autowired
+    BookStockRepository repository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    Long firstId;
+    Long secondId;
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < 2; i++) {
+            jdbcTemplate.update("INSERT INTO book (title, author, publisher, isbn, price, sales_price, is_wrappable, "
+                            + "views, is_sale_end, stock, published_at, created_at, updated_at) "
+                            + "VALUES (?, 'Author', 'Publisher', ?, 10000, 9000, false, 0, false, ?, ?, ?, ?)",
+                    "Book " + i, String.format("%013d", i), i == 0 ? 5 : 1, now, now, now);
+        }
+
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM book ORDER BY id", Long.class);
+        firstId = ids.get(0);
+        secondId = ids.get(1);
+    }
+
+    @Test
+    void 재고가_충분하면_모두_차감() {
+        // when
+        List<Long> shortage = repository.decreaseStocks(Map.of(secondId, 1, firstId, 3));
+
+        // then
+        assertThat(shortage).isEmpty();
+        assertThat(stockOf(firstId)).isEqualTo(2);
+        assertThat(stockOf(secondId)).isZero();
+    }
+
+    @Test
+    void 재고가_부족한_도서는_차감하지_않고_반환() {
+        // when
+        List<Long> shortage = repository.decreaseStocks(Map.of(firstId, 1, secondId, 2, 999_999L, 1));
+
+        // then
+        assertThat(shortage).containsExactly(secondId, 999_999L);
+        assertThat(stockOf(firstId)).isEqualTo(4);
+        assertThat(stockOf(secondId)).isEqualTo(1);
+    }
+
+    private int stockOf(Long bookId) {
+        return jdbcTemplate.queryForObject("SELECT stock FROM book WHERE id = ?", Integer.class, bookId);
+    }
+}
@@ -24,7 +24,7 @@ import shop.chaekmate.core.common.config.QueryDslConfig;
 @ActiveProfiles("test")
 @SuppressWarnings("NonAsciiCharacters")
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
-@Import({QueryDslConfig.class, JpaAuditingConfig.class, BookTagRepositoryImpl.class})
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, BookTagRepositoryImpl.class, BookKeywordSearchRepository.class})
 class BookTagRepositoryImplTest {
 
     private BookTagRepositoryImpl bookTagRepositoryImpl;
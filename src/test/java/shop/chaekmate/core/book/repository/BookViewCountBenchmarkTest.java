@@ -0,0 +1,97 @@
+package shop.chaekmate.core.book.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.common.config.JpaAuditingConfig;
+import shop.chaekmate.core.common.config.QueryDslConfig;
+
+/**
+ * 조회수 반영 처리량 벤치마크 (도서 10만 권 중 5만 권에 증가분 반영)
+ * <p>
+ * 데이터 적재에 시간이 걸리므로 {@code -Dbenchmark=true} 일 때만 실행한다.
+ */
+@Slf4j
+@DataJpaTest
+@ActiveProfiles("test")
+@SuppressWarnings("NonAsciiCharacters")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, BookViewCountRepositoryImpl.class,
+        BookKeywordSearchRepository.class})
+class BookViewCountBenchmarkTest {
+
+    private static final int BOOK_COUNT = 100_000;
+    private static final int VIEWED_BOOK_COUNT = 50_000;
+    private static final int BATCH_SIZE = 5_000;
+    private static final int ITERATIONS = 5;
+
+    @Autowired
+    private BookViewCountRepositoryImpl repository;
+    @Autowired
+    private BookCardRepository bookCardRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Map<Long, Long> viewMap;
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> books = new ArrayList<>();
+        for (int i = 0; i < BOOK_COUNT; i++) {
+            books.add(new Object[]{"Book " + i, String.format("%013d", i), now, now, now});
+        }
+        for (int from = 0; from < books.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate("INSERT INTO book (title, author, publisher, isbn, price, sales_price, "
+                            + "is_wrappable, views, is_sale_end, stock, published_at, created_at, updated_at) "
+                            + "VALUES (?, 'Author', 'Publisher', ?, 10000, 9000, false, 0, false, 10, ?, ?, ?)",
+                    books.subList(from, Math.min(from + BATCH_SIZE, books.size())));
+        }
+        bookCardRepository.insertMissingCards();
+
+        // 짝수 번째 도서만 조회됨 (id 가 띄엄띄엄한 경우)
+        List<Long> bookIds = jdbcTemplate.queryForList("SELECT id FROM book ORDER BY id", Long.class);
+        viewMap = new HashMap<>();
+        for (int i = 0; i < VIEWED_BOOK_COUNT; i++) {
+            viewMap.put(bookIds.get(i * 2), (long) (i % 7 + 1));
+        }
+    }
+
+    @Test
+    void 조회수_반영_처리량() {
+        long totalNanos = 0L;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            Map<Long, Long> applied = repository.bulkUpdateViewCount("epoch-" + i, viewMap);
+            totalNanos += System.nanoTime() - start;
+
+            assertThat(applied).hasSize(VIEWED_BOOK_COUNT);
+        }
+
+        double rowsPerSecond = (double) VIEWED_BOOK_COUNT * ITERATIONS / (totalNanos / 1_000_000_000.0);
+        log.info("[Benchmark] bulkUpdateViewCount rows={} avg={}ms rows/sec={}", VIEWED_BOOK_COUNT,
+                totalNanos / ITERATIONS / 1_000_000, String.format("%.0f", rowsPerSecond));
+
+        Long totalViews = jdbcTemplate.queryForObject("SELECT SUM(views) FROM book_card", Long.class);
+        long expected = viewMap.values().stream().mapToLong(Long::longValue).sum() * ITERATIONS;
+        assertThat(totalViews).isEqualTo(expected);
+    }
+}
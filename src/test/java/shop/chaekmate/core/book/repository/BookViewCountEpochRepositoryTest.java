@@ -0,0 +1,101 @@
+package shop.chaekmate.core.book.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.common.config.JpaAuditingConfig;
+import shop.chaekmate.core.common.config.QueryDslConfig;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, BookViewCountRepositoryImpl.class,
+        BookKeywordSearchRepository.class})
+class BookViewCountEpochRepositoryTest {
+
+    @Autowired
+    BookViewCountRepositoryImpl repository;
+
+    @Autowired
+    BookCardRepository bookCardRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    Long firstId;
+    Long secondId;
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < 2; i++) {
+            jdbcTemplate.update("INSERT INTO book (title, author, publisher, isbn, price, sales_price, is_wrappable, "
+                            + "views, is_sale_end, stock, published_at, created_at, updated_at) "
+                            + "VALUES (?, 'Author', 'Publisher', ?, 10000, 9000, false, 5, false, 10, ?, ?, ?)",
+                    "Book " + i, String.format("%013d", i), now, now, now);
+        }
+        bookCardRepository.insertMissingCards();
+
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM book ORDER BY id", Long.class);
+        firstId = ids.get(0);
+        secondId = ids.get(1);
+    }
+
+    @Test
+    void 증가분이_도서와_도서_카드에_반영되고_적재_테이블은_비워짐() {
+        // given
+        Long missingId = secondId + 1_000L;
+
+        // when
+        Optional<Map<Long, Long>> applied = repository.applyEpoch("epoch-1",
+                Map.of(firstId, 10L, secondId, 20L, missingId, 30L));
+
+        // then
+        assertThat(applied).contains(Map.of(firstId, 10L, secondId, 20L));
+        assertThat(views("book", "id", firstId)).isEqualTo(15L);
+        assertThat(views("book", "id", secondId)).isEqualTo(25L);
+        assertThat(views("book_card", "book_id", firstId)).isEqualTo(15L);
+        assertThat(views("book_card", "book_id", secondId)).isEqualTo(25L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM book_view_delta", Long.class)).isZero();
+    }
+
+    @Test
+    void 이미_반영된_epoch_이면_조회수를_다시_더하지_않음() {
+        // given
+        repository.applyEpoch("epoch-1", Map.of(firstId, 10L));
+
+        // when
+        Optional<Map<Long, Long>> applied = repository.applyEpoch("epoch-1", Map.of(firstId, 10L));
+
+        // then
+        assertThat(applied).isEmpty();
+        assertThat(views("book", "id", firstId)).isEqualTo(15L);
+    }
+
+    @Test
+    void 빈_map이면_반영할_도서가_없음() {
+        // when
+        Map<Long, Long> applied = repository.bulkUpdateViewCount("epoch-1", Map.of());
+
+        // then
+        assertThat(applied).isEmpty();
+    }
+
+    private Long views(String table, String idColumn, Long id) {
+        return jdbcTemplate.queryForObject("SELECT views FROM " + table + " WHERE " + idColumn + " = ?", Long.class, id);
+    }
+}
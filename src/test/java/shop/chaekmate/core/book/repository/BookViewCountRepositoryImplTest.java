@@ -1,26 +1,26 @@
 package shop.chaekmate.core.book.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.never;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -43,49 +43,59 @@ class BookViewCountRepositoryImplTest {
     @Test
     void bulkUpdate_성공() {
         // given
-        Map<Long, Long> viewMap = new HashMap<>();
-        viewMap.put(1L, 10L);  // id=1, +10 증가
-        viewMap.put(2L, 20L);  // id=2, +20 증가
-
-        String expectedSql = "UPDATE book SET views = views + ? WHERE id = ?";
-
-        int[] dbResult = {1, 1};
-
-        // JdbcTemplate batchUpdate Mock
-        when(jdbcTemplate.batchUpdate(eq(expectedSql), anyList()))
-                .thenReturn(dbResult);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("epoch-1")))
+                .thenReturn(List.of(1L, 2L));
 
         // when
-        int[] result = repository.bulkUpdateViewCountOptimized(viewMap);
+        Map<Long, Long> applied = repository.bulkUpdateViewCount("epoch-1", Map.of(2L, 20L, 1L, 10L));
 
         // then
-        assertThat(result).containsExactly(1, 1);
+        assertThat(applied).isEqualTo(Map.of(1L, 10L, 2L, 20L));
 
-        // SQL + 파라미터 검증
-        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        // 도서 id 오름차순으로 한 번에 적재
+        verify(jdbcTemplate).update("INSERT INTO book_view_delta (epoch_id, book_id, delta) VALUES (?, ?, ?), (?, ?, ?)",
+                "epoch-1", 1L, 10L, "epoch-1", 2L, 20L);
 
-        verify(jdbcTemplate, times(1))
-                .batchUpdate(eq(expectedSql), captor.capture());
-
-        List<Object[]> batchArgs = captor.getValue();
+        // 청크 하나당 book, book_card UPDATE 한 번씩
+        verify(jdbcTemplate, times(2)).update(startsWith("UPDATE book"), eq("epoch-1"), eq("epoch-1"), eq(1L), eq(2L));
+        verify(jdbcTemplate).update("DELETE FROM book_view_delta WHERE epoch_id = ?", "epoch-1");
+    }
 
-        assertThat(batchArgs).hasSize(2);
+    @Test
+    void bulkUpdate_없는_도서는_반영_결과에서_제외() {
+        // given
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("epoch-1")))
+                .thenReturn(List.of(1L));
 
-        // 1번째 row: increment=10L, id=1L
-        assertThat(batchArgs.get(0)).containsExactly(10L, 1L);
+        // when
+        Map<Long, Long> applied = repository.bulkUpdateViewCount("epoch-1", Map.of(1L, 10L, 999L, 30L));
 
-        // 2번째 row: increment=20L, id=2L
-        assertThat(batchArgs.get(1)).containsExactly(20L, 2L);
+        // then
+        assertThat(applied).isEqualTo(Map.of(1L, 10L));
     }
 
     @Test
     void bulkUpdate_빈_map이면_DB호출없음() {
         // when
-        int[] result = repository.bulkUpdateViewCountOptimized(Collections.emptyMap());
+        Map<Long, Long> applied = repository.bulkUpdateViewCount("epoch-1", Map.of());
 
         // then
-        assertThat(result).isEmpty();
+        assertThat(applied).isEmpty();
 
-        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void 이미_기록된_epoch_이면_반영하지_않음() {
+        // given
+        when(jdbcTemplate.update(startsWith("INSERT INTO book_view_flush_epoch"), any(), any()))
+                .thenThrow(new DuplicateKeyException("duplicate"));
+
+        // when
+        Optional<Map<Long, Long>> applied = repository.applyEpoch("epoch-1", Map.of(1L, 10L));
+
+        // then
+        assertThat(applied).isEmpty();
+        verify(jdbcTemplate, times(1)).update(anyString(), any(), any());
     }
 }
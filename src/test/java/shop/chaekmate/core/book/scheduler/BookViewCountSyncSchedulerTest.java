@@ -2,13 +2,16 @@ package shop.chaekmate.core.book.scheduler;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -17,11 +20,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.book.repository.BookViewCountRedisRepository;
 import shop.chaekmate.core.book.repository.BookViewCountRepositoryImpl;
+import shop.chaekmate.core.book.service.BookRankingService;
 
 @ActiveProfiles("test")
 @ExtendWith(MockitoExtension.class)
@@ -30,13 +32,13 @@ import shop.chaekmate.core.book.repository.BookViewCountRepositoryImpl;
 class BookViewCountSyncSchedulerTest {
 
     @Mock
-    private StringRedisTemplate redisTemplate;
+    private BookViewCountRedisRepository bookViewCountRedisRepository;
 
     @Mock
     private BookViewCountRepositoryImpl viewCountRepository;
 
     @Mock
-    private ValueOperations<String, String> valueOperations;
+    private BookRankingService bookRankingService;
 
     @InjectMocks
     private BookViewCountSyncScheduler scheduler;
@@ -44,30 +46,14 @@ class BookViewCountSyncSchedulerTest {
     @Test
     void 조회수_동기화_성공() {
         // given
-        List<String> redisKeys = List.of("book:views:1", "book:views:2");
-
-        // SCAN 커서 Mock
-        Cursor<String> cursor = mock(Cursor.class);
-
-        when(redisTemplate.scan(any()))
-                .thenReturn(cursor);
-
-        // 커서 작동 방식 제어
-        when(cursor.hasNext()).thenReturn(true, true, false);
-        when(cursor.next()).thenReturn("book:views:1", "book:views:2");
-
-        // multiGet mock
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.multiGet(redisKeys))
-                .thenReturn(List.of("10", "20"));
+        when(bookViewCountRedisRepository.findFlushingEpochs()).thenReturn(Set.of());
+        when(bookViewCountRedisRepository.beginFlush()).thenReturn("epoch-1");
+        when(bookViewCountRedisRepository.findEpoch("epoch-1"))
+                .thenReturn(Map.of(1L, 10L, 2L, 20L));
 
         // DB 업데이트 mock
-        when(viewCountRepository.bulkUpdateViewCountOptimized(any()))
-                .thenReturn(new int[]{1, 1});
-
-        // Redis delete mock
-        when(redisTemplate.delete(redisKeys))
-                .thenReturn(2L);
+        when(viewCountRepository.applyEpoch(eq("epoch-1"), any()))
+                .thenReturn(Optional.of(Map.of(1L, 10L, 2L, 20L)));
 
         // when
         scheduler.syncViewCounts();
@@ -76,7 +62,7 @@ class BookViewCountSyncSchedulerTest {
         // DB 업데이트 map 구성 검증
         ArgumentCaptor<Map> mapCaptor = ArgumentCaptor.forClass(Map.class);
         verify(viewCountRepository, times(1))
-                .bulkUpdateViewCountOptimized(mapCaptor.capture());
+                .applyEpoch(eq("epoch-1"), mapCaptor.capture());
 
         Map<Long, Long> viewMap = mapCaptor.getValue();
 
@@ -85,7 +71,54 @@ class BookViewCountSyncSchedulerTest {
                 .containsEntry(1L, 10L)
                 .containsEntry(2L, 20L);
 
-        // Redis 삭제 검증
-        verify(redisTemplate, times(1)).delete(redisKeys);
+        // 조회수 랭킹 반영 검증
+        verify(bookRankingService, times(1)).recordViews(viewMap);
+
+        // DB 반영 후 ack 검증
+        verify(bookViewCountRedisRepository, times(1)).acknowledge("epoch-1");
+    }
+
+    @Test
+    void 이미_반영된_epoch_은_랭킹에_다시_반영하지_않고_ack_만_진행() {
+        // given
+        when(bookViewCountRedisRepository.findFlushingEpochs()).thenReturn(Set.of("epoch-0"));
+        when(bookViewCountRedisRepository.beginFlush()).thenReturn(null);
+        when(bookViewCountRedisRepository.findEpoch("epoch-0")).thenReturn(Map.of(1L, 10L));
+        when(viewCountRepository.applyEpoch(eq("epoch-0"), any())).thenReturn(Optional.empty());
+
+        // when
+        scheduler.syncViewCounts();
+
+        // then
+        verify(bookRankingService, never()).recordViews(anyMap());
+        verify(bookViewCountRedisRepository, times(1)).acknowledge("epoch-0");
+    }
+
+    @Test
+    void DB_반영에_실패하면_ack_하지_않음() {
+        // given
+        when(bookViewCountRedisRepository.findFlushingEpochs()).thenReturn(Set.of());
+        when(bookViewCountRedisRepository.beginFlush()).thenReturn("epoch-1");
+        when(bookViewCountRedisRepository.findEpoch("epoch-1")).thenReturn(Map.of(1L, 10L));
+        when(viewCountRepository.applyEpoch(eq("epoch-1"), any())).thenThrow(new IllegalStateException("db down"));
+
+        // when
+        scheduler.syncViewCounts();
+
+        // then
+        verify(bookViewCountRedisRepository, never()).acknowledge(any());
+    }
+
+    @Test
+    void 쌓인_조회수가_없으면_DB_를_건드리지_않음() {
+        // given
+        when(bookViewCountRedisRepository.findFlushingEpochs()).thenReturn(Set.of());
+        when(bookViewCountRedisRepository.beginFlush()).thenReturn(null);
+
+        // when
+        scheduler.syncViewCounts();
+
+        // then
+        verify(viewCountRepository, never()).applyEpoch(any(), any());
     }
 }
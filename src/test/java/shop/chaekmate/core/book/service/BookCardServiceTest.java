@@ -0,0 +1,80 @@
+package shop.chaekmate.core.book.service;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.book.repository.BookCardRepository;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BookCardServiceTest {
+
+    @Mock
+    private BookCardRepository bookCardRepository;
+
+    @InjectMocks
+    private BookCardService bookCardService;
+
+    @Test
+    void 리뷰_변경분_반영_성공() {
+        // given
+        when(bookCardRepository.applyReviewDelta(1L, 4, 1)).thenReturn(1);
+
+        // when
+        bookCardService.applyReviewDelta(1L, 4, 1);
+
+        // then
+        verify(bookCardRepository, never()).insertCardFromSource(1L);
+    }
+
+    @Test
+    void 카드가_없으면_원본_기준으로_재집계() {
+        // given
+        when(bookCardRepository.applyReviewDelta(1L, 4, 1)).thenReturn(0);
+
+        // when
+        bookCardService.applyReviewDelta(1L, 4, 1);
+
+        // then
+        verify(bookCardRepository).deleteByBookId(1L);
+        verify(bookCardRepository).insertCardFromSource(1L);
+    }
+
+    @Test
+    void 판매량_반영_성공() {
+        // given
+        when(bookCardRepository.increaseSalesCount(1L, 2)).thenReturn(1);
+        when(bookCardRepository.increaseSalesCount(2L, 1)).thenReturn(1);
+
+        // when
+        bookCardService.applySales(Map.of(1L, 2, 2L, 1));
+
+        // then
+        verify(bookCardRepository).increaseSalesCount(1L, 2);
+        verify(bookCardRepository).increaseSalesCount(2L, 1);
+    }
+
+    @Test
+    void 섬네일_변경_반영_성공() {
+        // given
+        when(bookCardRepository.updateThumbnailUrl(1L, "new.png")).thenReturn(1);
+
+        // when
+        bookCardService.updateThumbnail(1L, "new.png");
+
+        // then
+        verify(bookCardRepository, never()).insertCardFromSource(1L);
+    }
+}
@@ -0,0 +1,43 @@
+package shop.chaekmate.core.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.book.dto.response.BookQueryResponse;
+import shop.chaekmate.core.book.dto.response.BookQuerySliceResponse;
+
+@ActiveProfiles("test")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BookQueryCacheTagResolverTest {
+
+    private final BookQueryCacheTagResolver resolver = new BookQueryCacheTagResolver();
+
+    private BookQueryResponse card(Long id) {
+        return new BookQueryResponse(id, "title" + id, "author", 10000, 9000, 4.5, 10L, "url", 100L);
+    }
+
+    @Test
+    void 목록_종류와_담긴_도서로_태그_생성() {
+        // given
+        BookQuerySliceResponse response = new BookQuerySliceResponse(List.of(card(1L), card(2L)), true, null);
+
+        // when
+        Set<String> tags = resolver.resolveTags("findNewBooks_Page request [number: 0, size 2, sort: UNSORTED]", response);
+
+        // then
+        assertThat(tags).containsExactlyInAnyOrder("list:findNewBooks", "book:1", "book:2");
+    }
+
+    @Test
+    void 도서_목록_캐시만_지원() {
+        assertThat(resolver.supports("bookQueries")).isTrue();
+        assertThat(resolver.supports("bookRankings")).isTrue();
+        assertThat(resolver.supports("categories")).isFalse();
+    }
+}
@@ -18,12 +18,15 @@ import shop.chaekmate.core.book.dto.request.BookSearchCondition;
 import shop.chaekmate.core.book.dto.request.RankingType;
 import shop.chaekmate.core.book.dto.response.BookQueryResponse;
 import shop.chaekmate.core.book.dto.response.BookQuerySliceResponse;
+import shop.chaekmate.core.book.repository.BookRankingBoard;
 import shop.chaekmate.core.book.repository.BookRepository;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -39,6 +42,12 @@ class BookQueryServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private BookRankingService bookRankingService;
+
+    @Mock
+    private BookStockPoolService bookStockPoolService;
+
     private BookQueryResponse createMockResponse() {
         return new BookQueryResponse(1L, "title", "author", 10000, 9000, 4.5, 10L, "url", 100L);
     }
@@ -81,6 +90,22 @@ class BookQueryServiceTest {
             verify(bookRepository).findRandomInStockBooks(pageable);
         }
 
+        @Test
+        void 재고_풀이_있으면_RAND_정렬_쿼리를_사용하지_않음() {
+            // given
+            Pageable pageable = PageRequest.of(0, 5);
+            List<BookQueryResponse> content = Collections.nCopies(5, createMockResponse());
+            Slice<BookQueryResponse> poolSlice = new SliceImpl<>(content, Pageable.unpaged(), false);
+            when(bookStockPoolService.findRandomBooks(5)).thenReturn(Optional.of(poolSlice));
+
+            // when
+            BookQuerySliceResponse result = bookQueryService.findChaekmateRecommendedBooks(pageable);
+
+            // then
+            assertThat(result.content()).hasSize(5);
+            verify(bookRepository, never()).findRandomInStockBooks(pageable);
+        }
+
         @Test
         void 삼십일간_리뷰_많은_책_조회_성공() {
             // given
@@ -104,7 +129,7 @@ class BookQueryServiceTest {
             Pageable pageable = PageRequest.of(0, 10);
             List<BookQueryResponse> content = Collections.singletonList(createMockResponse());
             Slice<BookQueryResponse> mockSlice = new SliceImpl<>(content, pageable, true);
-            when(bookRepository.findEarlyAdopterPicks(pageable)).thenReturn(mockSlice);
+            when(bookRankingService.findEarlyAdopterPicksFromSource(pageable)).thenReturn(mockSlice);
 
             // when
             BookQuerySliceResponse result = bookQueryService.findEarlyAdopterPicks(pageable);
@@ -112,7 +137,7 @@ class BookQueryServiceTest {
             // then
             assertThat(result.content()).hasSize(1);
             assertThat(result.hasNext()).isTrue();
-            verify(bookRepository).findEarlyAdopterPicks(pageable);
+            verify(bookRankingService).findEarlyAdopterPicksFromSource(pageable);
         }
 
         @Test
@@ -221,6 +246,23 @@ class BookQueryServiceTest {
                 assertThat(result.hasNext()).isTrue();
                 verify(bookRepository).findBestsellers(pageable);
             }
+
+            @Test
+            void 랭킹_보드가_있으면_DB_정렬_쿼리를_사용하지_않음() {
+                // given
+                Pageable pageable = PageRequest.of(0, 10);
+                List<BookQueryResponse> content = Collections.singletonList(createMockResponse());
+                Slice<BookQueryResponse> rankingSlice = new SliceImpl<>(content, pageable, false);
+                when(bookRankingService.findRanking(BookRankingBoard.SALES, pageable)).thenReturn(Optional.of(rankingSlice));
+
+                // when
+                BookQuerySliceResponse result = bookQueryService.findBookRanking(RankingType.SALES, pageable);
+
+                // then
+                assertThat(result.content()).hasSize(1);
+                assertThat(result.hasNext()).isFalse();
+                verify(bookRepository, never()).findBestsellers(pageable);
+            }
         }
     }
 }
@@ -0,0 +1,156 @@
+package shop.chaekmate.core.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.book.dto.request.BookCursor;
+import shop.chaekmate.core.book.dto.response.BookQueryResponse;
+import shop.chaekmate.core.book.dto.response.BookQuerySliceResponse;
+import shop.chaekmate.core.book.repository.BookRankingBoard;
+import shop.chaekmate.core.book.repository.BookRankingRedisRepository;
+import shop.chaekmate.core.book.repository.BookRankingRedisRepository.RankedBook;
+import shop.chaekmate.core.book.repository.BookRankingSourceRepository;
+import shop.chaekmate.core.book.repository.BookRepository;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BookRankingServiceTest {
+
+    @Mock
+    private BookRankingRedisRepository rankingRepository;
+
+    @Mock
+    private BookRankingSourceRepository rankingSourceRepository;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @InjectMocks
+    private BookRankingService bookRankingService;
+
+    private BookQueryResponse card(Long id) {
+        return new BookQueryResponse(id, "title" + id, "author", 10000, 9000, 4.5, 10L, "url", 100L);
+    }
+
+    @Test
+    void 랭킹_순서대로_도서_카드_조회() {
+        // given
+        Pageable pageable = PageRequest.of(0, 2);
+        when(rankingRepository.findTopBookIds(BookRankingBoard.SALES, 0L, 3L)).thenReturn(List.of(3L, 1L, 2L));
+        when(bookRepository.findBookCardsByIds(List.of(3L, 1L))).thenReturn(List.of(card(1L), card(3L)));
+
+        // when
+        Optional<Slice<BookQueryResponse>> result = bookRankingService.findRanking(BookRankingBoard.SALES, pageable);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getContent()).extracting(BookQueryResponse::id).containsExactly(3L, 1L);
+        assertThat(result.get().hasNext()).isTrue();
+    }
+
+    @Test
+    void 커서_랭킹은_보드에서_커서_다음_순위부터_조회() {
+        // given
+        BookCursor cursor = BookCursor.decode(BookCursor.encode(BookCursor.Type.SALES, 30L, 7L), BookCursor.Type.SALES);
+        when(rankingRepository.findTopBooksAfter(BookRankingBoard.SALES, 7L, 30L, 3L)).thenReturn(List.of(
+                new RankedBook(4L, 20L), new RankedBook(9L, 20L), new RankedBook(2L, 10L)));
+        when(bookRepository.findBookCardsByIds(List.of(4L, 9L))).thenReturn(List.of(card(9L), card(4L)));
+
+        // when
+        Optional<BookQuerySliceResponse> result = bookRankingService.findRankingByCursor(BookRankingBoard.SALES, cursor, 2);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().content()).extracting(BookQueryResponse::id).containsExactly(4L, 9L);
+        assertThat(result.get().hasNext()).isTrue();
+        assertThat(BookCursor.decode(result.get().nextCursor(), BookCursor.Type.SALES))
+                .isEqualTo(new BookCursor(BookCursor.Type.SALES, "20", 9L));
+    }
+
+    @Test
+    void 커서_랭킹_보드가_없으면_empty_반환() {
+        // given
+        when(rankingRepository.findTopBooksAfter(BookRankingBoard.VIEWS, null, 0L, 11L)).thenReturn(null);
+
+        // when
+        Optional<BookQuerySliceResponse> result = bookRankingService.findRankingByCursor(BookRankingBoard.VIEWS, null, 10);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void 얼리어답터_대체_조회는_DB_집계_순서대로_도서_카드_조회() {
+        // given
+        Pageable pageable = PageRequest.of(0, 2);
+        when(rankingSourceRepository.findEarlyAdopterBookIds(any(LocalDateTime.class), eq(0L), eq(3)))
+                .thenReturn(List.of(2L, 5L));
+        when(bookRepository.findBookCardsByIds(List.of(2L, 5L))).thenReturn(List.of(card(5L), card(2L)));
+
+        // when
+        Slice<BookQueryResponse> result = bookRankingService.findEarlyAdopterPicksFromSource(pageable);
+
+        // then
+        assertThat(result.getContent()).extracting(BookQueryResponse::id).containsExactly(2L, 5L);
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    void 랭킹_보드가_없으면_empty_반환() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(rankingRepository.findTopBookIds(BookRankingBoard.VIEWS, 0L, 11L)).thenReturn(null);
+
+        // when
+        Optional<Slice<BookQueryResponse>> result = bookRankingService.findRanking(BookRankingBoard.VIEWS, pageable);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void 같은_날_재구매는_얼리어답터_점수에_한번만_반영() {
+        // given
+        when(rankingRepository.addDailyBuyer(any(LocalDate.class), eq(1L), eq(7L))).thenReturn(false);
+
+        // when
+        bookRankingService.recordSales(7L, Map.of(1L, 2));
+
+        // then
+        verify(rankingRepository).incrementScore(BookRankingBoard.SALES, 1L, 2);
+        verify(rankingRepository, never()).incrementDailyScore(eq(BookRankingBoard.EARLY_ADOPTER_30D), any(), anyLong(), anyDouble());
+    }
+
+    @Test
+    void 윈도우_밖의_리뷰는_반영하지_않음() {
+        // when
+        bookRankingService.recordReview(1L, -1, LocalDateTime.now().minusDays(40));
+
+        // then
+        verify(rankingRepository, never()).incrementDailyScore(any(), any(), anyLong(), anyDouble());
+    }
+}
@@ -13,8 +13,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 import shop.chaekmate.core.book.dto.request.BookCreateRequest;
@@ -82,10 +80,7 @@ class BookServiceTest {
     private ApplicationEventPublisher eventPublisher;
 
     @Mock
-    private StringRedisTemplate stringRedisTemplate;
-
-    @Mock
-    private ValueOperations<String, String> valueOperations;
+    private BookViewCountRedisRepository bookViewCountRedisRepository;
 
     private Book book;
     private Category category;
@@ -268,8 +263,7 @@ class BookServiceTest {
         given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
         given(bookCategoryRepository.findByBook(book)).willReturn(List.of(new BookCategory(book, category)));
         given(bookTagRepository.findByBook(book)).willReturn(List.of(new BookTag(book, tag)));
-        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(any())).thenReturn("0");
+        when(bookViewCountRedisRepository.findCount(bookId)).thenReturn(0L);
 
         BookResponse response = bookService.getBook(bookId);
 
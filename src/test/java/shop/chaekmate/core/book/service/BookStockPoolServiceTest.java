@@ -0,0 +1,77 @@
+package shop.chaekmate.core.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.book.dto.response.BookQueryResponse;
+import shop.chaekmate.core.book.repository.BookRepository;
+import shop.chaekmate.core.book.repository.BookStockPoolRedisRepository;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BookStockPoolServiceTest {
+
+    @Mock
+    private BookStockPoolRedisRepository stockPoolRepository;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @InjectMocks
+    private BookStockPoolService bookStockPoolService;
+
+    private BookQueryResponse card(Long id) {
+        return new BookQueryResponse(id, "title" + id, "author", 10000, 9000, 4.5, 10L, "url", 100L);
+    }
+
+    @Test
+    void 풀에서_꺼낸_순서대로_도서_카드_조회() {
+        // given
+        when(stockPoolRepository.findRandomBookIds(3)).thenReturn(List.of(7L, 2L, 5L));
+        when(bookRepository.findBookCardsByIds(List.of(7L, 2L, 5L))).thenReturn(List.of(card(2L), card(5L), card(7L)));
+
+        // when
+        Optional<Slice<BookQueryResponse>> result = bookStockPoolService.findRandomBooks(3);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getContent()).extracting(BookQueryResponse::id).containsExactly(7L, 2L, 5L);
+    }
+
+    @Test
+    void 풀이_없으면_empty_반환() {
+        // given
+        when(stockPoolRepository.findRandomBookIds(3)).thenReturn(null);
+
+        // when
+        Optional<Slice<BookQueryResponse>> result = bookStockPoolService.findRandomBooks(3);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void 품절_도서는_풀에서_제외() {
+        // when
+        bookStockPoolService.syncStock(1L, 0);
+
+        // then
+        verify(stockPoolRepository).remove(1L);
+        verify(stockPoolRepository, never()).add(1L);
+    }
+}
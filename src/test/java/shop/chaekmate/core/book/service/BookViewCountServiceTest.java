@@ -0,0 +1,118 @@
+package shop.chaekmate.core.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.book.repository.BookViewCountRedisRepository;
+import shop.chaekmate.core.common.exception.CoreException;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BookViewCountServiceTest {
+
+    @Mock
+    private BookViewCountRedisRepository bookViewCountRedisRepository;
+
+    @InjectMocks
+    private BookViewCountService bookViewCountService;
+
+    @Test
+    void 모아둔_조회수를_한_번에_반영() {
+        // given
+        bookViewCountService.increase(1L);
+        bookViewCountService.increase(1L);
+        bookViewCountService.increase(2L);
+
+        // when
+        bookViewCountService.flushPendingViews();
+        bookViewCountService.flushPendingViews();
+
+        // then
+        verify(bookViewCountRedisRepository, times(1)).increaseAll(Map.of(1L, 2L, 2L, 1L));
+    }
+
+    @Test
+    void Redis_반영에_실패하면_다음_주기에_합쳐서_재시도() {
+        // given
+        bookViewCountService.increase(1L);
+        doThrow(new QueryTimeoutException("timeout"))
+                .when(bookViewCountRedisRepository).increaseAll(Map.of(1L, 1L));
+        bookViewCountService.flushPendingViews();
+        bookViewCountService.increase(1L);
+
+        // when
+        bookViewCountService.flushPendingViews();
+
+        // then
+        verify(bookViewCountRedisRepository, times(1)).increaseAll(Map.of(1L, 2L));
+    }
+
+    @Test
+    void 도서_id_가_없으면_예외() {
+        // when & then
+        assertThatThrownBy(() -> bookViewCountService.increase(null))
+                .isInstanceOf(CoreException.class);
+        bookViewCountService.flushPendingViews();
+        verify(bookViewCountRedisRepository, never()).increaseAll(any());
+    }
+
+    @Test
+    void 대기중인_도서_수가_한도에_이르면_바로_반영하고_새_도서의_조회수를_모음() {
+        // given
+        for (long bookId = 1; bookId <= BookViewCountService.MAX_PENDING_BOOKS; bookId++) {
+            bookViewCountService.increase(bookId);
+        }
+
+        // when
+        bookViewCountService.increase(BookViewCountService.MAX_PENDING_BOOKS + 1L);
+        bookViewCountService.flushPendingViews();
+
+        // then
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(bookViewCountRedisRepository, times(2)).increaseAll(captor.capture());
+        assertThat(captor.getAllValues().get(0)).hasSize(BookViewCountService.MAX_PENDING_BOOKS);
+        assertThat(captor.getAllValues().get(1)).isEqualTo(Map.of(BookViewCountService.MAX_PENDING_BOOKS + 1L, 1L));
+    }
+
+    @Test
+    void 한도에서_Redis_반영도_실패하면_새_도서의_조회수는_버림() {
+        // given
+        for (long bookId = 1; bookId <= BookViewCountService.MAX_PENDING_BOOKS; bookId++) {
+            bookViewCountService.increase(bookId);
+        }
+        doThrow(new QueryTimeoutException("timeout")).when(bookViewCountRedisRepository).increaseAll(any());
+
+        // when
+        bookViewCountService.increase(BookViewCountService.MAX_PENDING_BOOKS + 1L);
+        bookViewCountService.increase(1L);
+
+        // then
+        doNothing().when(bookViewCountRedisRepository).increaseAll(any());
+        bookViewCountService.flushPendingViews();
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(bookViewCountRedisRepository, times(2)).increaseAll(captor.capture());
+        assertThat(captor.getValue())
+                .hasSize(BookViewCountService.MAX_PENDING_BOOKS)
+                .containsEntry(1L, 2L)
+                .doesNotContainKey(BookViewCountService.MAX_PENDING_BOOKS + 1L);
+    }
+}
@@ -0,0 +1,75 @@
+package shop.chaekmate.core.cart.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.book.repository.BookCardRepository;
+import shop.chaekmate.core.book.repository.BookKeywordSearchRepository;
+import shop.chaekmate.core.cart.dto.CartBookSummary;
+import shop.chaekmate.core.common.config.JpaAuditingConfig;
+import shop.chaekmate.core.common.config.QueryDslConfig;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, CartBookQueryRepository.class,
+        BookKeywordSearchRepository.class})
+class CartBookQueryRepositoryTest {
+
+    @Autowired
+    CartBookQueryRepository cartBookQueryRepository;
+
+    @Autowired
+    BookCardRepository bookCardRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 장바구니_도서_정보와_대표_이미지를_한_번에_조회() {
+        // given
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < 2; i++) {
+            jdbcTemplate.update("INSERT INTO book (title, author, publisher, isbn, price, sales_price, is_wrappable, "
+                            + "views, is_sale_end, stock, published_at, created_at, updated_at) "
+                            + "VALUES (?, 'Author', 'Publisher', ?, 10000, 9000, false, 0, false, ?, ?, ?, ?)",
+                    "Book " + i, String.format("%013d", i), 3 + i, now, now, now);
+        }
+        bookCardRepository.insertMissingCards();
+
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM book ORDER BY id", Long.class);
+        jdbcTemplate.update("UPDATE book_card SET thumbnail_url = 'thumb.png' WHERE book_id = ?", ids.get(0));
+
+        // when
+        List<CartBookSummary> result = cartBookQueryRepository.findCartBookSummaries(
+                List.of(ids.get(0), ids.get(1), ids.get(1) + 100L));
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result).extracting(CartBookSummary::bookId).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(result).filteredOn(summary -> summary.bookId().equals(ids.get(0)))
+                .singleElement()
+                .satisfies(summary -> {
+                    assertThat(summary.bookImageUrl()).isEqualTo("thumb.png");
+                    assertThat(summary.bookTitle()).isEqualTo("Book 0");
+                    assertThat(summary.stock()).isEqualTo(3);
+                });
+    }
+
+    @Test
+    void 빈_목록이면_조회하지_않음() {
+        // when & then
+        assertThat(cartBookQueryRepository.findCartBookSummaries(List.of())).isEmpty();
+    }
+}
@@ -2,6 +2,7 @@ package shop.chaekmate.core.cart.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 import org.junit.jupiter.api.AfterEach;
@@ -12,6 +13,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.cart.dto.CartCompactionResult;
+import shop.chaekmate.core.cart.dto.CartSnapshot;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -25,7 +28,11 @@ class CartRedisRepositoryTest {
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
+    private static final String OWNER_ID = "cart-repository-test-owner";
+    private static final String MEMBER_OWNER_ID = "987654321";
+
     private String cartId;
+    private String otherCartId;
 
     @AfterEach
     void cleanUp() {
@@ -33,80 +40,169 @@ class CartRedisRepositoryTest {
             String key = "cart:" + cartId;
             redisTemplate.delete(key);
         }
+        if (Objects.nonNull(otherCartId)) {
+            redisTemplate.delete("cart:" + otherCartId);
+        }
+        redisTemplate.delete("cart:owner:" + OWNER_ID);
+        redisTemplate.delete("cart:owner:" + MEMBER_OWNER_ID);
     }
 
     @Test
     void 장바구니_생성_및_조회_성공() {
-        cartId = cartRedisRepository.createCart("1");
+        cartId = cartRedisRepository.getOrCreateCartAndPutItems(OWNER_ID, Map.of()).cartId();
+
+        assertThat(ownerOf(cartId)).isEqualTo(OWNER_ID);
+        assertThat(cartRedisRepository.findCartByOwner(OWNER_ID).cartId()).isEqualTo(cartId);
+    }
+
+    @Test
+    void 존재하지_않는_소유자_기준_조회_시_null_반환() {
+        CartSnapshot cart = cartRedisRepository.findCartByOwner("non-existent-owner");
 
-        String ownerId = cartRedisRepository.getOwnerId(cartId);
-        assertThat(ownerId).isEqualTo("1");
+        assertThat(cart).isNull();
     }
 
     @Test
-    void 소유자_기준_장바구니_조회_성공() {
-        cartId = cartRedisRepository.createCart("1");
+    void 장바구니_아이템_추가_및_수량_수정_성공() {
+        cartId = cartRedisRepository.getOrCreateCartAndPutItems(OWNER_ID, Map.of(101L, 2, 102L, 5)).cartId();
 
-        String foundCartId = cartRedisRepository.findCartIdByOwner("1");
+        cartRedisRepository.putCartItemsIfCartExists(OWNER_ID, Map.of(102L, 1));
 
-        assertThat(foundCartId).isEqualTo(cartId);
+        assertThat(cartRedisRepository.findCartByOwner(OWNER_ID).items()).hasSize(2)
+                                                                         .containsEntry(101L, 2)
+                                                                         .containsEntry(102L, 1);
     }
 
     @Test
-    void 존재하지_않는_소유자_기준_조회_시_null_반환() {
-        String foundCartId = cartRedisRepository.findCartIdByOwner("non-existent-owner");
+    void 비회원_장바구니는_변경할_때마다_만료_연장() {
+        cartId = cartRedisRepository.getOrCreateCartAndPutItems(OWNER_ID, Map.of(101L, 1)).cartId();
+        redisTemplate.expire("cart:" + cartId, Duration.ofSeconds(60L));
+        redisTemplate.expire("cart:owner:" + OWNER_ID, Duration.ofSeconds(60L));
+
+        cartRedisRepository.putCartItemsIfCartExists(OWNER_ID, Map.of(102L, 1));
+
+        assertThat(redisTemplate.getExpire("cart:" + cartId)).isGreaterThan(60L);
+        assertThat(redisTemplate.getExpire("cart:owner:" + OWNER_ID)).isGreaterThan(60L);
+    }
 
-        assertThat(foundCartId).isNull();
+    @Test
+    void 동시에_처음_담아도_장바구니는_하나만_생성() {
+        CartSnapshot first = cartRedisRepository.getOrCreateCartAndPutItems(OWNER_ID, Map.of(101L, 1));
+        CartSnapshot second = cartRedisRepository.getOrCreateCartAndPutItems(OWNER_ID, Map.of(102L, 3, 103L, 2));
+        cartId = first.cartId();
+
+        assertThat(second.cartId()).isEqualTo(first.cartId());
+        assertThat(second.items()).hasSize(3)
+                                  .containsEntry(101L, 1)
+                                  .containsEntry(102L, 3)
+                                  .containsEntry(103L, 2);
+        assertThat(ownerOf(cartId)).isEqualTo(OWNER_ID);
     }
 
     @Test
-    void 장바구니_아이템_추가_및_단일_조회_성공() {
-        cartId = cartRedisRepository.createCart("1");
+    void 소유자_기준_장바구니와_아이템_조회() {
+        assertThat(cartRedisRepository.findCartByOwner(OWNER_ID)).isNull();
+
+        cartId = cartRedisRepository.getOrCreateCartAndPutItems(OWNER_ID, Map.of(101L, 2)).cartId();
 
-        cartRedisRepository.putCartItem(cartId, 101L, 2);
-        cartRedisRepository.putCartItem(cartId, 102L, 5);
+        CartSnapshot cart = cartRedisRepository.findCartByOwner(OWNER_ID);
+        assertThat(cart.cartId()).isEqualTo(cartId);
+        assertThat(cart.items()).containsExactly(Map.entry(101L, 2));
+    }
+
+    @Test
+    void 장바구니가_없으면_수량_수정하지_않음() {
+        assertThat(cartRedisRepository.putCartItemsIfCartExists(OWNER_ID, Map.of(101L, 2))).isNull();
 
-        Integer qty101 = cartRedisRepository.getCartItem(cartId, 101L);
-        Integer qty102 = cartRedisRepository.getCartItem(cartId, 102L);
+        cartId = cartRedisRepository.getOrCreateCartAndPutItems(OWNER_ID, Map.of()).cartId();
 
-        assertThat(qty101).isEqualTo(2);
-        assertThat(qty102).isEqualTo(5);
+        assertThat(cartRedisRepository.putCartItemsIfCartExists(OWNER_ID, Map.of(101L, 2))).isEqualTo(cartId);
+        assertThat(cartRedisRepository.findCartByOwner(OWNER_ID).items()).containsEntry(101L, 2);
     }
 
     @Test
-    void 장바구니_아이템_전체_조회_성공() {
-        cartId = cartRedisRepository.createCart("1");
-        cartRedisRepository.putCartItem(cartId, 101L, 2);
-        cartRedisRepository.putCartItem(cartId, 102L, 5);
+    void 소유자_기준_아이템_삭제_결과() {
+        assertThat(cartRedisRepository.deleteCartItemByOwner(OWNER_ID, 101L)).isEqualTo(-1L);
+        assertThat(cartRedisRepository.deleteAllCartItemsByOwner(OWNER_ID)).isFalse();
 
-        Map<Long, Integer> allItems = cartRedisRepository.getAllCartItems(cartId);
+        cartId = cartRedisRepository.getOrCreateCartAndPutItems(OWNER_ID, Map.of(101L, 2, 102L, 1)).cartId();
 
-        assertThat(allItems).hasSize(2)
-                            .containsEntry(101L, 2)
-                            .containsEntry(102L, 5);
+        assertThat(cartRedisRepository.deleteCartItemByOwner(OWNER_ID, 999L)).isZero();
+        assertThat(cartRedisRepository.deleteCartItemByOwner(OWNER_ID, 101L)).isEqualTo(1L);
+        assertThat(cartRedisRepository.deleteAllCartItemsByOwner(OWNER_ID)).isTrue();
+        assertThat(cartRedisRepository.findCartByOwner(OWNER_ID).items()).isEmpty();
+        assertThat(ownerOf(cartId)).isEqualTo(OWNER_ID);
     }
 
     @Test
-    void 장바구니_아이템_단일_삭제_성공() {
-        cartId = cartRedisRepository.createCart("1");
-        cartRedisRepository.putCartItem(cartId, 101L, 2);
+    void 비회원_장바구니만_만료_시간_적용() {
+        cartId = cartRedisRepository.getOrCreateCartAndPutItems(OWNER_ID, Map.of(101L, 1)).cartId();
+        otherCartId = cartRedisRepository.getOrCreateCartAndPutItems(MEMBER_OWNER_ID, Map.of(101L, 1)).cartId();
+
+        assertThat(redisTemplate.getExpire("cart:" + cartId)).isPositive();
+        assertThat(redisTemplate.getExpire("cart:owner:" + OWNER_ID)).isPositive();
+        assertThat(redisTemplate.getExpire("cart:" + otherCartId)).isEqualTo(-1L);
+        assertThat(redisTemplate.getExpire("cart:owner:" + MEMBER_OWNER_ID)).isEqualTo(-1L);
+    }
 
-        cartRedisRepository.deleteCartItem(cartId, 101L);
+    @Test
+    void 아이템은_정수_필드로_저장하고_이전_형식도_읽음() {
+        cartId = cartRedisRepository.getOrCreateCartAndPutItems(OWNER_ID, Map.of(101L, 2)).cartId();
+        redisTemplate.opsForHash().put("cart:" + cartId, "book:102", "3");
+
+        assertThat(redisTemplate.opsForHash().keys("cart:" + cartId)).contains("101");
+        assertThat(cartRedisRepository.findCartByOwner(OWNER_ID).items())
+                .containsEntry(101L, 2)
+                .containsEntry(102L, 3);
+    }
 
-        Integer qty = cartRedisRepository.getCartItem(cartId, 101L);
-        assertThat(qty).isNull();
+    @Test
+    void 컴팩션은_이전_형식_필드를_옮기고_비회원_장바구니에_TTL_적용() {
+        cartId = cartRedisRepository.getOrCreateCartAndPutItems(OWNER_ID, Map.of()).cartId();
+        redisTemplate.opsForHash().put("cart:" + cartId, "book:101", "2");
+        redisTemplate.persist("cart:" + cartId);
+        redisTemplate.persist("cart:owner:" + OWNER_ID);
+
+        CartCompactionResult result = cartRedisRepository.compactCart(cartId);
+
+        assertThat(result.migratedFields()).isEqualTo(1L);
+        assertThat(result.expireApplied()).isTrue();
+        assertThat(result.memoryBytes()).isPositive();
+        assertThat(redisTemplate.opsForHash().keys("cart:" + cartId)).containsExactlyInAnyOrder("ownerId", "101");
+        assertThat(redisTemplate.getExpire("cart:owner:" + OWNER_ID)).isPositive();
     }
 
     @Test
-    void 장바구니_아이템_전체_삭제_성공() {
-        cartId = cartRedisRepository.createCart("1");
-        cartRedisRepository.putCartItem(cartId, 101L, 2);
-        cartRedisRepository.putCartItem(cartId, 102L, 5);
+    void 비회원_장바구니를_회원_장바구니로_병합() {
+        cartId = cartRedisRepository.getOrCreateCartAndPutItems(MEMBER_OWNER_ID, Map.of(101L, 1, 102L, 4)).cartId();
+        otherCartId = cartRedisRepository.getOrCreateCartAndPutItems(OWNER_ID, Map.of(101L, 3, 103L, 2)).cartId();
+
+        CartSnapshot merged = cartRedisRepository.mergeGuestCart(OWNER_ID, MEMBER_OWNER_ID);
+
+        assertThat(merged.cartId()).isEqualTo(cartId);
+        assertThat(merged.items()).hasSize(3)
+                                  .containsEntry(101L, 3)
+                                  .containsEntry(102L, 4)
+                                  .containsEntry(103L, 2);
+        assertThat(cartRedisRepository.findCartByOwner(OWNER_ID)).isNull();
+        assertThat(redisTemplate.hasKey("cart:" + otherCartId)).isFalse();
+    }
+
+    @Test
+    void 회원_장바구니가_없으면_비회원_장바구니를_넘겨받음() {
+        cartId = cartRedisRepository.getOrCreateCartAndPutItems(OWNER_ID, Map.of(101L, 2)).cartId();
 
-        cartRedisRepository.deleteAllCartItems(cartId);
+        CartSnapshot merged = cartRedisRepository.mergeGuestCart(OWNER_ID, MEMBER_OWNER_ID);
 
-        Map<Long, Integer> items = cartRedisRepository.getAllCartItems(cartId);
-        assertThat(items).isEmpty();
+        assertThat(merged.cartId()).isEqualTo(cartId);
+        assertThat(merged.items()).containsExactly(Map.entry(101L, 2));
+        assertThat(ownerOf(cartId)).isEqualTo(MEMBER_OWNER_ID);
+        assertThat(redisTemplate.getExpire("cart:" + cartId)).isEqualTo(-1L);
+        assertThat(cartRedisRepository.mergeGuestCart("non-existent-guest", "non-existent-member")).isNull();
     }
-}
 
+    private String ownerOf(String cartId) {
+        Object ownerId = redisTemplate.opsForHash().get("cart:" + cartId, "ownerId");
+        return Objects.nonNull(ownerId) ? ownerId.toString() : null;
+    }
+}
@@ -0,0 +1,238 @@
+package shop.chaekmate.core.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TwoLevelCacheTest {
+
+    @Mock
+    Cache remoteCache;
+
+    @Mock
+    BiConsumer<String, Object> invalidationPublisher;
+
+    @Mock
+    BiConsumer<Object, Object> putListener;
+
+    @Mock
+    CacheLoadCoordinator loadCoordinator;
+
+    TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = createCache(null);
+    }
+
+    private TwoLevelCache createCache(Duration refreshAfter) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Cache.ValueWrapper> localCache = Caffeine.newBuilder()
+                .maximumSize(100)
+                .build();
+        return new TwoLevelCache("categories", localCache, remoteCache, invalidationPublisher, putListener,
+                loadCoordinator, refreshAfter);
+    }
+
+    @Test
+    void Redis_에서_조회한_값은_로컬_캐시에_채움() {
+        // given
+        when(remoteCache.get("allCategories")).thenReturn(new SimpleValueWrapper("tree"));
+
+        // when
+        cache.get("allCategories");
+        Cache.ValueWrapper result = cache.get("allCategories");
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(result.get()).isEqualTo("tree");
+        verify(remoteCache, times(1)).get("allCategories");
+    }
+
+    @Test
+    void 로더는_Redis_에도_없을_때만_호출() {
+        // given
+        when(remoteCache.get("allCategories")).thenReturn(null);
+        when(loadCoordinator.tryLock("categories", "allCategories")).thenReturn(true);
+
+        // when
+        String first = cache.get("allCategories", () -> "tree");
+        String second = cache.get("allCategories", () -> "other");
+
+        // then
+        assertThat(first).isEqualTo("tree");
+        assertThat(second).isEqualTo("tree");
+        verify(remoteCache).put("allCategories", "tree");
+        verify(putListener).accept("allCategories", "tree");
+        verify(loadCoordinator).unlock("categories", "allCategories");
+    }
+
+    @Test
+    void 다른_노드가_적재중이면_기다렸다가_그_값을_사용() {
+        // given
+        when(remoteCache.get("allCategories")).thenReturn(null);
+        when(loadCoordinator.tryLock("categories", "allCategories")).thenReturn(false);
+        when(loadCoordinator.awaitValue(any())).thenReturn(new SimpleValueWrapper("tree"));
+
+        // when
+        String result = cache.get("allCategories", () -> "other");
+
+        // then
+        assertThat(result).isEqualTo("tree");
+        verify(remoteCache, never()).put(any(), any());
+    }
+
+    @Test
+    void refreshAfter_가_지난_값은_락을_잡은_조회가_자신의_로더로_갱신() {
+        // given
+        TwoLevelCache refreshingCache = createCache(Duration.ofMinutes(8));
+        when(remoteCache.get("allCategories")).thenReturn(new SimpleValueWrapper("stale"));
+        when(loadCoordinator.isFresh("categories", "allCategories")).thenReturn(false);
+        when(loadCoordinator.tryLock("categories", "allCategories")).thenReturn(true);
+
+        // when
+        String result = refreshingCache.get("allCategories", () -> "fresh");
+
+        // then
+        assertThat(result).isEqualTo("fresh");
+        verify(remoteCache).put("allCategories", "fresh");
+        verify(invalidationPublisher).accept("categories", "allCategories");
+        verify(loadCoordinator).unlock("categories", "allCategories");
+    }
+
+    @Test
+    void refreshAfter_가_지난_값이라도_다른_조회가_갱신중이면_기존_값_반환() {
+        // given
+        TwoLevelCache refreshingCache = createCache(Duration.ofMinutes(8));
+        when(remoteCache.get("allCategories")).thenReturn(new SimpleValueWrapper("stale"));
+        when(loadCoordinator.isFresh("categories", "allCategories")).thenReturn(false);
+        when(loadCoordinator.tryLock("categories", "allCategories")).thenReturn(false);
+
+        // when
+        String result = refreshingCache.get("allCategories", () -> "fresh");
+
+        // then
+        assertThat(result).isEqualTo("stale");
+        verify(remoteCache, never()).put(any(), any());
+    }
+
+    @Test
+    void 같은_키의_동시_미스는_원본을_한_번만_조회() throws Exception {
+        // given
+        when(remoteCache.get("allCategories")).thenReturn(null);
+        when(loadCoordinator.tryLock("categories", "allCategories")).thenReturn(true);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // when
+            Future<String> first = executor.submit(() -> cache.get("allCategories", () -> {
+                calls.incrementAndGet();
+                loaderStarted.countDown();
+                release.await();
+                return "tree";
+            }));
+            loaderStarted.await();
+            Future<String> second = executor.submit(() -> cache.get("allCategories", () -> {
+                calls.incrementAndGet();
+                return "other";
+            }));
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("tree");
+            assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("tree");
+            assertThat(calls.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 적재중에도_다른_키는_기다리지_않음() throws Exception {
+        // given
+        when(remoteCache.get(any())).thenReturn(null);
+        when(loadCoordinator.tryLock(eq("categories"), any())).thenReturn(true);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> cache.get("slow", () -> {
+                loaderStarted.countDown();
+                release.await();
+                return "slow";
+            }));
+            loaderStarted.await();
+
+            // when
+            String result = cache.get("fast", () -> "fast");
+
+            // then
+            assertThat(result).isEqualTo("fast");
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void clear_시_Redis_와_로컬을_비우고_무효화_발행() {
+        // given
+        cache.put("allCategories", "tree");
+
+        // when
+        cache.clear();
+
+        // then
+        verify(remoteCache).clear();
+        verify(invalidationPublisher).accept("categories", null);
+        when(remoteCache.get("allCategories")).thenReturn(null);
+        assertThat(cache.get("allCategories")).isNull();
+    }
+
+    @Test
+    void 다른_노드의_무효화는_로컬만_비움() {
+        // given
+        cache.put("allCategories", "tree");
+
+        // when
+        cache.evictLocal("allCategories");
+
+        // then
+        verify(remoteCache, never()).evict("allCategories");
+        when(remoteCache.get("allCategories")).thenReturn(new SimpleValueWrapper("tree"));
+        assertThat(cache.get("allCategories").get()).isEqualTo("tree");
+        verify(remoteCache).get("allCategories");
+    }
+}
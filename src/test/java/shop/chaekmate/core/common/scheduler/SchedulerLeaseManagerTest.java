@@ -0,0 +1,140 @@
+package shop.chaekmate.core.common.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"NonAsciiCharacters", "unchecked"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SchedulerLeaseManagerTest {
+
+    @Mock
+    StringRedisTemplate redisTemplate;
+
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    SimpleMeterRegistry meterRegistry;
+
+    SchedulerLeaseManager leaseManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        leaseManager = new SchedulerLeaseManager(redisTemplate, meterRegistry);
+    }
+
+    @Test
+    void 리스를_얻으면_리더_지표가_1() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("scheduler:lease:book-view-count-sync")),
+                any(), eq("180000"))).thenReturn(1L);
+
+        // when
+        boolean acquired = leaseManager.tryAcquire("book-view-count-sync", Duration.ofMinutes(3));
+
+        // then
+        assertThat(acquired).isTrue();
+        assertThat(meterRegistry.get("scheduler.lease.held").tag("job", "book-view-count-sync").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void 다른_노드가_리스를_가지면_실행하지_않고_리더의_마지막_성공_시각을_가져옴() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(0L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("scheduler:last-success:book-view-count-sync"))
+                .thenReturn(String.valueOf(System.currentTimeMillis() - 30_000L));
+
+        // when
+        boolean acquired = leaseManager.tryAcquire("book-view-count-sync", Duration.ofMinutes(3));
+
+        // then
+        assertThat(acquired).isFalse();
+        assertThat(meterRegistry.get("scheduler.lease.held").tag("job", "book-view-count-sync").gauge().value())
+                .isZero();
+        assertThat(meterRegistry.get("scheduler.job.lag").tag("job", "book-view-count-sync").timeGauge()
+                .value(TimeUnit.SECONDS)).isGreaterThanOrEqualTo(30.0);
+    }
+
+    @Test
+    void Redis_장애_시_중복_실행을_막기_위해_건너뜀() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        boolean acquired = leaseManager.tryAcquire("book-view-count-sync", Duration.ofMinutes(3));
+
+        // then
+        assertThat(acquired).isFalse();
+    }
+
+    @Test
+    void 실행_중_리스를_연장하면_계속_리더() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(1L);
+        leaseManager.tryAcquire("book-ranking-rebuild", Duration.ofMinutes(10));
+
+        // when
+        boolean renewed = leaseManager.renew("book-ranking-rebuild", Duration.ofMinutes(10));
+
+        // then
+        assertThat(renewed).isTrue();
+        assertThat(meterRegistry.get("scheduler.lease.held").tag("job", "book-ranking-rebuild").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void 실행_중_리스를_잃으면_리더_지표가_0() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(1L, 0L);
+        leaseManager.tryAcquire("book-ranking-rebuild", Duration.ofMinutes(10));
+
+        // when
+        boolean renewed = leaseManager.renew("book-ranking-rebuild", Duration.ofMinutes(10));
+
+        // then
+        assertThat(renewed).isFalse();
+        assertThat(meterRegistry.get("scheduler.lease.held").tag("job", "book-ranking-rebuild").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    void 종료_시_가진_리스만_반납() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(1L);
+        leaseManager.tryAcquire("book-ranking-rebuild", Duration.ofMinutes(10));
+
+        // when
+        leaseManager.releaseAll();
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("scheduler:lease:book-ranking-rebuild")),
+                any());
+    }
+}
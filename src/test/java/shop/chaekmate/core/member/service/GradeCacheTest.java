@@ -0,0 +1,100 @@
+package shop.chaekmate.core.member.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import shop.chaekmate.core.member.dto.request.CreateGradeRequest;
+import shop.chaekmate.core.member.entity.Grade;
+import shop.chaekmate.core.member.event.MemberEventPublisher;
+import shop.chaekmate.core.member.repository.GradeRepository;
+import shop.chaekmate.core.member.repository.MemberGradeHistoryRepository;
+import shop.chaekmate.core.member.repository.MemberRepository;
+
+// 등급 표 캐시 적용과 관리자 등급 변경 시 무효화 (캐시 애노테이션만 검증하도록 로컬 캐시 사용)
+@ActiveProfiles("test")
+@SpringJUnitConfig(GradeCacheTest.CacheConfig.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class GradeCacheTest {
+
+    @Configuration
+    @EnableCaching
+    @Import({MemberService.class, AdminGradeService.class})
+    static class CacheConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("grades");
+        }
+    }
+
+    @MockitoBean
+    private GradeRepository gradeRepository;
+
+    @MockitoBean
+    private MemberRepository memberRepository;
+
+    @MockitoBean
+    private MemberGradeHistoryRepository memberGradeHistoryRepository;
+
+    @MockitoBean
+    private MemberEventPublisher memberEventPublisher;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private AdminGradeService adminGradeService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache("grades").clear();
+        when(gradeRepository.findAllByOrderByPointRate()).thenReturn(List.of(new Grade("일반", (byte) 1, 0)));
+    }
+
+    @Test
+    void 등급_표는_캐시에서_반환() {
+        // when
+        memberService.getAllGrades();
+        memberService.getAllGrades();
+
+        // then
+        verify(gradeRepository, times(1)).findAllByOrderByPointRate();
+    }
+
+    @Test
+    void 등급_생성시_캐시를_비워_다시_조회() {
+        // given
+        memberService.getAllGrades();
+        when(gradeRepository.existsByUpgradeStandardAmount(anyInt())).thenReturn(false);
+        when(gradeRepository.save(any(Grade.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        adminGradeService.createGrade(new CreateGradeRequest("로얄", (byte) 3, 100_000));
+        memberService.getAllGrades();
+
+        // then
+        verify(gradeRepository, times(2)).findAllByOrderByPointRate();
+    }
+}
@@ -21,6 +21,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.member.dto.request.CreateMemberGradeHistoryRequest;
 import shop.chaekmate.core.member.dto.request.CreateMemberRequest;
 import shop.chaekmate.core.member.dto.response.GradeResponse;
 import shop.chaekmate.core.member.entity.Grade;
@@ -169,4 +170,20 @@ class MemberServiceTest {
                 .extracting(GradeResponse::pointRate)
                 .containsExactly(general.getPointRate(), royal.getPointRate());
     }
+
+    @Test
+    void 등급_이력_생성시_현재_등급_포인터_갱신() {
+        Member member = new Member("test", "pw", "username", "01012345678", "j@test.com",
+                LocalDate.of(2003, 5, 1), PlatformType.LOCAL);
+        Grade royal = spy(new Grade("로얄", (byte) 3, 300000));
+
+        given(royal.getId()).willReturn(3L);
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(gradeRepository.findByName("로얄")).willReturn(Optional.of(royal));
+
+        memberService.createMemberGradeHistory(new CreateMemberGradeHistoryRequest(1L, "로얄", "승급"));
+
+        verify(memberGradeHistoryRepository).save(any(MemberGradeHistory.class));
+        assertThat(member.getCurrentGradeId()).isEqualTo(3L);
+    }
 }
@@ -13,6 +13,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 import shop.chaekmate.core.book.entity.Book;
+import shop.chaekmate.core.book.repository.BookKeywordSearchRepository;
 import shop.chaekmate.core.book.repository.BookRepository;
 import shop.chaekmate.core.common.config.JpaAuditingConfig;
 import shop.chaekmate.core.common.config.QueryDslConfig;
@@ -30,7 +31,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 @ActiveProfiles("test")
 @SuppressWarnings("NonAsciiCharacters")
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
-@Import({QueryDslConfig.class, JpaAuditingConfig.class, OrderRepositoryImpl.class})
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, OrderRepositoryImpl.class, BookKeywordSearchRepository.class})
 class OrderHistoryRepositoryTest {
 
     @Autowired
@@ -0,0 +1,78 @@
+package shop.chaekmate.core.order.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.book.entity.Book;
+import shop.chaekmate.core.book.repository.BookKeywordSearchRepository;
+import shop.chaekmate.core.book.repository.BookRepository;
+import shop.chaekmate.core.common.config.JpaAuditingConfig;
+import shop.chaekmate.core.common.config.QueryDslConfig;
+import shop.chaekmate.core.order.entity.Order;
+import shop.chaekmate.core.order.entity.OrderedBook;
+import shop.chaekmate.core.order.entity.type.OrderedBookStatusType;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, OrderedBookBulkRepository.class,
+        BookKeywordSearchRepository.class})
+class OrderedBookBulkRepositoryTest {
+
+    @Autowired
+    private OrderedBookBulkRepository orderedBookBulkRepository;
+    @Autowired
+    private OrderedBookRepository orderedBookRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private BookRepository bookRepository;
+
+    private Order order;
+    private Book book1, book2;
+
+    @BeforeEach
+    void setUp() {
+        book1 = bookRepository.save(Book.builder().title("A Book").isbn("1").author("a").description("d").index("i").isSaleEnd(false).isWrappable(true).price(1000).salesPrice(900).stock(10).views(1).publisher("p").publishedAt(
+                LocalDateTime.now()).build());
+        book2 = bookRepository.save(Book.builder().title("B Book").isbn("2").author("a").description("d").index("i").isSaleEnd(false).isWrappable(true).price(2000).salesPrice(1800).stock(10).views(1).publisher("p").publishedAt(
+                LocalDateTime.now()).build());
+
+        order = orderRepository.save(Order.createOrderReady(null, "bulk-order", "n", "p", "e", "r", "p", "z", "s", "d", "r", LocalDate.now(), 0, 4500));
+    }
+
+    @Test
+    void 주문_상품을_한_번에_저장() {
+        // given
+        List<OrderedBook> orderedBooks = List.of(
+                OrderedBook.createOrderDetailReady(order, book1, 1, 1000, 900, 100, null, null, null, null, null, 900),
+                OrderedBook.createOrderDetailReady(order, book2, 2, 2000, 1800, 200, null, 0, 7L, 300, 100, 1800)
+        );
+
+        // when
+        int inserted = orderedBookBulkRepository.insertAll(orderedBooks);
+
+        // then
+        assertThat(inserted).isEqualTo(2);
+
+        List<OrderedBook> saved = orderedBookRepository.findByOrder(order);
+        assertThat(saved).hasSize(2)
+                .allSatisfy(ob -> {
+                    assertThat(ob.getUnitStatus()).isEqualTo(OrderedBookStatusType.PAYMENT_READY);
+                    assertThat(ob.getCreatedAt()).isNotNull();
+                });
+        assertThat(saved).extracting(OrderedBook::getTotalPrice).containsExactlyInAnyOrder(900L, 3600L);
+        assertThat(saved).extracting(OrderedBook::getIssuedCouponId).containsExactlyInAnyOrder(null, 7L);
+    }
+}
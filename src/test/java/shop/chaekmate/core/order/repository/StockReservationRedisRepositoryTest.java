@@ -0,0 +1,104 @@
+package shop.chaekmate.core.order.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class StockReservationRedisRepositoryTest {
+
+    private static final Long BOOK_ID = 900_000_001L;
+    private static final Long OTHER_BOOK_ID = 900_000_002L;
+    private static final String ORDER_A = "stock-reservation-test-a";
+    private static final String ORDER_B = "stock-reservation-test-b";
+
+    @Autowired
+    private StockReservationRedisRepository repository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        repository.release(ORDER_A);
+        repository.release(ORDER_B);
+        redisTemplate.delete("stock:reserved:" + BOOK_ID);
+        redisTemplate.delete("stock:reserved:" + OTHER_BOOK_ID);
+    }
+
+    @Test
+    void 다른_주문의_선점을_제외한_재고가_부족하면_선점하지_않음() {
+        // given
+        long expireAt = System.currentTimeMillis() + 60_000;
+        assertThat(repository.reserve(ORDER_A, Map.of(BOOK_ID, 3), Map.of(BOOK_ID, 5), expireAt)).isNull();
+
+        // when
+        Long shortage = repository.reserve(ORDER_B, Map.of(OTHER_BOOK_ID, 1, BOOK_ID, 3),
+                Map.of(OTHER_BOOK_ID, 10, BOOK_ID, 5), expireAt);
+
+        // then
+        assertThat(shortage).isEqualTo(BOOK_ID);
+        assertThat(repository.findReserved(BOOK_ID)).isEqualTo(3L);
+        assertThat(repository.findReserved(OTHER_BOOK_ID)).isZero();
+    }
+
+    @Test
+    void 같은_주문을_다시_선점해도_수량은_한_번만_반영() {
+        // given
+        long expireAt = System.currentTimeMillis() + 60_000;
+        repository.reserve(ORDER_A, Map.of(BOOK_ID, 2), Map.of(BOOK_ID, 5), expireAt);
+
+        // when
+        Long shortage = repository.reserve(ORDER_A, Map.of(BOOK_ID, 2), Map.of(BOOK_ID, 5), expireAt);
+
+        // then
+        assertThat(shortage).isNull();
+        assertThat(repository.findReserved(BOOK_ID)).isEqualTo(2L);
+    }
+
+    @Test
+    void 해제하면_선점_수량이_돌아옴() {
+        // given
+        long expireAt = System.currentTimeMillis() + 60_000;
+        repository.reserve(ORDER_A, Map.of(BOOK_ID, 2), Map.of(BOOK_ID, 5), expireAt);
+        repository.reserve(ORDER_B, Map.of(BOOK_ID, 1), Map.of(BOOK_ID, 5), expireAt);
+
+        // when
+        boolean released = repository.release(ORDER_A);
+
+        // then
+        assertThat(released).isTrue();
+        assertThat(repository.findReserved(BOOK_ID)).isEqualTo(1L);
+        assertThat(repository.extend(ORDER_A, expireAt)).isFalse();
+        assertThat(repository.release(ORDER_A)).isFalse();
+    }
+
+    @Test
+    void 만료된_선점만_스위퍼로_해제() {
+        // given
+        long now = System.currentTimeMillis();
+        repository.reserve(ORDER_A, Map.of(BOOK_ID, 2), Map.of(BOOK_ID, 5), now - 1_000);
+        repository.reserve(ORDER_B, Map.of(BOOK_ID, 1), Map.of(BOOK_ID, 5), now + 60_000);
+
+        // when
+        assertThat(repository.findExpiredOrderNumbers(now, 100)).contains(ORDER_A).doesNotContain(ORDER_B);
+        long releasedA = repository.releaseExpired(ORDER_A, now);
+        long releasedB = repository.releaseExpired(ORDER_B, now);
+
+        // then
+        assertThat(releasedA).isEqualTo(1L);
+        assertThat(releasedB).isZero();
+        assertThat(repository.findReserved(BOOK_ID)).isEqualTo(1L);
+    }
+}
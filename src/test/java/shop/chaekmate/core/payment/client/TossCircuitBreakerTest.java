@@ -0,0 +1,62 @@
+package shop.chaekmate.core.payment.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TossCircuitBreakerTest {
+
+    @Test
+    void 연속_장애가_기준을_넘으면_호출_차단() {
+        // given
+        TossCircuitBreaker circuitBreaker = new TossCircuitBreaker(3, Duration.ofMinutes(1L));
+
+        // when
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        boolean beforeOpen = circuitBreaker.tryAcquire();
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(beforeOpen).isTrue();
+        assertThat(circuitBreaker.state()).isEqualTo(TossCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void 성공하면_연속_장애_횟수_초기화() {
+        // given
+        TossCircuitBreaker circuitBreaker = new TossCircuitBreaker(2, Duration.ofMinutes(1L));
+
+        // when
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(TossCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void 차단_시간이_지나면_한_건만_시험_호출() {
+        // given
+        TossCircuitBreaker circuitBreaker = new TossCircuitBreaker(1, Duration.ZERO);
+        circuitBreaker.onFailure();
+
+        // when
+        boolean first = circuitBreaker.tryAcquire();
+        boolean second = circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(circuitBreaker.state()).isEqualTo(TossCircuitBreaker.State.CLOSED);
+    }
+}
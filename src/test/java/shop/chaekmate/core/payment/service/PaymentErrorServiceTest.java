@@ -1,9 +1,11 @@
 package shop.chaekmate.core.payment.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -13,8 +15,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 import shop.chaekmate.core.payment.dto.request.PaymentApproveRequest;
+import shop.chaekmate.core.payment.entity.Payment;
 import shop.chaekmate.core.payment.entity.PaymentHistory;
 import shop.chaekmate.core.payment.entity.type.PaymentMethodType;
+import shop.chaekmate.core.payment.entity.type.PaymentStatusType;
 import shop.chaekmate.core.payment.event.PaymentEventPublisher;
 import shop.chaekmate.core.payment.repository.PaymentHistoryRepository;
 import shop.chaekmate.core.payment.repository.PaymentRepository;
@@ -60,4 +64,20 @@ class PaymentErrorServiceTest {
         assertThatCode(() -> paymentErrorService.saveAbortedPayment(request, "저장 실패"))
                 .doesNotThrowAnyException();
     }
+
+    @Test
+    void 승인_대기_결제는_실패로_변경() {
+        PaymentApproveRequest request = new PaymentApproveRequest(
+                PaymentMethodType.TOSS, "payment_key", "test_order_number_nanoid", 29800L, 0
+        );
+        Payment pending = Payment.createPending("test_order_number_nanoid", "payment_key",
+                PaymentMethodType.TOSS, 29800L, 0);
+        when(paymentRepository.findByOrderNumber("test_order_number_nanoid")).thenReturn(Optional.of(pending));
+
+        paymentErrorService.saveAbortedPayment(request, "TIMEOUT:응답 지연");
+
+        assertThat(pending.getPaymentStatus()).isEqualTo(PaymentStatusType.ABORTED);
+        verify(paymentRepository, never()).save(any(Payment.class));
+        verify(paymentHistoryRepository).save(any(PaymentHistory.class));
+    }
 }
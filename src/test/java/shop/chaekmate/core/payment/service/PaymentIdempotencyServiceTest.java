@@ -0,0 +1,168 @@
+package shop.chaekmate.core.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.payment.dto.request.PaymentApproveRequest;
+import shop.chaekmate.core.payment.dto.response.base.PaymentResponse;
+import shop.chaekmate.core.payment.dto.response.impl.PaymentAbortedResponse;
+import shop.chaekmate.core.payment.dto.response.impl.PaymentApproveResponse;
+import shop.chaekmate.core.payment.entity.type.PaymentMethodType;
+import shop.chaekmate.core.payment.repository.PaymentApproveIdempotencyRedisRepository;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PaymentIdempotencyServiceTest {
+
+    private static final String ORDER_NUMBER = "ORDER-001";
+    private static final PaymentApproveRequest REQUEST = new PaymentApproveRequest(
+            PaymentMethodType.TOSS, "payment_key", ORDER_NUMBER, 10000L, 500);
+    private static final String FINGERPRINT = PaymentIdempotencyService.fingerprint(REQUEST);
+
+    @Mock
+    private PaymentApproveIdempotencyRedisRepository idempotencyRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private PaymentIdempotencyService paymentIdempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        paymentIdempotencyService = new PaymentIdempotencyService(idempotencyRepository, objectMapper);
+    }
+
+    @Test
+    void 첫_요청은_승인_후_응답을_기록() {
+        // given
+        PaymentApproveResponse approved = new PaymentApproveResponse(ORDER_NUMBER, 10000L, 0, "DONE",
+                LocalDateTime.of(2025, 1, 1, 12, 0));
+        when(idempotencyRepository.begin(eq(ORDER_NUMBER), anyString(), any(Duration.class))).thenReturn(null);
+
+        // when
+        PaymentResponse response = paymentIdempotencyService.execute(REQUEST, () -> approved);
+
+        // then
+        assertThat(response).isEqualTo(approved);
+        verify(idempotencyRepository).complete(eq(ORDER_NUMBER), anyString(),
+                startsWith(PaymentApproveIdempotencyRedisRepository.APPROVED), eq(Duration.ofHours(24L)));
+    }
+
+    @Test
+    void 완료된_요청은_승인없이_저장된_응답을_반환() throws Exception {
+        // given
+        PaymentApproveResponse approved = new PaymentApproveResponse(ORDER_NUMBER, 10000L, 500, "DONE",
+                LocalDateTime.of(2025, 1, 1, 12, 0));
+        when(idempotencyRepository.begin(eq(ORDER_NUMBER), anyString(), any(Duration.class)))
+                .thenReturn(PaymentApproveIdempotencyRedisRepository.APPROVED + FINGERPRINT + "|"
+                        + objectMapper.writeValueAsString(approved));
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        PaymentResponse response = paymentIdempotencyService.execute(REQUEST, () -> {
+            calls.incrementAndGet();
+            return approved;
+        });
+
+        // then
+        assertThat(response).isEqualTo(approved);
+        assertThat(calls).hasValue(0);
+        verify(idempotencyRepository, never()).complete(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void 진행중인_요청이_끝나면_같은_실패_응답을_반환() throws Exception {
+        // given
+        PaymentAbortedResponse aborted = new PaymentAbortedResponse("PAYMENT_FAILED", "결제 실패",
+                LocalDateTime.of(2025, 1, 1, 12, 0));
+        when(idempotencyRepository.begin(eq(ORDER_NUMBER), anyString(), any(Duration.class)))
+                .thenReturn(PaymentApproveIdempotencyRedisRepository.IN_FLIGHT + FINGERPRINT + "|other-token")
+                .thenReturn(PaymentApproveIdempotencyRedisRepository.ABORTED + FINGERPRINT + "|"
+                        + objectMapper.writeValueAsString(aborted));
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        PaymentResponse response = paymentIdempotencyService.execute(REQUEST, () -> {
+            calls.incrementAndGet();
+            return aborted;
+        });
+
+        // then
+        assertThat(response).isEqualTo(aborted);
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void 같은_주문번호의_다른_결제_요청에는_저장된_응답을_주지_않음() throws Exception {
+        // given
+        PaymentApproveResponse approved = new PaymentApproveResponse(ORDER_NUMBER, 10000L, 500, "DONE",
+                LocalDateTime.of(2025, 1, 1, 12, 0));
+        PaymentApproveRequest otherRequest = new PaymentApproveRequest(
+                PaymentMethodType.TOSS, "other_payment_key", ORDER_NUMBER, 10L, 0);
+        when(idempotencyRepository.begin(eq(ORDER_NUMBER), anyString(), any(Duration.class)))
+                .thenReturn(PaymentApproveIdempotencyRedisRepository.APPROVED + FINGERPRINT + "|"
+                        + objectMapper.writeValueAsString(approved));
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        PaymentResponse response = paymentIdempotencyService.execute(otherRequest, () -> {
+            calls.incrementAndGet();
+            return approved;
+        });
+
+        // then
+        assertThat(response).isInstanceOf(PaymentAbortedResponse.class);
+        assertThat(((PaymentAbortedResponse) response).code()).isEqualTo("PAYMENT_REQUEST_MISMATCH");
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void 진행중인_요청이_오래_걸리면_기다리지_않고_처리중_응답() {
+        // given
+        when(idempotencyRepository.begin(eq(ORDER_NUMBER), anyString(), any(Duration.class)))
+                .thenReturn(PaymentApproveIdempotencyRedisRepository.IN_FLIGHT + FINGERPRINT + "|other-token");
+
+        // when
+        long start = System.currentTimeMillis();
+        PaymentResponse response = paymentIdempotencyService.execute(REQUEST, () -> null);
+
+        // then
+        assertThat(response).isInstanceOf(PaymentAbortedResponse.class);
+        assertThat(((PaymentAbortedResponse) response).code()).isEqualTo("PAYMENT_IN_PROGRESS");
+        assertThat(System.currentTimeMillis() - start).isLessThan(5_000L);
+    }
+
+    @Test
+    void Redis_장애시_멱등처리_없이_승인() {
+        // given
+        PaymentApproveResponse approved = new PaymentApproveResponse(ORDER_NUMBER, 10000L, 0, "DONE",
+                LocalDateTime.of(2025, 1, 1, 12, 0));
+        when(idempotencyRepository.begin(eq(ORDER_NUMBER), anyString(), any(Duration.class)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        PaymentResponse response = paymentIdempotencyService.execute(REQUEST, () -> approved);
+
+        // then
+        assertThat(response).isEqualTo(approved);
+        verify(idempotencyRepository, never()).complete(anyString(), anyString(), anyString(), any());
+    }
+}
@@ -0,0 +1,128 @@
+package shop.chaekmate.core.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.order.service.OrderService;
+import shop.chaekmate.core.payment.client.TossPaymentClient;
+import shop.chaekmate.core.payment.dto.response.ApiPaymentLookupResponse;
+import shop.chaekmate.core.payment.dto.response.impl.PaymentApproveResponse;
+import shop.chaekmate.core.payment.entity.Payment;
+import shop.chaekmate.core.payment.entity.type.PaymentMethodType;
+import shop.chaekmate.core.payment.entity.type.PaymentStatusType;
+import shop.chaekmate.core.payment.repository.PaymentRepository;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PaymentReconcileServiceTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private TossPaymentClient tossPaymentClient;
+
+    @Mock
+    private PaymentRecordService paymentRecordService;
+
+    @Mock
+    private PaymentErrorService paymentErrorService;
+
+    @Mock
+    private OrderService orderService;
+
+    @InjectMocks
+    private PaymentReconcileService paymentReconcileService;
+
+    private final Payment pending = Payment.createPending("test_order_number_nanoid", "payment_key",
+            PaymentMethodType.TOSS, 29800L, 0);
+
+    @Test
+    void 결제사에서_승인된_결제는_승인_처리하고_주문에_반영() {
+        // given
+        givenPendingPayments();
+        when(tossPaymentClient.lookup("payment_key")).thenReturn(Optional.of(
+                new ApiPaymentLookupResponse("payment_key", "test_order_number_nanoid", "DONE", 29800L)));
+        PaymentApproveResponse approved = new PaymentApproveResponse("test_order_number_nanoid", 29800L, 0,
+                PaymentStatusType.APPROVED.name(), LocalDateTime.now());
+        when(paymentRecordService.recordApproved(any(), eq("payment_key"), any())).thenReturn(approved);
+
+        // when
+        int resolved = paymentReconcileService.reconcile(100);
+
+        // then
+        assertThat(resolved).isEqualTo(1);
+        verify(orderService).applyPaymentSuccess(approved);
+        verify(paymentErrorService, never()).saveAbortedPayment(any(), anyString());
+    }
+
+    @Test
+    void 결제사에_없는_결제는_실패_처리() {
+        // given
+        givenPendingPayments();
+        when(tossPaymentClient.lookup("payment_key")).thenReturn(Optional.empty());
+
+        // when
+        int resolved = paymentReconcileService.reconcile(100);
+
+        // then
+        assertThat(resolved).isEqualTo(1);
+        verify(paymentErrorService).saveAbortedPayment(any(), anyString());
+        verify(orderService, never()).applyPaymentSuccess(any());
+    }
+
+    @Test
+    void 결제사에서_진행_중인_결제는_그대로_둠() {
+        // given
+        givenPendingPayments();
+        when(tossPaymentClient.lookup("payment_key")).thenReturn(Optional.of(
+                new ApiPaymentLookupResponse("payment_key", "test_order_number_nanoid", "IN_PROGRESS", 29800L)));
+
+        // when
+        int resolved = paymentReconcileService.reconcile(100);
+
+        // then
+        assertThat(resolved).isZero();
+        verify(paymentRecordService, never()).recordApproved(any(), anyString(), any());
+        verify(paymentErrorService, never()).saveAbortedPayment(any(), anyString());
+    }
+
+    @Test
+    void 승인_금액이_다르면_승인으로_처리하지_않음() {
+        // given
+        givenPendingPayments();
+        when(tossPaymentClient.lookup("payment_key")).thenReturn(Optional.of(
+                new ApiPaymentLookupResponse("payment_key", "test_order_number_nanoid", "DONE", 100L)));
+
+        // when
+        paymentReconcileService.reconcile(100);
+
+        // then
+        verify(paymentRecordService, never()).recordApproved(any(), anyString(), any());
+        verify(orderService, never()).applyPaymentSuccess(any());
+    }
+
+    private void givenPendingPayments() {
+        when(paymentRepository.findByPaymentStatusAndPaymentTypeAndUpdatedAtBeforeOrderByUpdatedAtAsc(
+                eq(PaymentStatusType.PENDING), eq(PaymentMethodType.TOSS), any(), any()))
+                .thenReturn(List.of(pending));
+    }
+}
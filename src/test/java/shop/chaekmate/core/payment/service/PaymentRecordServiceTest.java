@@ -0,0 +1,110 @@
+package shop.chaekmate.core.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.payment.dto.request.PaymentApproveRequest;
+import shop.chaekmate.core.payment.entity.Payment;
+import shop.chaekmate.core.payment.entity.type.PaymentMethodType;
+import shop.chaekmate.core.payment.exception.PaymentInProgressException;
+import shop.chaekmate.core.payment.exception.PaymentResultUnknownException;
+import shop.chaekmate.core.payment.repository.PaymentHistoryRepository;
+import shop.chaekmate.core.payment.repository.PaymentRepository;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PaymentRecordServiceTest {
+
+    private static final String ORDER_NUMBER = "test_order_number_nanoid";
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentHistoryRepository paymentHistoryRepository;
+
+    @InjectMocks
+    private PaymentRecordService paymentRecordService;
+
+    private final PaymentApproveRequest request = new PaymentApproveRequest(
+            PaymentMethodType.TOSS, "payment_key", ORDER_NUMBER, 29800L, 0);
+
+    @Test
+    void 동시에_처음_승인하면_하나만_승인_대기로_기록() {
+        // given
+        when(paymentRepository.findByOrderNumber(ORDER_NUMBER)).thenReturn(Optional.empty());
+        when(paymentRepository.saveAndFlush(any(Payment.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate order_number"));
+
+        // when, then
+        assertThatThrownBy(() -> paymentRecordService.preparePending(request, PaymentMethodType.TOSS))
+                .isInstanceOf(PaymentInProgressException.class);
+    }
+
+    @Test
+    void 실패한_결제의_재시도는_조건부로_승인_대기로_변경() {
+        // given
+        when(paymentRepository.findByOrderNumber(ORDER_NUMBER)).thenReturn(Optional.of(
+                Payment.createAborted(ORDER_NUMBER, null, PaymentMethodType.TOSS, 29800L)));
+        when(paymentRepository.retryPendingIfAborted(eq(ORDER_NUMBER), eq("payment_key"), anyLong(), anyInt(), any()))
+                .thenReturn(1);
+
+        // when, then
+        assertThatCode(() -> paymentRecordService.preparePending(request, PaymentMethodType.TOSS))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void 실패한_결제의_재시도가_겹치면_하나만_진행() {
+        // given
+        when(paymentRepository.findByOrderNumber(ORDER_NUMBER)).thenReturn(Optional.of(
+                Payment.createAborted(ORDER_NUMBER, null, PaymentMethodType.TOSS, 29800L)));
+        when(paymentRepository.retryPendingIfAborted(eq(ORDER_NUMBER), eq("payment_key"), anyLong(), anyInt(), any()))
+                .thenReturn(0);
+
+        // when, then
+        assertThatThrownBy(() -> paymentRecordService.preparePending(request, PaymentMethodType.TOSS))
+                .isInstanceOf(PaymentInProgressException.class);
+    }
+
+    @Test
+    void 승인_대기_중인_결제는_다른_요청이_가져가지_않음() {
+        // given
+        when(paymentRepository.findByOrderNumber(ORDER_NUMBER)).thenReturn(Optional.of(
+                Payment.createPending(ORDER_NUMBER, "payment_key", PaymentMethodType.TOSS, 29800L, 0)));
+        when(paymentRepository.reclaimStalePending(eq(ORDER_NUMBER), eq("payment_key"), any(), any()))
+                .thenReturn(0);
+
+        // when, then
+        assertThatThrownBy(() -> paymentRecordService.preparePending(request, PaymentMethodType.TOSS))
+                .isInstanceOf(PaymentInProgressException.class);
+    }
+
+    @Test
+    void 결과를_모르는_결제가_있으면_다른_결제키로_승인하지_않음() {
+        // given
+        when(paymentRepository.findByOrderNumber(ORDER_NUMBER)).thenReturn(Optional.of(
+                Payment.createPending(ORDER_NUMBER, "previous_payment_key", PaymentMethodType.TOSS, 29800L, 0)));
+
+        // when, then
+        assertThatThrownBy(() -> paymentRecordService.preparePending(request, PaymentMethodType.TOSS))
+                .isInstanceOf(PaymentResultUnknownException.class);
+    }
+}
@@ -0,0 +1,91 @@
+package shop.chaekmate.core.point.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.book.repository.BookKeywordSearchRepository;
+import shop.chaekmate.core.common.config.JpaAuditingConfig;
+import shop.chaekmate.core.common.config.QueryDslConfig;
+import shop.chaekmate.core.member.entity.Member;
+import shop.chaekmate.core.member.entity.type.PlatformType;
+import shop.chaekmate.core.member.repository.MemberRepository;
+import shop.chaekmate.core.point.entity.PointHistory;
+import shop.chaekmate.core.point.entity.type.PointSpendType;
+import shop.chaekmate.core.point.repository.MemberPointBalanceRepository.BalanceCheck;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, MemberPointBalanceRepository.class,
+        BookKeywordSearchRepository.class})
+class MemberPointBalanceRepositoryTest {
+
+    @Autowired
+    MemberPointBalanceRepository repository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    PointHistoryRepository pointHistoryRepository;
+
+    Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(
+                new Member("point1", "pwd", "name1", "0101", "p1@mail.com", LocalDate.now(), PlatformType.LOCAL));
+        pointHistoryRepository.save(new PointHistory(member, PointSpendType.EARN, 1000, "회원가입"));
+        pointHistoryRepository.save(new PointHistory(member, PointSpendType.SPEND, 300, "주문 결제"));
+    }
+
+    @Test
+    void 잔액_행이_없으면_방금_저장한_내역까지_합산해_생성() {
+        // given
+        pointHistoryRepository.save(new PointHistory(member, PointSpendType.EARN, 500, "주문 완료"));
+
+        // when
+        repository.add(member.getId(), 500);
+
+        // then
+        assertThat(repository.findBalance(member.getId())).contains(1200L);
+    }
+
+    @Test
+    void 잔액_행이_있으면_증감만_반영() {
+        // given
+        assertThat(repository.initialize(member.getId())).isEqualTo(700L);
+        pointHistoryRepository.save(new PointHistory(member, PointSpendType.SPEND, 200, "주문 결제"));
+
+        // when
+        repository.add(member.getId(), -200);
+
+        // then
+        assertThat(repository.findBalance(member.getId())).contains(500L);
+        assertThat(repository.sumHistory(member.getId())).isEqualTo(500L);
+    }
+
+    @Test
+    void 정합성_검사는_잔액과_내역_합계를_함께_반환() {
+        // given
+        repository.initialize(member.getId());
+        repository.overwrite(member.getId(), 5L);
+
+        // when
+        List<BalanceCheck> checks = repository.findChecks(0L, 10);
+
+        // then
+        assertThat(checks).containsExactly(new BalanceCheck(member.getId(), 5L, 700L));
+        assertThat(checks.getFirst().drifted()).isTrue();
+    }
+}
@@ -0,0 +1,91 @@
+package shop.chaekmate.core.point.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.book.repository.BookKeywordSearchRepository;
+import shop.chaekmate.core.common.config.JpaAuditingConfig;
+import shop.chaekmate.core.common.config.QueryDslConfig;
+import shop.chaekmate.core.point.entity.type.PointIntentStatus;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, PointIntentRepository.class,
+        BookKeywordSearchRepository.class})
+class PointIntentRepositoryTest {
+
+    @Autowired
+    PointIntentRepository repository;
+
+    @Test
+    void 같은_주문번호는_한_번만_기록() {
+        // when
+        boolean first = repository.insert("ORDER-1", 10_000L, 500);
+        boolean second = repository.insert("ORDER-1", 10_000L, 500);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(repository.findForUpdate("ORDER-1")).hasValueSatisfying(row -> {
+            assertThat(row.totalAmount()).isEqualTo(10_000L);
+            assertThat(row.pointUsed()).isEqualTo(500);
+            assertThat(row.status()).isEqualTo(PointIntentStatus.PENDING);
+        });
+    }
+
+    @Test
+    void 선점하면_선점_만료_전까지_다시_선점되지_않음() {
+        // given
+        repository.insert("ORDER-1", 10_000L, 0);
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+
+        // when
+        boolean first = repository.claim("ORDER-1", now, now.plusMinutes(1));
+        boolean second = repository.claim("ORDER-1", now.plusSeconds(30), now.plusMinutes(2));
+        boolean afterLease = repository.claim("ORDER-1", now.plusMinutes(1), now.plusMinutes(2));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(afterLease).isTrue();
+        assertThat(repository.findAttempts("ORDER-1")).contains(2);
+    }
+
+    @Test
+    void 재시도_시각이_지난_행만_처리_대상으로_조회() {
+        // given
+        repository.insert("ORDER-1", 10_000L, 0);
+        repository.insert("ORDER-2", 20_000L, 0);
+        repository.insert("ORDER-3", 30_000L, 0);
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+        repository.markRetry("ORDER-2", now.plusMinutes(5), "timeout");
+        repository.markDone("ORDER-3");
+
+        // when & then
+        assertThat(repository.findDueOrderNumbers(now, 10)).containsExactly("ORDER-1");
+        assertThat(repository.findDueOrderNumbers(now.plusMinutes(5), 10)).containsExactly("ORDER-1", "ORDER-2");
+    }
+
+    @Test
+    void 완료된_행은_실패로_바뀌지_않음() {
+        // given
+        repository.insert("ORDER-1", 10_000L, 0);
+        repository.markDone("ORDER-1");
+
+        // when
+        repository.markFailed("ORDER-1", "late failure");
+
+        // then
+        assertThat(repository.findForUpdate("ORDER-1"))
+                .hasValueSatisfying(row -> assertThat(row.status()).isEqualTo(PointIntentStatus.DONE));
+    }
+}
@@ -0,0 +1,113 @@
+package shop.chaekmate.core.point.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import shop.chaekmate.core.book.repository.BookKeywordSearchRepository;
+import shop.chaekmate.core.common.config.JpaAuditingConfig;
+import shop.chaekmate.core.common.config.QueryDslConfig;
+import shop.chaekmate.core.member.entity.Member;
+import shop.chaekmate.core.member.entity.type.PlatformType;
+import shop.chaekmate.core.member.repository.MemberRepository;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, PointLedgerRepository.class,
+        MemberPointBalanceRepository.class, BookKeywordSearchRepository.class})
+class PointLedgerRepositoryTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2025, 1, 1);
+    private static final LocalDate FEBRUARY = LocalDate.of(2025, 2, 1);
+
+    @Autowired
+    PointLedgerRepository repository;
+
+    @Autowired
+    MemberPointBalanceRepository balanceRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberRepository.save(
+                new Member("ledger1", "pwd", "name1", "0101", "l1@mail.com", LocalDate.now(), PlatformType.LOCAL))
+                .getId();
+
+        insertHistory("EARN", 1000, LocalDateTime.of(2025, 1, 5, 10, 0));
+        insertHistory("SPEND", 200, LocalDateTime.of(2025, 1, 31, 23, 59));
+        insertHistory("EARN", 500, LocalDateTime.of(2025, 2, 10, 9, 0));
+    }
+
+    @Test
+    void 월_마감시_직전_체크포인트에_그_달_합계를_더해_기록() {
+        // when
+        assertThat(repository.closeMonth(JANUARY)).contains(1);
+        assertThat(repository.closeMonth(FEBRUARY)).contains(1);
+
+        // then
+        assertThat(closingBalance(JANUARY)).isEqualTo(800L);
+        assertThat(closingBalance(FEBRUARY)).isEqualTo(1300L);
+        assertThat(repository.findLastClosedMonth()).contains(FEBRUARY);
+    }
+
+    @Test
+    void 이미_마감된_달은_다시_마감하지_않음() {
+        // given
+        repository.closeMonth(JANUARY);
+
+        // when & then
+        assertThat(repository.closeMonth(JANUARY)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_monthly_checkpoint WHERE member_id = ?", Integer.class, memberId))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 마감된_내역을_보관으로_옮겨도_잔액_계산은_같음() {
+        // given
+        repository.closeMonth(JANUARY);
+        repository.closeMonth(FEBRUARY);
+        insertHistory("EARN", 100, LocalDateTime.of(2025, 3, 2, 12, 0));
+
+        // when
+        int moved = repository.archiveBefore(LocalDateTime.of(2025, 3, 1, 0, 0), 100);
+
+        // then
+        assertThat(moved).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_history_archive", Integer.class))
+                .isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_history", Integer.class))
+                .isEqualTo(1);
+        assertThat(balanceRepository.sumHistory(memberId)).isEqualTo(1400L);
+    }
+
+    private void insertHistory(String type, int amount, LocalDateTime createdAt) {
+        Timestamp at = Timestamp.valueOf(createdAt);
+        jdbcTemplate.update("INSERT INTO point_history (member_id, type, amount, source, created_at, updated_at) "
+                + "VALUES (?, ?, ?, 'test', ?, ?)", memberId, type, amount, at, at);
+    }
+
+    private long closingBalance(LocalDate month) {
+        return jdbcTemplate.queryForObject("SELECT closing_balance FROM point_monthly_checkpoint "
+                + "WHERE member_id = ? AND closing_month = ?", Long.class, memberId, month);
+    }
+}
@@ -0,0 +1,111 @@
+package shop.chaekmate.core.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import shop.chaekmate.core.member.dto.response.GradeResponse;
+import shop.chaekmate.core.member.entity.Grade;
+import shop.chaekmate.core.member.entity.Member;
+import shop.chaekmate.core.member.entity.MemberGradeHistory;
+import shop.chaekmate.core.member.entity.type.PlatformType;
+import shop.chaekmate.core.member.repository.MemberGradeHistoryRepository;
+import shop.chaekmate.core.member.service.MemberService;
+import shop.chaekmate.core.point.dto.response.PointPolicyResponse;
+import shop.chaekmate.core.point.entity.type.PointEarnedType;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PointEarnServiceTest {
+
+    @Mock
+    private PointService pointService;
+
+    @Mock
+    private MemberGradeHistoryRepository memberGradeHistoryRepository;
+
+    @Mock
+    private MemberService memberService;
+
+    @InjectMocks
+    private PointEarnService pointEarnService;
+
+    Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = new Member("user1", "password", "홍길동", "01012345678", "user1@test.com",
+                LocalDate.of(2000, 1, 1), PlatformType.LOCAL);
+        ReflectionTestUtils.setField(member, "id", 1L);
+    }
+
+    @Test
+    void 등급_포인터가_있으면_등급_이력을_조회하지_않고_적립_포인트_계산() {
+        // given
+        member.changeGrade(2L);
+        givenGradesAndOrderPolicy();
+
+        // when
+        int point = pointEarnService.calculateOrderPoint(member, 10_000L);
+
+        // then
+        // 기본 1% + 로얄 3%
+        assertThat(point).isEqualTo(400);
+        verify(memberGradeHistoryRepository, never()).findTopByMemberIdOrderByCreatedAtDesc(any());
+    }
+
+    @Test
+    void 등급_포인터가_없으면_최신_등급_이력으로_계산하고_포인터를_채움() {
+        // given
+        Grade royal = new Grade("로얄", (byte) 3, 100_000);
+        ReflectionTestUtils.setField(royal, "id", 2L);
+        when(memberGradeHistoryRepository.findTopByMemberIdOrderByCreatedAtDesc(1L))
+                .thenReturn(Optional.of(new MemberGradeHistory(member, royal, "승급")));
+        givenGradesAndOrderPolicy();
+
+        // when
+        int point = pointEarnService.calculateOrderPoint(member, 10_000L);
+
+        // then
+        assertThat(point).isEqualTo(400);
+        assertThat(member.getCurrentGradeId()).isEqualTo(2L);
+    }
+
+    @Test
+    void 등급_포인터와_등급_이력이_모두_없으면_예외() {
+        // given
+        when(memberGradeHistoryRepository.findTopByMemberIdOrderByCreatedAtDesc(1L)).thenReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> pointEarnService.calculateOrderPoint(member, 10_000L))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(member.getCurrentGradeId()).isNull();
+    }
+
+    private void givenGradesAndOrderPolicy() {
+        when(memberService.getAllGrades()).thenReturn(List.of(
+                new GradeResponse(1L, "일반", (byte) 1, 0),
+                new GradeResponse(2L, "로얄", (byte) 3, 100_000)
+        ));
+        when(pointService.getPolicyByType(PointEarnedType.ORDER))
+                .thenReturn(new PointPolicyResponse(1L, PointEarnedType.ORDER, 1));
+    }
+}
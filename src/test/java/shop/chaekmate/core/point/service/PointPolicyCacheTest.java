@@ -0,0 +1,89 @@
+package shop.chaekmate.core.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import shop.chaekmate.core.point.dto.request.UpdatePointPolicyRequest;
+import shop.chaekmate.core.point.entity.PointPolicy;
+import shop.chaekmate.core.point.entity.type.PointEarnedType;
+import shop.chaekmate.core.point.repository.PointPolicyRepository;
+
+// 포인트 정책 캐시 적용과 변경 시 무효화 (캐시 애노테이션만 검증하도록 로컬 캐시 사용)
+@ActiveProfiles("test")
+@SpringJUnitConfig(PointPolicyCacheTest.CacheConfig.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PointPolicyCacheTest {
+
+    @Configuration
+    @EnableCaching
+    @Import(PointService.class)
+    static class CacheConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("pointPolicies");
+        }
+    }
+
+    @MockitoBean
+    private PointPolicyRepository pointPolicyRepository;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    PointPolicy orderPolicy;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache("pointPolicies").clear();
+        orderPolicy = new PointPolicy(PointEarnedType.ORDER, 1);
+        when(pointPolicyRepository.findByType(PointEarnedType.ORDER)).thenReturn(Optional.of(orderPolicy));
+    }
+
+    @Test
+    void 정책_조회는_캐시에서_반환() {
+        // when
+        pointService.getPolicyByType(PointEarnedType.ORDER);
+        pointService.getPolicyByType(PointEarnedType.ORDER);
+
+        // then
+        verify(pointPolicyRepository, times(1)).findByType(PointEarnedType.ORDER);
+    }
+
+    @Test
+    void 정책_수정시_캐시를_비워_새_정책을_조회() {
+        // given
+        pointService.getPolicyByType(PointEarnedType.ORDER);
+        when(pointPolicyRepository.save(any(PointPolicy.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        pointService.updatePointPolicy(new UpdatePointPolicyRequest(PointEarnedType.ORDER, 5));
+
+        // then
+        assertThat(pointService.getPolicyByType(PointEarnedType.ORDER).point()).isEqualTo(5);
+        // 조회 2번 + 수정 1번
+        verify(pointPolicyRepository, times(3)).findByType(PointEarnedType.ORDER);
+    }
+}